@@ -0,0 +1,89 @@
+// 송금 API 부하 테스트 (k6)
+//
+// 플랫폼 스레드 / 가상 스레드 모드를 같은 조건에서 비교하기 위한 스크립트.
+// 계좌 ACCOUNT_COUNT개를 만들고 입금한 뒤, VUS개 클라이언트가 임의의 두 계좌 사이에서 이체한다.
+// HOT_ACCOUNTS 비율만큼은 소수의 계좌로 몰아 비관적 락 대기가 생기도록 한다.
+//
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=1000 load-test/transfer-load.js
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=5000 load-test/transfer-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const ACCOUNT_COUNT = parseInt(__ENV.ACCOUNT_COUNT || '200', 10);
+const HOT_ACCOUNT_COUNT = parseInt(__ENV.HOT_ACCOUNT_COUNT || '5', 10);
+const HOT_RATIO = parseFloat(__ENV.HOT_RATIO || '0.2');
+const BANK_CODE = '088';
+const HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const businessErrors = new Counter('business_errors');
+
+export const options = {
+    setupTimeout: '5m',
+    scenarios: {
+        transfer: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const runId = Date.now() % 1000000;
+    const accounts = [];
+    for (let i = 0; i < ACCOUNT_COUNT; i++) {
+        const accountNo = `7${String(runId).padStart(6, '0')}${String(i).padStart(5, '0')}`;
+        const created = http.post(`${BASE_URL}/accounts`, JSON.stringify({
+            userName: `부하${i}`,
+            email: `load${runId}-${i}@example.com`,
+            idCardNo: `9${String(runId).padStart(6, '0')}${String(i).padStart(6, '0')}`,
+            bankCode: BANK_CODE,
+            accountNo: accountNo,
+        }), HEADERS);
+        check(created, { 'account created': (r) => r.status === 201 });
+
+        http.post(`${BASE_URL}/transactions/deposit`, JSON.stringify({
+            bankCode: BANK_CODE,
+            accountNo: accountNo,
+            amount: 100000000,
+            description: '부하 테스트 초기 입금',
+        }), HEADERS);
+        accounts.push(accountNo);
+    }
+    return { accounts };
+}
+
+function pick(accounts) {
+    if (Math.random() < HOT_RATIO) {
+        return accounts[Math.floor(Math.random() * HOT_ACCOUNT_COUNT)];
+    }
+    return accounts[Math.floor(Math.random() * accounts.length)];
+}
+
+export default function (data) {
+    const from = pick(data.accounts);
+    let to = pick(data.accounts);
+    if (to === from) {
+        to = data.accounts[(data.accounts.indexOf(from) + 1) % data.accounts.length];
+    }
+
+    // 일일 이체 한도(300만원)에 걸리지 않도록 소액 이체
+    const res = http.post(`${BASE_URL}/transactions/transfer`, JSON.stringify({
+        fromBankCode: BANK_CODE,
+        fromAccountNo: from,
+        toBankCode: BANK_CODE,
+        toAccountNo: to,
+        amount: 100,
+        description: '부하 테스트 이체',
+    }), HEADERS);
+
+    if (res.status === 400 || res.status === 409) {
+        businessErrors.add(1);
+    }
+    check(res, { 'transfer ok': (r) => r.status === 201 });
+}
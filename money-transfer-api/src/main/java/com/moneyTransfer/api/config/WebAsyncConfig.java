@@ -0,0 +1,39 @@
+package com.moneyTransfer.api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 비동기 요청 timeout은 기본값을 그대로 두고, 거래내역 내보내기(StreamingResponseBody)만 export.timeout-millis로 늘린다.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private static final String EXPORT_PATH = "/transactions/export";
+
+    @Value("${money-transfer.transaction.export.timeout-millis:1800000}")
+    private long exportTimeoutMillis = 1800000;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            // 비동기 처리를 시작하기 직전에 호출되므로 여기서 바꾼 timeout이 이 요청에만 적용됨
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+                if (request instanceof AsyncWebRequest asyncWebRequest && servletRequest != null
+                        && EXPORT_PATH.equals(servletRequest.getRequestURI().substring(servletRequest.getContextPath().length()))) {
+                    asyncWebRequest.setTimeout(exportTimeoutMillis);
+                }
+            }
+        });
+    }
+}
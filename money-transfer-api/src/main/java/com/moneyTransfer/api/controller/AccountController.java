@@ -2,6 +2,7 @@ package com.moneyTransfer.api.controller;
 
 import com.moneyTransfer.api.dto.request.CreateAccountApiRequest;
 import com.moneyTransfer.api.dto.request.DeleteAccountApiRequest;
+import com.moneyTransfer.api.dto.request.EnableBalanceShardingApiRequest;
 import com.moneyTransfer.api.dto.response.AccountApiResponse;
 import com.moneyTransfer.api.mapper.AccountDtoMapper;
 import com.moneyTransfer.application.dto.account.AccountResponse;
@@ -28,14 +29,17 @@ public class AccountController {
 
     private final CreateAccountUseCase createAccountUseCase;
     private final DeleteAccountUseCase deleteAccountUseCase;
+    private final EnableBalanceShardingUseCase enableBalanceShardingUseCase;
     private final AccountDtoMapper accountDtoMapper;
 
     public AccountController(
             CreateAccountUseCase createAccountUseCase,
             DeleteAccountUseCase deleteAccountUseCase,
+            EnableBalanceShardingUseCase enableBalanceShardingUseCase,
             AccountDtoMapper accountDtoMapper) {
         this.createAccountUseCase = createAccountUseCase;
         this.deleteAccountUseCase = deleteAccountUseCase;
+        this.enableBalanceShardingUseCase = enableBalanceShardingUseCase;
         this.accountDtoMapper = accountDtoMapper;
     }
 
@@ -65,4 +69,18 @@ public class AccountController {
         deleteAccountUseCase.execute(apiRequest.getBankCode(), apiRequest.getAccountNo());
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @PostMapping("/balance-sharding")
+    @Operation(summary = "계좌 잔액 분할", description = "입출금이 몰리는 계좌의 잔액을 여러 하위 잔액으로 나눠 행 락 경합을 줄입니다. 조회 잔액은 합계로 보고됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "잔액 분할 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (분할 수 범위, 이미 분할된 계좌 등)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<AccountApiResponse> enableBalanceSharding(@Valid @RequestBody EnableBalanceShardingApiRequest apiRequest) {
+        AccountResponse applicationResponse = enableBalanceShardingUseCase.execute(
+                apiRequest.getBankCode(), apiRequest.getAccountNo(), apiRequest.getBucketCount());
+        return ResponseEntity.ok(accountDtoMapper.toApiResponse(applicationResponse));
+    }
+}
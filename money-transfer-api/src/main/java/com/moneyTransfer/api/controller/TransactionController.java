@@ -1,11 +1,19 @@
 package com.moneyTransfer.api.controller;
 
+import com.moneyTransfer.api.dto.request.BatchTransferApiRequest;
 import com.moneyTransfer.api.dto.request.DepositApiRequest;
+import com.moneyTransfer.api.dto.request.PayrollTransferApiRequest;
 import com.moneyTransfer.api.dto.request.TransferApiRequest;
 import com.moneyTransfer.api.dto.request.WithdrawApiRequest;
+import com.moneyTransfer.api.dto.response.BatchTransferApiResponse;
+import com.moneyTransfer.api.dto.response.PendingTransferApiResponse;
 import com.moneyTransfer.api.dto.response.TransactionApiResponse;
 import com.moneyTransfer.api.dto.response.TransactionHistoryApiResponse;
+import com.moneyTransfer.api.dto.response.TransactionSummaryApiResponse;
 import com.moneyTransfer.api.mapper.TransactionDtoMapper;
+import com.moneyTransfer.api.stream.BulkDepositStreamProcessor;
+import com.moneyTransfer.api.stream.TransactionExportFormat;
+import com.moneyTransfer.api.stream.TransactionExportStreamWriter;
 import com.moneyTransfer.application.dto.transaction.*;
 import com.moneyTransfer.application.usecase.transaction.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,35 +23,70 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.moneyTransfer.api.dto.ErrorResponse;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @Tag(name = "거래", description = "입금, 출금, 이체 및 거래내역 조회 API")
 public class TransactionController {
 
-    private final DepositUseCase depositUseCase;
+    private final DepositCoalescer depositCoalescer;
+    private final BulkDepositStreamProcessor bulkDepositStreamProcessor;
     private final WithdrawUseCase withdrawUseCase;
     private final TransferUseCase transferUseCase;
+    private final BatchTransferUseCase batchTransferUseCase;
+    private final PayrollTransferUseCase payrollTransferUseCase;
+    private final SubmitTransferUseCase submitTransferUseCase;
+    private final GetPendingTransferUseCase getPendingTransferUseCase;
     private final GetTransactionHistoryUseCase getTransactionHistoryUseCase;
+    private final GetTransactionSummaryUseCase getTransactionSummaryUseCase;
+    private final ExportTransactionHistoryUseCase exportTransactionHistoryUseCase;
+    private final TransactionExportStreamWriter transactionExportStreamWriter;
     private final TransactionDtoMapper transactionDtoMapper;
 
     public TransactionController(
-            DepositUseCase depositUseCase,
+            DepositCoalescer depositCoalescer,
+            BulkDepositStreamProcessor bulkDepositStreamProcessor,
             WithdrawUseCase withdrawUseCase,
             TransferUseCase transferUseCase,
+            BatchTransferUseCase batchTransferUseCase,
+            PayrollTransferUseCase payrollTransferUseCase,
+            SubmitTransferUseCase submitTransferUseCase,
+            GetPendingTransferUseCase getPendingTransferUseCase,
             GetTransactionHistoryUseCase getTransactionHistoryUseCase,
+            GetTransactionSummaryUseCase getTransactionSummaryUseCase,
+            ExportTransactionHistoryUseCase exportTransactionHistoryUseCase,
+            TransactionExportStreamWriter transactionExportStreamWriter,
             TransactionDtoMapper transactionDtoMapper) {
-        this.depositUseCase = depositUseCase;
+        this.depositCoalescer = depositCoalescer;
+        this.bulkDepositStreamProcessor = bulkDepositStreamProcessor;
         this.withdrawUseCase = withdrawUseCase;
         this.transferUseCase = transferUseCase;
+        this.batchTransferUseCase = batchTransferUseCase;
+        this.payrollTransferUseCase = payrollTransferUseCase;
+        this.submitTransferUseCase = submitTransferUseCase;
+        this.getPendingTransferUseCase = getPendingTransferUseCase;
         this.getTransactionHistoryUseCase = getTransactionHistoryUseCase;
+        this.getTransactionSummaryUseCase = getTransactionSummaryUseCase;
+        this.exportTransactionHistoryUseCase = exportTransactionHistoryUseCase;
+        this.transactionExportStreamWriter = transactionExportStreamWriter;
         this.transactionDtoMapper = transactionDtoMapper;
     }
 
@@ -57,12 +100,27 @@ public class TransactionController {
     })
     public ResponseEntity<TransactionApiResponse> deposit(@Valid @RequestBody DepositApiRequest apiRequest) {
         DepositRequest applicationRequest = transactionDtoMapper.toApplicationRequest(apiRequest);
-        TransactionResponse applicationResponse = depositUseCase.execute(applicationRequest);
+        TransactionResponse applicationResponse = depositCoalescer.deposit(applicationRequest);
         TransactionApiResponse apiResponse = transactionDtoMapper.toApiResponse(applicationResponse);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
     }
 
+    @PostMapping(value = "/transactions/deposits/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "대량 입금", description = "한 줄에 입금 요청 하나씩 담긴 NDJSON 본문을 읽는 대로 처리하고, 줄별 결과를 NDJSON으로 스트리밍합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 결과 스트림 (줄별 성공/실패 포함)"),
+            @ApiResponse(responseCode = "415", description = "NDJSON이 아닌 본문", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public void bulkDeposit(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        bulkDepositStreamProcessor.process(request.getInputStream(), response.getOutputStream());
+    }
+
     @PostMapping("/transactions/withdraw")
     @Operation(summary = "출금", description = "특정 계좌에서 금액을 출금합니다. 일일 한도 1,000,000원 적용.")
     @ApiResponses(value = {
@@ -95,8 +153,71 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
     }
 
+    @PostMapping("/transactions/transfers/batch")
+    @Operation(summary = "일괄 이체", description = "서로 독립적인 이체 여러 건을 한 번에 처리합니다. 건별로 성공/실패를 응답하며 한 건의 실패가 다른 건에 영향을 주지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 완료 (건별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 최대 건수 초과, 요청 형식 오류 등)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BatchTransferApiResponse> batchTransfer(@Valid @RequestBody BatchTransferApiRequest apiRequest) {
+        List<TransferRequest> applicationRequests = transactionDtoMapper.toApplicationRequest(apiRequest);
+        BatchTransferResponse applicationResponse = batchTransferUseCase.execute(applicationRequests);
+        BatchTransferApiResponse apiResponse = transactionDtoMapper.toApiResponse(applicationResponse);
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @PostMapping("/transactions/transfers/payroll")
+    @Operation(summary = "급여 이체", description = "한 계좌에서 여러 계좌로 한 번에 이체합니다. 출금 계좌는 한 번만 잠그고 수수료 포함 합계로 잔액과 일일 한도를 검증합니다. 수취 계좌 오류는 건별로 응답합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 완료 (건별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (합계 잔액 부족, 한도 초과, 최대 건수 초과 등)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "송금 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BatchTransferApiResponse> payrollTransfer(@Valid @RequestBody PayrollTransferApiRequest apiRequest) {
+        PayrollTransferRequest applicationRequest = transactionDtoMapper.toApplicationRequest(apiRequest);
+        BatchTransferResponse applicationResponse = payrollTransferUseCase.execute(applicationRequest);
+        BatchTransferApiResponse apiResponse = transactionDtoMapper.toApiResponse(applicationResponse);
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @PostMapping("/transactions/transfer/async")
+    @Operation(summary = "비동기 이체 접수", description = "이체 요청을 대기열에 넣고 바로 응답합니다. 처리 결과는 이체 요청 조회로 확인합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "이체 요청 접수"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (금액, 동일 계좌 이체 등)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "대기열이 가득 참 (Retry-After 이후 재시도)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PendingTransferApiResponse> submitTransfer(@Valid @RequestBody TransferApiRequest apiRequest) {
+        TransferRequest applicationRequest = transactionDtoMapper.toApplicationRequest(apiRequest);
+        PendingTransferResponse applicationResponse = submitTransferUseCase.execute(applicationRequest);
+        PendingTransferApiResponse apiResponse = transactionDtoMapper.toApiResponse(applicationResponse);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/transactions/transfer/" + apiResponse.getTransferId()))
+                .body(apiResponse);
+    }
+
+    @GetMapping("/transactions/transfer/{transferId}")
+    @Operation(summary = "비동기 이체 조회", description = "비동기로 접수된 이체 요청의 처리 상태를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "이체 요청을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PendingTransferApiResponse> getTransfer(
+            @Parameter(description = "이체 요청 ID", required = true, example = "1")
+            @PathVariable Long transferId) {
+        PendingTransferResponse applicationResponse = getPendingTransferUseCase.execute(transferId);
+        return ResponseEntity.ok(transactionDtoMapper.toApiResponse(applicationResponse));
+    }
+
     @GetMapping("/transactions/account/{bankCode}/{accountNo}")
-    @Operation(summary = "거래내역 조회", description = "특정 계좌의 거래내역을 조회합니다. 최신순으로 정렬됩니다.")
+    @Operation(summary = "거래내역 조회", description = "특정 계좌의 거래내역을 조회합니다. 최신순으로 정렬됩니다. 기간 조건이 없으면 전체 건수는 계좌별 거래 건수 카운터로 제공하며(pageInfo.countMode), cursor를 지정하면 전체 건수 없이 nextCursor로 이어서 조회합니다. 기간 조건이 있으면 일 집계로 구한 기간 합계(periodTotals)를 함께 응답합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
@@ -118,13 +239,88 @@ public class TransactionController {
             @Parameter(description = "조회 종료 일시", example = "2024-12-31T23:59:59")
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-            LocalDateTime endDate) {
+            LocalDateTime endDate,
+            @Parameter(description = "커서 페이징 - 첫 페이지는 빈 값, 이후에는 응답의 nextCursor (지정 시 page는 무시)")
+            @RequestParam(required = false) String cursor) {
 
         GetTransactionHistoryRequest applicationRequest = transactionDtoMapper.toApplicationRequest(
-                bankCode, accountNo, page, size, startDate, endDate);
+                bankCode, accountNo, page, size, startDate, endDate, cursor);
         TransactionHistoryResponse applicationResponse = getTransactionHistoryUseCase.execute(applicationRequest);
         TransactionHistoryApiResponse apiResponse = transactionDtoMapper.toApiResponse(applicationResponse);
 
         return ResponseEntity.ok(apiResponse);
     }
+
+    @GetMapping("/transactions/account/{bankCode}/{accountNo}/summary")
+    @Operation(summary = "거래 집계 조회", description = "특정 계좌의 기간 거래를 유형별 건수/금액, 수수료 합계, 마감 잔액으로 집계합니다. 거래 저장 후 비동기로 갱신되는 일 집계에서 읽으므로 거래 건수와 무관하게 기간의 일수 이하의 행만 조회하며, 방금 저장한 거래는 반영 주기만큼 늦게 포함될 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간 (시작일이 종료일 이후, 최대 일수 초과 등)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TransactionSummaryApiResponse> getTransactionSummary(
+            @Parameter(description = "은행 코드", required = true, example = "001")
+            @PathVariable String bankCode,
+            @Parameter(description = "계좌 번호", required = true, example = "123-456-789")
+            @PathVariable String accountNo,
+            @Parameter(description = "조회 시작일", required = true, example = "2024-01-01")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate startDate,
+            @Parameter(description = "조회 종료일", required = true, example = "2024-12-31")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate endDate) {
+
+        GetTransactionSummaryRequest applicationRequest = transactionDtoMapper.toApplicationRequest(
+                bankCode, accountNo, startDate, endDate);
+        TransactionSummaryResponse applicationResponse = getTransactionSummaryUseCase.execute(applicationRequest);
+        TransactionSummaryApiResponse apiResponse = transactionDtoMapper.toApiResponse(applicationResponse);
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @GetMapping("/transactions/export")
+    @Operation(summary = "거래내역 내보내기", description = "특정 계좌의 거래내역 전체(또는 기간)를 최신순으로 CSV 또는 NDJSON 파일로 내려받습니다. DB 커서에서 읽는 대로 스트리밍하므로 건수 제한이 없습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 스트림"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "동시 내보내기 상한 초과 (Retry-After 이후 재시도)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(
+            @Parameter(description = "은행 코드", required = true, example = "001")
+            @RequestParam String bankCode,
+            @Parameter(description = "계좌 번호", required = true, example = "123-456-789")
+            @RequestParam String accountNo,
+            @Parameter(description = "형식 (csv, ndjson)", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "조회 시작 일시 (없으면 처음부터)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDate,
+            @Parameter(description = "조회 종료 일시 (없으면 현재까지)", example = "2024-12-31T23:59:59")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDate) {
+
+        // 형식/계좌 오류는 본문을 쓰기 전에 일반 오류 응답으로 처리
+        TransactionExportFormat exportFormat = TransactionExportFormat.from(format);
+        TransactionExport export = exportTransactionHistoryUseCase.prepare(
+                transactionDtoMapper.toApplicationRequest(bankCode, accountNo, startDate, endDate));
+
+        // 동시 내보내기 상한 초과 시 429 - 잡은 자리는 write가 끝나면 반환
+        transactionExportStreamWriter.acquire();
+        StreamingResponseBody body = output -> transactionExportStreamWriter.write(export, exportFormat, output);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("transactions-" + export.getAccountId() + "." + exportFormat.getFileExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.moneyTransfer.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "일괄 이체 API 요청")
+public class BatchTransferApiRequest {
+
+    @Schema(description = "이체 요청 목록 (최대 건수는 money-transfer.transaction.batch-transfer.max-size)")
+    @NotEmpty(message = "이체 요청 목록은 필수입니다")
+    private List<@Valid TransferApiRequest> transfers;
+
+    public BatchTransferApiRequest(List<TransferApiRequest> transfers) {
+        this.transfers = transfers;
+    }
+}
@@ -0,0 +1,37 @@
+package com.moneyTransfer.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "계좌 잔액 분할 API 요청")
+public class EnableBalanceShardingApiRequest {
+
+    @Schema(description = "은행 코드", example = "001")
+    @NotBlank(message = "은행 코드는 필수입니다")
+    private String bankCode;
+
+    @Schema(description = "계좌 번호", example = "123-456-7891")
+    @NotBlank(message = "계좌 번호는 필수입니다")
+    private String accountNo;
+
+    @Schema(description = "하위 잔액(bucket) 수", example = "16")
+    @NotNull(message = "분할 수는 필수입니다")
+    @Min(value = 2, message = "분할 수는 2 이상이어야 합니다")
+    @Max(value = 64, message = "분할 수는 64 이하여야 합니다")
+    private Integer bucketCount;
+
+    public EnableBalanceShardingApiRequest(String bankCode, String accountNo, Integer bucketCount) {
+        this.bankCode = bankCode;
+        this.accountNo = accountNo;
+        this.bucketCount = bucketCount;
+    }
+}
@@ -0,0 +1,72 @@
+package com.moneyTransfer.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "급여 이체 (한 계좌에서 여러 계좌로) API 요청")
+public class PayrollTransferApiRequest {
+
+    @Schema(description = "송금 계좌 은행 코드", example = "001")
+    @NotBlank(message = "송금 계좌 은행 코드는 필수입니다")
+    private String fromBankCode;
+
+    @Schema(description = "송금 계좌 번호", example = "123-456-7891")
+    @NotBlank(message = "송금 계좌 번호는 필수입니다")
+    private String fromAccountNo;
+
+    @Schema(description = "수취 계좌별 이체 목록 (최대 건수는 money-transfer.transaction.payroll-transfer.max-size)")
+    @NotEmpty(message = "이체 목록은 필수입니다")
+    private List<@Valid Leg> transfers;
+
+    public PayrollTransferApiRequest(String fromBankCode, String fromAccountNo, List<Leg> transfers) {
+        this.fromBankCode = fromBankCode;
+        this.fromAccountNo = fromAccountNo;
+        this.transfers = transfers;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(description = "수취 계좌 한 건")
+    public static class Leg {
+
+        @Schema(description = "수취 계좌 은행 코드", example = "002")
+        @NotBlank(message = "수취 계좌 은행 코드는 필수입니다")
+        private String toBankCode;
+
+        @Schema(description = "수취 계좌 번호", example = "987-654-3211")
+        @NotBlank(message = "수취 계좌 번호는 필수입니다")
+        private String toAccountNo;
+
+        @Schema(description = "이체 금액", example = "2500000")
+        @NotNull(message = "이체 금액은 필수입니다")
+        @DecimalMin(value = "1", message = "이체 금액은 1원 이상이어야 합니다")
+        private BigDecimal amount;
+
+        @Schema(description = "이체 사유", example = "10월 급여")
+        @NotNull(message = "이체 사유는 필수입니다")
+        @Size(min = 1, max = 200, message = "이체 사유는 1자 이상 200자 이하여야 합니다")
+        private String description;
+
+        public Leg(String toBankCode, String toAccountNo, BigDecimal amount, String description) {
+            this.toBankCode = toBankCode;
+            this.toAccountNo = toAccountNo;
+            this.amount = amount;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.moneyTransfer.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "일괄 이체 API 응답")
+public class BatchTransferApiResponse {
+
+    @Schema(description = "전체 요청 건수", example = "3")
+    private int totalCount;
+
+    @Schema(description = "성공 건수", example = "2")
+    private int successCount;
+
+    @Schema(description = "실패 건수", example = "1")
+    private int failureCount;
+
+    @Schema(description = "요청 순서별 처리 결과")
+    private List<Item> results;
+
+    public BatchTransferApiResponse(int totalCount, int successCount, int failureCount, List<Item> results) {
+        this.totalCount = totalCount;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.results = results;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(description = "이체 한 건의 처리 결과")
+    public static class Item {
+
+        @Schema(description = "요청 목록에서의 순서 (0부터 시작)", example = "0")
+        private int index;
+
+        @Schema(description = "성공 여부", example = "true")
+        private boolean success;
+
+        @Schema(description = "성공 시 이체 출금 거래")
+        private TransactionApiResponse transaction;
+
+        @Schema(description = "실패 사유", example = "잔액이 부족합니다")
+        private String errorMessage;
+
+        public Item(int index, boolean success, TransactionApiResponse transaction, String errorMessage) {
+            this.index = index;
+            this.success = success;
+            this.transaction = transaction;
+            this.errorMessage = errorMessage;
+        }
+    }
+}
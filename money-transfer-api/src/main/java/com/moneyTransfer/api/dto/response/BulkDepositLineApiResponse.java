@@ -0,0 +1,39 @@
+package com.moneyTransfer.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "대량 입금 한 줄의 처리 결과 (NDJSON 한 줄)")
+public class BulkDepositLineApiResponse {
+
+    @Schema(description = "요청 본문에서의 줄 번호 (1부터 시작)", example = "1")
+    private long line;
+
+    @Schema(description = "성공 여부", example = "true")
+    private boolean success;
+
+    @Schema(description = "성공 시 입금 거래 ID", example = "1")
+    private Long transactionId;
+
+    @Schema(description = "성공 시 거래 후 잔액", example = "500000")
+    private BigDecimal balanceAfter;
+
+    @Schema(description = "실패 사유", example = "계좌를 찾을 수 없습니다")
+    private String errorMessage;
+
+    public BulkDepositLineApiResponse(long line, boolean success, Long transactionId,
+                                      BigDecimal balanceAfter, String errorMessage) {
+        this.line = line;
+        this.success = success;
+        this.transactionId = transactionId;
+        this.balanceAfter = balanceAfter;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,64 @@
+package com.moneyTransfer.api.dto.response;
+
+import com.moneyTransfer.domain.transaction.PendingTransferStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "비동기 이체 요청 API 응답")
+public class PendingTransferApiResponse {
+
+    @Schema(description = "이체 요청 ID", example = "1")
+    private Long transferId;
+
+    @Schema(description = "처리 상태 (PENDING, PROCESSING, COMPLETED, FAILED)")
+    private PendingTransferStatus status;
+
+    @Schema(description = "송금 계좌 정보")
+    private TransactionApiResponse.AccountInfo fromAccountInfo;
+
+    @Schema(description = "수취 계좌 정보")
+    private TransactionApiResponse.AccountInfo toAccountInfo;
+
+    @Schema(description = "이체 금액", example = "100000")
+    private BigDecimal amount;
+
+    @Schema(description = "이체 사유", example = "급여 이체")
+    private String description;
+
+    @Schema(description = "처리 완료 시 이체 출금 거래 ID", example = "1")
+    private Long transactionId;
+
+    @Schema(description = "처리 실패 사유", example = "잔액이 부족합니다")
+    private String failureReason;
+
+    @Schema(description = "접수 시간")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "처리 완료 시간")
+    private LocalDateTime completedAt;
+
+    public PendingTransferApiResponse(Long transferId, PendingTransferStatus status,
+                                      TransactionApiResponse.AccountInfo fromAccountInfo,
+                                      TransactionApiResponse.AccountInfo toAccountInfo,
+                                      BigDecimal amount, String description, Long transactionId,
+                                      String failureReason, LocalDateTime createdAt, LocalDateTime completedAt) {
+        this.transferId = transferId;
+        this.status = status;
+        this.fromAccountInfo = fromAccountInfo;
+        this.toAccountInfo = toAccountInfo;
+        this.amount = amount;
+        this.description = description;
+        this.transactionId = transactionId;
+        this.failureReason = failureReason;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+    }
+}
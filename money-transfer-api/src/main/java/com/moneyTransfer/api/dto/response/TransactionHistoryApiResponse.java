@@ -23,6 +23,9 @@ public class TransactionHistoryApiResponse {
     @Schema(description = "페이징 정보")
     private PageInfoApiResponse pageInfo;
 
+    @Schema(description = "기간 합계 - 기간 조건이 있을 때만, 시작/종료 일시가 속한 날짜 전체의 일 집계 합계")
+    private TransactionSummaryApiResponse.TotalsApiResponse periodTotals;
+
     public TransactionHistoryApiResponse(AccountInfoApiResponse accountInfo, List<TransactionApiResponse> transactions, PageInfoApiResponse pageInfo) {
         this.accountInfo = accountInfo;
         this.transactions = transactions;
@@ -83,6 +86,12 @@ public class TransactionHistoryApiResponse {
         @Schema(description = "이전 페이지 존재 여부", example = "false")
         private Boolean hasPrevious;
 
+        @Schema(description = "다음 페이지 커서 (커서 조회에서만, 마지막 페이지면 null)")
+        private String nextCursor;
+
+        @Schema(description = "전체 요소 수 산출 방식 (COUNTER: 계좌별 거래 건수 카운터, COUNT_QUERY: COUNT 쿼리, NONE: 커서 조회로 세지 않음)", example = "COUNTER")
+        private String countMode;
+
         public PageInfoApiResponse(Integer currentPage, Integer pageSize, Long totalElements,
                                   Integer totalPages, Boolean hasNext, Boolean hasPrevious) {
             this.currentPage = currentPage;
@@ -0,0 +1,117 @@
+package com.moneyTransfer.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "거래 집계 조회 API 응답")
+public class TransactionSummaryApiResponse {
+
+    @Schema(description = "은행 코드", example = "001")
+    private String bankCode;
+
+    @Schema(description = "계좌 번호", example = "123-456-789")
+    private String accountNo;
+
+    @Schema(description = "조회 시작일", example = "2024-01-01")
+    private LocalDate startDate;
+
+    @Schema(description = "조회 종료일", example = "2024-12-31")
+    private LocalDate endDate;
+
+    @Schema(description = "기간 합계")
+    private TotalsApiResponse totals;
+
+    @Schema(description = "일별 집계 (거래가 있었던 날만 날짜순)")
+    private List<DailyApiResponse> days;
+
+    public TransactionSummaryApiResponse(String bankCode, String accountNo, LocalDate startDate, LocalDate endDate,
+                                         TotalsApiResponse totals, List<DailyApiResponse> days) {
+        this.bankCode = bankCode;
+        this.accountNo = accountNo;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totals = totals;
+        this.days = days;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(description = "거래 유형별 건수/금액 합계")
+    public static class TotalsApiResponse {
+
+        @Schema(description = "입금 건수", example = "3")
+        private long depositCount;
+
+        @Schema(description = "입금 합계", example = "300000")
+        private BigDecimal depositAmount;
+
+        @Schema(description = "출금 건수", example = "1")
+        private long withdrawCount;
+
+        @Schema(description = "출금 합계", example = "50000")
+        private BigDecimal withdrawAmount;
+
+        @Schema(description = "이체 출금 건수", example = "2")
+        private long transferSendCount;
+
+        @Schema(description = "이체 출금 합계 (수수료 제외)", example = "100000")
+        private BigDecimal transferSendAmount;
+
+        @Schema(description = "이체 입금 건수", example = "1")
+        private long transferReceiveCount;
+
+        @Schema(description = "이체 입금 합계", example = "20000")
+        private BigDecimal transferReceiveAmount;
+
+        @Schema(description = "수수료 합계", example = "1000")
+        private BigDecimal feeAmount;
+
+        @Schema(description = "마감 잔액 - 기간 중 마지막 거래의 거래 후 잔액 (거래가 없거나 잔액이 분할된 계좌의 거래면 null)", example = "169000")
+        private BigDecimal closingBalance;
+
+        public TotalsApiResponse(long depositCount, BigDecimal depositAmount,
+                                 long withdrawCount, BigDecimal withdrawAmount,
+                                 long transferSendCount, BigDecimal transferSendAmount,
+                                 long transferReceiveCount, BigDecimal transferReceiveAmount,
+                                 BigDecimal feeAmount, BigDecimal closingBalance) {
+            this.depositCount = depositCount;
+            this.depositAmount = depositAmount;
+            this.withdrawCount = withdrawCount;
+            this.withdrawAmount = withdrawAmount;
+            this.transferSendCount = transferSendCount;
+            this.transferSendAmount = transferSendAmount;
+            this.transferReceiveCount = transferReceiveCount;
+            this.transferReceiveAmount = transferReceiveAmount;
+            this.feeAmount = feeAmount;
+            this.closingBalance = closingBalance;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(description = "일별 집계")
+    public static class DailyApiResponse {
+
+        @Schema(description = "거래일", example = "2024-01-15")
+        private LocalDate date;
+
+        @Schema(description = "그날의 합계")
+        private TotalsApiResponse totals;
+
+        public DailyApiResponse(LocalDate date, TotalsApiResponse totals) {
+            this.date = date;
+            this.totals = totals;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.moneyTransfer.api.dto.ErrorResponse;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -25,6 +27,9 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    @Value("${money-transfer.async-transfer.retry-after-seconds:1}")
+    private long retryAfterSeconds = 1;
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
         log.warn("IllegalArgumentException: {}", e.getMessage());
@@ -49,6 +54,19 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException e) {
         log.warn("IllegalStateException: {}", e.getMessage());
 
+        // 대기열이 가득 찼거나 계좌 락 대기 시간 초과, 동시 내보내기 상한 - 클라이언트가 Retry-After 이후 다시 보내도록 429 응답
+        // (일시적인 실패이므로 Idempotency-Key 응답으로 저장하지 않음)
+        if (isRetryableError(e.getMessage())) {
+            ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorResponse);
+        }
+
         ErrorResponse errorResponse = ErrorResponse.badRequest(e.getMessage());
         return ResponseEntity.badRequest().body(errorResponse);
     }
@@ -148,7 +166,14 @@ public class GlobalExceptionHandler {
 
     private boolean isNotFoundError(String message) {
         return message.equals(ErrorMessages.USER_NOT_FOUND) ||
-               message.equals(ErrorMessages.ACCOUNT_NOT_FOUND);
+               message.equals(ErrorMessages.ACCOUNT_NOT_FOUND) ||
+               message.equals(ErrorMessages.PENDING_TRANSFER_NOT_FOUND);
+    }
+
+    private boolean isRetryableError(String message) {
+        return ErrorMessages.TRANSFER_QUEUE_FULL.equals(message) ||
+               ErrorMessages.ACCOUNT_LOCK_TIMEOUT.equals(message) ||
+               ErrorMessages.TRANSACTION_EXPORT_BUSY.equals(message);
     }
 
     private boolean isDuplicateError(String message) {
@@ -0,0 +1,209 @@
+package com.moneyTransfer.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyTransfer.api.dto.ErrorResponse;
+import com.moneyTransfer.application.idempotency.IdempotencyManager;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.idempotency.IdempotencyRecord;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더가 있는 거래 쓰기 요청을 키당 한 번만 처리한다.
+ *
+ * 이미 처리한 키면 컨트롤러(계좌 락, DB)까지 가지 않고 저장된 상태 코드와 본문을 그대로 돌려준다.
+ * 요청 본문은 미리 읽어 SHA-256 해시를 키와 함께 저장하고, 같은 키로 다른 본문을 보내면 400으로 거절한다.
+ * 서버 오류(5xx), 충돌(409), Retry-After가 붙은 응답처럼 다시 보내면 결과가 달라질 수 있는 응답은 저장하지 않는다.
+ * NDJSON 대량 입금은 줄 단위로 스트리밍하므로 대상에서 제외한다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of(
+        "/transactions/deposit",
+        "/transactions/withdraw",
+        "/transactions/transfer",
+        "/transactions/transfer/async",
+        "/transactions/transfers/batch",
+        "/transactions/transfers/payroll"
+    );
+
+    private final IdempotencyManager idempotencyManager;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyManager idempotencyManager, ObjectMapper objectMapper) {
+        this.idempotencyManager = idempotencyManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !IDEMPOTENT_PATHS.contains(requestPath(request))
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, ErrorMessages.IDEMPOTENCY_KEY_INVALID);
+            return;
+        }
+        String path = requestPath(request);
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, request.getInputStream().readAllBytes());
+        String requestHash = sha256(cachedRequest.body);
+
+        Optional<IdempotencyRecord> stored;
+        try {
+            stored = idempotencyManager.begin(idempotencyKey, path, requestHash);
+        } catch (IllegalArgumentException e) {
+            writeError(response, HttpStatus.BAD_REQUEST, e.getMessage());
+            return;
+        } catch (IllegalStateException e) {
+            writeError(response, HttpStatus.CONFLICT, e.getMessage());
+            return;
+        }
+
+        if (stored.isPresent()) {
+            replay(response, stored.get());
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, wrapper);
+            if (isStorable(wrapper)) {
+                idempotencyManager.complete(idempotencyKey, path, requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                        new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyManager.release(idempotencyKey);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isStorable(HttpServletResponse response) {
+        int status = response.getStatus();
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value()
+                && status != HttpStatus.CONFLICT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value()
+                && response.getHeader(HttpHeaders.RETRY_AFTER) == null;
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.getResponseStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getResponseContentType() != null) {
+            response.setContentType(record.getResponseContentType());
+        }
+        if (record.getResponseBody() != null) {
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getOutputStream().write(record.getResponseBody().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // 필터는 GlobalExceptionHandler 밖이므로 같은 형식의 오류 응답을 직접 작성
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of(status.value(), status.getReasonPhrase(), message));
+    }
+
+    private String requestPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 해시를 위해 미리 읽은 본문을 컨트롤러가 다시 읽을 수 있도록 돌려주는 요청
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.moneyTransfer.api.mapper;
 
+import com.moneyTransfer.api.dto.request.BatchTransferApiRequest;
 import com.moneyTransfer.api.dto.request.DepositApiRequest;
+import com.moneyTransfer.api.dto.request.PayrollTransferApiRequest;
 import com.moneyTransfer.api.dto.request.TransferApiRequest;
 import com.moneyTransfer.api.dto.request.WithdrawApiRequest;
+import com.moneyTransfer.api.dto.response.BatchTransferApiResponse;
+import com.moneyTransfer.api.dto.response.PendingTransferApiResponse;
 import com.moneyTransfer.api.dto.response.TransactionApiResponse;
 import com.moneyTransfer.api.dto.response.TransactionHistoryApiResponse;
+import com.moneyTransfer.api.dto.response.TransactionSummaryApiResponse;
 import com.moneyTransfer.application.dto.transaction.*;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -43,6 +49,27 @@ public class TransactionDtoMapper {
         );
     }
 
+    public List<TransferRequest> toApplicationRequest(BatchTransferApiRequest apiRequest) {
+        return apiRequest.getTransfers()
+                .stream()
+                .map(this::toApplicationRequest)
+                .toList();
+    }
+
+    public PayrollTransferRequest toApplicationRequest(PayrollTransferApiRequest apiRequest) {
+        List<PayrollTransferRequest.Leg> legs = apiRequest.getTransfers()
+                .stream()
+                .map(leg -> new PayrollTransferRequest.Leg(
+                        leg.getToBankCode(),
+                        leg.getToAccountNo(),
+                        leg.getAmount(),
+                        leg.getDescription()
+                ))
+                .toList();
+
+        return new PayrollTransferRequest(apiRequest.getFromBankCode(), apiRequest.getFromAccountNo(), legs);
+    }
+
     public GetTransactionHistoryRequest toApplicationRequest(String bankCode, String accountNo,
                                                            Integer page, Integer size,
                                                            LocalDateTime startDate, LocalDateTime endDate) {
@@ -56,6 +83,26 @@ public class TransactionDtoMapper {
         );
     }
 
+    public GetTransactionHistoryRequest toApplicationRequest(String bankCode, String accountNo,
+                                                           Integer page, Integer size,
+                                                           LocalDateTime startDate, LocalDateTime endDate,
+                                                           String cursor) {
+        return new GetTransactionHistoryRequest(
+                bankCode,
+                accountNo,
+                page != null ? page : 0,
+                size != null ? size : 10,
+                startDate,
+                endDate,
+                cursor
+        );
+    }
+
+    public ExportTransactionHistoryRequest toApplicationRequest(String bankCode, String accountNo,
+                                                              LocalDateTime startDate, LocalDateTime endDate) {
+        return new ExportTransactionHistoryRequest(bankCode, accountNo, startDate, endDate);
+    }
+
     public TransactionApiResponse toApiResponse(TransactionResponse applicationResponse) {
         TransactionApiResponse.AccountInfo accountInfo = new TransactionApiResponse.AccountInfo(
                 applicationResponse.getAccountInfo().getBankCode(),
@@ -83,6 +130,46 @@ public class TransactionDtoMapper {
         );
     }
 
+    public PendingTransferApiResponse toApiResponse(PendingTransferResponse applicationResponse) {
+        return new PendingTransferApiResponse(
+                applicationResponse.getTransferId(),
+                applicationResponse.getStatus(),
+                new TransactionApiResponse.AccountInfo(
+                        applicationResponse.getFromAccountInfo().getBankCode(),
+                        applicationResponse.getFromAccountInfo().getAccountNo()
+                ),
+                new TransactionApiResponse.AccountInfo(
+                        applicationResponse.getToAccountInfo().getBankCode(),
+                        applicationResponse.getToAccountInfo().getAccountNo()
+                ),
+                applicationResponse.getAmount(),
+                applicationResponse.getDescription(),
+                applicationResponse.getTransactionId(),
+                applicationResponse.getFailureReason(),
+                applicationResponse.getCreatedAt(),
+                applicationResponse.getCompletedAt()
+        );
+    }
+
+    public BatchTransferApiResponse toApiResponse(BatchTransferResponse applicationResponse) {
+        List<BatchTransferApiResponse.Item> results = applicationResponse.getResults()
+                .stream()
+                .map(item -> new BatchTransferApiResponse.Item(
+                        item.getIndex(),
+                        item.isSuccess(),
+                        item.getTransaction() != null ? toApiResponse(item.getTransaction()) : null,
+                        item.getErrorMessage()
+                ))
+                .toList();
+
+        return new BatchTransferApiResponse(
+                applicationResponse.getTotalCount(),
+                applicationResponse.getSuccessCount(),
+                applicationResponse.getFailureCount(),
+                results
+        );
+    }
+
     public TransactionHistoryApiResponse toApiResponse(TransactionHistoryResponse applicationResponse) {
         TransactionHistoryApiResponse.AccountInfoApiResponse accountInfo =
                 new TransactionHistoryApiResponse.AccountInfoApiResponse(
@@ -107,7 +194,51 @@ public class TransactionDtoMapper {
                         applicationResponse.getPageInfo().getHasNext(),
                         applicationResponse.getPageInfo().getHasPrevious()
                 );
+        pageInfo.setNextCursor(applicationResponse.getPageInfo().getNextCursor());
+        pageInfo.setCountMode(applicationResponse.getPageInfo().getCountMode() != null
+                ? applicationResponse.getPageInfo().getCountMode().name()
+                : null);
 
-        return new TransactionHistoryApiResponse(accountInfo, transactions, pageInfo);
+        TransactionHistoryApiResponse apiResponse = new TransactionHistoryApiResponse(accountInfo, transactions, pageInfo);
+        if (applicationResponse.getPeriodTotals() != null) {
+            apiResponse.setPeriodTotals(toApiResponse(applicationResponse.getPeriodTotals()));
+        }
+        return apiResponse;
+    }
+
+    public GetTransactionSummaryRequest toApplicationRequest(String bankCode, String accountNo,
+                                                           LocalDate startDate, LocalDate endDate) {
+        return new GetTransactionSummaryRequest(bankCode, accountNo, startDate, endDate);
+    }
+
+    public TransactionSummaryApiResponse toApiResponse(TransactionSummaryResponse applicationResponse) {
+        List<TransactionSummaryApiResponse.DailyApiResponse> days = applicationResponse.getDays()
+                .stream()
+                .map(daily -> new TransactionSummaryApiResponse.DailyApiResponse(daily.getDate(), toApiResponse(daily.getTotals())))
+                .toList();
+
+        return new TransactionSummaryApiResponse(
+                applicationResponse.getBankCode(),
+                applicationResponse.getAccountNo(),
+                applicationResponse.getStartDate(),
+                applicationResponse.getEndDate(),
+                toApiResponse(applicationResponse.getTotals()),
+                days
+        );
+    }
+
+    public TransactionSummaryApiResponse.TotalsApiResponse toApiResponse(TransactionSummaryResponse.Totals totals) {
+        return new TransactionSummaryApiResponse.TotalsApiResponse(
+                totals.getDepositCount(),
+                totals.getDepositAmount(),
+                totals.getWithdrawCount(),
+                totals.getWithdrawAmount(),
+                totals.getTransferSendCount(),
+                totals.getTransferSendAmount(),
+                totals.getTransferReceiveCount(),
+                totals.getTransferReceiveAmount(),
+                totals.getFeeAmount(),
+                totals.getClosingBalance()
+        );
     }
 }
\ No newline at end of file
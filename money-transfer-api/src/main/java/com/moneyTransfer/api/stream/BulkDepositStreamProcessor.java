@@ -0,0 +1,225 @@
+package com.moneyTransfer.api.stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyTransfer.api.dto.request.DepositApiRequest;
+import com.moneyTransfer.api.dto.response.BulkDepositLineApiResponse;
+import com.moneyTransfer.api.mapper.TransactionDtoMapper;
+import com.moneyTransfer.application.dto.transaction.BulkDepositResult;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.usecase.transaction.DepositUseCase;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.WorkerThreads;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * NDJSON 대량 입금 요청을 스트리밍으로 처리한다.
+ *
+ * 요청 본문을 Jackson 스트리밍 파서로 한 줄(JSON 값)씩 읽어 chunk-size건마다 DepositUseCase.executeBulk로 넘기고,
+ * 결과를 줄 단위 NDJSON으로 바로 내보낸다. 한 chunk가 DB에 반영되는 동안 다음 chunk를 읽어 두되,
+ * 이전 chunk가 끝난 뒤에 다음 chunk를 실행하므로 같은 계좌의 입금 순서와 응답 순서는 요청 순서를 따른다.
+ * 메모리에는 chunk 두 개 분량만 유지하므로 본문 크기와 무관하다.
+ * 구문 오류가 나면 이후 줄 경계를 알 수 없으므로 그 줄을 실패로 응답하고 읽기를 멈춘다.
+ */
+@Component
+public class BulkDepositStreamProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkDepositStreamProcessor.class);
+
+    private final DepositUseCase depositUseCase;
+    private final TransactionDtoMapper transactionDtoMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${money-transfer.transaction.bulk-deposit.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${money-transfer.transaction.bulk-deposit.workers:4}")
+    private int workerCount = 4;
+
+    // 가상 스레드 모드면 worker도 가상 스레드로 실행
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads = false;
+
+    private ExecutorService executor;
+
+    public BulkDepositStreamProcessor(DepositUseCase depositUseCase,
+                                      TransactionDtoMapper transactionDtoMapper,
+                                      ObjectMapper objectMapper,
+                                      Validator validator) {
+        this.depositUseCase = depositUseCase;
+        this.transactionDtoMapper = transactionDtoMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newFixedThreadPool(workerCount, WorkerThreads.numbered("bulk-deposit-", virtualThreads));
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    public void process(InputStream input, OutputStream output) throws IOException {
+        long lineNo = 0;
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        Future<List<BulkDepositLineApiResponse>> inFlight = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            while (true) {
+                JsonNode node;
+                try {
+                    if (parser.nextToken() == null) {
+                        break;
+                    }
+                    node = objectMapper.readTree(parser);
+                } catch (JsonProcessingException e) {
+                    chunk.add(Line.failure(++lineNo, ErrorMessages.BULK_DEPOSIT_MALFORMED_INPUT));
+                    break;
+                }
+
+                chunk.add(toLine(++lineNo, node));
+                if (chunk.size() >= chunkSize) {
+                    inFlight = pipeline(chunk, inFlight, output);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            inFlight = pipeline(chunk, inFlight, output);
+        }
+        if (inFlight != null) {
+            write(await(inFlight), output);
+        }
+    }
+
+    // 이전 chunk의 결과를 먼저 내보낸 뒤 다음 chunk를 실행 (최대 한 chunk만 선행)
+    private Future<List<BulkDepositLineApiResponse>> pipeline(List<Line> chunk,
+                                                              Future<List<BulkDepositLineApiResponse>> previous,
+                                                              OutputStream output) throws IOException {
+        if (previous != null) {
+            write(await(previous), output);
+        }
+        return executor.submit(() -> execute(chunk));
+    }
+
+    private List<BulkDepositLineApiResponse> execute(List<Line> chunk) {
+        List<DepositRequest> requests = new ArrayList<>(chunk.size());
+        for (Line line : chunk) {
+            if (line.request != null) {
+                requests.add(line.request);
+            }
+        }
+
+        List<BulkDepositResult> results = null;
+        String chunkError = null;
+        if (!requests.isEmpty()) {
+            try {
+                results = depositUseCase.executeBulk(requests);
+            } catch (RuntimeException e) {
+                // 락 대기 초과, DB 오류 등 - chunk 전체가 롤백되었으므로 모두 실패로 응답
+                log.warn("bulk deposit chunk failed: {}", e.getMessage());
+                chunkError = e instanceof IllegalArgumentException || e instanceof IllegalStateException
+                        ? e.getMessage()
+                        : ErrorMessages.INTERNAL_SERVER_ERROR;
+            }
+        }
+
+        List<BulkDepositLineApiResponse> responses = new ArrayList<>(chunk.size());
+        int resultIndex = 0;
+        for (Line line : chunk) {
+            if (line.request == null) {
+                responses.add(new BulkDepositLineApiResponse(line.lineNo, false, null, null, line.errorMessage));
+            } else if (chunkError != null) {
+                responses.add(new BulkDepositLineApiResponse(line.lineNo, false, null, null, chunkError));
+            } else {
+                BulkDepositResult result = results.get(resultIndex++);
+                responses.add(result.isSuccess()
+                        ? new BulkDepositLineApiResponse(line.lineNo, true, result.getTransaction().getTransactionId(),
+                                result.getTransaction().getBalanceAfter(), null)
+                        : new BulkDepositLineApiResponse(line.lineNo, false, null, null, result.getErrorMessage()));
+            }
+        }
+        return responses;
+    }
+
+    private Line toLine(long lineNo, JsonNode node) {
+        DepositApiRequest apiRequest;
+        try {
+            apiRequest = objectMapper.treeToValue(node, DepositApiRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Line.failure(lineNo, ErrorMessages.BULK_DEPOSIT_INVALID_LINE);
+        }
+        if (apiRequest == null) {
+            return Line.failure(lineNo, ErrorMessages.BULK_DEPOSIT_INVALID_LINE);
+        }
+
+        Set<ConstraintViolation<DepositApiRequest>> violations = validator.validate(apiRequest);
+        if (!violations.isEmpty()) {
+            return Line.failure(lineNo, violations.iterator().next().getMessage());
+        }
+        return new Line(lineNo, transactionDtoMapper.toApplicationRequest(apiRequest), null);
+    }
+
+    private List<BulkDepositLineApiResponse> await(Future<List<BulkDepositLineApiResponse>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void write(List<BulkDepositLineApiResponse> responses, OutputStream output) throws IOException {
+        for (BulkDepositLineApiResponse response : responses) {
+            output.write(objectMapper.writeValueAsBytes(response));
+            output.write('\n');
+        }
+        output.flush();
+    }
+
+    /**
+     * 읽어 들인 한 줄 - 형식 오류면 request 대신 errorMessage를 가진다.
+     */
+    private static final class Line {
+        private final long lineNo;
+        private final DepositRequest request;
+        private final String errorMessage;
+
+        private Line(long lineNo, DepositRequest request, String errorMessage) {
+            this.lineNo = lineNo;
+            this.request = request;
+            this.errorMessage = errorMessage;
+        }
+
+        private static Line failure(long lineNo, String errorMessage) {
+            return new Line(lineNo, null, errorMessage);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.moneyTransfer.api.stream;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+public enum TransactionExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    TransactionExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    // 대소문자 구분 없이 변환, 지원하지 않는 값이면 400
+    public static TransactionExportFormat from(String value) {
+        for (TransactionExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException(ErrorMessages.INVALID_EXPORT_FORMAT);
+    }
+}
@@ -0,0 +1,171 @@
+package com.moneyTransfer.api.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyTransfer.api.mapper.TransactionDtoMapper;
+import com.moneyTransfer.application.dto.transaction.TransactionExport;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.usecase.transaction.ExportTransactionHistoryUseCase;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 거래내역 내보내기 본문을 CSV 또는 NDJSON으로 쓴다.
+ *
+ * ExportTransactionHistoryUseCase가 DB 커서에서 한 건씩 넘기는 거래를 바로 한 줄로 쓰고, flush-rows건마다 flush해
+ * 클라이언트로 내보낸다. 버퍼 외에는 행을 쌓아 두지 않으므로 기간/건수와 무관하게 메모리가 일정하다.
+ * 클라이언트가 연결을 끊으면 쓰기 예외로 커서와 트랜잭션을 바로 닫는다.
+ *
+ * 내보내기는 끝날 때까지 DB 커넥션 하나를 쥐므로 동시에 max-concurrent개까지만 실행한다.
+ * 컨트롤러가 응답을 시작하기 전에 acquire로 자리를 잡고, write가 끝나면 자리를 돌려준다.
+ */
+@Component
+public class TransactionExportStreamWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionExportStreamWriter.class);
+
+    static final String CSV_HEADER = "transactionId,transactionType,amount,fee,balanceAfter,description,createdAt,"
+            + "bankCode,accountNo,relatedBankCode,relatedAccountNo";
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final ExportTransactionHistoryUseCase exportTransactionHistoryUseCase;
+    private final TransactionDtoMapper transactionDtoMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${money-transfer.transaction.export.flush-rows:1000}")
+    private int flushRows = 1000;
+
+    @Value("${money-transfer.transaction.export.max-concurrent:4}")
+    private int maxConcurrent = 4;
+
+    private Semaphore permits;
+
+    public TransactionExportStreamWriter(ExportTransactionHistoryUseCase exportTransactionHistoryUseCase,
+                                         TransactionDtoMapper transactionDtoMapper,
+                                         ObjectMapper objectMapper) {
+        this.exportTransactionHistoryUseCase = exportTransactionHistoryUseCase;
+        this.transactionDtoMapper = transactionDtoMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 자리를 잡는다. 모두 사용 중이면 기다리지 않고 예외를 던진다 (429).
+     * 자리를 잡은 뒤에는 write를 호출하거나, 응답을 시작하지 못하면 release를 호출해야 한다.
+     */
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            throw new IllegalStateException(ErrorMessages.TRANSACTION_EXPORT_BUSY);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    // acquire로 잡은 자리는 성공/실패와 무관하게 여기서 돌려줌
+    public void write(TransactionExport export, TransactionExportFormat format, OutputStream output) throws IOException {
+        try {
+            writeRows(export, format, output);
+        } finally {
+            release();
+        }
+    }
+
+    private void writeRows(TransactionExport export, TransactionExportFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == TransactionExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] written = {0};
+        long count;
+        try {
+            count = exportTransactionHistoryUseCase.execute(export, transaction -> {
+                try {
+                    writeLine(writer, format, transaction);
+                    if (++written[0] % flushRows == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("transaction export aborted after {} rows: {}", written[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        log.debug("transaction export finished: accountId={}, rows={}", export.getAccountId(), count);
+    }
+
+    private void writeLine(Writer writer, TransactionExportFormat format, TransactionResponse transaction) throws IOException {
+        if (format == TransactionExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(transactionDtoMapper.toApiResponse(transaction)));
+            writer.write('\n');
+            return;
+        }
+
+        TransactionResponse.AccountInfo related = transaction.getRelatedAccountInfo();
+        writer.write(String.valueOf(transaction.getTransactionId()));
+        writer.write(',');
+        writer.write(transaction.getTransactionType().name());
+        writer.write(',');
+        writer.write(plain(transaction.getAmount()));
+        writer.write(',');
+        writer.write(plain(transaction.getFee()));
+        writer.write(',');
+        writer.write(plain(transaction.getBalanceAfter()));
+        writer.write(',');
+        writer.write(csvField(transaction.getDescription()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.getCreatedAt()));
+        writer.write(',');
+        writer.write(csvField(transaction.getAccountInfo().getBankCode()));
+        writer.write(',');
+        writer.write(csvField(transaction.getAccountInfo().getAccountNo()));
+        writer.write(',');
+        writer.write(related != null ? csvField(related.getBankCode()) : "");
+        writer.write(',');
+        writer.write(related != null ? csvField(related.getAccountNo()) : "");
+        writer.write('\n');
+    }
+
+    private static String plain(BigDecimal value) {
+        return value != null ? value.toPlainString() : "";
+    }
+
+    // RFC 4180 - 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 씀
+    // 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭, CR로 시작하는 값은 앞에 '를 붙임 (CSV 수식 주입)
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
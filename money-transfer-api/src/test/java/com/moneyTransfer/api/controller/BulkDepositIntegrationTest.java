@@ -0,0 +1,138 @@
+package com.moneyTransfer.api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyTransfer.api.dto.request.CreateAccountApiRequest;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "money-transfer.transaction.bulk-deposit.chunk-size=2")
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@DisplayName("NDJSON 대량 입금 통합 테스트")
+class BulkDepositIntegrationTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final String testBankCode = "012";
+    private String accountNoA;
+    private String accountNoB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        // 각 테스트마다 고유한 계좌번호 생성
+        long timestamp = System.currentTimeMillis();
+        this.accountNoA = "15" + (timestamp % 100000000L);
+        this.accountNoB = "16" + (timestamp % 100000000L);
+
+        createAccount("대량A", "bulk-a" + timestamp + "@example.com",
+                String.format("15151515151%02d", timestamp % 100), accountNoA);
+        createAccount("대량B", "bulk-b" + timestamp + "@example.com",
+                String.format("16161616161%02d", timestamp % 100), accountNoB);
+    }
+
+    @Test
+    @DisplayName("줄별로 입금하고 실패한 줄만 실패로 응답한다")
+    void bulkDepositStreamsPerLineResults() throws Exception {
+        // given - chunk 크기 2이므로 세 chunk로 나뉨
+        String body = String.join("\n",
+                deposit(accountNoA, "1000"),
+                deposit(accountNoB, "2000"),
+                deposit(accountNoA, "-5"),           // 금액 오류
+                deposit("9999999999", "1000"),       // 없는 계좌
+                "{\"bankCode\":\"012\",\"amount\":\"abc\"}", // 형식 오류
+                deposit(accountNoA, "3000")
+        ) + "\n";
+
+        // when
+        String response = mockMvc.perform(post("/transactions/deposits/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<JsonNode> lines = parseLines(response);
+
+        // then
+        assertThat(lines).hasSize(6);
+        assertThat(lines).extracting(line -> line.get("line").asInt()).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(lines.get(0).get("success").asBoolean()).isTrue();
+        assertThat(lines.get(0).get("balanceAfter").decimalValue()).isEqualByComparingTo("1000");
+        assertThat(lines.get(1).get("balanceAfter").decimalValue()).isEqualByComparingTo("2000");
+        assertThat(lines.get(2).get("success").asBoolean()).isFalse();
+        assertThat(lines.get(3).get("errorMessage").asText()).isEqualTo(ErrorMessages.ACCOUNT_NOT_FOUND);
+        assertThat(lines.get(4).get("errorMessage").asText()).isEqualTo(ErrorMessages.BULK_DEPOSIT_INVALID_LINE);
+        assertThat(lines.get(5).get("balanceAfter").decimalValue()).isEqualByComparingTo("4000");
+
+        mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + accountNoA))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountInfo.balance").value(4000));
+    }
+
+    @Test
+    @DisplayName("구문 오류 이후의 줄은 처리하지 않는다")
+    void malformedInputStopsReading() throws Exception {
+        String body = deposit(accountNoA, "1000") + "\n{\"bankCode\": \n" + deposit(accountNoA, "2000") + "\n";
+
+        String response = mockMvc.perform(post("/transactions/deposits/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<JsonNode> lines = parseLines(response);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).get("success").asBoolean()).isTrue();
+        assertThat(lines.get(1).get("errorMessage").asText()).isEqualTo(ErrorMessages.BULK_DEPOSIT_MALFORMED_INPUT);
+    }
+
+    private String deposit(String accountNo, String amount) {
+        return "{\"bankCode\":\"" + testBankCode + "\",\"accountNo\":\"" + accountNo
+                + "\",\"amount\":" + amount + ",\"description\":\"대량 입금\"}";
+    }
+
+    private List<JsonNode> parseLines(String response) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private void createAccount(String userName, String email, String idCardNo, String accountNo) throws Exception {
+        mockMvc.perform(post("/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateAccountApiRequest(userName, email, idCardNo, testBankCode, accountNo))))
+                .andExpect(status().isCreated());
+    }
+}
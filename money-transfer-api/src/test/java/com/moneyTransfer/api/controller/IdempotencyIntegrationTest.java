@@ -0,0 +1,290 @@
+package com.moneyTransfer.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyTransfer.api.dto.request.CreateAccountApiRequest;
+import com.moneyTransfer.api.dto.request.DepositApiRequest;
+import com.moneyTransfer.api.dto.request.WithdrawApiRequest;
+import com.moneyTransfer.api.filter.IdempotencyFilter;
+import com.moneyTransfer.application.idempotency.IdempotencyManager;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.idempotency.IdempotencyPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@DisplayName("Idempotency-Key 통합 테스트")
+class IdempotencyIntegrationTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyManager idempotencyManager;
+
+    @Autowired
+    private IdempotencyPort idempotencyPort;
+
+    private final String testBankCode = "014";
+    private String accountNo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(idempotencyFilter)
+                .build();
+
+        // 각 테스트마다 고유한 계좌번호 생성
+        long timestamp = System.currentTimeMillis();
+        this.accountNo = "17" + (timestamp % 100000000L);
+
+        mockMvc.perform(post("/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateAccountApiRequest(
+                                "멱등", "idem" + timestamp + "@example.com",
+                                String.format("17171717171%02d", timestamp % 100), testBankCode, accountNo))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 보낸 입금은 한 번만 반영되고 처음 응답을 그대로 돌려준다")
+    void replaysCompletedResponse() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        String body = deposit("1000");
+
+        // when
+        String first = mockMvc.perform(post("/transactions/deposit")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String second = mockMvc.perform(post("/transactions/deposit")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertBalance(1000);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 들어온 요청은 처음 요청의 결과를 기다려 받는다")
+    void concurrentDuplicatesAreAppliedOnce() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        String body = deposit("500");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        try {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        mockMvc.perform(post("/transactions/deposit")
+                                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(body))
+                                .andExpect(status().isOk());
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertBalance(500);
+    }
+
+    @Test
+    @DisplayName("실패 응답도 저장되어 재요청 시 다시 처리하지 않는다")
+    void replaysClientError() throws Exception {
+        // given - 잔액 부족 출금
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(
+                new WithdrawApiRequest(testBankCode, accountNo, new BigDecimal("1000"), "잔액 부족"));
+        mockMvc.perform(post("/transactions/withdraw")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        // when - 그 사이 입금되어도 같은 키는 처음 결과를 돌려줌
+        mockMvc.perform(post("/transactions/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(deposit("5000")))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(post("/transactions/withdraw")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+        assertBalance(5000);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 API에 사용하면 400 에러")
+    void keyReusedOnAnotherPath() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/transactions/deposit")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(deposit("1000")))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(post("/transactions/withdraw")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new WithdrawApiRequest(testBankCode, accountNo, new BigDecimal("100"), "출금"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.IDEMPOTENCY_KEY_MISMATCH));
+        assertBalance(1000);
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청을 보내면 400 에러")
+    void keyReusedWithAnotherBody() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/transactions/deposit")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(deposit("1000")))
+                .andExpect(status().isOk());
+
+        // when & then - 금액만 다른 재시도
+        mockMvc.perform(post("/transactions/deposit")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(deposit("2000")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.IDEMPOTENCY_KEY_MISMATCH));
+        assertBalance(1000);
+    }
+
+    @Test
+    @DisplayName("응답을 저장하지 못한 채 오래된 처리 중 키는 다시 처리하지 않고 409 결과 불명")
+    void staleInProgressKeyIsNotReExecuted() throws Exception {
+        // given - 다른 노드가 선점한 뒤 응답을 저장하지 못하고 죽은 키
+        String key = UUID.randomUUID().toString();
+        idempotencyPort.tryClaim(key, "/transactions/deposit", null);
+        ReflectionTestUtils.setField(idempotencyManager, "staleAfterMillis", 0L);
+        Thread.sleep(10);
+
+        // when & then
+        try {
+            mockMvc.perform(post("/transactions/deposit")
+                            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(deposit("1000")))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message").value(ErrorMessages.IDEMPOTENCY_OUTCOME_UNKNOWN));
+        } finally {
+            ReflectionTestUtils.setField(idempotencyManager, "staleAfterMillis", 60000L);
+        }
+        assertBalance(0);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나 DB에서 정리된 키는 메모리 캐시도 응답하지 않고 새 요청으로 처리한다")
+    void expiredKeyIsNotReplayedFromCache() throws Exception {
+        // given - 처리 완료되어 메모리 캐시에 있는 키
+        String key = UUID.randomUUID().toString();
+        String body = deposit("1000");
+        mockMvc.perform(post("/transactions/deposit")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        // when - 보관 기간이 지나 정리됨
+        ReflectionTestUtils.setField(idempotencyManager, "retentionHours", 0L);
+        try {
+            Thread.sleep(10);
+            idempotencyPort.deleteUpdatedBefore(LocalDateTime.now(), 1000);
+
+            // then
+            mockMvc.perform(post("/transactions/deposit")
+                            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        } finally {
+            ReflectionTestUtils.setField(idempotencyManager, "retentionHours", 24L);
+        }
+        assertBalance(2000);
+    }
+
+    @Test
+    @DisplayName("너무 긴 키는 400 에러")
+    void invalidKey() throws Exception {
+        mockMvc.perform(post("/transactions/deposit")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "k".repeat(101))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(deposit("1000")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.IDEMPOTENCY_KEY_INVALID));
+        assertBalance(0);
+    }
+
+    private String deposit(String amount) throws Exception {
+        return objectMapper.writeValueAsString(
+                new DepositApiRequest(testBankCode, accountNo, new BigDecimal(amount), "멱등 입금"));
+    }
+
+    private void assertBalance(long expected) throws Exception {
+        mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + accountNo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountInfo.balance").value(expected));
+    }
+}
@@ -1,11 +1,15 @@
 package com.moneyTransfer.api.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyTransfer.api.dto.request.BatchTransferApiRequest;
 import com.moneyTransfer.api.dto.request.CreateAccountApiRequest;
 import com.moneyTransfer.api.dto.request.DepositApiRequest;
+import com.moneyTransfer.api.dto.request.PayrollTransferApiRequest;
 import com.moneyTransfer.api.dto.request.TransferApiRequest;
 import com.moneyTransfer.api.dto.request.WithdrawApiRequest;
 import com.moneyTransfer.api.dto.response.AccountApiResponse;
+import com.moneyTransfer.persistence.adapter.TransactionProjector;
 import com.moneyTransfer.persistence.repository.UserJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,7 +25,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -43,6 +52,9 @@ class TransactionControllerIntegrationTest {
     @Autowired
     private UserJpaRepository userJpaRepository;
 
+    @Autowired
+    private TransactionProjector transactionProjector;
+
     private String testBankCode = "001";
     private String testAccountNo = "1123456789";
 
@@ -163,6 +175,121 @@ class TransactionControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("일괄 이체 API - 건별 실패를 응답 본문에 담아 200 응답")
+    void batchTransferPartialFailureTest() throws Exception {
+        BatchTransferApiRequest request = new BatchTransferApiRequest(List.of(
+                new TransferApiRequest(testBankCode, testAccountNo, testBankCode, testAccountNo,
+                        new BigDecimal("10000"), "동일 계좌"),
+                new TransferApiRequest(testBankCode, testAccountNo, testBankCode, "9999999999",
+                        new BigDecimal("10000"), "없는 계좌")
+        ));
+
+        mockMvc.perform(post("/transactions/transfers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.failureCount").value(2))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].success").value(false))
+                .andExpect(jsonPath("$.results[0].errorMessage").value("같은 계좌로는 이체할 수 없습니다"))
+                .andExpect(jsonPath("$.results[1].errorMessage").value("이체 대상 계좌를 찾을 수 없습니다"));
+    }
+
+    @Test
+    @DisplayName("일괄 이체 API - 빈 목록은 400")
+    void batchTransferEmptyTest() throws Exception {
+        mockMvc.perform(post("/transactions/transfers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchTransferApiRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("급여 이체 API - 수취 계좌 오류는 건별 실패로 응답")
+    void payrollTransferPartialFailureTest() throws Exception {
+        PayrollTransferApiRequest request = new PayrollTransferApiRequest(testBankCode, testAccountNo, List.of(
+                new PayrollTransferApiRequest.Leg(testBankCode, "9999999999", new BigDecimal("10000"), "급여")
+        ));
+
+        mockMvc.perform(post("/transactions/transfers/payroll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failureCount").value(1))
+                .andExpect(jsonPath("$.results[0].errorMessage").value("이체 대상 계좌를 찾을 수 없습니다"));
+    }
+
+    @Test
+    @DisplayName("급여 이체 API - 존재하지 않는 송금 계좌")
+    void payrollTransferNonExistentSourceTest() throws Exception {
+        PayrollTransferApiRequest request = new PayrollTransferApiRequest(testBankCode, "9999999999", List.of(
+                new PayrollTransferApiRequest.Leg(testBankCode, testAccountNo, new BigDecimal("10000"), "급여")
+        ));
+
+        mockMvc.perform(post("/transactions/transfers/payroll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("비동기 이체 API - 접수 후 상태 조회")
+    void submitTransferAsyncTest() throws Exception {
+        TransferApiRequest request = new TransferApiRequest(
+                testBankCode,
+                testAccountNo,
+                "002",
+                "2123456789",
+                new BigDecimal("10000"),
+                "비동기 이체"
+        );
+
+        String response = mockMvc.perform(post("/transactions/transfer/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.transferId").exists())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andReturn().getResponse().getContentAsString();
+
+        Long transferId = objectMapper.readTree(response).get("transferId").asLong();
+
+        // 테스트 트랜잭션이 커밋되지 않으므로 worker가 처리하지 않고 대기 상태로 남음
+        mockMvc.perform(get("/transactions/transfer/" + transferId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transferId").value(transferId))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.amount").value(10000));
+    }
+
+    @Test
+    @DisplayName("비동기 이체 API - 동일 계좌 이체는 접수하지 않음")
+    void submitTransferAsyncSameAccountTest() throws Exception {
+        TransferApiRequest invalidRequest = new TransferApiRequest(
+                testBankCode,
+                testAccountNo,
+                testBankCode,
+                testAccountNo, // 동일 계좌
+                new BigDecimal("10000"),
+                "이체"
+        );
+
+        mockMvc.perform(post("/transactions/transfer/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalidRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("비동기 이체 조회 API - 존재하지 않는 요청")
+    void getTransferNonExistentTest() throws Exception {
+        mockMvc.perform(get("/transactions/transfer/999999999"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("거래내역 조회 API - 정상 요청")
     void getTransactionHistoryTest() throws Exception {
@@ -183,7 +310,39 @@ class TransactionControllerIntegrationTest {
                         .param("size", "10")
                         .param("startDate", "2024-01-01T00:00:00")
                         .param("endDate", "2024-12-31T23:59:59"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageInfo.countMode").value("COUNT_QUERY"));
+    }
+
+    @Test
+    @DisplayName("거래내역 조회 API - 기간 조건이 없으면 전체 건수를 계좌별 카운터로 제공")
+    void getTransactionHistoryWithCounterTest() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/transactions/deposit")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new DepositApiRequest(testBankCode, testAccountNo, new BigDecimal("1000"), "입금" + i))))
+                    .andExpect(status().isCreated());
+        }
+
+        // 초기 입금 1건 + 3건
+        mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + testAccountNo)
+                        .param("page", "0")
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions.length()").value(3))
+                .andExpect(jsonPath("$.pageInfo.countMode").value("COUNTER"))
+                .andExpect(jsonPath("$.pageInfo.totalElements").value(4))
+                .andExpect(jsonPath("$.pageInfo.totalPages").value(2))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(true));
+
+        mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + testAccountNo)
+                        .param("page", "1")
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions.length()").value(1))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.pageInfo.hasPrevious").value(true));
     }
 
     @Test
@@ -203,6 +362,100 @@ class TransactionControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("거래 집계 조회 API - 일 집계로 유형별 건수/금액과 마감 잔액 제공, 거래내역 기간 조회에도 기간 합계 포함")
+    void getTransactionSummaryTest() throws Exception {
+        mockMvc.perform(post("/transactions/withdraw")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new WithdrawApiRequest(testBankCode, testAccountNo, new BigDecimal("30000"), "출금"))))
+                .andExpect(status().isCreated());
+
+        // 초기 입금 100000 + 출금 30000 - 일 집계는 비동기로 반영되므로 테스트 트랜잭션 안에서 바로 반영
+        transactionProjector.drain();
+        String today = LocalDate.now().toString();
+        mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + testAccountNo + "/summary")
+                        .param("startDate", today)
+                        .param("endDate", today))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totals.depositCount").value(1))
+                .andExpect(jsonPath("$.totals.depositAmount").value(100000))
+                .andExpect(jsonPath("$.totals.withdrawCount").value(1))
+                .andExpect(jsonPath("$.totals.withdrawAmount").value(30000))
+                .andExpect(jsonPath("$.totals.closingBalance").value(70000))
+                .andExpect(jsonPath("$.days.length()").value(1))
+                .andExpect(jsonPath("$.days[0].date").value(today));
+
+        mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + testAccountNo)
+                        .param("startDate", today + "T00:00:00")
+                        .param("endDate", today + "T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.periodTotals.depositCount").value(1))
+                .andExpect(jsonPath("$.periodTotals.withdrawCount").value(1));
+    }
+
+    @Test
+    @DisplayName("거래 집계 조회 API - 시작일이 종료일 이후면 400")
+    void getTransactionSummaryInvalidPeriodTest() throws Exception {
+        mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + testAccountNo + "/summary")
+                        .param("startDate", "2024-12-31")
+                        .param("endDate", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("거래 집계 조회 API - 존재하지 않는 계좌")
+    void getTransactionSummaryNonExistentAccountTest() throws Exception {
+        mockMvc.perform(get("/transactions/account/001/9999999999/summary")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-31"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("거래내역 조회 API - 커서로 전체 거래를 빠짐없이 겹치지 않게 순회")
+    void getTransactionHistoryWithCursorTest() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(post("/transactions/deposit")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new DepositApiRequest(testBankCode, testAccountNo, new BigDecimal("1000"), "입금" + i))))
+                    .andExpect(status().isCreated());
+        }
+
+        List<Long> transactionIds = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            String body = mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + testAccountNo)
+                            .param("size", "2")
+                            .param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.pageInfo.totalElements").doesNotExist())
+                    .andExpect(jsonPath("$.pageInfo.countMode").value("NONE"))
+                    .andReturn().getResponse().getContentAsString();
+
+            JsonNode root = objectMapper.readTree(body);
+            root.path("transactions").forEach(transaction -> transactionIds.add(transaction.path("transactionId").asLong()));
+            JsonNode nextCursor = root.path("pageInfo").path("nextCursor");
+            cursor = nextCursor.isNull() || nextCursor.isMissingNode() ? null : nextCursor.asText();
+            pages++;
+        }
+
+        // 초기 입금 1건 + 4건, 최신순
+        assertThat(pages).isEqualTo(3);
+        assertThat(transactionIds).hasSize(5).doesNotHaveDuplicates();
+        assertThat(transactionIds).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("거래내역 조회 API - 잘못된 커서")
+    void getTransactionHistoryInvalidCursorTest() throws Exception {
+        mockMvc.perform(get("/transactions/account/" + testBankCode + "/" + testAccountNo)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("입금 API Content-Type 검증")
     void depositContentTypeTest() throws Exception {
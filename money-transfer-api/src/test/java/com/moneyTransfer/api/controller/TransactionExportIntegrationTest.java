@@ -0,0 +1,219 @@
+package com.moneyTransfer.api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyTransfer.api.dto.request.CreateAccountApiRequest;
+import com.moneyTransfer.api.dto.request.DepositApiRequest;
+import com.moneyTransfer.api.dto.request.TransferApiRequest;
+import com.moneyTransfer.api.stream.TransactionExportStreamWriter;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 내보내기는 별도 스레드의 읽기 전용 트랜잭션에서 실행되므로 테스트 데이터를 커밋해 둠 (@Transactional 미사용)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"money-transfer.transaction.export.flush-rows=2", "money-transfer.transaction.export.max-concurrent=1"})
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@DisplayName("거래내역 내보내기 통합 테스트")
+class TransactionExportIntegrationTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionExportStreamWriter transactionExportStreamWriter;
+
+    private final String testBankCode = "013";
+    private String accountNoA;
+    private String accountNoB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        // 각 테스트마다 고유한 계좌번호 생성
+        long timestamp = System.currentTimeMillis();
+        this.accountNoA = "17" + (timestamp % 100000000L);
+        this.accountNoB = "18" + (timestamp % 100000000L);
+
+        createAccount("내보내기A", "export-a" + timestamp + "@example.com",
+                String.format("17171717171%02d", timestamp % 100), accountNoA);
+        createAccount("내보내기B", "export-b" + timestamp + "@example.com",
+                String.format("18181818181%02d", timestamp % 100), accountNoB);
+
+        // 입금 2건(쉼표가 있는 사유 포함) 후 이체 1건
+        perform("/transactions/deposit", new DepositApiRequest(testBankCode, accountNoA, new BigDecimal("10000"), "급여, 3월"));
+        perform("/transactions/deposit", new DepositApiRequest(testBankCode, accountNoA, new BigDecimal("5000"), "입금"));
+        perform("/transactions/transfer", new TransferApiRequest(
+                testBankCode, accountNoA, testBankCode, accountNoB, new BigDecimal("1000"), "이체"));
+    }
+
+    @Test
+    @DisplayName("CSV로 전체 거래를 최신순으로 내보낸다")
+    void exportCsv() throws Exception {
+        // when
+        MvcResult started = mockMvc.perform(get("/transactions/export")
+                        .param("bankCode", testBankCode)
+                        .param("accountNo", accountNoA))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(new MediaType("text", "csv")))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("attachment")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+
+        // then - 헤더 + 3건, 이체가 가장 먼저
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("transactionId,transactionType,amount");
+        String[] transfer = lines[1].split(",");
+        assertThat(transfer[1]).isEqualTo("TRANSFER_SEND");
+        assertThat(new BigDecimal(transfer[2])).isEqualByComparingTo("1000");
+        assertThat(new BigDecimal(transfer[3])).isEqualByComparingTo("10");
+        assertThat(transfer[9]).isEqualTo(testBankCode);
+        assertThat(transfer[10]).isEqualTo(accountNoB);
+        assertThat(lines[2]).contains(",DEPOSIT,").endsWith(",,");
+        assertThat(lines[3]).contains("\"급여, 3월\"");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 거래 하나씩 내보내고 기간 조건을 적용한다")
+    void exportNdjsonWithDateRange() throws Exception {
+        // when
+        MvcResult started = mockMvc.perform(get("/transactions/export")
+                        .param("bankCode", testBankCode)
+                        .param("accountNo", accountNoB)
+                        .param("format", "ndjson")
+                        .param("startDate", "2000-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<JsonNode> lines = parseLines(body);
+
+        // then - 수취 계좌는 받은 이체 1건
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).get("transactionType").asText()).isEqualTo("TRANSFER_RECEIVE");
+        assertThat(lines.get(0).get("relatedAccountInfo").get("accountNo").asText()).isEqualTo(accountNoA);
+
+        // 종료 일시가 과거면 0건
+        MvcResult empty = mockMvc.perform(get("/transactions/export")
+                        .param("bankCode", testBankCode)
+                        .param("accountNo", accountNoB)
+                        .param("format", "NDJSON")
+                        .param("endDate", "2000-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String emptyBody = mockMvc.perform(asyncDispatch(empty))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(parseLines(emptyBody)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이나 계좌가 잘못되면 본문을 쓰기 전에 오류로 응답한다")
+    void exportRejectsInvalidRequestBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/transactions/export")
+                        .param("bankCode", testBankCode)
+                        .param("accountNo", accountNoA)
+                        .param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.INVALID_EXPORT_FORMAT));
+
+        mockMvc.perform(get("/transactions/export")
+                        .param("bankCode", testBankCode)
+                        .param("accountNo", "9999999999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.ACCOUNT_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("CSV 값이 수식 문자로 시작하면 앞에 '를 붙여 스프레드시트가 실행하지 않게 한다")
+    void exportCsvNeutralizesFormula() throws Exception {
+        // given
+        perform("/transactions/deposit", new DepositApiRequest(testBankCode, accountNoB, new BigDecimal("100"), "=HYPERLINK(\"x\")"));
+
+        // when
+        MvcResult started = mockMvc.perform(get("/transactions/export")
+                        .param("bankCode", testBankCode)
+                        .param("accountNo", accountNoB))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then - 가장 최근 거래(입금)의 사유
+        assertThat(body.split("\n")[1]).contains(",\"'=HYPERLINK(\"\"x\"\")\",");
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 상한을 넘으면 본문을 쓰기 전에 429로 응답한다")
+    void exportRejectsWhenBusy() throws Exception {
+        // given - 상한 1을 다른 내보내기가 사용 중
+        transactionExportStreamWriter.acquire();
+
+        // when & then
+        try {
+            mockMvc.perform(get("/transactions/export")
+                            .param("bankCode", testBankCode)
+                            .param("accountNo", accountNoA))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                    .andExpect(jsonPath("$.message").value(ErrorMessages.TRANSACTION_EXPORT_BUSY));
+        } finally {
+            transactionExportStreamWriter.release();
+        }
+    }
+
+    private List<JsonNode> parseLines(String response) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private void perform(String url, Object request) throws Exception {
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    private void createAccount(String userName, String email, String idCardNo, String accountNo) throws Exception {
+        perform("/accounts", new CreateAccountApiRequest(userName, email, idCardNo, testBankCode, accountNo));
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -151,6 +152,39 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).isEqualTo(errorMessage);
     }
 
+    @Test
+    @DisplayName("IllegalStateException 처리 - 이체 대기열 가득 참")
+    void handleIllegalStateExceptionQueueFull() {
+        // given
+        IllegalStateException exception = new IllegalStateException(ErrorMessages.TRANSFER_QUEUE_FULL);
+
+        // when
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleIllegalStateException(exception);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(429);
+        assertThat(response.getBody().getMessage()).isEqualTo(ErrorMessages.TRANSFER_QUEUE_FULL);
+    }
+
+    @Test
+    @DisplayName("IllegalStateException 처리 - 계좌 락 대기 시간 초과")
+    void handleIllegalStateExceptionLockTimeout() {
+        // given
+        IllegalStateException exception = new IllegalStateException(ErrorMessages.ACCOUNT_LOCK_TIMEOUT);
+
+        // when
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleIllegalStateException(exception);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo(ErrorMessages.ACCOUNT_LOCK_TIMEOUT);
+    }
+
     @Test
     @DisplayName("MethodArgumentNotValidException 처리")
     void handleMethodArgumentNotValidException() {
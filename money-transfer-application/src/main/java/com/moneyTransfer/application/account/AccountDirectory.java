@@ -0,0 +1,139 @@
+package com.moneyTransfer.application.account;
+
+import com.moneyTransfer.common.util.AccountKeyPacker;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountRef;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 활성 계좌 전체의 (bankCode, accountNoNorm) → (계좌 ID, 잔액 분할 여부) 메모리 디렉터리.
+ *
+ * 키는 AccountKeyPacker로 묶은 long, 값은 계좌 ID(분할 계좌는 부호를 뒤집음)인 long → long 테이블이라
+ * 문자열 키 HashMap보다 훨씬 작고 조회 시 객체를 만들지 않는다. off-heap 설정 시 슬롯을 힙 밖에 둔다.
+ *
+ * 기동 시 accounts를 ID 순으로 나눠 읽어 백그라운드에서 적재하며, 적재가 끝나기 전(isReady=false)에는 사용하지 않는다.
+ * 적재 이후에는 AccountKeyResolver가 생성/삭제/잔액 분할 시 키를 비우고 다음 조회에서 DB 결과를 다시 넣는다.
+ * 값이 없으면 "모름"으로 보고 DB를 조회하므로 다른 인스턴스에서 생성된 계좌도 찾을 수 있다.
+ */
+@Component
+public class AccountDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountDirectory.class);
+
+    static final long MISSING = LongLongOpenHashMap.EMPTY;
+
+    private final AccountPort accountPort;
+
+    @Value("${money-transfer.account-directory.enabled:false}")
+    private boolean enabled = false;
+
+    // 예상 계좌 수 - 넘으면 두 배씩 늘림
+    @Value("${money-transfer.account-directory.expected-size:1000000}")
+    private int expectedSize = 1000000;
+
+    @Value("${money-transfer.account-directory.off-heap:false}")
+    private boolean offHeap = false;
+
+    // 기동 시 한 번에 읽는 계좌 수
+    @Value("${money-transfer.account-directory.load-batch-size:10000}")
+    private int loadBatchSize = 10000;
+
+    private volatile LongLongOpenHashMap table;
+    private volatile boolean ready;
+
+    public AccountDirectory(AccountPort accountPort) {
+        this.accountPort = accountPort;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // 적재 중 생성/삭제로 인한 put/remove도 받도록 테이블을 먼저 만듦
+        createTable();
+        Thread loader = new Thread(this::load, "account-directory-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void createTable() {
+        table = new LongLongOpenHashMap(expectedSize, offHeap);
+    }
+
+    void load() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        int loaded = 0;
+        try {
+            while (true) {
+                List<AccountRef> refs = accountPort.findActiveRefsAfterId(lastId, loadBatchSize);
+                for (AccountRef ref : refs) {
+                    put(ref);
+                    lastId = ref.getId();
+                }
+                loaded += refs.size();
+                if (refs.size() < loadBatchSize) {
+                    break;
+                }
+            }
+            ready = true;
+            log.info("계좌 디렉터리 적재 완료 - {}건, {}ms, offHeap={}",
+                    loaded, System.currentTimeMillis() - startedAt, offHeap);
+        } catch (RuntimeException e) {
+            // 적재에 실패하면 디렉터리 없이 기존 조회 경로로 동작
+            log.warn("계좌 디렉터리 적재 실패 - 디렉터리를 사용하지 않음", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 묶은 키의 값 (없으면 MISSING) - idOf, isBalanceSharded로 해석
+    long find(long packedKey) {
+        return table.get(packedKey);
+    }
+
+    void put(AccountRef ref) {
+        LongLongOpenHashMap current = table;
+        long packedKey = AccountKeyPacker.pack(ref.getBankCode(), ref.getAccountNoNorm());
+        if (current == null || packedKey == AccountKeyPacker.NOT_PACKABLE) {
+            return;
+        }
+        if (!current.put(packedKey, encode(ref.getId(), ref.isBalanceSharded()))) {
+            log.warn("계좌 디렉터리 용량 초과 - 계좌 {}는 DB로 조회", ref.getId());
+        }
+    }
+
+    void remove(long packedKey) {
+        LongLongOpenHashMap current = table;
+        if (current != null) {
+            current.remove(packedKey);
+        }
+    }
+
+    int size() {
+        LongLongOpenHashMap current = table;
+        return current == null ? 0 : current.size();
+    }
+
+    // 계좌 ID는 양수이므로 부호 비트에 잔액 분할 여부를 담음
+    static long encode(Long id, boolean balanceSharded) {
+        return balanceSharded ? -id : id;
+    }
+
+    static long idOf(long value) {
+        return Math.abs(value);
+    }
+
+    static boolean isBalanceSharded(long value) {
+        return value < 0;
+    }
+}
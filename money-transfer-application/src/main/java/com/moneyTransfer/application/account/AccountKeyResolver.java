@@ -0,0 +1,138 @@
+package com.moneyTransfer.application.account;
+
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.common.util.AccountKeyPacker;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청의 (bankCode, accountNoNorm)을 계좌 ID로 바꾼다.
+ *
+ * 입출금/이체는 어차피 ID로 계좌 행을 다시 잠그므로, 자연키로 계좌 전체를 읽는 SELECT는 ID를 얻기 위한 것뿐이다.
+ * 변하지 않는 식별 정보만 최근 cacheSize개 LRU로 들고 있어 캐시에 있으면 이 SELECT를 생략한다.
+ * 잔액과 상태는 담지 않으므로 호출자가 ID로 읽은 계좌로 검증하며, 다른 인스턴스의 캐시가 남아 있어도 결과는 같다.
+ * 계좌 생성/삭제, 잔액 분할 시 해당 키를 비운다. 비우거나 LRU에서 밀려난 키는 계좌 락 제외 표시도 지운다.
+ *
+ * 캐시는 인스턴스마다 따로 있고 다른 인스턴스로 무효화를 전파하지 않는다 (TTL 없음).
+ * (bankCode, accountNoNorm) → ID는 해지 후에도 바뀌지 않고, 남은 항목이 틀릴 수 있는 것은 분할 여부뿐인데
+ * 입출금/이체는 ID로 읽은 계좌 행의 상태와 분할 여부로 다시 판단하고 어긋나면 그 인스턴스에서 비운다.
+ *
+ * 계좌 디렉터리가 적재되어 있으면 LRU 대신 디렉터리에서 찾는다 (묶을 수 없는 형식의 키는 LRU 경로).
+ * 디렉터리 키는 AccountKeyPacker.normalizeAndPack으로 만들며, ValidationUtils의 계좌번호 검증과 같은 규칙이다.
+ * 디렉터리에 없는 활성 계좌는 DB에서 읽어 디렉터리에 넣으며, 비활성 계좌는 넣지 않는다.
+ */
+@Component
+public class AccountKeyResolver {
+
+    private final AccountPort accountPort;
+    private final AccountDirectory accountDirectory;
+    private final AccountLockManager accountLockManager;
+
+    @Value("${money-transfer.account-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${money-transfer.account-cache.size:100000}")
+    private int cacheSize = 100000;
+
+    // 접근 순서 LinkedHashMap - 가장 오래 쓰이지 않은 계좌부터 제거 (계좌 락 제외 표시도 함께 지움)
+    private final Map<String, AccountRef> refs = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AccountRef> eldest) {
+            if (size() <= cacheSize) {
+                return false;
+            }
+            accountLockManager.resumeLocking(eldest.getKey());
+            return true;
+        }
+    };
+
+    public AccountKeyResolver(AccountPort accountPort, AccountDirectory accountDirectory,
+                              AccountLockManager accountLockManager) {
+        this.accountPort = accountPort;
+        this.accountDirectory = accountDirectory;
+        this.accountLockManager = accountLockManager;
+    }
+
+    public Optional<AccountRef> resolve(String bankCode, String accountNoNorm) {
+        if (accountDirectory.isReady()) {
+            long packedKey = AccountKeyPacker.normalizeAndPack(bankCode, accountNoNorm);
+            if (packedKey != AccountKeyPacker.NOT_PACKABLE) {
+                return resolveFromDirectory(packedKey, bankCode, accountNoNorm);
+            }
+        }
+
+        if (!enabled) {
+            return accountPort.findByBankCodeAndAccountNoNorm(bankCode, accountNoNorm).map(AccountRef::of);
+        }
+
+        String key = key(bankCode, accountNoNorm);
+        synchronized (refs) {
+            AccountRef cached = refs.get(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        // 없는 계좌는 캐시하지 않음 (생성 직후 요청이 바로 보이도록)
+        Optional<AccountRef> loaded = accountPort.findByBankCodeAndAccountNoNorm(bankCode, accountNoNorm).map(AccountRef::of);
+        loaded.ifPresent(ref -> {
+            synchronized (refs) {
+                refs.put(key, ref);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 키를 비운다. 트랜잭션 안이면 커밋 후에 한 번 더 비워,
+     * 커밋 전에 다른 요청이 이전 상태(분할 전, 해지 전)를 읽어 다시 넣은 항목도 지운다.
+     */
+    public void evict(String bankCode, String accountNoNorm) {
+        remove(bankCode, accountNoNorm);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(bankCode, accountNoNorm);
+                }
+            });
+        }
+    }
+
+    private void remove(String bankCode, String accountNoNorm) {
+        synchronized (refs) {
+            refs.remove(key(bankCode, accountNoNorm));
+        }
+        accountLockManager.resumeLocking(key(bankCode, accountNoNorm));
+        long packedKey = AccountKeyPacker.normalizeAndPack(bankCode, accountNoNorm);
+        if (packedKey != AccountKeyPacker.NOT_PACKABLE) {
+            accountDirectory.remove(packedKey);
+        }
+    }
+
+    private Optional<AccountRef> resolveFromDirectory(long packedKey, String bankCode, String accountNoNorm) {
+        long value = accountDirectory.find(packedKey);
+        if (value != AccountDirectory.MISSING) {
+            return Optional.of(new AccountRef(AccountDirectory.idOf(value), bankCode, accountNoNorm,
+                    AccountDirectory.isBalanceSharded(value)));
+        }
+
+        Optional<Account> loaded = accountPort.findByBankCodeAndAccountNoNorm(bankCode, accountNoNorm);
+        loaded.filter(Account::isActive).map(AccountRef::of).ifPresent(accountDirectory::put);
+        return loaded.map(AccountRef::of);
+    }
+
+    // 계좌 락 키와 같은 형식 (LRU에서 밀려난 키로 락 제외 표시를 지움)
+    private static String key(String bankCode, String accountNoNorm) {
+        return AccountLockManager.key(bankCode, accountNoNorm);
+    }
+}
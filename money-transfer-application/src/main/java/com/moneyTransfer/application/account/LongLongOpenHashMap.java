@@ -0,0 +1,261 @@
+package com.moneyTransfer.application.account;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long → long 개방 주소법(선형 탐사) 해시 테이블.
+ *
+ * 키/값을 박싱하지 않고 슬롯 배열에 나란히 두므로 조회 시 객체를 만들지 않는다.
+ * offHeap이면 슬롯을 direct ByteBuffer에 두어 수천만 건을 담아도 힙과 GC 대상이 늘지 않는다.
+ *
+ * 키 0과 값 0은 빈 슬롯을 뜻하므로 넣을 수 없다. 삭제는 묘비(tombstone) 없이 뒤 슬롯을 당겨 채운다.
+ * 조회는 StampedLock 낙관적 읽기로 락 없이 수행하고, 그 사이 쓰기가 있었으면 읽기 락으로 다시 읽는다.
+ */
+final class LongLongOpenHashMap {
+
+    static final long EMPTY = 0L;
+
+    private static final double MAX_LOAD_FACTOR = 0.6;
+    // 힙 배열은 슬롯당 long 2개, 배열 길이가 int 범위를 넘지 않도록 2^29개
+    private static final int MAX_HEAP_CAPACITY = 1 << 29;
+    // direct ByteBuffer는 int 인덱스(2GB 미만)까지이므로 슬롯당 16바이트 기준 2^26개 (약 4천만 건)
+    private static final int MAX_OFF_HEAP_CAPACITY = 1 << 26;
+
+    private final boolean offHeap;
+    private final StampedLock lock = new StampedLock();
+    private volatile Slots slots;
+    private int size;
+
+    LongLongOpenHashMap(int expectedSize, boolean offHeap) {
+        this.offHeap = offHeap;
+        this.slots = newSlots(capacityFor(expectedSize));
+    }
+
+    long get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        long value = find(slots, key);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(slots, key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 용량 한도에 걸려 넣지 못하면 false
+    boolean put(long key, long value) {
+        checkKey(key);
+        if (value == EMPTY) {
+            throw new IllegalArgumentException("value must not be 0");
+        }
+        long stamp = lock.writeLock();
+        try {
+            Slots current = slots;
+            int index = indexOf(current, key);
+            if (current.key(index) == key) {
+                current.set(index, key, value);
+                return true;
+            }
+            if (size + 1 > current.capacity * MAX_LOAD_FACTOR) {
+                if (current.capacity >= maxCapacity()) {
+                    return false;
+                }
+                current = grow(current);
+                index = indexOf(current, key);
+            }
+            current.set(index, key, value);
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void remove(long key) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            Slots current = slots;
+            int hole = indexOf(current, key);
+            if (current.key(hole) != key) {
+                return;
+            }
+            // 뒤따르는 같은 탐사 구간의 항목을 빈자리로 당겨 탐사가 끊기지 않게 함
+            int mask = current.mask;
+            int index = hole;
+            while (true) {
+                index = (index + 1) & mask;
+                long moving = current.key(index);
+                if (moving == EMPTY) {
+                    break;
+                }
+                int home = home(moving, mask);
+                if (((index - home) & mask) >= ((index - hole) & mask)) {
+                    current.set(hole, moving, current.value(index));
+                    hole = index;
+                }
+            }
+            current.set(hole, EMPTY, EMPTY);
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 낙관적 읽기 중 쓰기가 끼어들어도 끝나도록 탐사 횟수를 용량으로 제한 (결과는 validate에서 버려짐)
+    private static long find(Slots slots, long key) {
+        int mask = slots.mask;
+        int index = home(key, mask);
+        for (int probe = 0; probe < slots.capacity; probe++) {
+            long current = slots.key(index);
+            if (current == key) {
+                return slots.value(index);
+            }
+            if (current == EMPTY) {
+                return EMPTY;
+            }
+            index = (index + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    // 키가 있는 슬롯, 없으면 넣을 빈 슬롯 (부하율 제한으로 빈 슬롯이 항상 있음)
+    private static int indexOf(Slots slots, long key) {
+        int mask = slots.mask;
+        int index = home(key, mask);
+        while (true) {
+            long current = slots.key(index);
+            if (current == key || current == EMPTY) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private Slots grow(Slots current) {
+        Slots grown = newSlots(current.capacity << 1);
+        for (int i = 0; i < current.capacity; i++) {
+            long key = current.key(i);
+            if (key != EMPTY) {
+                grown.set(indexOf(grown, key), key, current.value(i));
+            }
+        }
+        slots = grown;
+        return grown;
+    }
+
+    private int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 1) / MAX_LOAD_FACTOR);
+        long capacity = Long.highestOneBit(required);
+        if (capacity < required) {
+            capacity <<= 1;
+        }
+        return (int) Math.min(Math.max(capacity, 16), maxCapacity());
+    }
+
+    private int maxCapacity() {
+        return offHeap ? MAX_OFF_HEAP_CAPACITY : MAX_HEAP_CAPACITY;
+    }
+
+    private Slots newSlots(int capacity) {
+        return offHeap ? new DirectSlots(capacity) : new HeapSlots(capacity);
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key must not be 0");
+        }
+    }
+
+    // 64비트 혼합 (MurmurHash3 fmix64) - 묶은 키는 하위 비트가 계좌번호라 그대로 쓰면 군집이 생김
+    private static int home(long key, int mask) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private abstract static class Slots {
+        final int capacity;
+        final int mask;
+
+        Slots(int capacity) {
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+        }
+
+        abstract long key(int index);
+
+        abstract long value(int index);
+
+        abstract void set(int index, long key, long value);
+    }
+
+    // 키/값을 한 배열에 번갈아 두어 같은 캐시 라인에서 읽음
+    private static final class HeapSlots extends Slots {
+        private final long[] entries;
+
+        HeapSlots(int capacity) {
+            super(capacity);
+            this.entries = new long[capacity * 2];
+        }
+
+        @Override
+        long key(int index) {
+            return entries[index << 1];
+        }
+
+        @Override
+        long value(int index) {
+            return entries[(index << 1) + 1];
+        }
+
+        @Override
+        void set(int index, long key, long value) {
+            entries[(index << 1) + 1] = value;
+            entries[index << 1] = key;
+        }
+    }
+
+    private static final class DirectSlots extends Slots {
+        private final ByteBuffer entries;
+
+        DirectSlots(int capacity) {
+            super(capacity);
+            this.entries = ByteBuffer.allocateDirect(capacity * 16).order(ByteOrder.nativeOrder());
+        }
+
+        @Override
+        long key(int index) {
+            return entries.getLong(index << 4);
+        }
+
+        @Override
+        long value(int index) {
+            return entries.getLong((index << 4) + 8);
+        }
+
+        @Override
+        void set(int index, long key, long value) {
+            entries.putLong((index << 4) + 8, value);
+            entries.putLong(index << 4, key);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.moneyTransfer.application.dto.transaction;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BatchTransferResponse {
+
+    private final int totalCount;
+    private final int successCount;
+    private final int failureCount;
+    private final List<Item> results;
+
+    public BatchTransferResponse(List<Item> results) {
+        this.results = results;
+        this.totalCount = results.size();
+        this.successCount = (int) results.stream().filter(Item::isSuccess).count();
+        this.failureCount = totalCount - successCount;
+    }
+
+    // 요청 순서(index)별 처리 결과 - 성공 시 transaction, 실패 시 errorMessage
+    @Getter
+    public static class Item {
+        private final int index;
+        private final boolean success;
+        private final TransactionResponse transaction;
+        private final String errorMessage;
+
+        private Item(int index, boolean success, TransactionResponse transaction, String errorMessage) {
+            this.index = index;
+            this.success = success;
+            this.transaction = transaction;
+            this.errorMessage = errorMessage;
+        }
+
+        public static Item success(int index, TransactionResponse transaction) {
+            return new Item(index, true, transaction, null);
+        }
+
+        public static Item failure(int index, String errorMessage) {
+            return new Item(index, false, null, errorMessage);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.moneyTransfer.application.dto.transaction;
+
+import lombok.Getter;
+
+// 대량 입금 한 건의 처리 결과 - 성공 시 transaction, 실패 시 errorMessage
+@Getter
+public class BulkDepositResult {
+
+    private final boolean success;
+    private final TransactionResponse transaction;
+    private final String errorMessage;
+
+    private BulkDepositResult(boolean success, TransactionResponse transaction, String errorMessage) {
+        this.success = success;
+        this.transaction = transaction;
+        this.errorMessage = errorMessage;
+    }
+
+    public static BulkDepositResult success(TransactionResponse transaction) {
+        return new BulkDepositResult(true, transaction, null);
+    }
+
+    public static BulkDepositResult failure(String errorMessage) {
+        return new BulkDepositResult(false, null, errorMessage);
+    }
+}
@@ -0,0 +1,23 @@
+package com.moneyTransfer.application.dto.transaction;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class ExportTransactionHistoryRequest {
+
+    @NotBlank
+    private final String bankCode;
+
+    @NotBlank
+    private final String accountNo;
+
+    // null이면 해당 쪽 기간 제한 없음
+    private final LocalDateTime startDate;
+
+    private final LocalDateTime endDate;
+}
@@ -3,6 +3,7 @@ package com.moneyTransfer.application.dto.transaction;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @RequiredArgsConstructor
+@AllArgsConstructor
 public class GetTransactionHistoryRequest {
 
     @NotBlank
@@ -29,4 +31,11 @@ public class GetTransactionHistoryRequest {
     private final LocalDateTime startDate;
 
     private final LocalDateTime endDate;
+
+    // null이면 page/size(OFFSET) 조회, 빈 문자열이면 커서 조회의 첫 페이지, 그 외에는 이전 응답의 nextCursor
+    private String cursor;
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.moneyTransfer.application.dto.transaction;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class GetTransactionSummaryRequest {
+
+    @NotBlank
+    private final String bankCode;
+
+    @NotBlank
+    private final String accountNo;
+
+    @NotNull
+    private final LocalDate startDate;
+
+    @NotNull
+    private final LocalDate endDate;
+}
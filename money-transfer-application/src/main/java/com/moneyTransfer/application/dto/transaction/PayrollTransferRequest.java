@@ -0,0 +1,26 @@
+package com.moneyTransfer.application.dto.transaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class PayrollTransferRequest {
+
+    private final String fromBankCode;
+    private final String fromAccountNo;
+    private final List<Leg> legs;
+
+    // 출금 계좌 하나에서 나가는 이체 한 건
+    @Getter
+    @RequiredArgsConstructor
+    public static class Leg {
+        private final String toBankCode;
+        private final String toAccountNo;
+        private final BigDecimal amount;
+        private final String description;
+    }
+}
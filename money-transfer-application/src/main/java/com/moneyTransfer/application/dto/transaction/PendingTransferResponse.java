@@ -0,0 +1,38 @@
+package com.moneyTransfer.application.dto.transaction;
+
+import com.moneyTransfer.domain.transaction.PendingTransfer;
+import com.moneyTransfer.domain.transaction.PendingTransferStatus;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+public class PendingTransferResponse {
+
+    private final Long transferId;
+    private final PendingTransferStatus status;
+    private final TransactionResponse.AccountInfo fromAccountInfo;
+    private final TransactionResponse.AccountInfo toAccountInfo;
+    private final BigDecimal amount;
+    private final String description;
+    private final Long transactionId;
+    private final String failureReason;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+
+    public PendingTransferResponse(PendingTransfer pendingTransfer) {
+        this.transferId = pendingTransfer.getId();
+        this.status = pendingTransfer.getStatus();
+        this.fromAccountInfo = new TransactionResponse.AccountInfo(
+                pendingTransfer.getFromBankCode(), pendingTransfer.getFromAccountNo());
+        this.toAccountInfo = new TransactionResponse.AccountInfo(
+                pendingTransfer.getToBankCode(), pendingTransfer.getToAccountNo());
+        this.amount = pendingTransfer.getAmount();
+        this.description = pendingTransfer.getDescription();
+        this.transactionId = pendingTransfer.getTransactionId();
+        this.failureReason = pendingTransfer.getFailureReason();
+        this.createdAt = pendingTransfer.getCreatedAt();
+        this.completedAt = pendingTransfer.getCompletedAt();
+    }
+}
@@ -0,0 +1,18 @@
+package com.moneyTransfer.application.dto.transaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 확인을 마친 내보내기 대상 - 응답을 쓰기 시작하기 전에 만들어 두고 스트리밍 시점에 넘긴다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TransactionExport {
+    private final Long accountId;
+    private final TransactionResponse.AccountInfo accountInfo;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+}
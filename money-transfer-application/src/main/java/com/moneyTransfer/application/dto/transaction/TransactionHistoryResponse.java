@@ -1,5 +1,6 @@
 package com.moneyTransfer.application.dto.transaction;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -8,11 +9,14 @@ import java.util.List;
 
 @Getter
 @RequiredArgsConstructor
+@AllArgsConstructor
 public class TransactionHistoryResponse {
 
     private final AccountInfo accountInfo;
     private final List<TransactionResponse> transactions;
     private final PageInfo pageInfo;
+    // 기간 조건이 있을 때 일 집계로 구한 기간 합계 (startDate ~ endDate가 속한 날짜 전체, 기간 조건이 없으면 null)
+    private TransactionSummaryResponse.Totals periodTotals;
 
     @Getter
     @RequiredArgsConstructor
@@ -26,6 +30,7 @@ public class TransactionHistoryResponse {
 
     @Getter
     @RequiredArgsConstructor
+    @AllArgsConstructor
     public static class PageInfo {
         private final Integer currentPage;
         private final Integer pageSize;
@@ -33,5 +38,15 @@ public class TransactionHistoryResponse {
         private final Integer totalPages;
         private final Boolean hasNext;
         private final Boolean hasPrevious;
+        // 커서 조회에서 다음 페이지를 요청할 커서 (OFFSET 조회이거나 마지막 페이지면 null)
+        private String nextCursor;
+        // totalElements를 어떻게 구했는지
+        private CountMode countMode;
+    }
+
+    public enum CountMode {
+        COUNTER,      // 계좌별 거래 건수 카운터 (목록은 size + 1건 조회)
+        COUNT_QUERY,  // COUNT 쿼리 (기간 조건이 있거나 카운터가 없는 계좌)
+        NONE          // 전체 건수 없음 (커서 조회)
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.moneyTransfer.application.dto.transaction;
+
+import com.moneyTransfer.domain.transaction.DailyTransactionSummary;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class TransactionSummaryResponse {
+
+    private final String bankCode;
+    private final String accountNo;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    // 기간 합계
+    private final Totals totals;
+    // 거래가 있었던 날만 날짜순
+    private final List<Daily> days;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Totals {
+        private final long depositCount;
+        private final BigDecimal depositAmount;
+        private final long withdrawCount;
+        private final BigDecimal withdrawAmount;
+        private final long transferSendCount;
+        private final BigDecimal transferSendAmount;
+        private final long transferReceiveCount;
+        private final BigDecimal transferReceiveAmount;
+        private final BigDecimal feeAmount;
+        // 마지막 거래의 거래 후 잔액 (거래가 없으면 null)
+        private final BigDecimal closingBalance;
+
+        public static Totals of(DailyTransactionSummary summary) {
+            return new Totals(
+                    summary.getDepositCount(), summary.getDepositAmount(),
+                    summary.getWithdrawCount(), summary.getWithdrawAmount(),
+                    summary.getTransferSendCount(), summary.getTransferSendAmount(),
+                    summary.getTransferReceiveCount(), summary.getTransferReceiveAmount(),
+                    summary.getFeeAmount(),
+                    summary.getClosingBalance()
+            );
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Daily {
+        private final LocalDate date;
+        private final Totals totals;
+    }
+}
@@ -0,0 +1,87 @@
+package com.moneyTransfer.application.idempotency;
+
+import com.moneyTransfer.common.util.WorkerThreads;
+import com.moneyTransfer.domain.idempotency.IdempotencyPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관 기간(retention-hours)이 지난 멱등 키를 주기적으로 지운다.
+ *
+ * 지워진 키로 다시 온 요청은 새 요청으로 처리되므로, 보관 기간은 클라이언트의 재시도 기간보다 길어야 한다.
+ * 결과 불명으로 남은 처리 중 키도 보관 기간이 지나면 함께 지운다.
+ */
+@Component
+public class IdempotencyKeyCleaner {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyCleaner.class);
+
+    private final IdempotencyPort idempotencyPort;
+
+    @Value("${money-transfer.idempotency.cleanup.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${money-transfer.idempotency.cleanup.retention-hours:24}")
+    private long retentionHours = 24;
+
+    @Value("${money-transfer.idempotency.cleanup.interval-millis:60000}")
+    private long intervalMillis = 60000;
+
+    @Value("${money-transfer.idempotency.cleanup.batch-size:1000}")
+    private int batchSize = 1000;
+
+    // 가상 스레드 모드면 worker도 가상 스레드로 실행
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads = false;
+
+    private ScheduledExecutorService executor;
+
+    public IdempotencyKeyCleaner(IdempotencyPort idempotencyPort) {
+        this.idempotencyPort = idempotencyPort;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(WorkerThreads.named("idempotency-key-cleaner", virtualThreads));
+        executor.scheduleWithFixedDelay(this::purge, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 키를 batch-size개씩 나눠 지우고 지운 개수를 반환한다.
+     */
+    public int purge() {
+        LocalDateTime updatedBefore = LocalDateTime.now().minusHours(retentionHours);
+        int deleted = 0;
+        try {
+            int batch;
+            do {
+                batch = idempotencyPort.deleteUpdatedBefore(updatedBefore, batchSize);
+                deleted += batch;
+            } while (batch == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            // 예외가 빠져나가면 스케줄이 취소되므로 기록만 하고 다음 주기에 다시 시도
+            log.error("멱등 키 정리 중 오류", e);
+        }
+        return deleted;
+    }
+}
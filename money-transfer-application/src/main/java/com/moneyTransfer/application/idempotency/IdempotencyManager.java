@@ -0,0 +1,230 @@
+package com.moneyTransfer.application.idempotency;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.idempotency.IdempotencyPort;
+import com.moneyTransfer.domain.idempotency.IdempotencyRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 단위로 쓰기 요청을 한 번만 처리한다.
+ *
+ * 완료된 응답은 최근 cacheSize개를 메모리 LRU에 두고, 그보다 오래된 키는 DB(idempotency_keys)에서 찾는다.
+ * 캐시에 있으면 DB나 계좌 락을 거치지 않고 바로 응답한다.
+ * 캐시 항목도 DB 행과 같은 보관 기간(cleanup.retention-hours)이 지나면 버리므로, 정리된 키를 캐시가 계속 응답하지 않는다.
+ * 처리 중인 키로 다시 온 요청은 같은 인스턴스면 원래 요청의 future를 기다리고,
+ * 다른 인스턴스가 선점한 키면 DB를 poll 하며 완료를 기다린다.
+ *
+ * 응답 저장(complete)은 업무 트랜잭션이 커밋된 뒤 별도 트랜잭션이므로, 그 사이에 노드가 죽으면 키가 처리 중으로 남는다.
+ * 이런 키는 업무가 반영되었는지 알 수 없으므로 다시 처리하지 않고 결과 불명(409)으로 거절한다.
+ * 같은 키로 온 재시도는 경로와 요청 본문 해시가 처음 요청과 같아야 한다.
+ */
+@Component
+public class IdempotencyManager {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyManager.class);
+
+    private final IdempotencyPort idempotencyPort;
+
+    @Value("${money-transfer.idempotency.cache-size:10000}")
+    private int cacheSize = 10000;
+
+    @Value("${money-transfer.idempotency.wait-timeout-millis:10000}")
+    private long waitTimeoutMillis = 10000;
+
+    @Value("${money-transfer.idempotency.poll-interval-millis:50}")
+    private long pollIntervalMillis = 50;
+
+    // 이 시간 동안 완료되지 않은 처리 중 키는 처리하던 인스턴스가 죽은 것으로 보고 결과 불명으로 응답 (다시 처리하지 않음)
+    @Value("${money-transfer.idempotency.stale-after-millis:60000}")
+    private long staleAfterMillis = 60000;
+
+    // IdempotencyKeyCleaner와 같은 보관 기간 - 마지막 갱신(완료) 시각 기준
+    @Value("${money-transfer.idempotency.cleanup.retention-hours:24}")
+    private long retentionHours = 24;
+
+    // 접근 순서 LinkedHashMap - 가장 오래 쓰이지 않은 응답부터 제거
+    private final Map<String, IdempotencyRecord> completed = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    // 이 인스턴스에서 처리 중인 키 - 완료 시 응답, 저장하지 않고 끝나면 null
+    private final Map<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyManager(IdempotencyPort idempotencyPort) {
+        this.idempotencyPort = idempotencyPort;
+    }
+
+    /**
+     * 키를 선점하면 Optional.empty()를 반환하고, 호출자는 요청을 처리한 뒤 complete 또는 release를 호출해야 한다.
+     * 이미 완료된 키면 저장된 응답을 반환한다.
+     */
+    public Optional<IdempotencyRecord> begin(String idempotencyKey, String requestPath, String requestHash) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        while (true) {
+            IdempotencyRecord cached = getCached(idempotencyKey);
+            if (cached != null) {
+                return Optional.of(verifyRequest(cached, requestPath, requestHash));
+            }
+
+            CompletableFuture<IdempotencyRecord> mine = new CompletableFuture<>();
+            CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(idempotencyKey, mine);
+            if (running != null) {
+                // 같은 인스턴스에서 처리 중 - 원래 요청이 끝나길 기다림 (null이면 저장 없이 끝났으므로 다시 시도)
+                IdempotencyRecord record = await(running, deadline);
+                if (record != null) {
+                    return Optional.of(verifyRequest(record, requestPath, requestHash));
+                }
+                continue;
+            }
+
+            try {
+                Optional<IdempotencyRecord> stored = claimOrWait(idempotencyKey, requestPath, requestHash, deadline);
+                if (stored.isPresent()) {
+                    // 다른 인스턴스가 처리한 응답 - 기다리던 요청에도 전달
+                    putCached(stored.get());
+                    finish(idempotencyKey, mine, stored.get());
+                    return Optional.of(verifyRequest(stored.get(), requestPath, requestHash));
+                }
+                return Optional.empty();
+            } catch (RuntimeException e) {
+                finish(idempotencyKey, mine, null);
+                throw e;
+            }
+        }
+    }
+
+    public void complete(String idempotencyKey, String requestPath, String requestHash,
+                         int responseStatus, String responseContentType, String responseBody) {
+        IdempotencyRecord record = IdempotencyRecord.completed(idempotencyKey, requestPath, requestHash,
+                responseStatus, responseContentType, responseBody);
+        try {
+            idempotencyPort.complete(idempotencyKey, responseStatus, responseContentType, responseBody);
+        } catch (RuntimeException e) {
+            // 요청 자체는 처리되었으므로 응답은 그대로 돌려주고, 이 인스턴스의 캐시로 재처리를 막음
+            // (DB에는 처리 중으로 남으므로 다른 인스턴스는 stale-after 이후 결과 불명으로 응답)
+            log.warn("멱등 키 응답 저장 실패: key={}", idempotencyKey, e);
+        }
+        putCached(record);
+        CompletableFuture<IdempotencyRecord> future = inFlight.get(idempotencyKey);
+        if (future != null) {
+            finish(idempotencyKey, future, record);
+        }
+    }
+
+    public void release(String idempotencyKey) {
+        try {
+            idempotencyPort.release(idempotencyKey);
+        } catch (RuntimeException e) {
+            log.warn("멱등 키 해제 실패: key={}", idempotencyKey, e);
+        }
+        CompletableFuture<IdempotencyRecord> future = inFlight.get(idempotencyKey);
+        if (future != null) {
+            finish(idempotencyKey, future, null);
+        }
+    }
+
+    private Optional<IdempotencyRecord> claimOrWait(String idempotencyKey, String requestPath, String requestHash,
+                                                    long deadline) {
+        while (true) {
+            if (idempotencyPort.tryClaim(idempotencyKey, requestPath, requestHash)) {
+                return Optional.empty();
+            }
+            Optional<IdempotencyRecord> found = idempotencyPort.findByKey(idempotencyKey);
+            if (found.isPresent()) {
+                IdempotencyRecord record = found.get();
+                if (record.isCompleted()) {
+                    return found;
+                }
+                verifyRequest(record, requestPath, requestHash);
+                LocalDateTime staleBefore = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(staleAfterMillis));
+                if (record.getUpdatedAt().isBefore(staleBefore)) {
+                    // 업무 커밋 후 응답 저장 전에 죽었을 수 있으므로 넘겨받아 다시 처리하지 않음
+                    log.warn("완료되지 않은 오래된 멱등 키: key={}", idempotencyKey);
+                    throw new IllegalStateException(ErrorMessages.IDEMPOTENCY_OUTCOME_UNKNOWN);
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new IllegalStateException(ErrorMessages.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            // 선점과 조회 사이에 해제된 경우에는 바로 다시 선점 시도
+            if (found.isPresent()) {
+                sleep();
+            }
+        }
+    }
+
+    private IdempotencyRecord await(CompletableFuture<IdempotencyRecord> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(ErrorMessages.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ErrorMessages.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ErrorMessages.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private void finish(String idempotencyKey, CompletableFuture<IdempotencyRecord> future, IdempotencyRecord record) {
+        inFlight.remove(idempotencyKey, future);
+        future.complete(record);
+    }
+
+    // 같은 키를 다른 API나 다른 본문에 재사용한 요청은 거절 (해시가 없는 이전 키는 경로만 비교)
+    private IdempotencyRecord verifyRequest(IdempotencyRecord record, String requestPath, String requestHash) {
+        if (!record.getRequestPath().equals(requestPath)
+                || (record.getRequestHash() != null && !record.getRequestHash().equals(requestHash))) {
+            throw new IllegalArgumentException(ErrorMessages.IDEMPOTENCY_KEY_MISMATCH);
+        }
+        return record;
+    }
+
+    private IdempotencyRecord getCached(String idempotencyKey) {
+        synchronized (completed) {
+            IdempotencyRecord record = completed.get(idempotencyKey);
+            if (record != null && isExpired(record)) {
+                completed.remove(idempotencyKey);
+                return null;
+            }
+            return record;
+        }
+    }
+
+    // DB 정리와 같은 기준 (updatedAt < now - retention) - 지난 키는 DB에서 다시 찾음
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.getUpdatedAt() != null
+                && record.getUpdatedAt().isBefore(LocalDateTime.now().minusHours(retentionHours));
+    }
+
+    private void putCached(IdempotencyRecord record) {
+        synchronized (completed) {
+            completed.put(record.getIdempotencyKey(), record);
+        }
+    }
+}
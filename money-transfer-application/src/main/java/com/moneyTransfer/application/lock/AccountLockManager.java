@@ -0,0 +1,143 @@
+package com.moneyTransfer.application.lock;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 계좌에 대한 작업을 DB 락 이전에 프로세스 안에서 줄 세운다.
+ *
+ * 계좌 키(bankCode:accountNoNorm)를 공정(fair) ReentrantLock stripe에 대응시키고,
+ * 현재 트랜잭션이 끝날 때(afterCompletion) 해제한다. 커넥션은 첫 SQL 실행 시점에 빌리므로
+ * (provider_disables_autocommit) 대기 중인 요청은 커넥션 풀을 점유하지 않는다.
+ * 여러 계좌를 잠글 때는 stripe 번호 순서로 잡아 데드락을 막는다.
+ * 기본은 꺼져 있으며(money-transfer.account-lock.enabled) 켜도 같은 인스턴스 안의 요청만 줄 세운다.
+ */
+@Component
+public class AccountLockManager {
+
+    @Value("${money-transfer.account-lock.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${money-transfer.account-lock.stripes:1024}")
+    private int stripeCount = 1024;
+
+    @Value("${money-transfer.account-lock.timeout-millis:5000}")
+    private long timeoutMillis = 5000;
+
+    private ReentrantLock[] stripes;
+
+    // 잔액이 분할된 계좌 - bucket 행 단위로 처리되므로 계좌 단위로 줄 세우지 않음
+    // AccountKeyResolver가 같은 키를 비우거나(해지, 분할) LRU에서 밀어낼 때 함께 지우므로 해지된 계좌 키가 쌓이지 않음
+    private final Set<String> unlockedKeys = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        // 2의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+    }
+
+    public static String key(String bankCode, String accountNoNorm) {
+        return bankCode + ":" + accountNoNorm;
+    }
+
+    /**
+     * 주어진 계좌들을 현재 트랜잭션이 끝날 때까지 잠근다.
+     * timeout 안에 잠그지 못하면 이미 잡은 락을 풀고 예외를 던진다.
+     *
+     * 트랜잭션마다 한 번만 호출해야 한다. 두 번째 호출은 이미 잡은 stripe보다 앞 번호를 잡게 되어
+     * 순서 보장이 깨지므로 예외를 던진다. 필요한 계좌는 모두 모아 한 번에 넘긴다.
+     */
+    public void lock(String... accountKeys) {
+        // 트랜잭션 밖에서는 해제 시점을 알 수 없으므로 잠그지 않음
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.getSynchronizations().stream().anyMatch(StripeRelease.class::isInstance)) {
+            throw new IllegalStateException(ErrorMessages.ACCOUNT_LOCK_ALREADY_HELD);
+        }
+
+        int[] indexes = Arrays.stream(accountKeys)
+                .filter(accountKey -> !unlockedKeys.contains(accountKey))
+                .mapToInt(this::stripeIndex)
+                .sorted()
+                .distinct()
+                .toArray();
+        if (indexes.length == 0) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                if (!stripes[index].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new IllegalStateException(ErrorMessages.ACCOUNT_LOCK_TIMEOUT);
+                }
+                acquired++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlock(indexes, acquired);
+            throw new IllegalStateException(ErrorMessages.ACCOUNT_LOCK_TIMEOUT);
+        } catch (RuntimeException e) {
+            unlock(indexes, acquired);
+            throw e;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new StripeRelease(indexes));
+    }
+
+    /**
+     * 이후 요청부터 해당 계좌는 잠그지 않는다 (잔액 분할 계좌).
+     */
+    public void skipLocking(String accountKey) {
+        unlockedKeys.add(accountKey);
+    }
+
+    /**
+     * 잠금 제외 표시를 지운다 (계좌 키 캐시에서 빠진 계좌). 다시 분할 계좌로 확인되면 skipLocking으로 표시된다.
+     */
+    public void resumeLocking(String accountKey) {
+        unlockedKeys.remove(accountKey);
+    }
+
+    private void unlock(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    private int stripeIndex(String accountKey) {
+        int hash = accountKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    // 트랜잭션이 끝나면 잡은 stripe를 풀어줌 - 현재 트랜잭션이 이미 락을 잡았는지 확인하는 표시로도 사용
+    private class StripeRelease implements TransactionSynchronization {
+
+        private final int[] indexes;
+
+        StripeRelease(int[] indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            unlock(indexes, indexes.length);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.moneyTransfer.application.usecase.account;
 
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.account.AccountResponse;
 import com.moneyTransfer.application.dto.account.CreateAccountRequest;
 import com.moneyTransfer.common.constant.ErrorMessages;
@@ -22,10 +23,12 @@ public class CreateAccountUseCase {
 
     private final AccountPort accountPort;
     private final UserPort userPort;
+    private final AccountKeyResolver accountKeyResolver;
 
-    public CreateAccountUseCase(AccountPort accountPort, UserPort userPort) {
+    public CreateAccountUseCase(AccountPort accountPort, UserPort userPort, AccountKeyResolver accountKeyResolver) {
         this.accountPort = accountPort;
         this.userPort = userPort;
+        this.accountKeyResolver = accountKeyResolver;
     }
 
     public AccountResponse execute(CreateAccountRequest request) {
@@ -37,6 +40,8 @@ public class CreateAccountUseCase {
 
         // 3. Account 저장 (동시성 제어)
         Account savedAccount = saveAccountWithConcurrencyControl(account);
+        // 롤백된 생성 등으로 같은 키에 남아 있던 ID를 비움
+        accountKeyResolver.evict(savedAccount.getBankCode(), savedAccount.getAccountNoNorm());
 
         return new AccountResponse(savedAccount);
     }
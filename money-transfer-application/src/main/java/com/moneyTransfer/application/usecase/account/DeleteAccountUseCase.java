@@ -1,10 +1,13 @@
 package com.moneyTransfer.application.usecase.account;
 
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.lock.AccountLockManager;
 import com.moneyTransfer.common.constant.BusinessConstants;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.common.util.StringNormalizer;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +17,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteAccountUseCase {
 
     private final AccountPort accountPort;
+    private final BalanceBucketPort balanceBucketPort;
+    private final AccountLockManager accountLockManager;
+    private final AccountKeyResolver accountKeyResolver;
 
-    public DeleteAccountUseCase(AccountPort accountPort) {
+    public DeleteAccountUseCase(AccountPort accountPort, BalanceBucketPort balanceBucketPort,
+                                AccountLockManager accountLockManager, AccountKeyResolver accountKeyResolver) {
         this.accountPort = accountPort;
+        this.balanceBucketPort = balanceBucketPort;
+        this.accountLockManager = accountLockManager;
+        this.accountKeyResolver = accountKeyResolver;
     }
 
     public void execute(String bankCode, String accountNo) {
@@ -30,9 +40,19 @@ public class DeleteAccountUseCase {
     private void deleteAccountWithConcurrencyControl(String bankCode, String accountNo) {
         // bankCode + accountNo로 계좌 조회
         String accountNoNorm = StringNormalizer.normalizeAccountNo(accountNo);
+        accountLockManager.lock(AccountLockManager.key(bankCode, accountNoNorm));
+
         Account account = accountPort.findByBankCodeAndAccountNoNorm(bankCode, accountNoNorm)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
 
+        if (account.isBalanceSharded()) {
+            // 분할 계좌의 bucket 갱신은 계좌 행 공유 잠금을 잡으므로 계좌 행을 배타 잠금해 진행 중인 입출금이 끝나길 기다리고,
+            // 그 뒤의 입출금은 해지 커밋 후 비활성으로 거절됨. 잔액은 잠금 읽기로 다시 합산
+            account = accountPort.findByIdWithLock(account.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+            account.setBalance(balanceBucketPort.sumBalanceWithLock(account.getId()));
+        }
+
         validateAndDeleteAccount(account);
     }
 
@@ -48,5 +68,6 @@ public class DeleteAccountUseCase {
 
         account.deactivate();
         accountPort.save(account);
+        accountKeyResolver.evict(account.getBankCode(), account.getAccountNoNorm());
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.moneyTransfer.application.usecase.account;
+
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.dto.account.AccountResponse;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.StringNormalizer;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * 입출금이 몰리는 계좌(정산 계좌 등)의 잔액을 여러 하위 잔액(bucket)으로 나눈다.
+ * 이후 입출금은 계좌 행이 아닌 bucket 행을 갱신하고, 조회 잔액은 bucket 합계로 보고된다.
+ */
+@Service
+@Transactional
+public class EnableBalanceShardingUseCase {
+
+    private final AccountPort accountPort;
+    private final BalanceBucketPort balanceBucketPort;
+    private final AccountKeyResolver accountKeyResolver;
+
+    public EnableBalanceShardingUseCase(AccountPort accountPort, BalanceBucketPort balanceBucketPort,
+                                        AccountKeyResolver accountKeyResolver) {
+        this.accountPort = accountPort;
+        this.balanceBucketPort = balanceBucketPort;
+        this.accountKeyResolver = accountKeyResolver;
+    }
+
+    public AccountResponse execute(String bankCode, String accountNo, int bucketCount) {
+        String accountNoNorm = StringNormalizer.normalizeAccountNo(accountNo);
+        Account account = accountPort.findByBankCodeAndAccountNoNorm(bankCode, accountNoNorm)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+
+        // 진행 중인 입출금이 끝난 뒤의 잔액을 옮기기 위해 계좌 행을 잠금
+        account = accountPort.findByIdWithLock(account.getId())
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+
+        BigDecimal currentBalance = account.getBalance();
+        account.enableBalanceSharding(bucketCount);
+
+        balanceBucketPort.createBuckets(account.getId(), bucketCount, currentBalance);
+        accountPort.save(account);
+        // 이후 입출금이 계좌 행 대신 bucket으로 가도록 캐시된 분할 여부를 비움
+        accountKeyResolver.evict(bankCode, accountNoNorm);
+
+        return new AccountResponse(account);
+    }
+}
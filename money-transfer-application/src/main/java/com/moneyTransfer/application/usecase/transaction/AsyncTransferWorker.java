@@ -0,0 +1,169 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.WorkerThreads;
+import com.moneyTransfer.domain.transaction.PendingTransfer;
+import com.moneyTransfer.domain.transaction.PendingTransferPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 이체 대기열을 비우는 worker.
+ *
+ * 요청 하나를 SKIP LOCKED로 가져와 처리 중으로 바꾸는 짧은 트랜잭션을 먼저 커밋하고,
+ * 별도 트랜잭션에서 TransferUseCase를 실행하고 완료로 기록한다. 계좌 락을 기다리는 동안 대기열 행 락과 커넥션을 붙잡지 않는다.
+ * 이체 반영과 완료 기록은 함께 커밋되므로, 처리 중인 채로 lease-millis가 지난 요청은 반영되지 않은 것이어서 다른 worker가 다시 가져간다.
+ * 잔액 부족, 비활성 계좌 등 업무 오류는 실패로 기록하고, 락 대기 초과 같은 일시적 오류는 max-attempts까지 다시 처리한다.
+ */
+@Component
+public class AsyncTransferWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncTransferWorker.class);
+
+    private final PendingTransferPort pendingTransferPort;
+    private final TransferUseCase transferUseCase;
+    private final TransactionOperations transactionOperations;
+
+    @Value("${money-transfer.async-transfer.worker.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${money-transfer.async-transfer.worker.count:4}")
+    private int workerCount = 4;
+
+    @Value("${money-transfer.async-transfer.worker.poll-interval-millis:100}")
+    private long pollIntervalMillis = 100;
+
+    @Value("${money-transfer.async-transfer.worker.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    // 가져간 요청을 이 시간 안에 끝내지 못하면 worker가 죽은 것으로 보고 다시 가져감 (락 대기 + 이체 처리 시간보다 길어야 함)
+    @Value("${money-transfer.async-transfer.worker.lease-millis:60000}")
+    private long leaseMillis = 60000;
+
+    // 가상 스레드 모드면 worker도 가상 스레드로 실행
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads = false;
+
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    public AsyncTransferWorker(PendingTransferPort pendingTransferPort,
+                               TransferUseCase transferUseCase,
+                               PlatformTransactionManager transactionManager) {
+        this(pendingTransferPort, transferUseCase, new TransactionTemplate(transactionManager));
+    }
+
+    AsyncTransferWorker(PendingTransferPort pendingTransferPort,
+                        TransferUseCase transferUseCase,
+                        TransactionOperations transactionOperations) {
+        this.pendingTransferPort = pendingTransferPort;
+        this.transferUseCase = transferUseCase;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newScheduledThreadPool(workerCount, WorkerThreads.numbered("async-transfer-", virtualThreads));
+        for (int i = 0; i < workerCount; i++) {
+            executor.scheduleWithFixedDelay(this::drain, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 대기 요청이 없을 때까지 하나씩 처리하고 처리한 건수를 반환한다.
+     */
+    public int drain() {
+        int processed = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted() && processNext()) {
+                processed++;
+            }
+        } catch (RuntimeException e) {
+            // 예외가 빠져나가면 스케줄이 취소되므로 기록만 하고 다음 주기에 다시 시도
+            log.error("비동기 이체 처리 중 오류", e);
+        }
+        return processed;
+    }
+
+    private boolean processNext() {
+        // 가져가기는 바로 커밋 - 이체 트랜잭션은 계좌 락을 잡은 뒤 첫 SQL에서 커넥션을 빌림
+        Optional<PendingTransfer> claimed = pendingTransferPort.claimNext(LocalDateTime.now().minus(leaseMillis, ChronoUnit.MILLIS));
+        if (claimed.isEmpty()) {
+            return false;
+        }
+        PendingTransfer pendingTransfer = claimed.get();
+        Long id = pendingTransfer.getId();
+        int attempts = pendingTransfer.getAttempts();
+
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                TransactionResponse response = transferUseCase.execute(toRequest(pendingTransfer));
+                if (!pendingTransferPort.markCompleted(id, attempts, response.getTransactionId())) {
+                    // lease가 지나 다른 worker가 다시 가져감 - 그쪽 처리만 반영되도록 이체를 되돌림
+                    log.warn("비동기 이체 {} 처리 시간이 lease를 넘어 반영하지 않음", id);
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            // 계좌 없음, 잔액 부족, 한도 초과 등 - 다시 처리해도 결과가 같음
+            pendingTransferPort.markFailed(id, attempts, e.getMessage());
+        } catch (IllegalStateException e) {
+            if (!isTransient(e)) {
+                // 비활성 계좌 등 - 다시 처리해도 결과가 같음
+                pendingTransferPort.markFailed(id, attempts, e.getMessage());
+                return true;
+            }
+            log.warn("비동기 이체 {} 처리 실패, 다시 시도: {}", id, e.getMessage());
+            pendingTransferPort.markRetry(id, attempts, e.getMessage(), maxAttempts);
+        } catch (RuntimeException e) {
+            log.warn("비동기 이체 {} 처리 실패, 다시 시도: {}", id, e.getMessage());
+            pendingTransferPort.markRetry(id, attempts, e.getMessage(), maxAttempts);
+        }
+        return true;
+    }
+
+    // 락 경합으로 난 오류만 다시 처리
+    private boolean isTransient(IllegalStateException e) {
+        return ErrorMessages.ACCOUNT_LOCK_TIMEOUT.equals(e.getMessage())
+                || ErrorMessages.OPTIMISTIC_LOCK_CONFLICT.equals(e.getMessage());
+    }
+
+    private TransferRequest toRequest(PendingTransfer pendingTransfer) {
+        return new TransferRequest(
+                pendingTransfer.getFromBankCode(),
+                pendingTransfer.getFromAccountNo(),
+                pendingTransfer.getToBankCode(),
+                pendingTransfer.getToAccountNo(),
+                pendingTransfer.getAmount(),
+                pendingTransfer.getDescription()
+        );
+    }
+}
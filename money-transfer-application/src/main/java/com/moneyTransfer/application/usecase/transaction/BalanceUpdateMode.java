@@ -0,0 +1,11 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+/**
+ * 입금/출금 시 잔액 변경 방식
+ */
+public enum BalanceUpdateMode {
+    // SELECT ... FOR UPDATE로 계좌를 잠근 뒤 도메인 객체를 변경하고 저장
+    PESSIMISTIC_LOCK,
+    // 잠금 조회 없이 status/잔액 조건이 붙은 UPDATE로 잔액을 변경하고, 변경된 행을 한 번 다시 읽음 (UPDATE + SELECT)
+    CONDITIONAL_UPDATE
+}
@@ -0,0 +1,403 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.dto.transaction.BatchTransferResponse;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.StringNormalizer;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
+import com.moneyTransfer.domain.transaction.Transaction;
+import com.moneyTransfer.domain.transaction.TransactionPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 서로 독립적인 이체 여러 건을 chunk 단위 트랜잭션으로 묶어 처리한다.
+ *
+ * chunk마다 계좌를 IN 조회 한 번으로 찾고, 계좌 행을 ID 순서로 한 번에 잠근 뒤 잔액 변화를 메모리에서 순서대로 계산한다.
+ * 일일 이체 한도는 TransferUseCase와 같이 계좌 행보다 먼저, 출금 계좌 ID 순서로 출금 계좌별 합계를 소비하고
+ * 잔액 계산에서 실패한 건의 몫은 같은 트랜잭션에서 되돌린다. 계좌 UPDATE와 거래 기록 INSERT는 각각 한 번의 flush로 반영한다.
+ * 결과는 요청 순서별로 돌려주며 한 건의 업무 오류가 다른 건을 실패시키지 않는다.
+ * 잔액 분할 계좌가 포함된 건은 bucket 경로를 타도록 chunk 커밋 후 TransferUseCase로 건별 처리한다.
+ */
+@Service
+public class BatchTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchTransferUseCase.class);
+
+    private final AccountPort accountPort;
+    private final TransactionPort transactionPort;
+    private final DailyLimitPort dailyLimitPort;
+    private final AccountLockManager accountLockManager;
+    private final TransferUseCase transferUseCase;
+    private final TransactionOperations transactionOperations;
+
+    @Value("${money-transfer.transaction.batch-transfer.max-size:1000}")
+    private int maxSize = 1000;
+
+    @Value("${money-transfer.transaction.batch-transfer.chunk-size:100}")
+    private int chunkSize = 100;
+
+    @Autowired
+    public BatchTransferUseCase(AccountPort accountPort,
+                                TransactionPort transactionPort,
+                                DailyLimitPort dailyLimitPort,
+                                AccountLockManager accountLockManager,
+                                TransferUseCase transferUseCase,
+                                PlatformTransactionManager transactionManager) {
+        this(accountPort, transactionPort, dailyLimitPort, accountLockManager, transferUseCase,
+                new TransactionTemplate(transactionManager));
+    }
+
+    BatchTransferUseCase(AccountPort accountPort,
+                         TransactionPort transactionPort,
+                         DailyLimitPort dailyLimitPort,
+                         AccountLockManager accountLockManager,
+                         TransferUseCase transferUseCase,
+                         TransactionOperations transactionOperations) {
+        this.accountPort = accountPort;
+        this.transactionPort = transactionPort;
+        this.dailyLimitPort = dailyLimitPort;
+        this.accountLockManager = accountLockManager;
+        this.transferUseCase = transferUseCase;
+        this.transactionOperations = transactionOperations;
+    }
+
+    public BatchTransferResponse execute(List<TransferRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException(ErrorMessages.BATCH_TRANSFER_EMPTY);
+        }
+        if (requests.size() > maxSize) {
+            throw new IllegalArgumentException(ErrorMessages.BATCH_TRANSFER_SIZE_EXCEEDED);
+        }
+
+        BatchTransferResponse.Item[] results = new BatchTransferResponse.Item[requests.size()];
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            List<Entry> chunk = new ArrayList<>();
+            for (int index = start; index < Math.min(start + chunkSize, requests.size()); index++) {
+                chunk.add(new Entry(index, requests.get(index)));
+            }
+
+            // 분할 계좌가 포함된 건은 chunk 트랜잭션이 끝난 뒤 건별 트랜잭션으로 처리
+            for (Entry entry : executeChunk(chunk, results)) {
+                results[entry.index] = executeSingle(entry);
+            }
+        }
+        return new BatchTransferResponse(Arrays.asList(results));
+    }
+
+    private List<Entry> executeChunk(List<Entry> chunk, BatchTransferResponse.Item[] results) {
+        List<Entry> deferred = new ArrayList<>();
+        try {
+            Map<Integer, BatchTransferResponse.Item> chunkResults = transactionOperations.execute(status -> {
+                deferred.clear();
+                return processChunk(chunk, deferred);
+            });
+            chunkResults.forEach((index, item) -> results[index] = item);
+            return deferred;
+        } catch (RuntimeException e) {
+            // 락 대기 초과, DB 오류 등 - chunk 전체가 롤백되었으므로 모두 실패로 응답
+            log.warn("batch transfer chunk failed: {}", e.getMessage());
+            for (Entry entry : chunk) {
+                results[entry.index] = BatchTransferResponse.Item.failure(entry.index, errorMessage(e));
+            }
+            return List.of();
+        }
+    }
+
+    private BatchTransferResponse.Item executeSingle(Entry entry) {
+        try {
+            return BatchTransferResponse.Item.success(entry.index, transferUseCase.execute(entry.request));
+        } catch (RuntimeException e) {
+            return BatchTransferResponse.Item.failure(entry.index, errorMessage(e));
+        }
+    }
+
+    private Map<Integer, BatchTransferResponse.Item> processChunk(List<Entry> chunk, List<Entry> deferred) {
+        Map<Integer, BatchTransferResponse.Item> results = new HashMap<>();
+
+        // 1. 금액 검증 및 같은 계좌 요청 줄 세우기 (chunk 전체 계좌를 한 번에 잠금)
+        List<Entry> candidates = new ArrayList<>();
+        Set<String> lockKeys = new LinkedHashSet<>();
+        for (Entry entry : chunk) {
+            BigDecimal amount = entry.request.getAmount();
+            if (amount == null || amount.compareTo(BusinessConstants.ZERO_AMOUNT) <= 0) {
+                results.put(entry.index, BatchTransferResponse.Item.failure(entry.index, ErrorMessages.TRANSFER_AMOUNT_MUST_BE_POSITIVE));
+                continue;
+            }
+            candidates.add(entry);
+            lockKeys.add(entry.fromKey);
+            lockKeys.add(entry.toKey);
+        }
+        if (candidates.isEmpty()) {
+            return results;
+        }
+        accountLockManager.lock(lockKeys.toArray(new String[0]));
+
+        // 2. 계좌 일괄 조회 - 은행코드/계좌번호 목록의 교차 결과이므로 키로 다시 매칭
+        Set<String> bankCodes = new LinkedHashSet<>();
+        Set<String> accountNoNorms = new LinkedHashSet<>();
+        for (Entry entry : candidates) {
+            bankCodes.add(entry.request.getFromBankCode());
+            bankCodes.add(entry.request.getToBankCode());
+            accountNoNorms.add(entry.fromAccountNoNorm);
+            accountNoNorms.add(entry.toAccountNoNorm);
+        }
+        Map<String, Account> accountsByKey = new HashMap<>();
+        for (Account account : accountPort.findAllByBankCodeInAndAccountNoNormIn(bankCodes, accountNoNorms)) {
+            accountsByKey.put(AccountLockManager.key(account.getBankCode(), account.getAccountNoNorm()), account);
+        }
+
+        List<Entry> planned = new ArrayList<>();
+        Set<Long> lockIds = new TreeSet<>();
+        for (Entry entry : candidates) {
+            Account fromAccount = accountsByKey.get(entry.fromKey);
+            Account toAccount = accountsByKey.get(entry.toKey);
+            String error = null;
+            if (fromAccount == null) {
+                error = ErrorMessages.ACCOUNT_NOT_FOUND;
+            } else if (toAccount == null) {
+                error = ErrorMessages.TARGET_ACCOUNT_NOT_FOUND;
+            } else if (fromAccount.getId().equals(toAccount.getId())) {
+                error = ErrorMessages.CANNOT_TRANSFER_TO_SAME_ACCOUNT;
+            }
+            if (error != null) {
+                results.put(entry.index, BatchTransferResponse.Item.failure(entry.index, error));
+                continue;
+            }
+
+            if (fromAccount.isBalanceSharded() || toAccount.isBalanceSharded()) {
+                if (fromAccount.isBalanceSharded()) {
+                    accountLockManager.skipLocking(entry.fromKey);
+                }
+                if (toAccount.isBalanceSharded()) {
+                    accountLockManager.skipLocking(entry.toKey);
+                }
+                deferred.add(entry);
+                continue;
+            }
+
+            entry.fromAccountId = fromAccount.getId();
+            entry.toAccountId = toAccount.getId();
+            lockIds.add(fromAccount.getId());
+            lockIds.add(toAccount.getId());
+            planned.add(entry);
+        }
+        if (planned.isEmpty()) {
+            return results;
+        }
+
+        // 3. 일일 이체 한도 - 계좌 행보다 먼저 출금 계좌 ID 순서로 소비 (단건 이체와 같은 락 순서로 데드락 방지)
+        LocalDate today = LocalDate.now();
+        Map<Long, BigDecimal> consumedLimits = new TreeMap<>();
+        List<Entry> withinLimit = consumeDailyLimits(planned, today, consumedLimits, results);
+        if (withinLimit.isEmpty()) {
+            return results;
+        }
+
+        // 4. 계좌 행을 ID 순서로 한 번에 잠금 (데드락 방지)
+        Map<Long, Account> lockedAccounts = new HashMap<>();
+        for (Account account : accountPort.findAllByIdInWithLock(lockIds)) {
+            lockedAccounts.put(account.getId(), account);
+        }
+
+        // 5. 잔액 변화를 요청 순서대로 계산하고, 실패한 건의 몫으로 소비한 한도는 되돌림
+        List<Entry> applied = simulate(withinLimit, lockedAccounts, results);
+        releaseUnusedDailyLimits(applied, today, consumedLimits);
+        if (applied.isEmpty()) {
+            return results;
+        }
+
+        // 6. 계좌 잔액과 거래 기록을 각각 한 번의 flush로 반영
+        Set<Long> changedIds = new TreeSet<>();
+        List<Transaction> transactions = new ArrayList<>(applied.size() * 2);
+        for (Entry entry : applied) {
+            changedIds.add(entry.fromAccountId);
+            changedIds.add(entry.toAccountId);
+
+            Transaction sendTransaction = Transaction.createTransferSend(
+                    entry.fromAccountId,
+                    entry.toAccountId,
+                    entry.request.getAmount(),
+                    entry.fee,
+                    entry.request.getDescription()
+            );
+            sendTransaction.setBalanceAfter(entry.fromBalanceAfter);
+            transactions.add(sendTransaction);
+
+            Transaction receiveTransaction = Transaction.createTransferReceive(
+                    entry.toAccountId,
+                    entry.fromAccountId,
+                    entry.request.getAmount(),
+                    entry.request.getDescription()
+            );
+            receiveTransaction.setBalanceAfter(entry.toBalanceAfter);
+            transactions.add(receiveTransaction);
+        }
+        List<Account> changedAccounts = new ArrayList<>(changedIds.size());
+        for (Long id : changedIds) {
+            changedAccounts.add(lockedAccounts.get(id));
+        }
+        accountPort.saveAll(changedAccounts);
+        List<Transaction> savedTransactions = transactionPort.saveAll(transactions);
+
+        for (int i = 0; i < applied.size(); i++) {
+            Entry entry = applied.get(i);
+            Transaction savedSendTransaction = savedTransactions.get(i * 2);
+            results.put(entry.index, BatchTransferResponse.Item.success(entry.index, new TransactionResponse(
+                    savedSendTransaction.getId(),
+                    new TransactionResponse.AccountInfo(entry.request.getFromBankCode(), lockedAccounts.get(entry.fromAccountId).getAccountNo()),
+                    new TransactionResponse.AccountInfo(entry.request.getToBankCode(), lockedAccounts.get(entry.toAccountId).getAccountNo()),
+                    savedSendTransaction.getTransactionType(),
+                    savedSendTransaction.getAmount(),
+                    savedSendTransaction.getBalanceAfter(),
+                    savedSendTransaction.getDescription(),
+                    savedSendTransaction.getCreatedAt(),
+                    savedSendTransaction.getFee()
+            )));
+        }
+        return results;
+    }
+
+    // 잠근 계좌에 요청 순서대로 출금/입금을 적용하고, 적용된 건만 돌려준다
+    private List<Entry> simulate(List<Entry> entries,
+                                 Map<Long, Account> lockedAccounts,
+                                 Map<Integer, BatchTransferResponse.Item> results) {
+        List<Entry> applied = new ArrayList<>();
+        for (Entry entry : entries) {
+            Account fromAccount = lockedAccounts.get(entry.fromAccountId);
+            Account toAccount = lockedAccounts.get(entry.toAccountId);
+            try {
+                // 조회와 잠금 사이에 삭제된 계좌
+                if (fromAccount == null) {
+                    throw new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND);
+                }
+                if (toAccount == null) {
+                    throw new IllegalArgumentException(ErrorMessages.TARGET_ACCOUNT_NOT_FOUND);
+                }
+                toAccount.validateDeposit(entry.request.getAmount());
+                fromAccount.withdraw(entry.totalDeduction);
+                toAccount.deposit(entry.request.getAmount());
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                results.put(entry.index, BatchTransferResponse.Item.failure(entry.index, e.getMessage()));
+                continue;
+            }
+            entry.fromBalanceAfter = fromAccount.getBalance();
+            entry.toBalanceAfter = toAccount.getBalance();
+            applied.add(entry);
+        }
+        return applied;
+    }
+
+    // 출금 계좌 ID 순서로 계좌별 합계를 한 번에 소비하고, 넘으면 요청 순서대로 건별 소비 - 소비한 금액은 consumedLimits에 기록하고 한도 안의 건을 돌려준다
+    private List<Entry> consumeDailyLimits(List<Entry> planned,
+                                           LocalDate today,
+                                           Map<Long, BigDecimal> consumedLimits,
+                                           Map<Integer, BatchTransferResponse.Item> results) {
+        Map<Long, List<Entry>> entriesBySource = new TreeMap<>();
+        for (Entry entry : planned) {
+            entriesBySource.computeIfAbsent(entry.fromAccountId, id -> new ArrayList<>()).add(entry);
+        }
+
+        for (Map.Entry<Long, List<Entry>> source : entriesBySource.entrySet()) {
+            BigDecimal total = BigDecimal.ZERO;
+            for (Entry entry : source.getValue()) {
+                total = total.add(entry.request.getAmount());
+            }
+            if (dailyLimitPort.tryConsumeTransfer(source.getKey(), today, total, BusinessConstants.DAILY_TRANSFER_LIMIT)) {
+                consumedLimits.put(source.getKey(), total);
+                continue;
+            }
+
+            BigDecimal consumed = BigDecimal.ZERO;
+            for (Entry entry : source.getValue()) {
+                if (dailyLimitPort.tryConsumeTransfer(source.getKey(), today, entry.request.getAmount(), BusinessConstants.DAILY_TRANSFER_LIMIT)) {
+                    consumed = consumed.add(entry.request.getAmount());
+                } else {
+                    results.put(entry.index, BatchTransferResponse.Item.failure(entry.index, ErrorMessages.DAILY_TRANSFER_LIMIT_EXCEEDED));
+                }
+            }
+            consumedLimits.put(source.getKey(), consumed);
+        }
+
+        List<Entry> withinLimit = new ArrayList<>();
+        for (Entry entry : planned) {
+            if (!results.containsKey(entry.index)) {
+                withinLimit.add(entry);
+            }
+        }
+        return withinLimit;
+    }
+
+    // 적용된 건의 출금 계좌별 합계만 소비된 채로 남도록 나머지를 음수 소비로 되돌림 (이미 잠근 한도 행이므로 같은 순서로 갱신)
+    private void releaseUnusedDailyLimits(List<Entry> applied, LocalDate today, Map<Long, BigDecimal> consumedLimits) {
+        Map<Long, BigDecimal> appliedTotals = new HashMap<>();
+        for (Entry entry : applied) {
+            appliedTotals.merge(entry.fromAccountId, entry.request.getAmount(), BigDecimal::add);
+        }
+        consumedLimits.forEach((accountId, consumed) -> {
+            BigDecimal unused = consumed.subtract(appliedTotals.getOrDefault(accountId, BigDecimal.ZERO));
+            if (unused.signum() > 0) {
+                dailyLimitPort.tryConsumeTransfer(accountId, today, unused.negate(), BusinessConstants.DAILY_TRANSFER_LIMIT);
+            }
+        });
+    }
+
+    private String errorMessage(RuntimeException e) {
+        if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+            return e.getMessage();
+        }
+        return ErrorMessages.INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * 요청 한 건의 처리 상태.
+     */
+    private static final class Entry {
+        private final int index;
+        private final TransferRequest request;
+        private final String fromAccountNoNorm;
+        private final String toAccountNoNorm;
+        private final String fromKey;
+        private final String toKey;
+        private final BigDecimal fee;
+        private final BigDecimal totalDeduction;
+        private Long fromAccountId;
+        private Long toAccountId;
+        private BigDecimal fromBalanceAfter;
+        private BigDecimal toBalanceAfter;
+
+        private Entry(int index, TransferRequest request) {
+            this.index = index;
+            this.request = request;
+            this.fromAccountNoNorm = StringNormalizer.normalizeAccountNo(request.getFromAccountNo());
+            this.toAccountNoNorm = StringNormalizer.normalizeAccountNo(request.getToAccountNo());
+            this.fromKey = AccountLockManager.key(request.getFromBankCode(), fromAccountNoNorm);
+            this.toKey = AccountLockManager.key(request.getToBankCode(), toAccountNoNorm);
+            BigDecimal amount = request.getAmount() != null ? request.getAmount() : BigDecimal.ZERO;
+            this.fee = TransferUseCase.calculateFee(amount);
+            this.totalDeduction = amount.add(fee);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.common.util.StringNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 같은 계좌로 동시에 들어오는 입금을 짧은 시간 모아 한 번의 락/UPDATE로 반영한다 (group commit).
+ *
+ * 먼저 도착한 요청이 리더가 되어 DepositUseCase.executeBatch를 실행하고, 나머지 요청은 각자의 결과를 기다린다.
+ * 같은 계좌의 이전 묶음이 처리 중일 때만 그 묶음이 끝날 때까지(최대 window, 또는 묶음이 가득 찰 때까지) 모으고,
+ * 처리 중인 묶음이 없으면 기다리지 않고 바로 반영한다. 어차피 계좌 행 락을 기다려야 하는 시간에만 모으므로
+ * 경합이 없는 입금은 지연되지 않는다.
+ * 비활성화 상태에서는 DepositUseCase.execute를 그대로 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DepositCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(DepositCoalescer.class);
+
+    private final DepositUseCase depositUseCase;
+
+    @Value("${money-transfer.transaction.deposit-coalescing.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${money-transfer.transaction.deposit-coalescing.window-millis:2}")
+    private long windowMillis = 2;
+
+    @Value("${money-transfer.transaction.deposit-coalescing.max-batch-size:100}")
+    private int maxBatchSize = 100;
+
+    // 계좌 키(bankCode:accountNoNorm)별로 아직 마감되지 않은 묶음
+    private final ConcurrentHashMap<String, Batch> openBatches = new ConcurrentHashMap<>();
+
+    // 계좌 키별로 가장 최근에 처리를 시작한 묶음
+    private final ConcurrentHashMap<String, Batch> applyingBatches = new ConcurrentHashMap<>();
+
+    public TransactionResponse deposit(DepositRequest request) {
+        if (!enabled) {
+            return depositUseCase.execute(request);
+        }
+
+        String key = request.getBankCode() + ":" + StringNormalizer.normalizeAccountNo(request.getAccountNo());
+        while (true) {
+            Batch batch = openBatches.computeIfAbsent(key, k -> new Batch(maxBatchSize));
+            Member member = batch.join(request);
+            if (member == null) {
+                // 마감되었거나 가득 찬 묶음 - 새 묶음으로 다시 시도
+                openBatches.remove(key, batch);
+                continue;
+            }
+
+            if (member.leader) {
+                lead(key, batch);
+            }
+            return member.await();
+        }
+    }
+
+    private void lead(String key, Batch batch) {
+        List<Member> members = batch.awaitAndClose(TimeUnit.MILLISECONDS.toNanos(windowMillis), applyingBatches.get(key));
+        applyingBatches.put(key, batch);
+        openBatches.remove(key, batch);
+
+        try {
+            apply(members);
+        } finally {
+            // Error 등으로 결과를 못 채운 요청이 영원히 대기하지 않도록 정리
+            for (Member member : members) {
+                member.result.completeExceptionally(new IllegalStateException("입금 묶음 처리가 중단되었습니다"));
+            }
+            applyingBatches.remove(key, batch);
+            batch.markApplied();
+            // 이 묶음이 끝나기를 기다리던 다음 묶음을 바로 마감
+            Batch next = openBatches.get(key);
+            if (next != null) {
+                next.wake();
+            }
+        }
+    }
+
+    private void apply(List<Member> members) {
+        if (members.size() == 1) {
+            members.get(0).run(() -> depositUseCase.execute(members.get(0).request));
+            return;
+        }
+
+        List<DepositRequest> requests = new ArrayList<>(members.size());
+        for (Member member : members) {
+            requests.add(member.request);
+        }
+
+        try {
+            List<TransactionResponse> responses = depositUseCase.executeBatch(requests);
+            for (int i = 0; i < members.size(); i++) {
+                members.get(i).result.complete(responses.get(i));
+            }
+        } catch (RuntimeException e) {
+            // 한 건의 오류가 묶음 전체를 실패시키지 않도록 개별 실행으로 재시도
+            log.debug("Coalesced deposit batch failed, retrying {} requests individually: {}", members.size(), e.getMessage());
+            for (Member member : members) {
+                member.run(() -> depositUseCase.execute(member.request));
+            }
+        }
+    }
+
+    // 가상 스레드에서 carrier 고정(pinning)을 피하기 위해 synchronized/wait 대신 ReentrantLock/Condition 사용
+    private static final class Batch {
+
+        private final int maxSize;
+        private final List<Member> members = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition joined = lock.newCondition();
+        private boolean closed;
+        private volatile boolean applied;
+
+        private Batch(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        Member join(DepositRequest request) {
+            lock.lock();
+            try {
+                if (closed || members.size() >= maxSize) {
+                    return null;
+                }
+                Member member = new Member(request, members.isEmpty());
+                members.add(member);
+                joined.signalAll();
+                return member;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // inFlight(같은 계좌에서 처리 중인 묶음)가 끝나거나, window가 지나거나, 가득 찰 때까지 모음 - 처리 중인 묶음이 없으면 바로 마감
+        List<Member> awaitAndClose(long windowNanos, Batch inFlight) {
+            lock.lock();
+            try {
+                try {
+                    long remaining = windowNanos;
+                    while (members.size() < maxSize && remaining > 0 && inFlight != null && !inFlight.applied) {
+                        remaining = joined.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                closed = true;
+                return new ArrayList<>(members);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void markApplied() {
+            applied = true;
+        }
+
+        void wake() {
+            lock.lock();
+            try {
+                joined.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Member {
+
+        private final DepositRequest request;
+        private final boolean leader;
+        private final CompletableFuture<TransactionResponse> result = new CompletableFuture<>();
+
+        private Member(DepositRequest request, boolean leader) {
+            this.request = request;
+            this.leader = leader;
+        }
+
+        void run(Supplier<TransactionResponse> action) {
+            try {
+                result.complete(action.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        TransactionResponse await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -1,17 +1,37 @@
 package com.moneyTransfer.application.usecase.transaction;
 
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.dto.transaction.BulkDepositResult;
 import com.moneyTransfer.application.dto.transaction.DepositRequest;
 import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.common.constant.BusinessConstants;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.common.util.StringNormalizer;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountRef;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
 import com.moneyTransfer.domain.transaction.Transaction;
 import com.moneyTransfer.domain.transaction.TransactionPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -19,17 +39,42 @@ public class DepositUseCase {
 
     private final AccountPort accountPort;
     private final TransactionPort transactionPort;
+    private final BalanceBucketPort balanceBucketPort;
+    private final AccountLockManager accountLockManager;
+    private final AccountKeyResolver accountKeyResolver;
+
+    @Value("${money-transfer.transaction.balance-update-mode:PESSIMISTIC_LOCK}")
+    private BalanceUpdateMode balanceUpdateMode = BalanceUpdateMode.PESSIMISTIC_LOCK;
 
     public TransactionResponse execute(DepositRequest request) {
-        // 1. bankCode + accountNo → Account 조회
+        // 1. bankCode + accountNo → 계좌 ID (캐시에 있으면 조회 생략)
         String accountNoNorm = StringNormalizer.normalizeAccountNo(request.getAccountNo());
-        Account account = accountPort.findByBankCodeAndAccountNoNorm(request.getBankCode(), accountNoNorm)
+        String lockKey = AccountLockManager.key(request.getBankCode(), accountNoNorm);
+        // 같은 계좌 요청은 커넥션을 빌리기 전에 프로세스 안에서 줄 세움
+        accountLockManager.lock(lockKey);
+
+        AccountRef ref = accountKeyResolver.resolve(request.getBankCode(), accountNoNorm)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
 
-        // 2. 비관적 락으로 계좌 다시 조회
-        account = accountPort.findByIdWithLock(account.getId())
+        if (ref.isBalanceSharded()) {
+            accountLockManager.skipLocking(lockKey);
+            return depositToBuckets(findAccount(ref.getId()), request);
+        }
+
+        if (balanceUpdateMode == BalanceUpdateMode.CONDITIONAL_UPDATE) {
+            return depositWithConditionalUpdate(ref, request);
+        }
+
+        // 2. 비관적 락으로 계좌 조회
+        Account account = accountPort.findByIdWithLock(ref.getId())
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
 
+        // 캐시된 이후 잔액이 분할된 경우
+        if (account.isBalanceSharded()) {
+            accountKeyResolver.evict(request.getBankCode(), accountNoNorm);
+            return depositToBuckets(account, request);
+        }
+
         account.deposit(request.getAmount());
         accountPort.save(account);
 
@@ -42,9 +87,254 @@ public class DepositUseCase {
 
         Transaction savedTransaction = transactionPort.save(transaction);
 
+        return toResponse(account, savedTransaction);
+    }
+
+    /**
+     * 같은 계좌로 들어온 입금 여러 건을 락 1회, 잔액 UPDATE 1회로 반영한다 (DepositCoalescer 전용).
+     * 거래 내역은 요청마다 한 건씩 남기고, balanceAfter는 요청 순서대로 누적한 잔액이다 (분할 계좌는 기록하지 않음).
+     */
+    public List<TransactionResponse> executeBatch(List<DepositRequest> requests) {
+        DepositRequest first = requests.get(0);
+        String accountNoNorm = StringNormalizer.normalizeAccountNo(first.getAccountNo());
+        for (DepositRequest request : requests) {
+            if (!first.getBankCode().equals(request.getBankCode())
+                    || !accountNoNorm.equals(StringNormalizer.normalizeAccountNo(request.getAccountNo()))) {
+                throw new IllegalArgumentException(ErrorMessages.BATCH_DEPOSIT_ACCOUNT_MISMATCH);
+            }
+        }
+        accountLockManager.lock(AccountLockManager.key(first.getBankCode(), accountNoNorm));
+
+        Account account = accountPort.findByBankCodeAndAccountNoNorm(first.getBankCode(), accountNoNorm)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (DepositRequest request : requests) {
+            account.validateDeposit(request.getAmount());
+            total = total.add(request.getAmount());
+        }
+
+        // 분할 계좌는 거래 후 잔액을 확정할 수 없으므로 null
+        BigDecimal balanceAfterAll = null;
+        if (account.isBalanceSharded()) {
+            balanceBucketPort.credit(account.getId(), account.getBalanceBucketCount(), total);
+        } else if (balanceUpdateMode == BalanceUpdateMode.CONDITIONAL_UPDATE) {
+            Optional<Account> updated = accountPort.increaseBalance(account.getId(), total);
+            if (updated.isPresent()) {
+                balanceAfterAll = updated.get().getBalance();
+            } else {
+                // 조회 이후 잔액이 분할되었으면 bucket으로, 아니면 비활성 계좌
+                account = accountPort.findById(account.getId())
+                        .filter(Account::isBalanceSharded)
+                        .orElseThrow(() -> new IllegalStateException(ErrorMessages.INACTIVE_ACCOUNT_DEPOSIT));
+                balanceBucketPort.credit(account.getId(), account.getBalanceBucketCount(), total);
+            }
+        } else {
+            account = accountPort.findByIdWithLock(account.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+            if (account.isBalanceSharded()) {
+                balanceBucketPort.credit(account.getId(), account.getBalanceBucketCount(), total);
+            } else {
+                account.deposit(total);
+                accountPort.save(account);
+                balanceAfterAll = account.getBalance();
+            }
+        }
+
+        // 합계 반영 전 잔액에서 요청 순서대로 누적
+        BigDecimal runningBalance = balanceAfterAll != null ? balanceAfterAll.subtract(total) : null;
+        List<TransactionResponse> responses = new ArrayList<>(requests.size());
+        for (DepositRequest request : requests) {
+            if (runningBalance != null) {
+                runningBalance = runningBalance.add(request.getAmount());
+            }
+
+            Transaction transaction = Transaction.createDeposit(
+                    account.getId(),
+                    request.getAmount(),
+                    request.getDescription()
+            );
+            transaction.setBalanceAfter(runningBalance);
+
+            responses.add(toResponse(account, transactionPort.save(transaction)));
+        }
+        return responses;
+    }
+
+    /**
+     * 여러 계좌로의 입금을 한 트랜잭션에서 반영한다 (대량 입금 파일 처리용).
+     * 계좌를 IN 조회 한 번으로 찾고 계좌 행을 ID 순서로 한 번에 잠근 뒤, 잔액 UPDATE와 거래 기록 INSERT를 각각 한 번의 flush로 반영한다.
+     * 분할 계좌는 계좌별 합계를 bucket 한 행에 한 번 반영한다 (거래 후 잔액은 기록하지 않음). 결과는 요청 순서대로 돌려주며,
+     * 계좌 없음/비활성/금액 오류는 해당 건만 실패로 처리한다 (DB 반영 전에 검증하므로 트랜잭션은 그대로 커밋).
+     */
+    public List<BulkDepositResult> executeBulk(List<DepositRequest> requests) {
+        BulkDepositResult[] results = new BulkDepositResult[requests.size()];
+        String[] lockKeys = new String[requests.size()];
+        Set<String> bankCodes = new LinkedHashSet<>();
+        Set<String> accountNoNorms = new LinkedHashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            DepositRequest request = requests.get(i);
+            if (request.getAmount() == null || request.getAmount().compareTo(BusinessConstants.ZERO_AMOUNT) <= 0) {
+                results[i] = BulkDepositResult.failure(ErrorMessages.DEPOSIT_AMOUNT_INVALID);
+                continue;
+            }
+            String accountNoNorm = StringNormalizer.normalizeAccountNo(request.getAccountNo());
+            lockKeys[i] = AccountLockManager.key(request.getBankCode(), accountNoNorm);
+            bankCodes.add(request.getBankCode());
+            accountNoNorms.add(accountNoNorm);
+        }
+        if (bankCodes.isEmpty()) {
+            return Arrays.asList(results);
+        }
+        accountLockManager.lock(Arrays.stream(lockKeys).filter(Objects::nonNull).distinct().toArray(String[]::new));
+
+        // 1. 계좌 일괄 조회 - 은행코드/계좌번호 목록의 교차 결과이므로 키로 다시 매칭
+        Map<String, Account> accountsByKey = new HashMap<>();
+        Set<Long> lockIds = new TreeSet<>();
+        for (Account account : accountPort.findAllByBankCodeInAndAccountNoNormIn(bankCodes, accountNoNorms)) {
+            String key = AccountLockManager.key(account.getBankCode(), account.getAccountNoNorm());
+            accountsByKey.put(key, account);
+            if (account.isBalanceSharded()) {
+                accountLockManager.skipLocking(key);
+            } else {
+                lockIds.add(account.getId());
+            }
+        }
+
+        // 2. 분할되지 않은 계좌 행을 ID 순서로 한 번에 잠금
+        Map<Long, Account> lockedAccounts = new HashMap<>();
+        if (!lockIds.isEmpty()) {
+            for (Account account : accountPort.findAllByIdInWithLock(lockIds)) {
+                lockedAccounts.put(account.getId(), account);
+            }
+        }
+
+        // 3. 요청 순서대로 잔액 반영 (분할 계좌는 합계만 모아 둠)
+        Map<Integer, Account> depositedAccounts = new LinkedHashMap<>();
+        Map<Integer, BigDecimal> balancesAfter = new HashMap<>();
+        Set<Long> changedIds = new TreeSet<>();
+        Map<Long, Account> shardedAccounts = new LinkedHashMap<>();
+        Map<Long, BigDecimal> shardedTotals = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            DepositRequest request = requests.get(i);
+            Account account = accountsByKey.get(lockKeys[i]);
+            if (account == null) {
+                results[i] = BulkDepositResult.failure(ErrorMessages.ACCOUNT_NOT_FOUND);
+                continue;
+            }
+            try {
+                if (account.isBalanceSharded()) {
+                    account.validateDeposit(request.getAmount());
+                    shardedAccounts.put(account.getId(), account);
+                    shardedTotals.merge(account.getId(), request.getAmount(), BigDecimal::add);
+                } else {
+                    account = lockedAccounts.get(account.getId());
+                    if (account == null) {
+                        // 조회와 잠금 사이에 삭제된 계좌
+                        throw new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND);
+                    }
+                    account.deposit(request.getAmount());
+                    balancesAfter.put(i, account.getBalance());
+                    changedIds.add(account.getId());
+                }
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                results[i] = BulkDepositResult.failure(e.getMessage());
+                continue;
+            }
+            depositedAccounts.put(i, account);
+        }
+
+        // 4. 분할 계좌는 계좌별 합계를 bucket에 한 번 반영
+        for (Account account : shardedAccounts.values()) {
+            balanceBucketPort.credit(account.getId(), account.getBalanceBucketCount(), shardedTotals.get(account.getId()));
+        }
+
+        // 5. 잔액 UPDATE와 거래 기록 INSERT를 각각 한 번의 flush로 반영
+        List<Account> changedAccounts = new ArrayList<>(changedIds.size());
+        for (Long id : changedIds) {
+            changedAccounts.add(lockedAccounts.get(id));
+        }
+        accountPort.saveAll(changedAccounts);
+
+        List<Transaction> transactions = new ArrayList<>(depositedAccounts.size());
+        for (Map.Entry<Integer, Account> deposited : depositedAccounts.entrySet()) {
+            DepositRequest request = requests.get(deposited.getKey());
+            Account account = deposited.getValue();
+            Transaction transaction = Transaction.createDeposit(
+                    account.getId(),
+                    request.getAmount(),
+                    request.getDescription()
+            );
+            transaction.setBalanceAfter(balancesAfter.get(deposited.getKey()));
+            transactions.add(transaction);
+        }
+        List<Transaction> savedTransactions = transactionPort.saveAll(transactions);
+
+        int savedIndex = 0;
+        for (Map.Entry<Integer, Account> deposited : depositedAccounts.entrySet()) {
+            results[deposited.getKey()] = BulkDepositResult.success(
+                    toResponse(deposited.getValue(), savedTransactions.get(savedIndex++)));
+        }
+        return Arrays.asList(results);
+    }
+
+    private TransactionResponse depositWithConditionalUpdate(AccountRef ref, DepositRequest request) {
+        // 2. 금액만 사전 검증 후 조건부 UPDATE로 잔액 증가 (계좌 상태는 UPDATE 조건으로 검증, 잠금 조회 없음)
+        Account.validateDepositAmount(request.getAmount());
+        Optional<Account> updated = accountPort.increaseBalance(ref.getId(), request.getAmount());
+        if (updated.isEmpty()) {
+            // 캐시된 이후 잔액이 분할되었으면 bucket으로, 아니면 비활성 계좌
+            Optional<Account> sharded = accountPort.findById(ref.getId()).filter(Account::isBalanceSharded);
+            if (sharded.isPresent()) {
+                accountKeyResolver.evict(ref.getBankCode(), ref.getAccountNoNorm());
+                return depositToBuckets(sharded.get(), request);
+            }
+            throw new IllegalStateException(ErrorMessages.INACTIVE_ACCOUNT_DEPOSIT);
+        }
+
+        // 응답의 계좌번호는 요청 값이 아닌 저장된 표기 그대로 (UPDATE 직후 읽은 계좌)
+        Account account = updated.get();
+        return recordDeposit(account.getId(), account.getBankCode(), account.getAccountNo(), request, account.getBalance());
+    }
+
+    private TransactionResponse depositToBuckets(Account account, DepositRequest request) {
+        // 분할 계좌: 계좌 행 락 없이 임의의 bucket 한 행만 갱신 (다른 bucket이 동시에 바뀌므로 거래 후 잔액은 기록하지 않음)
+        account.validateDeposit(request.getAmount());
+        balanceBucketPort.credit(account.getId(), account.getBalanceBucketCount(), request.getAmount());
+
+        return recordDeposit(account.getId(), account.getBankCode(), account.getAccountNo(), request, null);
+    }
+
+    private TransactionResponse recordDeposit(Long accountId, String bankCode, String accountNo,
+                                              DepositRequest request, BigDecimal balanceAfter) {
+        Transaction transaction = Transaction.createDeposit(
+                accountId,
+                request.getAmount(),
+                request.getDescription()
+        );
+        transaction.setBalanceAfter(balanceAfter);
+
+        Transaction savedTransaction = transactionPort.save(transaction);
+
+        return toResponse(bankCode, accountNo, savedTransaction);
+    }
+
+    private Account findAccount(Long accountId) {
+        return accountPort.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+    }
+
+    private TransactionResponse toResponse(Account account, Transaction savedTransaction) {
+        return toResponse(account.getBankCode(), account.getAccountNo(), savedTransaction);
+    }
+
+    private TransactionResponse toResponse(String bankCode, String accountNo, Transaction savedTransaction) {
         TransactionResponse.AccountInfo accountInfo = new TransactionResponse.AccountInfo(
-                account.getBankCode(),
-                account.getAccountNo()
+                bankCode,
+                accountNo
         );
 
         return new TransactionResponse(
@@ -59,4 +349,4 @@ public class DepositUseCase {
                 savedTransaction.getFee()
         );
     }
-}
\ No newline at end of file
+}
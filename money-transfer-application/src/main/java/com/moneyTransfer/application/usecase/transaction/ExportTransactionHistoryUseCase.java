@@ -0,0 +1,78 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.dto.transaction.ExportTransactionHistoryRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionExport;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.StringNormalizer;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountRef;
+import com.moneyTransfer.domain.transaction.TransactionHistoryQueryPort;
+import com.moneyTransfer.domain.transaction.TransactionHistoryRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * 계좌의 거래내역 전체(또는 기간)를 최신순으로 내보낸다.
+ *
+ * 목록을 만들지 않고 조회 행을 한 건씩 TransactionResponse로 바꿔 consumer에 넘기므로 건수와 무관하게 메모리가 일정하다.
+ * 계좌 확인(prepare)은 응답을 쓰기 전에, 행 전달(execute)은 응답 스트림을 쓰는 동안 읽기 전용 트랜잭션 하나로 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportTransactionHistoryUseCase {
+
+    private final TransactionHistoryQueryPort historyQueryPort;
+    private final AccountPort accountPort;
+    private final AccountKeyResolver accountKeyResolver;
+
+    public TransactionExport prepare(ExportTransactionHistoryRequest request) {
+        String accountNoNorm = StringNormalizer.normalizeAccountNo(request.getAccountNo());
+        AccountRef ref = accountKeyResolver.resolve(request.getBankCode(), accountNoNorm)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+        Account account = accountPort.findById(ref.getId())
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+
+        return new TransactionExport(
+                account.getId(),
+                new TransactionResponse.AccountInfo(account.getBankCode(), account.getAccountNo()),
+                request.getStartDate(),
+                request.getEndDate()
+        );
+    }
+
+    // 내보낸 건수 반환 - consumer가 던진 예외(클라이언트 연결 종료 등)는 그대로 전파되고 커서는 닫힘
+    public long execute(TransactionExport export, Consumer<TransactionResponse> consumer) {
+        Consumer<TransactionHistoryRow> rowConsumer = row -> consumer.accept(toTransactionResponse(row, export.getAccountInfo()));
+
+        if (export.getStartDate() == null && export.getEndDate() == null) {
+            return historyQueryPort.streamByAccountId(export.getAccountId(), rowConsumer);
+        }
+        return historyQueryPort.streamByAccountIdAndDateRange(
+                export.getAccountId(), export.getStartDate(), export.getEndDate(), rowConsumer);
+    }
+
+    private TransactionResponse toTransactionResponse(TransactionHistoryRow row, TransactionResponse.AccountInfo accountInfo) {
+        TransactionResponse.AccountInfo relatedAccountInfo = row.hasRelatedAccount()
+                ? new TransactionResponse.AccountInfo(row.getRelatedBankCode(), row.getRelatedAccountNo())
+                : null;
+
+        return new TransactionResponse(
+                row.getId(),
+                accountInfo,
+                relatedAccountInfo,
+                row.getTransactionType(),
+                row.getAmount(),
+                row.getBalanceAfter(),
+                row.getDescription(),
+                row.getCreatedAt(),
+                row.getFee()
+        );
+    }
+}
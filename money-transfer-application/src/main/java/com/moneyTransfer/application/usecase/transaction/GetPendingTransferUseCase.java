@@ -0,0 +1,22 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.dto.transaction.PendingTransferResponse;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.transaction.PendingTransferPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetPendingTransferUseCase {
+
+    private final PendingTransferPort pendingTransferPort;
+
+    public PendingTransferResponse execute(Long transferId) {
+        return pendingTransferPort.findById(transferId)
+                .map(PendingTransferResponse::new)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.PENDING_TRANSFER_NOT_FOUND));
+    }
+}
@@ -1,69 +1,82 @@
 package com.moneyTransfer.application.usecase.transaction;
 
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.transaction.GetTransactionHistoryRequest;
 import com.moneyTransfer.application.dto.transaction.TransactionHistoryResponse;
 import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.dto.transaction.TransactionSummaryResponse;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.common.util.StringNormalizer;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountRef;
 import com.moneyTransfer.domain.user.User;
 import com.moneyTransfer.domain.user.UserPort;
 import com.moneyTransfer.domain.common.PageResult;
 import com.moneyTransfer.domain.common.PageQuery;
-import com.moneyTransfer.domain.transaction.Transaction;
-import com.moneyTransfer.domain.transaction.TransactionPort;
+import com.moneyTransfer.domain.common.SliceResult;
+import com.moneyTransfer.domain.transaction.DailyTransactionSummary;
+import com.moneyTransfer.domain.transaction.TransactionCursor;
+import com.moneyTransfer.domain.transaction.TransactionHistoryQueryPort;
+import com.moneyTransfer.domain.transaction.TransactionHistoryRow;
+import com.moneyTransfer.domain.transaction.TransactionSummaryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetTransactionHistoryUseCase {
 
-    private final TransactionPort transactionPort;
+    private final TransactionHistoryQueryPort historyQueryPort;
+    private final TransactionSummaryPort transactionSummaryPort;
     private final AccountPort accountPort;
     private final UserPort userPort;
+    private final AccountKeyResolver accountKeyResolver;
 
     public TransactionHistoryResponse execute(GetTransactionHistoryRequest request) {
-        // 1. bankCode + accountNo → Account 조회
+        // 1. bankCode + accountNo → 계좌 ID (캐시에 있으면 조회 생략), 현재 잔액은 PK로 조회
         String accountNoNorm = StringNormalizer.normalizeAccountNo(request.getAccountNo());
-        Account account = accountPort.findByBankCodeAndAccountNoNorm(request.getBankCode(), accountNoNorm)
+        AccountRef ref = accountKeyResolver.resolve(request.getBankCode(), accountNoNorm)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+        Account account = accountPort.findById(ref.getId())
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
 
         // 2. 계좌의 사용자 정보 조회
         User user = userPort.findById(account.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.USER_NOT_FOUND));
 
+        if (request.isCursorMode()) {
+            return executeWithCursor(request, account, user);
+        }
+
         // 3. Paging 객체 생성
         PageQuery pageQuery = PageQuery.of(request.getPage(), request.getSize());
 
-        // 4. 거래내역 조회 (날짜 범위 조건 포함)
-        PageResult<Transaction> transactionPage;
+        // 4. 기간 조건이 없으면 전체 건수는 카운터에서, 목록은 COUNT 없이 size + 1건으로 조회
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            Optional<Long> transactionCount = historyQueryPort.findTransactionCount(account.getId());
+            if (transactionCount.isPresent()) {
+                return executeWithCounter(pageQuery, transactionCount.get(), account, user);
+            }
+        }
+
+        // 5. 거래내역 조회 (날짜 범위 조건 포함) - 기간 조회와 카운터가 없는 계좌는 COUNT 쿼리
+        PageResult<TransactionHistoryRow> transactionPage;
         if (request.getStartDate() != null && request.getEndDate() != null) {
-            transactionPage = transactionPort.findByAccountIdAndDateRangeWithPaging(
+            transactionPage = historyQueryPort.findByAccountIdAndDateRangeWithPaging(
                     account.getId(), request.getStartDate(), request.getEndDate(), pageQuery);
         } else {
-            transactionPage = transactionPort.findByAccountIdWithPaging(account.getId(), pageQuery);
+            transactionPage = historyQueryPort.findByAccountIdWithPaging(account.getId(), pageQuery);
         }
 
-        // 5. DTO 변환 (현재 계좌 정보 재사용)
-        List<TransactionResponse> transactionResponses = transactionPage.getContent().stream()
-                .map(transaction -> toTransactionResponse(transaction, account))
-                .collect(Collectors.toList());
-
-        // 6. 계좌 정보 생성
-        TransactionHistoryResponse.AccountInfo accountInfo = new TransactionHistoryResponse.AccountInfo(
-                user.getName(),
-                user.getEmail(),
-                account.getBalance(),
-                account.getBankCode(),
-                account.getAccountNo()
-        );
+        // 6. DTO 변환 (현재 계좌 정보 재사용)
+        List<TransactionResponse> transactionResponses = toTransactionResponses(transactionPage.getContent(), account);
 
         // 7. 페이징 정보 생성
         TransactionHistoryResponse.PageInfo pageInfo = new TransactionHistoryResponse.PageInfo(
@@ -72,53 +85,118 @@ public class GetTransactionHistoryUseCase {
                 transactionPage.getTotalElements(),
                 transactionPage.getTotalPages(),
                 transactionPage.hasNext(),
-                transactionPage.hasPrevious()
+                transactionPage.hasPrevious(),
+                null,
+                TransactionHistoryResponse.CountMode.COUNT_QUERY
         );
 
-        return new TransactionHistoryResponse(accountInfo, transactionResponses, pageInfo);
+        return new TransactionHistoryResponse(toAccountInfo(account, user), transactionResponses, pageInfo,
+                findPeriodTotals(request, account));
     }
 
-    private TransactionResponse toTransactionResponse(Transaction transaction, Account currentAccount) {
-        // 현재 조회된 계좌가 transaction의 계좌와 같은지 확인
-        TransactionResponse.AccountInfo accountInfo;
-        if (currentAccount.getId().equals(transaction.getAccountId())) {
-            accountInfo = new TransactionResponse.AccountInfo(
-                    currentAccount.getBankCode(),
-                    currentAccount.getAccountNo()
-            );
-        } else {
-            // 다른 계좌인 경우 조회 (이런 경우는 일반적으로 발생하지 않음)
-            Account account = accountPort.findById(transaction.getAccountId())
-                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
-            accountInfo = new TransactionResponse.AccountInfo(
-                    account.getBankCode(),
-                    account.getAccountNo()
-            );
+    // 카운터 조회: 목록은 Slice(size + 1건), 전체 건수/페이지 수는 계좌별 거래 건수 카운터로 계산
+    private TransactionHistoryResponse executeWithCounter(PageQuery pageQuery, long transactionCount, Account account, User user) {
+        SliceResult<TransactionHistoryRow> transactionSlice = historyQueryPort.findSliceByAccountId(account.getId(), pageQuery);
+
+        List<TransactionResponse> transactionResponses = toTransactionResponses(transactionSlice.getContent(), account);
+
+        int pageSize = transactionSlice.getPageSize();
+        TransactionHistoryResponse.PageInfo pageInfo = new TransactionHistoryResponse.PageInfo(
+                transactionSlice.getPageNumber(),
+                pageSize,
+                transactionCount,
+                (int) ((transactionCount + pageSize - 1) / pageSize),
+                transactionSlice.hasNext(),
+                transactionSlice.hasPrevious(),
+                null,
+                TransactionHistoryResponse.CountMode.COUNTER
+        );
+
+        return new TransactionHistoryResponse(toAccountInfo(account, user), transactionResponses, pageInfo);
+    }
+
+    // 커서 조회: COUNT 없이 size + 1건을 읽어 다음 페이지 여부를 판단
+    private TransactionHistoryResponse executeWithCursor(GetTransactionHistoryRequest request, Account account, User user) {
+        int size = request.getSize();
+        TransactionCursor cursor = request.getCursor().isEmpty() ? null : TransactionCursor.decode(request.getCursor());
+        boolean dateRange = request.getStartDate() != null && request.getEndDate() != null;
+
+        List<TransactionHistoryRow> transactions = historyQueryPort.findByAccountIdBeforeCursor(
+                account.getId(),
+                dateRange ? request.getStartDate() : null,
+                dateRange ? request.getEndDate() : null,
+                cursor,
+                size + 1);
+        boolean hasNext = transactions.size() > size;
+        if (hasNext) {
+            transactions = transactions.subList(0, size);
         }
 
-        // 관련 계좌 정보 조회 (이체인 경우에만)
-        TransactionResponse.AccountInfo relatedAccountInfo = null;
-        if (transaction.getRelatedAccountId() != null) {
-            Account relatedAccount = accountPort.findById(transaction.getRelatedAccountId())
-                    .orElse(null); // 관련 계좌가 없어도 예외를 발생시키지 않음
-            if (relatedAccount != null) {
-                relatedAccountInfo = new TransactionResponse.AccountInfo(
-                        relatedAccount.getBankCode(),
-                        relatedAccount.getAccountNo()
-                );
-            }
+        List<TransactionResponse> transactionResponses = toTransactionResponses(transactions, account);
+
+        // 전체 건수/페이지 수는 세지 않음 (null)
+        TransactionHistoryResponse.PageInfo pageInfo = new TransactionHistoryResponse.PageInfo(
+                null,
+                size,
+                null,
+                null,
+                hasNext,
+                cursor != null,
+                hasNext ? TransactionCursor.after(transactions.get(transactions.size() - 1)).encode() : null,
+                TransactionHistoryResponse.CountMode.NONE
+        );
+
+        return new TransactionHistoryResponse(toAccountInfo(account, user), transactionResponses, pageInfo,
+                findPeriodTotals(request, account));
+    }
+
+    // 기간 합계는 원본 거래 대신 일 집계 행(기간의 일수 이하)을 더해 구함 - 날짜 단위이므로 시작/종료 일시가 속한 날 전체 기준
+    private TransactionSummaryResponse.Totals findPeriodTotals(GetTransactionHistoryRequest request, Account account) {
+        if (request.getStartDate() == null || request.getEndDate() == null
+                || request.getStartDate().isAfter(request.getEndDate())) {
+            return null;
         }
+        List<DailyTransactionSummary> dailySummaries = transactionSummaryPort.findDailySummaries(
+                account.getId(), request.getStartDate().toLocalDate(), request.getEndDate().toLocalDate());
+        return TransactionSummaryResponse.Totals.of(DailyTransactionSummary.sumOf(dailySummaries));
+    }
+
+    private TransactionHistoryResponse.AccountInfo toAccountInfo(Account account, User user) {
+        return new TransactionHistoryResponse.AccountInfo(
+                user.getName(),
+                user.getEmail(),
+                account.getBalance(),
+                account.getBankCode(),
+                account.getAccountNo()
+        );
+    }
 
-        return new TransactionResponse(
-                transaction.getId(),
-                accountInfo,
-                relatedAccountInfo,
-                transaction.getTransactionType(),
-                transaction.getAmount(),
-                transaction.getBalanceAfter(),
-                transaction.getDescription(),
-                transaction.getCreatedAt(),
-                transaction.getFee()
+    // 조회 행에서 바로 응답 생성 - 조회 대상 계좌 정보는 모든 행이 같은 객체를 공유
+    private List<TransactionResponse> toTransactionResponses(List<TransactionHistoryRow> rows, Account currentAccount) {
+        TransactionResponse.AccountInfo accountInfo = new TransactionResponse.AccountInfo(
+                currentAccount.getBankCode(),
+                currentAccount.getAccountNo()
         );
+
+        List<TransactionResponse> responses = new ArrayList<>(rows.size());
+        for (TransactionHistoryRow row : rows) {
+            // 관련 계좌 정보 (이체인 경우에만, 관련 계좌가 없어도 예외를 발생시키지 않음)
+            TransactionResponse.AccountInfo relatedAccountInfo = row.hasRelatedAccount()
+                    ? new TransactionResponse.AccountInfo(row.getRelatedBankCode(), row.getRelatedAccountNo())
+                    : null;
+
+            responses.add(new TransactionResponse(
+                    row.getId(),
+                    accountInfo,
+                    relatedAccountInfo,
+                    row.getTransactionType(),
+                    row.getAmount(),
+                    row.getBalanceAfter(),
+                    row.getDescription(),
+                    row.getCreatedAt(),
+                    row.getFee()
+            ));
+        }
+        return responses;
     }
-}
\ No newline at end of file
+}
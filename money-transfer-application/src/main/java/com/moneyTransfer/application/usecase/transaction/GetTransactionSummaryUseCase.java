@@ -0,0 +1,67 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.dto.transaction.GetTransactionSummaryRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionSummaryResponse;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.StringNormalizer;
+import com.moneyTransfer.domain.account.AccountRef;
+import com.moneyTransfer.domain.transaction.DailyTransactionSummary;
+import com.moneyTransfer.domain.transaction.TransactionSummaryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계좌의 기간별 거래 집계를 일 집계 테이블에서 조회한다.
+ *
+ * 원본 거래를 읽지 않고 기간의 일수 이하의 행만 읽으므로 거래 건수와 무관하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetTransactionSummaryUseCase {
+
+    private final TransactionSummaryPort transactionSummaryPort;
+    private final AccountKeyResolver accountKeyResolver;
+
+    // 한 번에 조회할 수 있는 최대 일수 (읽는 일 집계 행 수 상한)
+    @Value("${money-transfer.transaction.summary.max-days:3660}")
+    private long maxDays = 3660;
+
+    public TransactionSummaryResponse execute(GetTransactionSummaryRequest request) {
+        if (request.getStartDate() == null || request.getEndDate() == null
+                || request.getStartDate().isAfter(request.getEndDate())) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_SUMMARY_PERIOD);
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1 > maxDays) {
+            throw new IllegalArgumentException(ErrorMessages.SUMMARY_PERIOD_TOO_LONG);
+        }
+
+        String accountNoNorm = StringNormalizer.normalizeAccountNo(request.getAccountNo());
+        AccountRef ref = accountKeyResolver.resolve(request.getBankCode(), accountNoNorm)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+
+        List<DailyTransactionSummary> dailySummaries = transactionSummaryPort.findDailySummaries(
+                ref.getId(), request.getStartDate(), request.getEndDate());
+
+        List<TransactionSummaryResponse.Daily> days = new ArrayList<>(dailySummaries.size());
+        for (DailyTransactionSummary daily : dailySummaries) {
+            days.add(new TransactionSummaryResponse.Daily(daily.getSummaryDate(), TransactionSummaryResponse.Totals.of(daily)));
+        }
+
+        return new TransactionSummaryResponse(
+                request.getBankCode(),
+                request.getAccountNo(),
+                request.getStartDate(),
+                request.getEndDate(),
+                TransactionSummaryResponse.Totals.of(DailyTransactionSummary.sumOf(dailySummaries)),
+                days
+        );
+    }
+}
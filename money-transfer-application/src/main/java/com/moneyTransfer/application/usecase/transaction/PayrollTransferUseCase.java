@@ -0,0 +1,268 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.dto.transaction.BatchTransferResponse;
+import com.moneyTransfer.application.dto.transaction.PayrollTransferRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.StringNormalizer;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
+import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
+import com.moneyTransfer.domain.transaction.Transaction;
+import com.moneyTransfer.domain.transaction.TransactionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 출금 계좌 하나에서 여러 계좌로 한 번에 이체한다 (급여 이체).
+ *
+ * 출금 계좌 행과 일일 한도는 한 번만 잠그고, 건별 수수료를 더한 합계로 한도와 잔액을 한 번에 검증한다.
+ * 입금 계좌는 IN 조회 한 번으로 찾아 ID 순서로 잠그고 반영하며, 거래 기록은 한 번의 flush로 INSERT한다.
+ * 입금 계좌 없음/비활성/동일 계좌는 해당 건만 실패로 응답하고, 잔액 부족이나 한도 초과는 전체를 실패시킨다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PayrollTransferUseCase {
+
+    private final AccountPort accountPort;
+    private final TransactionPort transactionPort;
+    private final DailyLimitPort dailyLimitPort;
+    private final BalanceBucketPort balanceBucketPort;
+    private final AccountLockManager accountLockManager;
+
+    @Value("${money-transfer.transaction.payroll-transfer.max-size:5000}")
+    private int maxSize = 5000;
+
+    public BatchTransferResponse execute(PayrollTransferRequest request) {
+        List<PayrollTransferRequest.Leg> legs = request.getLegs();
+        if (legs == null || legs.isEmpty()) {
+            throw new IllegalArgumentException(ErrorMessages.BATCH_TRANSFER_EMPTY);
+        }
+        if (legs.size() > maxSize) {
+            throw new IllegalArgumentException(ErrorMessages.BATCH_TRANSFER_SIZE_EXCEEDED);
+        }
+        for (PayrollTransferRequest.Leg leg : legs) {
+            if (leg.getAmount() == null || leg.getAmount().compareTo(BusinessConstants.ZERO_AMOUNT) <= 0) {
+                throw new IllegalArgumentException(ErrorMessages.TRANSFER_AMOUNT_MUST_BE_POSITIVE);
+            }
+        }
+
+        // 1. 출금 계좌와 모든 입금 계좌를 프로세스 안에서 한 번에 잠금
+        String fromAccountNoNorm = StringNormalizer.normalizeAccountNo(request.getFromAccountNo());
+        String fromLockKey = AccountLockManager.key(request.getFromBankCode(), fromAccountNoNorm);
+        String[] toLockKeys = new String[legs.size()];
+        Set<String> lockKeys = new LinkedHashSet<>();
+        Set<String> toBankCodes = new LinkedHashSet<>();
+        Set<String> toAccountNoNorms = new LinkedHashSet<>();
+        lockKeys.add(fromLockKey);
+        for (int i = 0; i < legs.size(); i++) {
+            PayrollTransferRequest.Leg leg = legs.get(i);
+            String toAccountNoNorm = StringNormalizer.normalizeAccountNo(leg.getToAccountNo());
+            toLockKeys[i] = AccountLockManager.key(leg.getToBankCode(), toAccountNoNorm);
+            lockKeys.add(toLockKeys[i]);
+            toBankCodes.add(leg.getToBankCode());
+            toAccountNoNorms.add(toAccountNoNorm);
+        }
+        accountLockManager.lock(lockKeys.toArray(new String[0]));
+
+        // 2. 출금 계좌 조회, 입금 계좌는 IN 조회 한 번으로 찾은 뒤 키로 매칭
+        Account fromAccount = accountPort.findByBankCodeAndAccountNoNorm(request.getFromBankCode(), fromAccountNoNorm)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+        if (fromAccount.isBalanceSharded()) {
+            accountLockManager.skipLocking(fromLockKey);
+        }
+        Map<String, Account> toAccountsByKey = new HashMap<>();
+        for (Account account : accountPort.findAllByBankCodeInAndAccountNoNormIn(toBankCodes, toAccountNoNorms)) {
+            String key = AccountLockManager.key(account.getBankCode(), account.getAccountNoNorm());
+            toAccountsByKey.put(key, account);
+            if (account.isBalanceSharded()) {
+                accountLockManager.skipLocking(key);
+            }
+        }
+
+        BatchTransferResponse.Item[] results = new BatchTransferResponse.Item[legs.size()];
+        Account[] toAccounts = new Account[legs.size()];
+        BigDecimal[] fees = new BigDecimal[legs.size()];
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal totalDeduction = BigDecimal.ZERO;
+        Set<Long> lockIds = new TreeSet<>();
+        if (!fromAccount.isBalanceSharded()) {
+            lockIds.add(fromAccount.getId());
+        }
+        for (int i = 0; i < legs.size(); i++) {
+            Account toAccount = toAccountsByKey.get(toLockKeys[i]);
+            String error = null;
+            if (toAccount == null) {
+                error = ErrorMessages.TARGET_ACCOUNT_NOT_FOUND;
+            } else if (toAccount.getId().equals(fromAccount.getId())) {
+                error = ErrorMessages.CANNOT_TRANSFER_TO_SAME_ACCOUNT;
+            } else if (!toAccount.isActive()) {
+                error = ErrorMessages.INACTIVE_ACCOUNT_DEPOSIT;
+            }
+            if (error != null) {
+                results[i] = BatchTransferResponse.Item.failure(i, error);
+                continue;
+            }
+
+            toAccounts[i] = toAccount;
+            fees[i] = TransferUseCase.calculateFee(legs.get(i).getAmount());
+            totalAmount = totalAmount.add(legs.get(i).getAmount());
+            totalDeduction = totalDeduction.add(legs.get(i).getAmount()).add(fees[i]);
+            if (!toAccount.isBalanceSharded()) {
+                lockIds.add(toAccount.getId());
+            }
+        }
+        if (totalAmount.signum() == 0) {
+            return new BatchTransferResponse(Arrays.asList(results));
+        }
+
+        // 3. 일일 한도는 합계로 한 번만 소비 (계좌 행보다 먼저 잠가 데드락 방지)
+        if (!dailyLimitPort.tryConsumeTransfer(fromAccount.getId(), LocalDate.now(), totalAmount, BusinessConstants.DAILY_TRANSFER_LIMIT)) {
+            throw new IllegalArgumentException(ErrorMessages.DAILY_TRANSFER_LIMIT_EXCEEDED);
+        }
+
+        // 4. 출금 계좌와 분할되지 않은 입금 계좌 행을 ID 순서로 한 번에 잠금
+        Map<Long, Account> lockedAccounts = new HashMap<>();
+        for (Account account : accountPort.findAllByIdInWithLock(lockIds)) {
+            lockedAccounts.put(account.getId(), account);
+        }
+
+        // 5. 출금은 합계로 한 번 (분할 계좌는 bucket 차감 시 잔액 검증)
+        // 분할 계좌는 다른 bucket이 동시에 바뀌므로 거래 후 잔액을 기록하지 않음 (null)
+        BigDecimal fromBalanceAfterAll = null;
+        if (fromAccount.isBalanceSharded()) {
+            fromAccount.validateWithdraw(totalDeduction);
+            if (!balanceBucketPort.debit(fromAccount.getId(), fromAccount.getBalanceBucketCount(), totalDeduction)) {
+                throw new IllegalArgumentException(ErrorMessages.INSUFFICIENT_BALANCE);
+            }
+        } else {
+            fromAccount = lockedAccounts.get(fromAccount.getId());
+            if (fromAccount == null) {
+                throw new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND);
+            }
+            fromAccount.withdraw(totalDeduction);
+            fromBalanceAfterAll = fromAccount.getBalance();
+        }
+
+        // 6. 입금은 계좌 ID 순서로 반영 (분할 계좌는 계좌별 합계를 bucket에 한 번 반영)
+        List<Integer> creditOrder = new ArrayList<>();
+        for (int i = 0; i < legs.size(); i++) {
+            if (toAccounts[i] != null) {
+                creditOrder.add(i);
+            }
+        }
+        creditOrder.sort(Comparator.comparing(i -> toAccounts[i].getId()));
+
+        BigDecimal[] toBalancesAfter = new BigDecimal[legs.size()];
+        Map<Long, BigDecimal> shardedTotals = new HashMap<>();
+        for (Integer i : creditOrder) {
+            if (toAccounts[i].isBalanceSharded()) {
+                shardedTotals.merge(toAccounts[i].getId(), legs.get(i).getAmount(), BigDecimal::add);
+            }
+        }
+        Set<Long> changedIds = new TreeSet<>();
+        if (!fromAccount.isBalanceSharded()) {
+            changedIds.add(fromAccount.getId());
+        }
+        for (Integer i : creditOrder) {
+            Account toAccount = toAccounts[i];
+            BigDecimal amount = legs.get(i).getAmount();
+            if (toAccount.isBalanceSharded()) {
+                BigDecimal total = shardedTotals.remove(toAccount.getId());
+                if (total != null) {
+                    balanceBucketPort.credit(toAccount.getId(), toAccount.getBalanceBucketCount(), total);
+                }
+            } else {
+                toAccount = lockedAccounts.get(toAccount.getId());
+                if (toAccount == null) {
+                    // 조회와 잠금 사이에 삭제된 계좌 - 출금 합계가 달라지므로 전체 롤백
+                    throw new IllegalArgumentException(ErrorMessages.TARGET_ACCOUNT_NOT_FOUND);
+                }
+                toAccounts[i] = toAccount;
+                toAccount.deposit(amount);
+                toBalancesAfter[i] = toAccount.getBalance();
+                changedIds.add(toAccount.getId());
+            }
+        }
+
+        // 7. 잔액 UPDATE와 거래 기록 INSERT를 각각 한 번의 flush로 반영 (출금 잔액은 요청 순서대로 누적)
+        List<Account> changedAccounts = new ArrayList<>(changedIds.size());
+        for (Long id : changedIds) {
+            changedAccounts.add(lockedAccounts.get(id));
+        }
+        accountPort.saveAll(changedAccounts);
+
+        BigDecimal fromRunningBalance = fromBalanceAfterAll != null ? fromBalanceAfterAll.add(totalDeduction) : null;
+        List<Integer> creditedLegs = new ArrayList<>(creditOrder.size());
+        List<Transaction> transactions = new ArrayList<>(creditOrder.size() * 2);
+        for (int i = 0; i < legs.size(); i++) {
+            if (toAccounts[i] == null) {
+                continue;
+            }
+            PayrollTransferRequest.Leg leg = legs.get(i);
+            if (fromRunningBalance != null) {
+                fromRunningBalance = fromRunningBalance.subtract(leg.getAmount()).subtract(fees[i]);
+            }
+
+            Transaction sendTransaction = Transaction.createTransferSend(
+                    fromAccount.getId(),
+                    toAccounts[i].getId(),
+                    leg.getAmount(),
+                    fees[i],
+                    leg.getDescription()
+            );
+            sendTransaction.setBalanceAfter(fromRunningBalance);
+            transactions.add(sendTransaction);
+
+            Transaction receiveTransaction = Transaction.createTransferReceive(
+                    toAccounts[i].getId(),
+                    fromAccount.getId(),
+                    leg.getAmount(),
+                    leg.getDescription()
+            );
+            receiveTransaction.setBalanceAfter(toBalancesAfter[i]);
+            transactions.add(receiveTransaction);
+            creditedLegs.add(i);
+        }
+        List<Transaction> savedTransactions = transactionPort.saveAll(transactions);
+
+        TransactionResponse.AccountInfo fromAccountInfo = new TransactionResponse.AccountInfo(
+                fromAccount.getBankCode(),
+                fromAccount.getAccountNo()
+        );
+        for (int n = 0; n < creditedLegs.size(); n++) {
+            int i = creditedLegs.get(n);
+            Transaction savedSendTransaction = savedTransactions.get(n * 2);
+            results[i] = BatchTransferResponse.Item.success(i, new TransactionResponse(
+                    savedSendTransaction.getId(),
+                    fromAccountInfo,
+                    new TransactionResponse.AccountInfo(toAccounts[i].getBankCode(), toAccounts[i].getAccountNo()),
+                    savedSendTransaction.getTransactionType(),
+                    savedSendTransaction.getAmount(),
+                    savedSendTransaction.getBalanceAfter(),
+                    savedSendTransaction.getDescription(),
+                    savedSendTransaction.getCreatedAt(),
+                    savedSendTransaction.getFee()
+            ));
+        }
+        return new BatchTransferResponse(Arrays.asList(results));
+    }
+}
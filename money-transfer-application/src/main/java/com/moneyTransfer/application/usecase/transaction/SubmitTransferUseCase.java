@@ -0,0 +1,66 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.dto.transaction.PendingTransferResponse;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.transaction.PendingTransfer;
+import com.moneyTransfer.domain.transaction.PendingTransferPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이체 요청을 대기열에 넣고 바로 반환한다. 실제 이체는 AsyncTransferWorker가 처리한다.
+ * 계좌 행 락을 기다리지 않으므로 요청 스레드를 오래 붙잡지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SubmitTransferUseCase {
+
+    private final PendingTransferPort pendingTransferPort;
+
+    // 대기 요청이 이 수 이상이면 접수하지 않음 (여러 요청/인스턴스가 동시에 확인하므로 약간 넘을 수 있음)
+    @Value("${money-transfer.async-transfer.queue-capacity:10000}")
+    private long queueCapacity = 10000;
+
+    // 대기 요청 수를 다시 세는 주기 - 그 사이에는 마지막으로 센 값에 이 인스턴스가 접수한 건수를 더해 판단
+    @Value("${money-transfer.async-transfer.capacity-check-interval-millis:100}")
+    private long capacityCheckIntervalMillis = 100;
+
+    private final AtomicLong pendingEstimate = new AtomicLong();
+    private volatile long nextCheckNanos = System.nanoTime();
+
+    public PendingTransferResponse execute(TransferRequest request) {
+        PendingTransfer pendingTransfer = PendingTransfer.create(
+                request.getFromBankCode(),
+                request.getFromAccountNo(),
+                request.getToBankCode(),
+                request.getToAccountNo(),
+                request.getAmount(),
+                request.getDescription()
+        );
+
+        if (isQueueFull()) {
+            throw new IllegalStateException(ErrorMessages.TRANSFER_QUEUE_FULL);
+        }
+
+        PendingTransferResponse response = new PendingTransferResponse(pendingTransferPort.save(pendingTransfer));
+        pendingEstimate.incrementAndGet();
+        return response;
+    }
+
+    // 요청마다 대기열 전체를 세지 않고, 주기마다 queueCapacity까지만 셈
+    private boolean isQueueFull() {
+        long now = System.nanoTime();
+        if (now - nextCheckNanos >= 0) {
+            nextCheckNanos = now + TimeUnit.MILLISECONDS.toNanos(capacityCheckIntervalMillis);
+            pendingEstimate.set(pendingTransferPort.countPendingUpTo(queueCapacity));
+        }
+        return pendingEstimate.get() >= queueCapacity;
+    }
+}
@@ -1,13 +1,17 @@
 package com.moneyTransfer.application.usecase.transaction;
 
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.transaction.TransactionResponse;
 import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.application.lock.AccountLockManager;
 import com.moneyTransfer.common.constant.BusinessConstants;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.common.util.StringNormalizer;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
-import com.moneyTransfer.domain.dailylimit.DailyLimit;
+import com.moneyTransfer.domain.account.AccountRef;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
+import com.moneyTransfer.domain.common.Money;
 import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
 import com.moneyTransfer.domain.transaction.Transaction;
 import com.moneyTransfer.domain.transaction.TransactionPort;
@@ -27,19 +31,32 @@ public class TransferUseCase {
     private final AccountPort accountPort;
     private final TransactionPort transactionPort;
     private final DailyLimitPort dailyLimitPort;
+    private final BalanceBucketPort balanceBucketPort;
+    private final AccountLockManager accountLockManager;
+    private final AccountKeyResolver accountKeyResolver;
 
     public TransactionResponse execute(TransferRequest request) {
-        // 1. bankCode + accountNo → Account 조회
+        // 1. bankCode + accountNo → 계좌 ID (캐시에 있으면 조회 생략)
         String fromAccountNoNorm = StringNormalizer.normalizeAccountNo(request.getFromAccountNo());
         String toAccountNoNorm = StringNormalizer.normalizeAccountNo(request.getToAccountNo());
+        // 같은 계좌 요청은 커넥션을 빌리기 전에 프로세스 안에서 줄 세움 (두 계좌를 정해진 순서로 잠금)
+        String fromLockKey = AccountLockManager.key(request.getFromBankCode(), fromAccountNoNorm);
+        String toLockKey = AccountLockManager.key(request.getToBankCode(), toAccountNoNorm);
+        accountLockManager.lock(fromLockKey, toLockKey);
 
-        Account fromAccount = accountPort.findByBankCodeAndAccountNoNorm(request.getFromBankCode(), fromAccountNoNorm)
+        AccountRef fromRef = accountKeyResolver.resolve(request.getFromBankCode(), fromAccountNoNorm)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
-        Account toAccount = accountPort.findByBankCodeAndAccountNoNorm(request.getToBankCode(), toAccountNoNorm)
+        AccountRef toRef = accountKeyResolver.resolve(request.getToBankCode(), toAccountNoNorm)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.TARGET_ACCOUNT_NOT_FOUND));
+        if (fromRef.isBalanceSharded()) {
+            accountLockManager.skipLocking(fromLockKey);
+        }
+        if (toRef.isBalanceSharded()) {
+            accountLockManager.skipLocking(toLockKey);
+        }
 
         // 2. 동일 계좌 체크
-        if (fromAccount.getId().equals(toAccount.getId())) {
+        if (fromRef.getId().equals(toRef.getId())) {
             throw new IllegalArgumentException(ErrorMessages.CANNOT_TRANSFER_TO_SAME_ACCOUNT);
         }
 
@@ -47,35 +64,36 @@ public class TransferUseCase {
         BigDecimal totalDeduction = request.getAmount().add(fee);
 
         // 3. 일일 한도 미리 확인 및 Lock (데드락 방지)
-        validateAndLockDailyLimit(fromAccount.getId(), request.getAmount());
-
-        // 4. 계좌 Lock - ID 순서대로 Lock하여 데드락 방지
-        if (fromAccount.getId() < toAccount.getId()) {
-            fromAccount = accountPort.findByIdWithLock(fromAccount.getId())
-                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
-            toAccount = accountPort.findByIdWithLock(toAccount.getId())
-                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.TARGET_ACCOUNT_NOT_FOUND));
+        validateAndLockDailyLimit(fromRef.getId(), request.getAmount());
+
+        // 4. 계좌 Lock - ID 순서대로 Lock하여 데드락 방지 (분할 계좌는 계좌 행 대신 bucket 행을 갱신하므로 잠그지 않음)
+        Account fromAccount;
+        Account toAccount;
+        if (fromRef.getId() < toRef.getId()) {
+            fromAccount = lockUnlessSharded(fromRef, ErrorMessages.ACCOUNT_NOT_FOUND);
+            toAccount = lockUnlessSharded(toRef, ErrorMessages.TARGET_ACCOUNT_NOT_FOUND);
         } else {
-            toAccount = accountPort.findByIdWithLock(toAccount.getId())
-                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.TARGET_ACCOUNT_NOT_FOUND));
-            fromAccount = accountPort.findByIdWithLock(fromAccount.getId())
-                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+            toAccount = lockUnlessSharded(toRef, ErrorMessages.TARGET_ACCOUNT_NOT_FOUND);
+            fromAccount = lockUnlessSharded(fromRef, ErrorMessages.ACCOUNT_NOT_FOUND);
         }
 
-        // 5. 잔액 검증
-        if (!fromAccount.canWithdraw(totalDeduction)) {
+        // 5. 잔액 검증 (분할 계좌는 bucket 차감 시 검증)
+        if (!fromAccount.isBalanceSharded() && !fromAccount.canWithdraw(totalDeduction)) {
             throw new IllegalArgumentException(ErrorMessages.INSUFFICIENT_BALANCE);
         }
 
-        // 6. 계좌 잔액 변경 (원자적 실행)
-        fromAccount.withdraw(totalDeduction);
-        toAccount.deposit(request.getAmount());
-
-        // 7. 계좌 업데이트
-        accountPort.save(fromAccount);
-        accountPort.save(toAccount);
+        // 6~7. 계좌 잔액 변경 및 업데이트 - bucket 행 락도 계좌 ID 순서로 획득
+        BigDecimal fromBalanceAfter;
+        BigDecimal toBalanceAfter;
+        if (fromAccount.getId() < toAccount.getId()) {
+            fromBalanceAfter = debit(fromAccount, totalDeduction);
+            toBalanceAfter = credit(toAccount, request.getAmount());
+        } else {
+            toBalanceAfter = credit(toAccount, request.getAmount());
+            fromBalanceAfter = debit(fromAccount, totalDeduction);
+        }
 
-        // 8. 거래 기록 생성 (원자적 실행)
+        // 8. 거래 기록 생성 (원자적 실행) - 계좌별 거래 건수 카운터 행도 계좌 ID 순서로 갱신되도록 저장 순서를 맞춤
         Transaction transferSendTransaction = Transaction.createTransferSend(
                 fromAccount.getId(),
                 toAccount.getId(),
@@ -83,8 +101,7 @@ public class TransferUseCase {
                 fee,
                 request.getDescription()
         );
-        transferSendTransaction.setBalanceAfter(fromAccount.getBalance());
-        Transaction savedSendTransaction = transactionPort.save(transferSendTransaction);
+        transferSendTransaction.setBalanceAfter(fromBalanceAfter);
 
         Transaction transferReceiveTransaction = Transaction.createTransferReceive(
                 toAccount.getId(),
@@ -92,8 +109,16 @@ public class TransferUseCase {
                 request.getAmount(),
                 request.getDescription()
         );
-        transferReceiveTransaction.setBalanceAfter(toAccount.getBalance());
-        transactionPort.save(transferReceiveTransaction);
+        transferReceiveTransaction.setBalanceAfter(toBalanceAfter);
+
+        Transaction savedSendTransaction;
+        if (fromAccount.getId() < toAccount.getId()) {
+            savedSendTransaction = transactionPort.save(transferSendTransaction);
+            transactionPort.save(transferReceiveTransaction);
+        } else {
+            transactionPort.save(transferReceiveTransaction);
+            savedSendTransaction = transactionPort.save(transferSendTransaction);
+        }
 
         TransactionResponse.AccountInfo fromAccountInfo = new TransactionResponse.AccountInfo(
                 fromAccount.getBankCode(),
@@ -118,26 +143,62 @@ public class TransferUseCase {
         );
     }
 
-    private BigDecimal calculateFee(BigDecimal amount) {
-        return amount.multiply(BusinessConstants.TRANSFER_FEE_RATE)
-                .setScale(0, RoundingMode.HALF_UP);
+    private Account lockUnlessSharded(AccountRef ref, String notFoundMessage) {
+        if (ref.isBalanceSharded()) {
+            return accountPort.findById(ref.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(notFoundMessage));
+        }
+        Account account = accountPort.findByIdWithLock(ref.getId())
+                .orElseThrow(() -> new IllegalArgumentException(notFoundMessage));
+        // 캐시된 이후 잔액이 분할된 경우 - 이번 요청은 debit/credit이 bucket으로 처리
+        if (account.isBalanceSharded()) {
+            accountKeyResolver.evict(ref.getBankCode(), ref.getAccountNoNorm());
+        }
+        return account;
+    }
+
+    // 분할 계좌는 다른 bucket이 동시에 바뀌므로 거래 후 잔액을 확정할 수 없어 null
+    private BigDecimal debit(Account account, BigDecimal amount) {
+        if (account.isBalanceSharded()) {
+            account.validateWithdraw(amount);
+            if (!balanceBucketPort.debit(account.getId(), account.getBalanceBucketCount(), amount)) {
+                throw new IllegalArgumentException(ErrorMessages.INSUFFICIENT_BALANCE);
+            }
+            return null;
+        }
+        account.withdraw(amount);
+        accountPort.save(account);
+        return account.getBalance();
+    }
+
+    private BigDecimal credit(Account account, BigDecimal amount) {
+        if (account.isBalanceSharded()) {
+            account.validateDeposit(amount);
+            balanceBucketPort.credit(account.getId(), account.getBalanceBucketCount(), amount);
+            return null;
+        }
+        account.deposit(amount);
+        accountPort.save(account);
+        return account.getBalance();
+    }
+
+    // 원 단위 HALF_UP (scale 0) - 소수 둘째 자리까지의 금액은 long 연산, 그보다 정밀한 금액은 기존 BigDecimal 연산
+    public static BigDecimal calculateFee(BigDecimal amount) {
+        if (!Money.isRepresentable(amount)) {
+            return amount.multiply(BusinessConstants.TRANSFER_FEE_RATE)
+                    .setScale(0, RoundingMode.HALF_UP);
+        }
+        return Money.of(amount)
+                .percentageInUnitsHalfUp(BusinessConstants.TRANSFER_FEE_RATE_BASIS_POINTS)
+                .toBigDecimal()
+                .setScale(0);
     }
 
 
     private void validateAndLockDailyLimit(Long accountId, BigDecimal amount) {
-        LocalDate today = LocalDate.now();
-        // 미리 Lock을 걸어서 동시성 문제 방지
-        DailyLimit dailyLimit = dailyLimitPort.findByAccountIdAndLimitDateWithLock(accountId, today)
-                .orElse(DailyLimit.createNew(accountId, today));
-
-        // 한도 검증
-        BigDecimal newTotalAmount = dailyLimit.getTransferUsed().add(amount);
-        if (newTotalAmount.compareTo(BusinessConstants.DAILY_TRANSFER_LIMIT) > 0) {
+        // 한도 검증과 사용량 반영을 한 문장으로 처리 (당일 첫 요청이면 행 생성) - 반영된 행은 커밋까지 잠김
+        if (!dailyLimitPort.tryConsumeTransfer(accountId, LocalDate.now(), amount, BusinessConstants.DAILY_TRANSFER_LIMIT)) {
             throw new IllegalArgumentException(ErrorMessages.DAILY_TRANSFER_LIMIT_EXCEEDED);
         }
-
-        // 사용량 업데이트 및 저장
-        DailyLimit updatedLimit = dailyLimit.addTransferUsed(amount);
-        dailyLimitPort.save(updatedLimit);
     }
 }
\ No newline at end of file
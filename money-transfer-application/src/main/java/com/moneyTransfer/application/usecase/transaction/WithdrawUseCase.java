@@ -1,22 +1,27 @@
 package com.moneyTransfer.application.usecase.transaction;
 
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.transaction.TransactionResponse;
 import com.moneyTransfer.application.dto.transaction.WithdrawRequest;
+import com.moneyTransfer.application.lock.AccountLockManager;
 import com.moneyTransfer.common.constant.BusinessConstants;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.common.util.StringNormalizer;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
-import com.moneyTransfer.domain.dailylimit.DailyLimit;
+import com.moneyTransfer.domain.account.AccountRef;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
 import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
 import com.moneyTransfer.domain.transaction.Transaction;
 import com.moneyTransfer.domain.transaction.TransactionPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,20 +31,48 @@ public class WithdrawUseCase {
     private final AccountPort accountPort;
     private final TransactionPort transactionPort;
     private final DailyLimitPort dailyLimitPort;
+    private final BalanceBucketPort balanceBucketPort;
+    private final AccountLockManager accountLockManager;
+    private final AccountKeyResolver accountKeyResolver;
+
+    @Value("${money-transfer.transaction.balance-update-mode:PESSIMISTIC_LOCK}")
+    private BalanceUpdateMode balanceUpdateMode = BalanceUpdateMode.PESSIMISTIC_LOCK;
 
     public TransactionResponse execute(WithdrawRequest request) {
-        // 1. bankCode + accountNo → Account 조회
+        // 1. bankCode + accountNo → 계좌 ID (캐시에 있으면 조회 생략)
         String accountNoNorm = StringNormalizer.normalizeAccountNo(request.getAccountNo());
-        Account account = accountPort.findByBankCodeAndAccountNoNorm(request.getBankCode(), accountNoNorm)
+        String lockKey = AccountLockManager.key(request.getBankCode(), accountNoNorm);
+        // 같은 계좌 요청은 커넥션을 빌리기 전에 프로세스 안에서 줄 세움
+        accountLockManager.lock(lockKey);
+
+        AccountRef ref = accountKeyResolver.resolve(request.getBankCode(), accountNoNorm)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
 
+        if (ref.isBalanceSharded()) {
+            accountLockManager.skipLocking(lockKey);
+            Account account = accountPort.findById(ref.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+            return withdrawFromBuckets(account, request);
+        }
+
+        if (balanceUpdateMode == BalanceUpdateMode.CONDITIONAL_UPDATE) {
+            return withdrawWithConditionalUpdate(ref, request);
+        }
+
         // 2. 일일 한도 미리 확인 및 Lock (데드락 방지)
-        validateAndLockDailyLimit(account.getId(), request.getAmount());
+        validateAndLockDailyLimit(ref.getId(), request.getAmount());
 
-        // 3. 비관적 락으로 계좌 다시 조회
-        account = accountPort.findByIdWithLock(account.getId())
+        // 3. 비관적 락으로 계좌 조회
+        Account account = accountPort.findByIdWithLock(ref.getId())
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
 
+        // 캐시된 이후 잔액이 분할된 경우 (일일 한도는 이미 반영됨)
+        if (account.isBalanceSharded()) {
+            accountKeyResolver.evict(request.getBankCode(), accountNoNorm);
+            account.validateWithdraw(request.getAmount());
+            return recordWithdraw(account, request, debitBuckets(account, request.getAmount()));
+        }
+
         // 3. 출금 실행
         account.withdraw(request.getAmount());
         accountPort.save(account);
@@ -53,9 +86,77 @@ public class WithdrawUseCase {
         transaction.setBalanceAfter(account.getBalance());
         Transaction savedTransaction = transactionPort.save(transaction);
 
+        return toResponse(account, savedTransaction);
+    }
+
+    private TransactionResponse withdrawWithConditionalUpdate(AccountRef ref, WithdrawRequest request) {
+        // 2. 금액만 사전 검증 (계좌 상태와 잔액은 UPDATE 조건으로 검증)
+        Account.validateWithdrawAmount(request.getAmount());
+
+        // 3. 일일 한도 확인 및 Lock
+        validateAndLockDailyLimit(ref.getId(), request.getAmount());
+
+        // 4. 조건부 UPDATE로 잔액 차감 - 조건 불충족 시 일일 한도 사용량도 함께 롤백됨
+        Optional<Account> updated = accountPort.decreaseBalance(ref.getId(), request.getAmount());
+        if (updated.isEmpty()) {
+            // 캐시된 이후 잔액이 분할되었으면 bucket에서, 비활성 계좌가 아니면 잔액 부족
+            Optional<Account> current = accountPort.findById(ref.getId());
+            if (current.isPresent() && current.get().isBalanceSharded()) {
+                accountKeyResolver.evict(ref.getBankCode(), ref.getAccountNoNorm());
+                current.get().validateWithdraw(request.getAmount());
+                return recordWithdraw(current.get(), request, debitBuckets(current.get(), request.getAmount()));
+            }
+            if (current.isPresent() && !current.get().isActive()) {
+                throw new IllegalStateException(ErrorMessages.INACTIVE_ACCOUNT_WITHDRAW);
+            }
+            throw new IllegalArgumentException(ErrorMessages.INSUFFICIENT_BALANCE);
+        }
+
+        // 5. 거래 기록 생성
+        return recordWithdraw(updated.get(), request, updated.get().getBalance());
+    }
+
+    private TransactionResponse withdrawFromBuckets(Account account, WithdrawRequest request) {
+        // 분할 계좌: 계좌 행 락 없이 bucket에서 차감 (부족하면 bucket 전체를 순서대로 잠그고 모음)
+        account.validateWithdraw(request.getAmount());
+        validateAndLockDailyLimit(account.getId(), request.getAmount());
+
+        return recordWithdraw(account, request, debitBuckets(account, request.getAmount()));
+    }
+
+    private BigDecimal debitBuckets(Account account, BigDecimal amount) {
+        if (!balanceBucketPort.debit(account.getId(), account.getBalanceBucketCount(), amount)) {
+            throw new IllegalArgumentException(ErrorMessages.INSUFFICIENT_BALANCE);
+        }
+        // 다른 bucket이 동시에 바뀌므로 분할 계좌의 거래 후 잔액은 기록하지 않음
+        return null;
+    }
+
+    private TransactionResponse recordWithdraw(Account account, WithdrawRequest request, BigDecimal balanceAfter) {
+        return recordWithdraw(account.getId(), account.getBankCode(), account.getAccountNo(), request, balanceAfter);
+    }
+
+    private TransactionResponse recordWithdraw(Long accountId, String bankCode, String accountNo,
+                                               WithdrawRequest request, BigDecimal balanceAfter) {
+        Transaction transaction = Transaction.createWithdraw(
+                accountId,
+                request.getAmount(),
+                request.getDescription()
+        );
+        transaction.setBalanceAfter(balanceAfter);
+        Transaction savedTransaction = transactionPort.save(transaction);
+
+        return toResponse(bankCode, accountNo, savedTransaction);
+    }
+
+    private TransactionResponse toResponse(Account account, Transaction savedTransaction) {
+        return toResponse(account.getBankCode(), account.getAccountNo(), savedTransaction);
+    }
+
+    private TransactionResponse toResponse(String bankCode, String accountNo, Transaction savedTransaction) {
         TransactionResponse.AccountInfo accountInfo = new TransactionResponse.AccountInfo(
-                account.getBankCode(),
-                account.getAccountNo()
+                bankCode,
+                accountNo
         );
 
         return new TransactionResponse(
@@ -73,19 +174,9 @@ public class WithdrawUseCase {
 
 
     private void validateAndLockDailyLimit(Long accountId, BigDecimal amount) {
-        LocalDate today = LocalDate.now();
-        // 미리 Lock을 걸어서 동시성 문제 방지
-        DailyLimit dailyLimit = dailyLimitPort.findByAccountIdAndLimitDateWithLock(accountId, today)
-                .orElse(DailyLimit.createNew(accountId, today));
-
-        // 한도 검증
-        BigDecimal newTotalAmount = dailyLimit.getWithdrawUsed().add(amount);
-        if (newTotalAmount.compareTo(BusinessConstants.DAILY_WITHDRAW_LIMIT) > 0) {
+        // 한도 검증과 사용량 반영을 한 문장으로 처리 (당일 첫 요청이면 행 생성) - 반영된 행은 커밋까지 잠김
+        if (!dailyLimitPort.tryConsumeWithdraw(accountId, LocalDate.now(), amount, BusinessConstants.DAILY_WITHDRAW_LIMIT)) {
             throw new IllegalArgumentException(ErrorMessages.DAILY_WITHDRAW_LIMIT_EXCEEDED);
         }
-
-        // 사용량 업데이트 및 저장
-        DailyLimit updatedLimit = dailyLimit.addWithdrawUsed(amount);
-        dailyLimitPort.save(updatedLimit);
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.moneyTransfer.application.account;
+
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("계좌 디렉터리 테스트")
+class AccountDirectoryTest {
+
+    @Mock
+    private AccountPort accountPort;
+
+    private AccountDirectory directory;
+    private AccountKeyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        directory = new AccountDirectory(accountPort);
+        ReflectionTestUtils.setField(directory, "loadBatchSize", 2);
+        directory.createTable();
+        resolver = new AccountKeyResolver(accountPort, directory, new AccountLockManager());
+    }
+
+    @Test
+    @DisplayName("활성 계좌를 ID 순으로 나눠 적재하고 DB 조회 없이 ID와 분할 여부를 찾는다")
+    void loadsAndResolvesWithoutQuery() {
+        // given
+        given(accountPort.findActiveRefsAfterId(0L, 2)).willReturn(List.of(
+                new AccountRef(1L, "001", "1111111111", false),
+                new AccountRef(2L, "001", "2222222222", true)));
+        given(accountPort.findActiveRefsAfterId(2L, 2)).willReturn(List.of(
+                new AccountRef(3L, "002", "1111111111", false)));
+
+        // when
+        directory.load();
+
+        // then
+        assertThat(directory.isReady()).isTrue();
+        assertThat(directory.size()).isEqualTo(3);
+
+        AccountRef sharded = resolver.resolve("001", "2222222222").orElseThrow();
+        assertThat(sharded.getId()).isEqualTo(2L);
+        assertThat(sharded.isBalanceSharded()).isTrue();
+        assertThat(resolver.resolve("002", "1111111111").orElseThrow().getId()).isEqualTo(3L);
+        then(accountPort).should(never()).findByBankCodeAndAccountNoNorm(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("디렉터리에 없는 활성 계좌는 DB에서 읽어 넣고, evict하면 다시 읽는다")
+    void fillsMissingAccountAndEvicts() {
+        // given
+        given(accountPort.findActiveRefsAfterId(0L, 2)).willReturn(List.of());
+        given(accountPort.findByBankCodeAndAccountNoNorm("001", "1111111111"))
+                .willReturn(Optional.of(account(1L, "001", "1111111111")));
+        directory.load();
+
+        // when
+        resolver.resolve("001", "1111111111");
+        resolver.resolve("001", "1111111111");
+        resolver.evict("001", "1111111111");
+        resolver.resolve("001", "1111111111");
+
+        // then
+        then(accountPort).should(times(2)).findByBankCodeAndAccountNoNorm("001", "1111111111");
+    }
+
+    @Test
+    @DisplayName("비활성 계좌는 디렉터리에 넣지 않는다")
+    void doesNotStoreInactiveAccount() {
+        // given
+        Account inactive = account(1L, "001", "1111111111");
+        inactive.deactivate();
+        given(accountPort.findActiveRefsAfterId(0L, 2)).willReturn(List.of());
+        given(accountPort.findByBankCodeAndAccountNoNorm("001", "1111111111")).willReturn(Optional.of(inactive));
+        directory.load();
+
+        // when
+        Optional<AccountRef> resolved = resolver.resolve("001", "1111111111");
+
+        // then - 호출자가 ID로 읽은 계좌 상태로 거절하도록 ID는 그대로 돌려줌
+        assertThat(resolved).isPresent();
+        assertThat(directory.size()).isZero();
+    }
+
+    private Account account(Long id, String bankCode, String accountNoNorm) {
+        Account account = Account.create(10L, bankCode, accountNoNorm);
+        account.setId(id);
+        return account;
+    }
+}
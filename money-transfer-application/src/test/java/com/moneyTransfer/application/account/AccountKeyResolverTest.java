@@ -0,0 +1,153 @@
+package com.moneyTransfer.application.account;
+
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("계좌 키 resolver 테스트")
+class AccountKeyResolverTest {
+
+    @Mock
+    private AccountPort accountPort;
+
+    private AccountLockManager lockManager;
+
+    private AccountKeyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        lockManager = new AccountLockManager();
+        resolver = new AccountKeyResolver(accountPort, new AccountDirectory(accountPort), lockManager);
+        ReflectionTestUtils.setField(resolver, "cacheSize", 2);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 계좌는 다시 조회하지 않는다")
+    void cachesResolvedAccount() {
+        // given
+        given(accountPort.findByBankCodeAndAccountNoNorm("001", "1111111111"))
+                .willReturn(Optional.of(account(1L, "001", "1111111111")));
+
+        // when
+        Optional<AccountRef> first = resolver.resolve("001", "1111111111");
+        Optional<AccountRef> second = resolver.resolve("001", "1111111111");
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second.get().getId()).isEqualTo(1L);
+        assertThat(second.get().getBankCode()).isEqualTo("001");
+        assertThat(second.get().getAccountNoNorm()).isEqualTo("1111111111");
+        then(accountPort).should(times(1)).findByBankCodeAndAccountNoNorm("001", "1111111111");
+    }
+
+    @Test
+    @DisplayName("없는 계좌는 캐시하지 않아 생성 직후 바로 조회된다")
+    void doesNotCacheMissingAccount() {
+        // given
+        given(accountPort.findByBankCodeAndAccountNoNorm("001", "1111111111"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(account(1L, "001", "1111111111")));
+
+        // when & then
+        assertThat(resolver.resolve("001", "1111111111")).isEmpty();
+        assertThat(resolver.resolve("001", "1111111111")).isPresent();
+    }
+
+    @Test
+    @DisplayName("evict한 키와 가장 오래 쓰이지 않은 키는 다시 조회한다")
+    void evictsKeys() {
+        // given
+        given(accountPort.findByBankCodeAndAccountNoNorm("001", "1111111111"))
+                .willReturn(Optional.of(account(1L, "001", "1111111111")));
+        given(accountPort.findByBankCodeAndAccountNoNorm("001", "2222222222"))
+                .willReturn(Optional.of(account(2L, "001", "2222222222")));
+        given(accountPort.findByBankCodeAndAccountNoNorm("001", "3333333333"))
+                .willReturn(Optional.of(account(3L, "001", "3333333333")));
+
+        // when - 크기 2: 첫 번째, 두 번째 적재 후 첫 번째 사용, 세 번째 적재 시 두 번째 제거
+        resolver.resolve("001", "1111111111");
+        resolver.resolve("001", "2222222222");
+        resolver.resolve("001", "1111111111");
+        resolver.resolve("001", "3333333333");
+        resolver.resolve("001", "2222222222");
+        resolver.evict("001", "1111111111");
+        resolver.resolve("001", "1111111111");
+
+        // then
+        then(accountPort).should(times(2)).findByBankCodeAndAccountNoNorm("001", "1111111111");
+        then(accountPort).should(times(2)).findByBankCodeAndAccountNoNorm("001", "2222222222");
+        then(accountPort).should(times(1)).findByBankCodeAndAccountNoNorm("001", "3333333333");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 evict하면 커밋 전에 다시 적재된 항목도 커밋 후 비운다")
+    void evictsAgainAfterCommit() {
+        // given
+        given(accountPort.findByBankCodeAndAccountNoNorm("001", "1111111111"))
+                .willReturn(Optional.of(account(1L, "001", "1111111111")));
+        resolver.resolve("001", "1111111111");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when - evict 후 커밋 전에 다른 요청이 이전 상태를 다시 적재
+            resolver.evict("001", "1111111111");
+            resolver.resolve("001", "1111111111");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        resolver.resolve("001", "1111111111");
+
+        // then - 처음, 커밋 전 재적재, 커밋 후 조회
+        then(accountPort).should(times(3)).findByBankCodeAndAccountNoNorm("001", "1111111111");
+    }
+
+    @Test
+    @DisplayName("evict하거나 LRU에서 밀려난 계좌는 계좌 락 제외 표시도 지운다")
+    void clearsLockSkipOnEviction() {
+        // given - 두 계좌 모두 분할 계좌로 표시된 상태
+        given(accountPort.findByBankCodeAndAccountNoNorm(anyString(), anyString()))
+                .willAnswer(invocation -> Optional.of(account(
+                        Long.valueOf(invocation.<String>getArgument(1).substring(0, 1)), "001", invocation.getArgument(1))));
+        resolver.resolve("001", "1111111111");
+        resolver.resolve("001", "2222222222");
+        lockManager.skipLocking(AccountLockManager.key("001", "1111111111"));
+        lockManager.skipLocking(AccountLockManager.key("001", "2222222222"));
+
+        // when - 1번은 evict, 2번은 크기 2를 넘겨 LRU에서 제거
+        resolver.evict("001", "1111111111");
+        resolver.resolve("001", "3333333333");
+        resolver.resolve("001", "4444444444");
+
+        // then
+        @SuppressWarnings("unchecked")
+        Set<String> unlockedKeys = (Set<String>) ReflectionTestUtils.getField(lockManager, "unlockedKeys");
+        assertThat(unlockedKeys).isEmpty();
+    }
+
+    private Account account(Long id, String bankCode, String accountNoNorm) {
+        Account account = Account.create(10L, bankCode, accountNoNorm);
+        account.setId(id);
+        return account;
+    }
+}
@@ -0,0 +1,65 @@
+package com.moneyTransfer.application.account;
+
+import com.moneyTransfer.common.util.AccountKeyPacker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("long → long 개방 주소법 테이블 테스트")
+class LongLongOpenHashMapTest {
+
+    @Test
+    @DisplayName("힙 테이블: 넣고 덮어쓰고 지운 결과가 HashMap과 같다")
+    void heapTableBehavesLikeHashMap() {
+        assertBehavesLikeHashMap(false);
+    }
+
+    @Test
+    @DisplayName("off-heap 테이블: 넣고 덮어쓰고 지운 결과가 HashMap과 같다")
+    void offHeapTableBehavesLikeHashMap() {
+        assertBehavesLikeHashMap(true);
+    }
+
+    @Test
+    @DisplayName("없는 키는 EMPTY를 반환한다")
+    void returnsEmptyForMissingKey() {
+        // given
+        LongLongOpenHashMap table = new LongLongOpenHashMap(16, true);
+        table.put(AccountKeyPacker.pack("001", "1111111111"), 1L);
+
+        // when & then
+        assertThat(table.get(AccountKeyPacker.pack("001", "1111111111"))).isEqualTo(1L);
+        assertThat(table.get(AccountKeyPacker.pack("002", "1111111111"))).isEqualTo(LongLongOpenHashMap.EMPTY);
+    }
+
+    private void assertBehavesLikeHashMap(boolean offHeap) {
+        // given - 작은 초기 용량으로 시작해 여러 번 늘어나고, 삭제 시 뒤 슬롯 당기기가 일어나도록 함
+        LongLongOpenHashMap table = new LongLongOpenHashMap(1, offHeap);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 20000; i++) {
+            long key = 1 + random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                table.remove(key);
+                expected.remove(key);
+            } else {
+                long value = random.nextBoolean() ? i + 1 : -(i + 1);
+                assertThat(table.put(key, value)).isTrue();
+                expected.put(key, value);
+            }
+        }
+
+        // then
+        assertThat(table.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 5000; key++) {
+            assertThat(table.get(key)).isEqualTo(expected.getOrDefault(key, LongLongOpenHashMap.EMPTY));
+        }
+    }
+}
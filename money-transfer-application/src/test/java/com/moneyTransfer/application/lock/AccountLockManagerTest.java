@@ -0,0 +1,179 @@
+package com.moneyTransfer.application.lock;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("계좌 락 관리자 테스트")
+class AccountLockManagerTest {
+
+    private static final String ACCOUNT_A = AccountLockManager.key("001", "111");
+    private static final String ACCOUNT_B = AccountLockManager.key("002", "222");
+
+    private AccountLockManager lockManager;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        lockManager = new AccountLockManager();
+        ReflectionTestUtils.setField(lockManager, "enabled", true);
+        ReflectionTestUtils.setField(lockManager, "timeoutMillis", 200L);
+        lockManager.init();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 계좌 작업은 트랜잭션이 끝날 때까지 한 번에 하나만 진행된다")
+    void sameAccountIsSerialized() {
+        // given
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        // when - 4개 스레드가 각자 트랜잭션 안에서 같은 계좌를 10회씩 잠금
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[4];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 10; j++) {
+                    inTransaction(() -> {
+                        lockManager.lock(ACCOUNT_A);
+                        maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                        inside.decrementAndGet();
+                    });
+                }
+            }, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+
+        // then
+        assertThat(maxInside.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 락을 얻지 못하면 예외가 발생하고 잡은 락은 남기지 않는다")
+    void lockTimeout() throws Exception {
+        // given - 다른 스레드가 B를 잡고 있음
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> inTransaction(() -> {
+            lockManager.lock(ACCOUNT_B);
+            held.countDown();
+            await(release);
+        }), executor);
+        held.await(1, TimeUnit.SECONDS);
+
+        // when & then - A, B를 함께 잠그려는 요청은 시간 초과
+        TransactionSynchronizationManager.initSynchronization();
+        assertThatThrownBy(() -> lockManager.lock(ACCOUNT_A, ACCOUNT_B))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.ACCOUNT_LOCK_TIMEOUT);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // A는 먼저 잡았더라도 풀려 있어야 함
+        assertThat(CompletableFuture.supplyAsync(() -> {
+            inTransaction(() -> lockManager.lock(ACCOUNT_A));
+            return true;
+        }, executor).get(1, TimeUnit.SECONDS)).isTrue();
+
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("잠금 제외로 표시된 계좌는 잠그지 않는다")
+    void skipLocking() throws Exception {
+        // given
+        lockManager.skipLocking(ACCOUNT_A);
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> inTransaction(() -> {
+            lockManager.lock(ACCOUNT_A);
+            held.countDown();
+            await(release);
+        }), executor);
+        held.await(1, TimeUnit.SECONDS);
+
+        // when & then - 첫 트랜잭션이 끝나지 않았어도 바로 진행
+        TransactionSynchronizationManager.initSynchronization();
+        lockManager.lock(ACCOUNT_A);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 두 번 잠그려 하면 예외가 발생한다")
+    void lockTwiceInTransaction() {
+        inTransaction(() -> {
+            lockManager.lock(ACCOUNT_A);
+
+            assertThatThrownBy(() -> lockManager.lock(ACCOUNT_B))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage(ErrorMessages.ACCOUNT_LOCK_ALREADY_HELD);
+        });
+
+        // 다음 트랜잭션에서는 다시 잠글 수 있음
+        inTransaction(() -> lockManager.lock(ACCOUNT_B));
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 잠그지 않는다")
+    void disabledByDefault() {
+        // given
+        AccountLockManager defaultManager = new AccountLockManager();
+        defaultManager.init();
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        defaultManager.lock(ACCOUNT_A);
+
+        // then
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private void inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+        } finally {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            for (TransactionSynchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
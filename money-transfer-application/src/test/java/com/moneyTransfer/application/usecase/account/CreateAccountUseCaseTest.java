@@ -1,5 +1,6 @@
 package com.moneyTransfer.application.usecase.account;
 
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.account.AccountResponse;
 import com.moneyTransfer.application.dto.account.CreateAccountRequest;
 import com.moneyTransfer.domain.account.Account;
@@ -35,6 +36,9 @@ class CreateAccountUseCaseTest {
     @Mock
     private UserPort userPort;
 
+    @Mock
+    private AccountKeyResolver accountKeyResolver;
+
     @InjectMocks
     private CreateAccountUseCase createAccountUseCase;
 
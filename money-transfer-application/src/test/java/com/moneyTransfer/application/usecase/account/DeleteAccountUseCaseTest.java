@@ -1,9 +1,12 @@
 package com.moneyTransfer.application.usecase.account;
 
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.lock.AccountLockManager;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
 import com.moneyTransfer.domain.account.AccountStatus;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,15 @@ class DeleteAccountUseCaseTest {
     @Mock
     private AccountPort accountPort;
 
+    @Mock
+    private BalanceBucketPort balanceBucketPort;
+
+    @Mock
+    private AccountLockManager accountLockManager;
+
+    @Mock
+    private AccountKeyResolver accountKeyResolver;
+
     @InjectMocks
     private DeleteAccountUseCase deleteAccountUseCase;
 
@@ -62,6 +74,32 @@ class DeleteAccountUseCaseTest {
         // then
         then(accountPort).should().findByBankCodeAndAccountNoNorm(TEST_BANK_CODE, TEST_ACCOUNT_NO_NORM);
         then(accountPort).should().save(any(Account.class));
+        then(accountKeyResolver).should().evict(TEST_BANK_CODE, TEST_ACCOUNT_NO_NORM);
+    }
+
+    @Test
+    @DisplayName("분할 계좌는 계좌 행을 잠근 뒤 잠금 읽기로 합산한 bucket 잔액으로 해지 여부를 판단한다")
+    void deleteShardedAccount_UsesLockedBucketSum() {
+        // given - 조회 시점에는 0원이었지만 잠근 뒤 합산하면 진행 중이던 입금이 반영되어 있음
+        mockAccount.setBalanceBucketCount(8);
+        Account lockedAccount = new Account();
+        lockedAccount.setId(1L);
+        lockedAccount.setBankCode(TEST_BANK_CODE);
+        lockedAccount.setAccountNoNorm(TEST_ACCOUNT_NO_NORM);
+        lockedAccount.setBalance(BigDecimal.ZERO);
+        lockedAccount.setBalanceBucketCount(8);
+        lockedAccount.setStatus(AccountStatus.ACTIVATE);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq(TEST_BANK_CODE), eq(TEST_ACCOUNT_NO_NORM)))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.findByIdWithLock(1L)).willReturn(Optional.of(lockedAccount));
+        given(balanceBucketPort.sumBalanceWithLock(1L)).willReturn(new BigDecimal("10000"));
+
+        // when & then
+        assertThatThrownBy(() -> deleteAccountUseCase.execute(TEST_BANK_CODE, TEST_ACCOUNT_NO))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.ACCOUNT_HAS_BALANCE);
+
+        then(accountPort).should(never()).save(any(Account.class));
     }
 
     @Test
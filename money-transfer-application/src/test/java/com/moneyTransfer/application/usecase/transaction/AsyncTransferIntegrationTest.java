@@ -0,0 +1,175 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.config.TestApplication;
+import com.moneyTransfer.application.dto.account.AccountResponse;
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.PendingTransferResponse;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.application.usecase.account.GetAccountByBankCodeAndAccountNoUseCase;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.transaction.PendingTransfer;
+import com.moneyTransfer.domain.transaction.PendingTransferPort;
+import com.moneyTransfer.domain.transaction.PendingTransferStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestApplication.class,
+        properties = {
+            "money-transfer.async-transfer.worker.enabled=true",
+            "money-transfer.async-transfer.worker.count=4",
+            "money-transfer.async-transfer.worker.poll-interval-millis=20"
+        })
+@ActiveProfiles("test")
+@DisplayName("비동기 이체 통합 테스트")
+class AsyncTransferIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncTransferIntegrationTest.class);
+
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private SubmitTransferUseCase submitTransferUseCase;
+
+    @Autowired
+    private GetPendingTransferUseCase getPendingTransferUseCase;
+
+    @Autowired
+    private PendingTransferPort pendingTransferPort;
+
+    @Autowired
+    private AsyncTransferWorker asyncTransferWorker;
+
+    @Autowired
+    private GetAccountByBankCodeAndAccountNoUseCase getAccountByBankCodeAndAccountNoUseCase;
+
+    private final String testBankCode = "010";
+    private String fromAccountNo;
+    private String toAccountNo;
+
+    @BeforeEach
+    void setUp() {
+        // 각 테스트마다 고유한 계좌번호 생성
+        long timestamp = System.currentTimeMillis();
+        this.fromAccountNo = "10" + (timestamp % 100000000L);
+        this.toAccountNo = "11" + (timestamp % 100000000L);
+
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "배치송금",
+            "async-from" + timestamp + "@example.com",
+            String.format("10101010101%02d", timestamp % 100),
+            testBankCode,
+            fromAccountNo
+        ));
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "배치수취",
+            "async-to" + timestamp + "@example.com",
+            String.format("11111111110%02d", timestamp % 100),
+            testBankCode,
+            toAccountNo
+        ));
+        depositUseCase.execute(new DepositRequest(testBankCode, fromAccountNo, new BigDecimal("1000000"), "초기 잔액"));
+    }
+
+    @Test
+    @DisplayName("접수된 이체를 여러 worker가 나눠 한 번씩만 처리한다")
+    void submittedTransfersAreProcessedExactlyOnce() throws InterruptedException {
+        // given
+        int transferCount = 20;
+        BigDecimal amount = new BigDecimal("10000");
+
+        // when
+        List<Long> transferIds = new ArrayList<>();
+        for (int i = 0; i < transferCount; i++) {
+            transferIds.add(submitTransferUseCase.execute(new TransferRequest(
+                testBankCode, fromAccountNo, testBankCode, toAccountNo, amount, "비동기 이체 " + i)).getTransferId());
+        }
+        List<PendingTransferResponse> results = awaitProcessed(transferIds);
+
+        // then - 수수료 1%
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.getStatus()).isEqualTo(PendingTransferStatus.COMPLETED);
+            assertThat(result.getTransactionId()).isNotNull();
+        });
+        assertThat(findAccount(fromAccountNo).getBalance()).isEqualByComparingTo("798000");
+        assertThat(findAccount(toAccountNo).getBalance()).isEqualByComparingTo("200000");
+    }
+
+    @Test
+    @DisplayName("잔액이 부족한 이체는 실패 사유와 함께 실패로 기록된다")
+    void insufficientBalanceIsMarkedFailed() throws InterruptedException {
+        // when
+        Long transferId = submitTransferUseCase.execute(new TransferRequest(
+            testBankCode, fromAccountNo, testBankCode, toAccountNo, new BigDecimal("2000000"), "잔액 초과")).getTransferId();
+        PendingTransferResponse result = awaitProcessed(List.of(transferId)).get(0);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(PendingTransferStatus.FAILED);
+        assertThat(result.getFailureReason()).isEqualTo(ErrorMessages.INSUFFICIENT_BALANCE);
+        assertThat(result.getTransactionId()).isNull();
+        assertThat(findAccount(fromAccountNo).getBalance()).isEqualByComparingTo("1000000");
+    }
+
+    @Test
+    @DisplayName("처리 중에 worker가 죽어 lease가 지난 요청은 다른 worker가 다시 가져가 한 번만 처리한다")
+    void expiredLeaseIsReclaimed() throws InterruptedException {
+        // given - 가져간 뒤 완료를 기록하지 못한 요청
+        PendingTransfer abandoned = PendingTransfer.create(
+            testBankCode, fromAccountNo, testBankCode, toAccountNo, new BigDecimal("10000"), "중단된 이체");
+        abandoned.setStatus(PendingTransferStatus.PROCESSING);
+        Long transferId = pendingTransferPort.save(abandoned).getId();
+
+        // when
+        ReflectionTestUtils.setField(asyncTransferWorker, "leaseMillis", 300L);
+        PendingTransferResponse result;
+        try {
+            result = awaitProcessed(List.of(transferId)).get(0);
+        } finally {
+            ReflectionTestUtils.setField(asyncTransferWorker, "leaseMillis", 60000L);
+        }
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(PendingTransferStatus.COMPLETED);
+        assertThat(findAccount(fromAccountNo).getBalance()).isEqualByComparingTo("989900");
+        assertThat(findAccount(toAccountNo).getBalance()).isEqualByComparingTo("10000");
+    }
+
+    private List<PendingTransferResponse> awaitProcessed(List<Long> transferIds) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            List<PendingTransferResponse> results = transferIds.stream()
+                .map(getPendingTransferUseCase::execute)
+                .toList();
+            boolean done = results.stream().noneMatch(result -> result.getStatus() == PendingTransferStatus.PENDING
+                || result.getStatus() == PendingTransferStatus.PROCESSING);
+            if (done || System.currentTimeMillis() > deadline) {
+                log.info("=== 비동기 이체 처리 결과 === {}", results.stream().map(PendingTransferResponse::getStatus).toList());
+                return results;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private AccountResponse findAccount(String accountNo) {
+        return getAccountByBankCodeAndAccountNoUseCase.execute(testBankCode, accountNo)
+            .orElseThrow(() -> new IllegalStateException("Test account not found"));
+    }
+}
@@ -0,0 +1,239 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.config.TestApplication;
+import com.moneyTransfer.application.dto.account.AccountResponse;
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.application.dto.transaction.WithdrawRequest;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.application.usecase.account.EnableBalanceShardingUseCase;
+import com.moneyTransfer.application.usecase.account.GetAccountByBankCodeAndAccountNoUseCase;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.StringNormalizer;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("잔액 분할(bucket) 통합 테스트")
+class BalanceShardingIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceShardingIntegrationTest.class);
+
+    private static final int BUCKET_COUNT = 8;
+
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    @Autowired
+    private EnableBalanceShardingUseCase enableBalanceShardingUseCase;
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private WithdrawUseCase withdrawUseCase;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private GetAccountByBankCodeAndAccountNoUseCase getAccountByBankCodeAndAccountNoUseCase;
+
+    @Autowired
+    private AccountKeyResolver accountKeyResolver;
+
+    @Autowired
+    private AccountPort accountPort;
+
+    @Autowired
+    private BalanceBucketPort balanceBucketPort;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final String testBankCode = "009";
+    private String shardedAccountNo;
+    private String normalAccountNo;
+
+    @BeforeEach
+    void setUp() {
+        // 각 테스트마다 고유한 계좌번호 생성
+        long timestamp = System.currentTimeMillis();
+        this.shardedAccountNo = "91" + (timestamp % 100000000L);
+        this.normalAccountNo = "92" + (timestamp % 100000000L);
+
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "정산계좌",
+            "sharded" + timestamp + "@example.com",
+            String.format("91919191919%02d", timestamp % 100),
+            testBankCode,
+            shardedAccountNo
+        ));
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "일반계좌",
+            "normal" + timestamp + "@example.com",
+            String.format("92929292929%02d", timestamp % 100),
+            testBankCode,
+            normalAccountNo
+        ));
+
+        // 분할 전 잔액은 bucket으로 옮겨져야 함
+        depositUseCase.execute(new DepositRequest(testBankCode, shardedAccountNo, new BigDecimal("100000"), "분할 전 입금"));
+        enableBalanceShardingUseCase.execute(testBankCode, shardedAccountNo, BUCKET_COUNT);
+    }
+
+    @Test
+    @DisplayName("분할 후 조회 잔액은 bucket 합계이며 분할 전 잔액이 유지된다")
+    void enableSharding_KeepsBalance() {
+        AccountResponse account = findAccount(shardedAccountNo);
+
+        assertThat(account.getBalance()).isEqualByComparingTo("100000");
+        assertThatThrownBy(() -> enableBalanceShardingUseCase.execute(testBankCode, shardedAccountNo, BUCKET_COUNT))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(ErrorMessages.BALANCE_ALREADY_SHARDED);
+    }
+
+    @Test
+    @DisplayName("동시 입금 시 모든 입금이 bucket 합계에 반영된다")
+    void deposit_ConcurrentExecution_NoLostUpdates() {
+        // given
+        int threadCount = 10;
+        int depositsPerThread = 5;
+        BigDecimal amount = new BigDecimal("1000");
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        AtomicInteger failureCount = new AtomicInteger(0);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < depositsPerThread; j++) {
+                    try {
+                        depositUseCase.execute(new DepositRequest(
+                            testBankCode, shardedAccountNo, amount, "동시 입금 " + index + "-" + j));
+                    } catch (RuntimeException e) {
+                        failureCount.incrementAndGet();
+                        log.info("Deposit {}-{} failure: {} - {}", index, j, e.getClass().getSimpleName(), e.getMessage());
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        // then
+        AccountResponse account = findAccount(shardedAccountNo);
+        log.info("=== 분할 계좌 동시 입금 결과 === 실패: {}, 최종 잔액: {}", failureCount.get(), account.getBalance());
+
+        assertThat(failureCount.get()).isZero();
+        assertThat(account.getBalance()).isEqualByComparingTo(
+            new BigDecimal("100000").add(amount.multiply(new BigDecimal(threadCount * depositsPerThread))));
+    }
+
+    @Test
+    @DisplayName("한 bucket보다 큰 출금은 bucket을 모아서 처리하고 합계를 넘는 출금은 거부된다")
+    void withdraw_SweepsBuckets() {
+        // given - 10만원이 0번 bucket에, 추가 입금은 임의 bucket에 흩어짐
+        for (int i = 0; i < 5; i++) {
+            depositUseCase.execute(new DepositRequest(testBankCode, shardedAccountNo, new BigDecimal("20000"), "추가 입금 " + i));
+        }
+
+        // when
+        TransactionResponse response = withdrawUseCase.execute(
+            new WithdrawRequest(testBankCode, shardedAccountNo, new BigDecimal("150000"), "큰 출금"));
+
+        // then - 분할 계좌는 거래 후 잔액을 기록하지 않고 조회 잔액(bucket 합계)으로 확인
+        assertThat(response.getBalanceAfter()).isNull();
+        assertThat(findAccount(shardedAccountNo).getBalance()).isEqualByComparingTo("50000");
+        assertThatThrownBy(() -> withdrawUseCase.execute(
+            new WithdrawRequest(testBankCode, shardedAccountNo, new BigDecimal("50001"), "초과 출금")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(ErrorMessages.INSUFFICIENT_BALANCE);
+        assertThat(findAccount(shardedAccountNo).getBalance()).isEqualByComparingTo("50000");
+    }
+
+    @Test
+    @DisplayName("분할 계좌와 일반 계좌 사이 이체가 양쪽 잔액에 반영된다")
+    void transfer_BetweenShardedAndNormalAccount() {
+        // when - 분할 계좌 → 일반 계좌 (수수료 1%)
+        transferUseCase.execute(new TransferRequest(
+            testBankCode, shardedAccountNo, testBankCode, normalAccountNo, new BigDecimal("50000"), "정산 지급"));
+        // 일반 계좌 → 분할 계좌
+        transferUseCase.execute(new TransferRequest(
+            testBankCode, normalAccountNo, testBankCode, shardedAccountNo, new BigDecimal("10000"), "환불"));
+
+        // then
+        assertThat(findAccount(shardedAccountNo).getBalance()).isEqualByComparingTo("59500");
+        assertThat(findAccount(normalAccountNo).getBalance()).isEqualByComparingTo("39900");
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드 - 분할 전에 캐시된 계좌로 들어온 입출금도 bucket에 반영되어 잔액이 사라지지 않는다")
+    void conditionalUpdate_StaleRefAfterSharding_GoesToBuckets() {
+        // given - 일반 계좌를 분할되지 않은 상태로 캐시에 올려 둠
+        depositUseCase.execute(new DepositRequest(testBankCode, normalAccountNo, new BigDecimal("50000"), "분할 전 입금"));
+        String accountNoNorm = StringNormalizer.normalizeAccountNo(normalAccountNo);
+        assertThat(accountKeyResolver.resolve(testBankCode, accountNoNorm).orElseThrow().isBalanceSharded()).isFalse();
+
+        // 다른 인스턴스에서 분할된 경우처럼 이 인스턴스의 캐시는 비우지 않고 분할
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Account account = accountPort.findByIdWithLock(
+                    accountKeyResolver.resolve(testBankCode, accountNoNorm).orElseThrow().getId()).orElseThrow();
+            BigDecimal currentBalance = account.getBalance();
+            account.enableBalanceSharding(BUCKET_COUNT);
+            balanceBucketPort.createBuckets(account.getId(), BUCKET_COUNT, currentBalance);
+            accountPort.save(account);
+        });
+
+        ReflectionTestUtils.setField(depositUseCase, "balanceUpdateMode", BalanceUpdateMode.CONDITIONAL_UPDATE);
+        ReflectionTestUtils.setField(withdrawUseCase, "balanceUpdateMode", BalanceUpdateMode.CONDITIONAL_UPDATE);
+        try {
+            // when
+            TransactionResponse deposited = depositUseCase.execute(
+                new DepositRequest(testBankCode, normalAccountNo, new BigDecimal("30000"), "분할 직후 입금"));
+            TransactionResponse withdrawn = withdrawUseCase.execute(
+                new WithdrawRequest(testBankCode, normalAccountNo, new BigDecimal("10000"), "분할 직후 출금"));
+
+            // then - 계좌 행(0으로 고정)이 아닌 bucket에 반영되어 합계 잔액에 포함
+            assertThat(deposited.getBalanceAfter()).isNull();
+            assertThat(withdrawn.getBalanceAfter()).isNull();
+            assertThat(findAccount(normalAccountNo).getBalance()).isEqualByComparingTo("70000");
+        } finally {
+            ReflectionTestUtils.setField(depositUseCase, "balanceUpdateMode", BalanceUpdateMode.PESSIMISTIC_LOCK);
+            ReflectionTestUtils.setField(withdrawUseCase, "balanceUpdateMode", BalanceUpdateMode.PESSIMISTIC_LOCK);
+        }
+    }
+
+    private AccountResponse findAccount(String accountNo) {
+        return getAccountByBankCodeAndAccountNoUseCase.execute(testBankCode, accountNo)
+            .orElseThrow(() -> new IllegalStateException("Test account not found"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.config.TestApplication;
+import com.moneyTransfer.application.dto.account.AccountResponse;
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.BatchTransferResponse;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.application.usecase.account.GetAccountByBankCodeAndAccountNoUseCase;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = TestApplication.class,
+        properties = {
+            "money-transfer.transaction.batch-transfer.max-size=10",
+            "money-transfer.transaction.batch-transfer.chunk-size=3"
+        })
+@ActiveProfiles("test")
+@DisplayName("일괄 이체 통합 테스트")
+class BatchTransferIntegrationTest {
+
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private BatchTransferUseCase batchTransferUseCase;
+
+    @Autowired
+    private GetAccountByBankCodeAndAccountNoUseCase getAccountByBankCodeAndAccountNoUseCase;
+
+    private final String testBankCode = "011";
+    private String accountNoA;
+    private String accountNoB;
+    private String accountNoC;
+
+    @BeforeEach
+    void setUp() {
+        // 각 테스트마다 고유한 계좌번호 생성
+        long timestamp = System.currentTimeMillis();
+        this.accountNoA = "12" + (timestamp % 100000000L);
+        this.accountNoB = "13" + (timestamp % 100000000L);
+        this.accountNoC = "14" + (timestamp % 100000000L);
+
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "일괄A", "batch-a" + timestamp + "@example.com",
+            String.format("12121212121%02d", timestamp % 100), testBankCode, accountNoA));
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "일괄B", "batch-b" + timestamp + "@example.com",
+            String.format("13131313131%02d", timestamp % 100), testBankCode, accountNoB));
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "일괄C", "batch-c" + timestamp + "@example.com",
+            String.format("14141414141%02d", timestamp % 100), testBankCode, accountNoC));
+    }
+
+    @Test
+    @DisplayName("요청 순서대로 잔액을 반영하고 실패한 건만 건별로 실패 처리한다")
+    void partialFailure() {
+        // given
+        depositUseCase.execute(new DepositRequest(testBankCode, accountNoA, new BigDecimal("1000000"), "초기 잔액"));
+
+        // when - chunk 크기 3이므로 두 트랜잭션으로 나뉨
+        BatchTransferResponse response = batchTransferUseCase.execute(List.of(
+            transfer(accountNoA, accountNoB, "100000"),
+            transfer(accountNoB, accountNoC, "50000"),     // 앞 건에서 받은 돈으로 이체
+            transfer(accountNoA, accountNoC, "2000000"),   // 잔액 부족
+            transfer(accountNoA, "9999999999", "10000"),   // 없는 계좌
+            transfer(accountNoA, accountNoA, "10000")      // 같은 계좌
+        ));
+
+        // then - 수수료 1%
+        assertThat(response.getTotalCount()).isEqualTo(5);
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        List<BatchTransferResponse.Item> results = response.getResults();
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(0).getTransaction().getBalanceAfter()).isEqualByComparingTo("899000");
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(1).getTransaction().getBalanceAfter()).isEqualByComparingTo("49500");
+        assertThat(results.get(2).getErrorMessage()).isEqualTo(ErrorMessages.INSUFFICIENT_BALANCE);
+        assertThat(results.get(3).getErrorMessage()).isEqualTo(ErrorMessages.TARGET_ACCOUNT_NOT_FOUND);
+        assertThat(results.get(4).getErrorMessage()).isEqualTo(ErrorMessages.CANNOT_TRANSFER_TO_SAME_ACCOUNT);
+
+        assertThat(findAccount(accountNoA).getBalance()).isEqualByComparingTo("899000");
+        assertThat(findAccount(accountNoB).getBalance()).isEqualByComparingTo("49500");
+        assertThat(findAccount(accountNoC).getBalance()).isEqualByComparingTo("50000");
+    }
+
+    @Test
+    @DisplayName("출금 계좌별 합계가 일일 한도를 넘으면 순서대로 한도 안의 건만 처리한다")
+    void dailyLimitIsCheckedPerSourceAccount() {
+        // given
+        depositUseCase.execute(new DepositRequest(testBankCode, accountNoA, new BigDecimal("5000000"), "초기 잔액"));
+
+        // when - 합계 400만원 (한도 300만원)
+        BatchTransferResponse response = batchTransferUseCase.execute(List.of(
+            transfer(accountNoA, accountNoB, "2000000"),
+            transfer(accountNoA, accountNoC, "2000000")
+        ));
+
+        // then
+        assertThat(response.getResults().get(0).isSuccess()).isTrue();
+        assertThat(response.getResults().get(1).getErrorMessage()).isEqualTo(ErrorMessages.DAILY_TRANSFER_LIMIT_EXCEEDED);
+        assertThat(findAccount(accountNoA).getBalance()).isEqualByComparingTo("2980000");
+        assertThat(findAccount(accountNoC).getBalance()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("잔액 부족으로 실패한 건의 몫으로 소비한 일일 한도는 되돌린다")
+    void dailyLimitOfFailedEntryIsReleased() {
+        // given
+        depositUseCase.execute(new DepositRequest(testBankCode, accountNoA, new BigDecimal("1000000"), "초기 잔액"));
+
+        // when - 한도 안(250만원)이지만 잔액 부족으로 실패
+        BatchTransferResponse failed = batchTransferUseCase.execute(List.of(
+            transfer(accountNoA, accountNoB, "2500000")
+        ));
+
+        // then - 250만원이 소비된 채로 남았다면 90만원 이체는 한도(300만원) 초과
+        assertThat(failed.getResults().get(0).getErrorMessage()).isEqualTo(ErrorMessages.INSUFFICIENT_BALANCE);
+        BatchTransferResponse response = batchTransferUseCase.execute(List.of(
+            transfer(accountNoA, accountNoC, "900000")
+        ));
+        assertThat(response.getResults().get(0).isSuccess()).isTrue();
+        assertThat(findAccount(accountNoC).getBalance()).isEqualByComparingTo("900000");
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘는 요청은 처리하지 않는다")
+    void sizeExceeded() {
+        List<TransferRequest> requests = Collections.nCopies(11, transfer(accountNoA, accountNoB, "1000"));
+
+        assertThatThrownBy(() -> batchTransferUseCase.execute(requests))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(ErrorMessages.BATCH_TRANSFER_SIZE_EXCEEDED);
+    }
+
+    private TransferRequest transfer(String fromAccountNo, String toAccountNo, String amount) {
+        return new TransferRequest(testBankCode, fromAccountNo, testBankCode, toAccountNo, new BigDecimal(amount), "일괄 이체");
+    }
+
+    private AccountResponse findAccount(String accountNo) {
+        return getAccountByBankCodeAndAccountNoUseCase.execute(testBankCode, accountNo)
+            .orElseThrow(() -> new IllegalStateException("Test account not found"));
+    }
+}
@@ -0,0 +1,164 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.config.TestApplication;
+import com.moneyTransfer.application.dto.account.AccountResponse;
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.WithdrawRequest;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.application.usecase.account.GetAccountByBankCodeAndAccountNoUseCase;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.transaction.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestApplication.class,
+        properties = "money-transfer.transaction.balance-update-mode=CONDITIONAL_UPDATE")
+@ActiveProfiles("test")
+@DisplayName("조건부 UPDATE 모드 동시성 통합 테스트")
+class ConditionalBalanceUpdateConcurrencyIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConditionalBalanceUpdateConcurrencyIntegrationTest.class);
+
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private WithdrawUseCase withdrawUseCase;
+
+    @Autowired
+    private GetAccountByBankCodeAndAccountNoUseCase getAccountByBankCodeAndAccountNoUseCase;
+
+    @Autowired
+    private TransactionPort transactionPort;
+
+    private final String testBankCode = "003";
+    private String testAccountNo;
+
+    @BeforeEach
+    void setUp() {
+        // 각 테스트마다 고유한 계좌번호 생성
+        long timestamp = System.currentTimeMillis();
+        this.testAccountNo = "33" + (timestamp % 100000000L);
+
+        CreateAccountRequest accountRequest = new CreateAccountRequest(
+            "이영희",
+            "conditional" + timestamp + "@example.com",
+            String.format("55555555555%02d", timestamp % 100),
+            testBankCode,
+            testAccountNo
+        );
+        createAccountUseCase.execute(accountRequest);
+    }
+
+    @Test
+    @DisplayName("동시 입금 시 갱신 손실 없이 모든 입금이 잔액에 반영된다")
+    void deposit_ConcurrentExecution_NoLostUpdates() {
+        // given
+        int threadCount = 10;
+        int depositsPerThread = 5;
+        BigDecimal amount = new BigDecimal("1000");
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failureCount = new AtomicInteger(0);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < depositsPerThread; j++) {
+                    try {
+                        depositUseCase.execute(new DepositRequest(
+                            testBankCode, testAccountNo, amount, "동시 입금 " + index + "-" + j));
+                        successCount.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failureCount.incrementAndGet();
+                        log.info("Deposit {}-{} failure: {} - {}", index, j, e.getClass().getSimpleName(), e.getMessage());
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        // then
+        AccountResponse account = getAccountByBankCodeAndAccountNoUseCase.execute(testBankCode, testAccountNo)
+            .orElseThrow(() -> new IllegalStateException("Test account not found"));
+        BigDecimal expectedBalance = amount.multiply(new BigDecimal(threadCount * depositsPerThread));
+
+        log.info("=== 조건부 UPDATE 동시 입금 결과 ===");
+        log.info("성공: {}, 실패: {}, 최종 잔액: {}", successCount.get(), failureCount.get(), account.getBalance());
+
+        assertThat(failureCount.get()).isZero();
+        assertThat(successCount.get()).isEqualTo(threadCount * depositsPerThread);
+        assertThat(account.getBalance()).isEqualByComparingTo(expectedBalance);
+        assertThat(transactionPort.findByAccountId(account.getId())).hasSize(threadCount * depositsPerThread);
+    }
+
+    @Test
+    @DisplayName("동시 출금 시 잔액 조건이 초과 출금을 막고 잔액은 음수가 되지 않는다")
+    void withdraw_ConcurrentExecution_NeverOverdraws() {
+        // given - 10만원 입금 후 1만원 출금으로 일일 한도 행을 미리 생성 (잔액 9만원)
+        depositUseCase.execute(new DepositRequest(testBankCode, testAccountNo, new BigDecimal("100000"), "초기 잔액"));
+        withdrawUseCase.execute(new WithdrawRequest(testBankCode, testAccountNo, new BigDecimal("10000"), "사전 출금"));
+
+        int attemptCount = 15;
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientBalanceCount = new AtomicInteger(0);
+
+        // when - 1만원씩 15회 동시 출금 시도 (9회만 성공 가능)
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < attemptCount; i++) {
+            final int index = i;
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    withdrawUseCase.execute(new WithdrawRequest(
+                        testBankCode, testAccountNo, new BigDecimal("10000"), "동시 출금 " + index));
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    if (ErrorMessages.INSUFFICIENT_BALANCE.equals(e.getMessage())) {
+                        insufficientBalanceCount.incrementAndGet();
+                    }
+                    log.info("Withdraw {} failure: {}", index, e.getMessage());
+                } catch (RuntimeException e) {
+                    log.info("Withdraw {} failure: {} - {}", index, e.getClass().getSimpleName(), e.getMessage());
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        // then
+        AccountResponse account = getAccountByBankCodeAndAccountNoUseCase.execute(testBankCode, testAccountNo)
+            .orElseThrow(() -> new IllegalStateException("Test account not found"));
+
+        log.info("=== 조건부 UPDATE 동시 출금 결과 ===");
+        log.info("성공: {}, 잔액 부족: {}, 최종 잔액: {}",
+                successCount.get(), insufficientBalanceCount.get(), account.getBalance());
+
+        assertThat(successCount.get()).isEqualTo(9);
+        assertThat(insufficientBalanceCount.get()).isEqualTo(attemptCount - 9);
+        assertThat(account.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,155 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.config.TestApplication;
+import com.moneyTransfer.application.dto.account.AccountResponse;
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.application.usecase.account.GetAccountByBankCodeAndAccountNoUseCase;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.transaction.Transaction;
+import com.moneyTransfer.domain.transaction.TransactionPort;
+import com.moneyTransfer.domain.transaction.TransactionType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 문장 수를 재는 동안 일 집계 projector가 끼어들지 않도록 끔
+@SpringBootTest(classes = TestApplication.class,
+        properties = {"money-transfer.persistence.deferred-flush=true", "money-transfer.transaction.projection.enabled=false"})
+@ActiveProfiles("test")
+@DisplayName("지연 flush 모드 이체 통합 테스트")
+class DeferredFlushTransferIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DeferredFlushTransferIntegrationTest.class);
+
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private GetAccountByBankCodeAndAccountNoUseCase getAccountByBankCodeAndAccountNoUseCase;
+
+    @Autowired
+    private TransactionPort transactionPort;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final String testBankCode = "006";
+    private String testAccountNo;
+    private final String targetBankCode = "007";
+    private String targetAccountNo;
+    private long timestamp;
+
+    @BeforeEach
+    void setUp() {
+        timestamp = System.currentTimeMillis();
+        this.testAccountNo = "66" + (timestamp % 100000000L);
+        this.targetAccountNo = "77" + (timestamp % 100000000L);
+
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "정하늘",
+            "deferred-source" + timestamp + "@example.com",
+            String.format("77777777777%02d", timestamp % 100),
+            testBankCode,
+            testAccountNo
+        ));
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "한바다",
+            "deferred-target" + timestamp + "@example.com",
+            String.format("88888888888%02d", timestamp % 100),
+            targetBankCode,
+            targetAccountNo
+        ));
+        depositUseCase.execute(new DepositRequest(testBankCode, testAccountNo, new BigDecimal("1000000"), "초기 잔액"));
+    }
+
+    @Test
+    @DisplayName("커밋 시점 flush로도 이체 양쪽 거래와 잔액이 모두 반영된다")
+    void transfer_DeferredFlush_PersistsBothLegs() {
+        // when
+        TransactionResponse response = transferUseCase.execute(new TransferRequest(
+            testBankCode, testAccountNo, targetBankCode, targetAccountNo, new BigDecimal("100000"), "지연 flush 이체"));
+
+        // then
+        AccountResponse fromAccount = getAccountByBankCodeAndAccountNoUseCase.execute(testBankCode, testAccountNo)
+            .orElseThrow(() -> new IllegalStateException("Test account not found"));
+        AccountResponse toAccount = getAccountByBankCodeAndAccountNoUseCase.execute(targetBankCode, targetAccountNo)
+            .orElseThrow(() -> new IllegalStateException("Target account not found"));
+
+        assertThat(response.getTransactionId()).isNotNull();
+        assertThat(fromAccount.getBalance()).isEqualByComparingTo(new BigDecimal("899000")); // 10만원 + 수수료 1천원
+        assertThat(toAccount.getBalance()).isEqualByComparingTo(new BigDecimal("100000"));
+
+        List<Transaction> received = transactionPort.findByAccountId(toAccount.getId());
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getTransactionType()).isEqualTo(TransactionType.TRANSFER_RECEIVE);
+    }
+
+    @Test
+    @DisplayName("같은 종류의 UPDATE/INSERT가 커밋 시점에 묶여 실행되어 문장 수가 줄어든다")
+    void transfer_DeferredFlush_BatchesStatements() {
+        // given - 일일 한도 행을 미리 만들어 두고 두 번째 이체를 측정
+        transferUseCase.execute(new TransferRequest(
+            testBankCode, testAccountNo, targetBankCode, targetAccountNo, new BigDecimal("10000"), "사전 이체"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        transferUseCase.execute(new TransferRequest(
+            testBankCode, testAccountNo, targetBankCode, targetAccountNo, new BigDecimal("10000"), "측정 이체"));
+
+        // then - 계좌 2건 조회, 일일 한도 락, 계좌 2건 락, 카운터 2건 UPDATE, 커밋 시 한도 UPDATE/계좌 UPDATE 배치/거래·집계 대기열 INSERT 배치
+        long count = statistics.getPrepareStatementCount();
+        log.info("Deferred flush transfer statements: {}", count);
+        assertThat(count).isLessThanOrEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("지연 flush 모드에서도 계좌 생성 중복은 즉시 감지되어 변환된다")
+    void createAccount_DeferredFlush_DuplicateStillDetected() {
+        CreateAccountRequest duplicateRequest = new CreateAccountRequest(
+            "중복자",
+            "deferred-dup" + timestamp + "@example.com",
+            String.format("99999999999%02d", timestamp % 100),
+            testBankCode,
+            testAccountNo
+        );
+
+        assertThatThrownBy(() -> createAccountUseCase.execute(duplicateRequest))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(ErrorMessages.DUPLICATE_ACCOUNT_NO);
+    }
+
+    @Test
+    @DisplayName("지연 flush 모드에서 없는 계좌를 참조한 거래는 커밋 시점에 계좌 없음으로 변환된다")
+    void save_DeferredFlush_MissingAccountTranslated() {
+        Transaction orphan = Transaction.createDeposit(-1L, new BigDecimal("1000"), "없는 계좌 입금");
+
+        assertThatThrownBy(() -> transactionPort.save(orphan))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(ErrorMessages.ACCOUNT_NOT_FOUND);
+    }
+}
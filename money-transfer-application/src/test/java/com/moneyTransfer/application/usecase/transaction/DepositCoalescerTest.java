@@ -0,0 +1,178 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.transaction.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DepositCoalescer 테스트")
+class DepositCoalescerTest {
+
+    @Mock
+    private DepositUseCase depositUseCase;
+
+    @InjectMocks
+    private DepositCoalescer depositCoalescer;
+
+    private static TransactionResponse response(DepositRequest request) {
+        return new TransactionResponse(
+                1L,
+                new TransactionResponse.AccountInfo(request.getBankCode(), request.getAccountNo()),
+                null,
+                TransactionType.DEPOSIT,
+                request.getAmount(),
+                request.getAmount(),
+                request.getDescription(),
+                LocalDateTime.now(),
+                BigDecimal.ZERO
+        );
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 DepositUseCase.execute를 그대로 호출")
+    void disabledDelegatesToExecute() {
+        // given
+        DepositRequest request = new DepositRequest("001", "123-456-789", new BigDecimal("10000"), "입금");
+        given(depositUseCase.execute(request)).willReturn(response(request));
+
+        // when
+        TransactionResponse result = depositCoalescer.deposit(request);
+
+        // then
+        assertThat(result.getDescription()).isEqualTo("입금");
+        then(depositUseCase).should(never()).executeBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("처리 중인 묶음이 없으면 window를 기다리지 않고 바로 반영한다")
+    void idleDepositIsAppliedWithoutWaiting() {
+        // given
+        ReflectionTestUtils.setField(depositCoalescer, "enabled", true);
+        ReflectionTestUtils.setField(depositCoalescer, "windowMillis", 5000L);
+        DepositRequest request = new DepositRequest("001", "123-456-789", new BigDecimal("10000"), "입금");
+        given(depositUseCase.execute(request)).willReturn(response(request));
+
+        // when
+        long startedAt = System.nanoTime();
+        TransactionResponse result = depositCoalescer.deposit(request);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(result.getDescription()).isEqualTo("입금");
+        assertThat(elapsedMillis).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("처리 중인 묶음이 있는 동안 들어온 같은 계좌 입금을 묶어 처리하고 요청마다 자기 결과를 돌려준다")
+    void concurrentDepositsAreCoalesced() {
+        // given - 반영에 시간이 걸려 뒤에 온 요청이 처리 중인 묶음을 기다림
+        ReflectionTestUtils.setField(depositCoalescer, "enabled", true);
+        ReflectionTestUtils.setField(depositCoalescer, "windowMillis", 1000L);
+        lenient().when(depositUseCase.execute(any())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return response(invocation.getArgument(0));
+        });
+        given(depositUseCase.executeBatch(anyList())).willAnswer(invocation -> {
+            Thread.sleep(50);
+            List<DepositRequest> requests = invocation.getArgument(0);
+            return requests.stream().map(DepositCoalescerTest::response).toList();
+        });
+
+        int requestCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        // when
+        List<CompletableFuture<TransactionResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            DepositRequest request = new DepositRequest("001", "123-456-789", new BigDecimal("1000"), "입금" + i);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return depositCoalescer.deposit(request);
+            }, executor));
+        }
+        startLatch.countDown();
+        List<TransactionResponse> results = futures.stream().map(CompletableFuture::join).toList();
+        executor.shutdown();
+
+        // then - 각 요청은 자기 설명의 결과를 받고, 요청 수보다 적은 횟수로 반영됨
+        for (int i = 0; i < requestCount; i++) {
+            assertThat(results.get(i).getDescription()).isEqualTo("입금" + i);
+        }
+        then(depositUseCase).should(atLeastOnce()).executeBatch(anyList());
+        assertThat(mockingDetails(depositUseCase).getInvocations()).hasSizeLessThan(requestCount);
+    }
+
+    @Test
+    @DisplayName("묶음 처리가 실패하면 요청별로 다시 실행해 실패를 해당 요청에만 돌려준다")
+    void batchFailureFallsBackToIndividualExecution() throws Exception {
+        // given - 먼저 온 입금이 처리되는 동안 뒤의 두 입금이 한 묶음으로 모임
+        ReflectionTestUtils.setField(depositCoalescer, "enabled", true);
+        ReflectionTestUtils.setField(depositCoalescer, "windowMillis", 1000L);
+        DepositRequest first = new DepositRequest("001", "123-456-789", new BigDecimal("1000"), "선행");
+        DepositRequest valid = new DepositRequest("001", "123-456-789", new BigDecimal("1000"), "정상");
+        DepositRequest invalid = new DepositRequest("001", "123-456-789", new BigDecimal("-1"), "오류");
+        given(depositUseCase.execute(first)).willAnswer(invocation -> {
+            Thread.sleep(200);
+            return response(first);
+        });
+        given(depositUseCase.executeBatch(anyList()))
+                .willThrow(new IllegalArgumentException(ErrorMessages.DEPOSIT_AMOUNT_INVALID));
+        given(depositUseCase.execute(valid)).willReturn(response(valid));
+        given(depositUseCase.execute(invalid))
+                .willThrow(new IllegalArgumentException(ErrorMessages.DEPOSIT_AMOUNT_INVALID));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // when
+        CompletableFuture<TransactionResponse> firstFuture =
+                CompletableFuture.supplyAsync(() -> depositCoalescer.deposit(first), executor);
+        Thread.sleep(20);
+        CompletableFuture<TransactionResponse> validFuture =
+                CompletableFuture.supplyAsync(() -> depositCoalescer.deposit(valid), executor);
+        Thread.sleep(20);
+        CompletableFuture<TransactionResponse> invalidFuture =
+                CompletableFuture.supplyAsync(() -> depositCoalescer.deposit(invalid), executor);
+
+        // then
+        assertThat(firstFuture.join().getDescription()).isEqualTo("선행");
+        assertThat(validFuture.join().getDescription()).isEqualTo("정상");
+        assertThatThrownBy(invalidFuture::join)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage(ErrorMessages.DEPOSIT_AMOUNT_INVALID);
+        executor.shutdown();
+    }
+}
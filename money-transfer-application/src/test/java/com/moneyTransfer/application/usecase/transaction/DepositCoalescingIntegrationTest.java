@@ -0,0 +1,111 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.config.TestApplication;
+import com.moneyTransfer.application.dto.account.AccountResponse;
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.application.usecase.account.GetAccountByBankCodeAndAccountNoUseCase;
+import com.moneyTransfer.domain.transaction.Transaction;
+import com.moneyTransfer.domain.transaction.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestApplication.class,
+        properties = "money-transfer.transaction.deposit-coalescing.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("입금 묶음 처리 통합 테스트")
+class DepositCoalescingIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DepositCoalescingIntegrationTest.class);
+
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    @Autowired
+    private DepositCoalescer depositCoalescer;
+
+    @Autowired
+    private GetAccountByBankCodeAndAccountNoUseCase getAccountByBankCodeAndAccountNoUseCase;
+
+    @Autowired
+    private TransactionPort transactionPort;
+
+    private final String testBankCode = "008";
+    private String testAccountNo;
+
+    @BeforeEach
+    void setUp() {
+        long timestamp = System.currentTimeMillis();
+        this.testAccountNo = "88" + (timestamp % 100000000L);
+
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "오가맹",
+            "coalescing" + timestamp + "@example.com",
+            String.format("12121212121%02d", timestamp % 100),
+            testBankCode,
+            testAccountNo
+        ));
+    }
+
+    @Test
+    @DisplayName("동시 입금을 묶어 처리해도 거래는 요청마다 남고 balanceAfter가 서로 겹치지 않는다")
+    void deposit_Coalesced_EachTransactionHasDistinctBalanceAfter() {
+        // given
+        int threadCount = 20;
+        int depositsPerThread = 5;
+        BigDecimal amount = new BigDecimal("1000");
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < depositsPerThread; j++) {
+                    try {
+                        depositCoalescer.deposit(new DepositRequest(
+                            testBankCode, testAccountNo, amount, "가맹점 입금 " + index + "-" + j));
+                        successCount.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        log.info("Deposit {}-{} failure: {} - {}", index, j, e.getClass().getSimpleName(), e.getMessage());
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        // then
+        int total = threadCount * depositsPerThread;
+        AccountResponse account = getAccountByBankCodeAndAccountNoUseCase.execute(testBankCode, testAccountNo)
+            .orElseThrow(() -> new IllegalStateException("Test account not found"));
+        List<Transaction> transactions = transactionPort.findByAccountId(account.getId());
+
+        assertThat(successCount.get()).isEqualTo(total);
+        assertThat(account.getBalance()).isEqualByComparingTo(amount.multiply(new BigDecimal(total)));
+        assertThat(transactions).hasSize(total);
+        // 1,000 ~ 100,000 이 정확히 한 번씩 기록되어야 함
+        assertThat(transactions)
+            .extracting(transaction -> transaction.getBalanceAfter().intValue())
+            .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, total).map(n -> n * 1000).boxed().toList());
+    }
+}
@@ -1,11 +1,15 @@
 package com.moneyTransfer.application.usecase.transaction;
 
+import com.moneyTransfer.application.account.AccountDirectory;
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.transaction.DepositRequest;
 import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.lock.AccountLockManager;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
 import com.moneyTransfer.domain.account.AccountStatus;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
 import com.moneyTransfer.domain.transaction.Transaction;
 import com.moneyTransfer.domain.transaction.TransactionPort;
 import com.moneyTransfer.domain.transaction.TransactionType;
@@ -16,9 +20,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +47,12 @@ class DepositUseCaseTest {
     @Mock
     private TransactionPort transactionPort;
 
+    @Mock
+    private BalanceBucketPort balanceBucketPort;
+
+    @Mock
+    private AccountLockManager accountLockManager;
+
     @InjectMocks
     private DepositUseCase depositUseCase;
 
@@ -62,6 +74,9 @@ class DepositUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        // 실제 resolver가 mock AccountPort로 계좌 ID를 조회하도록 연결 (테스트마다 빈 캐시)
+        ReflectionTestUtils.setField(depositUseCase, "accountKeyResolver", new AccountKeyResolver(accountPort, new AccountDirectory(accountPort), new AccountLockManager()));
+
         validRequest = new DepositRequest(
                 "001",
                 "123-456-789",
@@ -104,7 +119,7 @@ class DepositUseCaseTest {
         assertThat(response.getRelatedAccountInfo()).isNull(); // 입금은 관련 계좌 없음
         assertThat(response.getTransactionType()).isEqualTo(TransactionType.DEPOSIT);
         assertThat(response.getAmount()).isEqualTo(new BigDecimal("10000"));
-        assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("60000"));
+        assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("60000.00"));
 
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
         then(accountPort).should().findByIdWithLock(1L);
@@ -287,7 +302,7 @@ class DepositUseCaseTest {
 
         // then
         assertThat(response.getAmount()).isEqualTo(largeAmount);
-        assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("1000050000"));
+        assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("1000050000.00"));
         assertThat(response.getDescription()).isEqualTo("대액 입금");
 
         then(accountPort).should().save(any(Account.class));
@@ -329,9 +344,10 @@ class DepositUseCaseTest {
             assertThat(response.getTransactionId()).isEqualTo(1L);
         }
 
-        // 모든 요청이 동일하게 정규화된 계좌번호로 처리됨을 확인
-        then(accountPort).should(times(accountNumbers.length))
+        // 모든 요청이 동일하게 정규화된 계좌번호로 처리됨을 확인 (계좌 ID는 처음 한 번만 조회하고 이후는 캐시 사용)
+        then(accountPort).should(times(1))
                 .findByBankCodeAndAccountNoNorm("001", "123456789");
+        then(accountPort).should(times(accountNumbers.length)).findByIdWithLock(1L);
     }
 
     @Test
@@ -396,4 +412,147 @@ class DepositUseCaseTest {
         inOrder.verify(accountPort).save(any(Account.class));
         inOrder.verify(transactionPort).save(any(Transaction.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드 - 락 조회 없이 조건부 UPDATE로 입금")
+    void depositWithConditionalUpdate() {
+        // given
+        ReflectionTestUtils.setField(depositUseCase, "balanceUpdateMode", BalanceUpdateMode.CONDITIONAL_UPDATE);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.increaseBalance(eq(1L), eq(new BigDecimal("10000"))))
+                .willReturn(Optional.of(createMockAccount(1L, 1L, "001", "123-456-789", new BigDecimal("60000"))));
+        given(transactionPort.save(any(Transaction.class)))
+                .willReturn(mockTransaction);
+
+        // when - 요청은 하이픈 없이
+        TransactionResponse response = depositUseCase.execute(
+                new DepositRequest("001", "123456789", new BigDecimal("10000"), "급여 입금"));
+
+        // then - 응답 계좌번호는 저장된 표기 그대로
+        assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("60000.00"));
+        assertThat(response.getAccountInfo().getAccountNo()).isEqualTo("123-456-789");
+
+        then(accountPort).should().increaseBalance(1L, new BigDecimal("10000"));
+        then(accountPort).should(never()).findByIdWithLock(any());
+        then(accountPort).should(never()).save(any());
+        then(transactionPort).should().save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드 - 갱신된 행이 없으면 비활성 계좌 예외")
+    void depositWithConditionalUpdateToInactiveAccount() {
+        // given
+        ReflectionTestUtils.setField(depositUseCase, "balanceUpdateMode", BalanceUpdateMode.CONDITIONAL_UPDATE);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.increaseBalance(eq(1L), any(BigDecimal.class)))
+                .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> depositUseCase.execute(validRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.INACTIVE_ACCOUNT_DEPOSIT);
+
+        then(transactionPort).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("묶음 입금 - 락 1회, 계좌 저장 1회로 반영하고 거래마다 누적 잔액을 기록")
+    void executeBatchAppliesOnceWithRunningBalance() {
+        // given
+        List<DepositRequest> requests = List.of(
+                new DepositRequest("001", "123-456-789", new BigDecimal("10000"), "입금1"),
+                new DepositRequest("001", "123456789", new BigDecimal("20000"), "입금2"),
+                new DepositRequest("001", "123-456-789", new BigDecimal("30000"), "입금3")
+        );
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.findByIdWithLock(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.save(any(Account.class)))
+                .willReturn(mockAccount);
+        given(transactionPort.save(any(Transaction.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<TransactionResponse> responses = depositUseCase.executeBatch(requests);
+
+        // then
+        assertThat(responses).extracting(TransactionResponse::getBalanceAfter)
+                .containsExactly(new BigDecimal("60000"), new BigDecimal("80000"), new BigDecimal("110000"));
+        assertThat(responses).extracting(TransactionResponse::getDescription)
+                .containsExactly("입금1", "입금2", "입금3");
+        assertThat(mockAccount.getBalance()).isEqualByComparingTo(new BigDecimal("110000"));
+
+        then(accountPort).should(times(1)).findByIdWithLock(1L);
+        then(accountPort).should(times(1)).save(any(Account.class));
+        then(transactionPort).should(times(3)).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("묶음 입금 조건부 UPDATE 모드 - 합계로 UPDATE 1회 후 결과 잔액에서 역산")
+    void executeBatchWithConditionalUpdate() {
+        // given
+        ReflectionTestUtils.setField(depositUseCase, "balanceUpdateMode", BalanceUpdateMode.CONDITIONAL_UPDATE);
+        List<DepositRequest> requests = List.of(
+                new DepositRequest("001", "123-456-789", new BigDecimal("10000"), "입금1"),
+                new DepositRequest("001", "123-456-789", new BigDecimal("20000"), "입금2")
+        );
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        // 다른 요청이 먼저 반영되어 DB 잔액이 조회 시점보다 큰 경우
+        given(accountPort.increaseBalance(eq(1L), eq(new BigDecimal("30000"))))
+                .willReturn(Optional.of(createMockAccount(1L, 1L, "001", "123-456-789", new BigDecimal("100000"))));
+        given(transactionPort.save(any(Transaction.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<TransactionResponse> responses = depositUseCase.executeBatch(requests);
+
+        // then
+        assertThat(responses).extracting(TransactionResponse::getBalanceAfter)
+                .containsExactly(new BigDecimal("80000"), new BigDecimal("100000"));
+        then(accountPort).should(never()).findByIdWithLock(any());
+        then(accountPort).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("묶음 입금 - 다른 계좌 요청이 섞이면 예외")
+    void executeBatchWithDifferentAccounts() {
+        // given
+        List<DepositRequest> requests = List.of(
+                new DepositRequest("001", "123-456-789", new BigDecimal("10000"), "입금1"),
+                new DepositRequest("002", "123-456-789", new BigDecimal("20000"), "입금2")
+        );
+
+        // when & then
+        assertThatThrownBy(() -> depositUseCase.executeBatch(requests))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.BATCH_DEPOSIT_ACCOUNT_MISMATCH);
+
+        then(accountPort).should(never()).findByBankCodeAndAccountNoNorm(any(), any());
+    }
+
+    @Test
+    @DisplayName("잔액 분할 계좌 - 계좌 락 없이 bucket에 입금하고 확정할 수 없는 balanceAfter는 기록하지 않음")
+    void depositToShardedAccount() {
+        // given
+        mockAccount.setBalanceBucketCount(8);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(1L))
+                .willReturn(Optional.of(mockAccount));
+        given(transactionPort.save(any(Transaction.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TransactionResponse response = depositUseCase.execute(validRequest);
+
+        // then
+        assertThat(response.getBalanceAfter()).isNull();
+        then(balanceBucketPort).should().credit(1L, 8, new BigDecimal("10000"));
+        then(accountPort).should(never()).findByIdWithLock(any());
+        then(accountPort).should(never()).save(any());
+    }
+}
@@ -1,7 +1,10 @@
 package com.moneyTransfer.application.usecase.transaction;
 
+import com.moneyTransfer.application.account.AccountDirectory;
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.transaction.GetTransactionHistoryRequest;
 import com.moneyTransfer.application.dto.transaction.TransactionHistoryResponse;
+import com.moneyTransfer.application.lock.AccountLockManager;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
@@ -10,8 +13,12 @@ import com.moneyTransfer.domain.user.User;
 import com.moneyTransfer.domain.user.UserPort;
 import com.moneyTransfer.domain.common.PageQuery;
 import com.moneyTransfer.domain.common.PageResult;
-import com.moneyTransfer.domain.transaction.Transaction;
-import com.moneyTransfer.domain.transaction.TransactionPort;
+import com.moneyTransfer.domain.common.SliceResult;
+import com.moneyTransfer.domain.transaction.DailyTransactionSummary;
+import com.moneyTransfer.domain.transaction.TransactionCursor;
+import com.moneyTransfer.domain.transaction.TransactionHistoryQueryPort;
+import com.moneyTransfer.domain.transaction.TransactionHistoryRow;
+import com.moneyTransfer.domain.transaction.TransactionSummaryPort;
 import com.moneyTransfer.domain.transaction.TransactionType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -29,17 +37,22 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("GetTransactionHistoryUseCase 테스트")
 class GetTransactionHistoryUseCaseTest {
 
     @Mock
-    private TransactionPort transactionPort;
+    private TransactionHistoryQueryPort historyQueryPort;
+
+    @Mock
+    private TransactionSummaryPort transactionSummaryPort;
 
     @Mock
     private AccountPort accountPort;
@@ -53,9 +66,8 @@ class GetTransactionHistoryUseCaseTest {
     private GetTransactionHistoryRequest validRequest;
     private Account mockAccount;
     private User mockUser;
-    private Account mockRelatedAccount;
-    private List<Transaction> mockTransactions;
-    private PageResult<Transaction> mockPageResult;
+    private List<TransactionHistoryRow> mockTransactions;
+    private PageResult<TransactionHistoryRow> mockPageResult;
 
     private Account createMockAccount(Long id, Long userId, String bankCode, String accountNo, BigDecimal balance) {
         Account account = new Account();
@@ -71,6 +83,9 @@ class GetTransactionHistoryUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        // 실제 resolver가 mock AccountPort로 계좌 ID를 조회하도록 연결 (테스트마다 빈 캐시)
+        ReflectionTestUtils.setField(getTransactionHistoryUseCase, "accountKeyResolver", new AccountKeyResolver(accountPort, new AccountDirectory(accountPort), new AccountLockManager()));
+
         validRequest = new GetTransactionHistoryRequest(
                 "001",
                 "123-456-789",
@@ -81,26 +96,22 @@ class GetTransactionHistoryUseCaseTest {
         );
 
         mockAccount = createMockAccount(1L, 1L, "001", "123-456-789", new BigDecimal("100000"));
-        mockRelatedAccount = createMockAccount(2L, 2L, "002", "987-654-321", new BigDecimal("200000"));
 
         mockUser = User.create("홍길동", "hong@example.com", "1234567890123");
         mockUser.setId(1L);
 
-        // Mock transactions 생성 - 입금/출금만 사용하여 단순화
-        Transaction depositTx = Transaction.createDeposit(1L, new BigDecimal("50000"), "입금");
-        depositTx.setId(1L);
-        depositTx.setBalanceAfter(new BigDecimal("150000"));
-        depositTx.setCreatedAt(LocalDateTime.now().minusDays(1));
+        // Mock 거래내역 행 생성 - 입금/출금만 사용하여 단순화
+        TransactionHistoryRow depositTx = new TransactionHistoryRow(1L, TransactionType.DEPOSIT,
+                new BigDecimal("50000"), new BigDecimal("150000"), BigDecimal.ZERO, "입금",
+                LocalDateTime.now().minusDays(1), null, null);
 
-        Transaction withdrawTx = Transaction.createWithdraw(1L, new BigDecimal("20000"), "출금");
-        withdrawTx.setId(2L);
-        withdrawTx.setBalanceAfter(new BigDecimal("130000"));
-        withdrawTx.setCreatedAt(LocalDateTime.now().minusHours(12));
+        TransactionHistoryRow withdrawTx = new TransactionHistoryRow(2L, TransactionType.WITHDRAW,
+                new BigDecimal("20000"), new BigDecimal("130000"), BigDecimal.ZERO, "출금",
+                LocalDateTime.now().minusHours(12), null, null);
 
-        Transaction anotherWithdrawTx = Transaction.createWithdraw(1L, new BigDecimal("30000"), "ATM 출금");
-        anotherWithdrawTx.setId(3L);
-        anotherWithdrawTx.setBalanceAfter(new BigDecimal("70000"));
-        anotherWithdrawTx.setCreatedAt(LocalDateTime.now().minusHours(6));
+        TransactionHistoryRow anotherWithdrawTx = new TransactionHistoryRow(3L, TransactionType.WITHDRAW,
+                new BigDecimal("30000"), new BigDecimal("70000"), BigDecimal.ZERO, "ATM 출금",
+                LocalDateTime.now().minusHours(6), null, null);
 
         mockTransactions = List.of(anotherWithdrawTx, withdrawTx, depositTx);
 
@@ -121,9 +132,11 @@ class GetTransactionHistoryUseCaseTest {
         // given
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
         given(userPort.findById(eq(1L)))
                 .willReturn(Optional.of(mockUser));
-        given(transactionPort.findByAccountIdWithPaging(eq(1L), any(PageQuery.class)))
+        given(historyQueryPort.findByAccountIdWithPaging(eq(1L), any(PageQuery.class)))
                 .willReturn(mockPageResult);
 
         // when
@@ -134,7 +147,7 @@ class GetTransactionHistoryUseCaseTest {
         assertThat(response.getAccountInfo()).isNotNull();
         assertThat(response.getAccountInfo().getUserName()).isEqualTo("홍길동");
         assertThat(response.getAccountInfo().getEmail()).isEqualTo("hong@example.com");
-        assertThat(response.getAccountInfo().getBalance()).isEqualTo(new BigDecimal("100000"));
+        assertThat(response.getAccountInfo().getBalance()).isEqualTo(new BigDecimal("100000.00"));
         assertThat(response.getAccountInfo().getBankCode()).isEqualTo("001");
         assertThat(response.getAccountInfo().getAccountNo()).isEqualTo("123-456-789");
 
@@ -160,8 +173,8 @@ class GetTransactionHistoryUseCaseTest {
 
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
         then(userPort).should().findById(1L);
-        then(transactionPort).should().findByAccountIdWithPaging(eq(1L), any(PageQuery.class));
-        then(transactionPort).should(never()).findByAccountIdAndDateRangeWithPaging(any(), any(), any(), any());
+        then(historyQueryPort).should().findByAccountIdWithPaging(eq(1L), any(PageQuery.class));
+        then(historyQueryPort).should(never()).findByAccountIdAndDateRangeWithPaging(any(), any(), any(), any());
     }
 
     @Test
@@ -170,6 +183,8 @@ class GetTransactionHistoryUseCaseTest {
         // given
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
         given(userPort.findById(eq(1L)))
                 .willReturn(Optional.of(mockUser));
 
@@ -185,7 +200,7 @@ class GetTransactionHistoryUseCaseTest {
                 endDate
         );
 
-        PageResult<Transaction> filteredPageResult = new PageResult<>(
+        PageResult<TransactionHistoryRow> filteredPageResult = new PageResult<>(
                 mockTransactions.subList(0, 2),
                 0,
                 5,
@@ -193,8 +208,18 @@ class GetTransactionHistoryUseCaseTest {
                 1
         );
 
-        given(transactionPort.findByAccountIdAndDateRangeWithPaging(eq(1L), eq(startDate), eq(endDate), any(PageQuery.class)))
+        given(historyQueryPort.findByAccountIdAndDateRangeWithPaging(eq(1L), eq(startDate), eq(endDate), any(PageQuery.class)))
                 .willReturn(filteredPageResult);
+        given(transactionSummaryPort.findDailySummaries(1L, startDate.toLocalDate(), endDate.toLocalDate()))
+                .willReturn(List.of(
+                        new DailyTransactionSummary(startDate.toLocalDate(),
+                                1, new BigDecimal("50000"), 0, BigDecimal.ZERO,
+                                0, BigDecimal.ZERO, 0, BigDecimal.ZERO,
+                                BigDecimal.ZERO, new BigDecimal("150000")),
+                        new DailyTransactionSummary(endDate.toLocalDate(),
+                                0, BigDecimal.ZERO, 2, new BigDecimal("50000"),
+                                0, BigDecimal.ZERO, 0, BigDecimal.ZERO,
+                                BigDecimal.ZERO, new BigDecimal("70000"))));
 
         // when
         TransactionHistoryResponse response = getTransactionHistoryUseCase.execute(dateRangeRequest);
@@ -202,11 +227,16 @@ class GetTransactionHistoryUseCaseTest {
         // then
         assertThat(response.getTransactions()).hasSize(2);
         assertThat(response.getPageInfo().getTotalElements()).isEqualTo(2L);
+        // 기간 합계는 일 집계 행을 더한 값, 마감 잔액은 마지막 날 값
+        assertThat(response.getPeriodTotals().getDepositCount()).isEqualTo(1);
+        assertThat(response.getPeriodTotals().getWithdrawCount()).isEqualTo(2);
+        assertThat(response.getPeriodTotals().getWithdrawAmount()).isEqualByComparingTo(new BigDecimal("50000"));
+        assertThat(response.getPeriodTotals().getClosingBalance()).isEqualByComparingTo(new BigDecimal("70000"));
 
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
         then(userPort).should().findById(1L);
-        then(transactionPort).should().findByAccountIdAndDateRangeWithPaging(eq(1L), eq(startDate), eq(endDate), any(PageQuery.class));
-        then(transactionPort).should(never()).findByAccountIdWithPaging(any(), any());
+        then(historyQueryPort).should().findByAccountIdAndDateRangeWithPaging(eq(1L), eq(startDate), eq(endDate), any(PageQuery.class));
+        then(historyQueryPort).should(never()).findByAccountIdWithPaging(any(), any());
     }
 
     @Test
@@ -223,8 +253,8 @@ class GetTransactionHistoryUseCaseTest {
 
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
         then(userPort).should(never()).findById(any());
-        then(transactionPort).should(never()).findByAccountIdWithPaging(any(), any());
-        then(transactionPort).should(never()).findByAccountIdAndDateRangeWithPaging(any(), any(), any(), any());
+        then(historyQueryPort).should(never()).findByAccountIdWithPaging(any(), any());
+        then(historyQueryPort).should(never()).findByAccountIdAndDateRangeWithPaging(any(), any(), any(), any());
     }
 
     @Test
@@ -233,6 +263,8 @@ class GetTransactionHistoryUseCaseTest {
         // given
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
         given(userPort.findById(eq(1L)))
                 .willReturn(Optional.empty());
 
@@ -243,8 +275,8 @@ class GetTransactionHistoryUseCaseTest {
 
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
         then(userPort).should().findById(1L);
-        then(transactionPort).should(never()).findByAccountIdWithPaging(any(), any());
-        then(transactionPort).should(never()).findByAccountIdAndDateRangeWithPaging(any(), any(), any(), any());
+        then(historyQueryPort).should(never()).findByAccountIdWithPaging(any(), any());
+        then(historyQueryPort).should(never()).findByAccountIdAndDateRangeWithPaging(any(), any(), any(), any());
     }
 
     @Test
@@ -253,10 +285,12 @@ class GetTransactionHistoryUseCaseTest {
         // given
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
         given(userPort.findById(eq(1L)))
                 .willReturn(Optional.of(mockUser));
 
-        PageResult<Transaction> emptyPageResult = new PageResult<>(
+        PageResult<TransactionHistoryRow> emptyPageResult = new PageResult<>(
                 List.of(),
                 0,
                 10,
@@ -264,7 +298,7 @@ class GetTransactionHistoryUseCaseTest {
                 0
         );
 
-        given(transactionPort.findByAccountIdWithPaging(eq(1L), any(PageQuery.class)))
+        given(historyQueryPort.findByAccountIdWithPaging(eq(1L), any(PageQuery.class)))
                 .willReturn(emptyPageResult);
 
         // when
@@ -285,6 +319,8 @@ class GetTransactionHistoryUseCaseTest {
         // given
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
         given(userPort.findById(eq(1L)))
                 .willReturn(Optional.of(mockUser));
 
@@ -297,7 +333,7 @@ class GetTransactionHistoryUseCaseTest {
                 null
         );
 
-        given(transactionPort.findByAccountIdWithPaging(eq(1L), any(PageQuery.class)))
+        given(historyQueryPort.findByAccountIdWithPaging(eq(1L), any(PageQuery.class)))
                 .willReturn(mockPageResult);
 
         // when
@@ -306,4 +342,123 @@ class GetTransactionHistoryUseCaseTest {
         // then - 정규화된 계좌번호로 조회되었는지 확인
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 조회 - size + 1건으로 다음 페이지 여부와 nextCursor 계산, COUNT 없음")
+    void getTransactionHistoryWithCursor() {
+        // given
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
+        given(userPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockUser));
+        given(historyQueryPort.findByAccountIdBeforeCursor(eq(1L), eq(null), eq(null), eq(null), eq(3)))
+                .willReturn(mockTransactions);
+
+        GetTransactionHistoryRequest cursorRequest = new GetTransactionHistoryRequest(
+                "001", "123-456-789", 0, 2, null, null, "");
+
+        // when
+        TransactionHistoryResponse response = getTransactionHistoryUseCase.execute(cursorRequest);
+
+        // then
+        assertThat(response.getTransactions()).hasSize(2);
+        assertThat(response.getPageInfo().getHasNext()).isTrue();
+        assertThat(response.getPageInfo().getHasPrevious()).isFalse();
+        assertThat(response.getPageInfo().getTotalElements()).isNull();
+
+        TransactionCursor next = TransactionCursor.decode(response.getPageInfo().getNextCursor());
+        assertThat(next.getId()).isEqualTo(2L);
+        assertThat(next.getCreatedAt()).isEqualTo(mockTransactions.get(1).getCreatedAt());
+
+        then(historyQueryPort).should(never()).findByAccountIdWithPaging(any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 잘못된 커서는 예외 발생")
+    void getTransactionHistoryWithInvalidCursor() {
+        // given
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
+        given(userPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockUser));
+
+        GetTransactionHistoryRequest cursorRequest = new GetTransactionHistoryRequest(
+                "001", "123-456-789", 0, 10, null, null, "not-a-cursor");
+
+        // when & then
+        assertThatThrownBy(() -> getTransactionHistoryUseCase.execute(cursorRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.INVALID_TRANSACTION_CURSOR);
+    }
+
+    @Test
+    @DisplayName("기간 조건이 없고 카운터가 있으면 COUNT 쿼리 없이 Slice + 카운터로 조회")
+    void getTransactionHistoryWithCounter() {
+        // given
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
+        given(userPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockUser));
+        given(historyQueryPort.findTransactionCount(eq(1L)))
+                .willReturn(Optional.of(25L));
+        given(historyQueryPort.findSliceByAccountId(eq(1L), any(PageQuery.class)))
+                .willReturn(new SliceResult<>(mockTransactions, 0, 10, true));
+
+        // when
+        TransactionHistoryResponse response = getTransactionHistoryUseCase.execute(validRequest);
+
+        // then
+        assertThat(response.getTransactions()).hasSize(3);
+        assertThat(response.getPageInfo().getTotalElements()).isEqualTo(25L);
+        assertThat(response.getPageInfo().getTotalPages()).isEqualTo(3);
+        assertThat(response.getPageInfo().getHasNext()).isTrue();
+        assertThat(response.getPageInfo().getCountMode()).isEqualTo(TransactionHistoryResponse.CountMode.COUNTER);
+        // 기간 조건이 없으면 기간 합계를 조회하지 않음
+        assertThat(response.getPeriodTotals()).isNull();
+
+        then(historyQueryPort).should(never()).findByAccountIdWithPaging(any(), any());
+        then(transactionSummaryPort).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("이체 상대 계좌 정보는 조회 행에 담긴 값으로 채우고 계좌를 따로 조회하지 않는다")
+    void relatedAccountInfoFromHistoryRow() {
+        // given - 상대 계좌 2개와의 이체 2건 + 입금 1건
+        List<TransactionHistoryRow> rows = List.of(
+                new TransactionHistoryRow(12L, TransactionType.TRANSFER_SEND, new BigDecimal("1000"),
+                        new BigDecimal("99000"), new BigDecimal("10"), "이체1", LocalDateTime.now(), "002", "987-654-321"),
+                new TransactionHistoryRow(11L, TransactionType.TRANSFER_RECEIVE, new BigDecimal("1000"),
+                        new BigDecimal("100010"), BigDecimal.ZERO, "이체2", LocalDateTime.now().minusMinutes(1), "003", "555-666-777"),
+                new TransactionHistoryRow(10L, TransactionType.DEPOSIT, new BigDecimal("1000"),
+                        new BigDecimal("99010"), BigDecimal.ZERO, "입금", LocalDateTime.now().minusMinutes(2), null, null));
+
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockAccount));
+        given(userPort.findById(eq(1L)))
+                .willReturn(Optional.of(mockUser));
+        given(historyQueryPort.findByAccountIdWithPaging(eq(1L), any(PageQuery.class)))
+                .willReturn(new PageResult<>(rows, 0, 10, 3L, 1));
+
+        // when
+        TransactionHistoryResponse response = getTransactionHistoryUseCase.execute(validRequest);
+
+        // then
+        assertThat(response.getTransactions()).hasSize(3);
+        assertThat(response.getTransactions().get(0).getRelatedAccountInfo().getAccountNo()).isEqualTo("987-654-321");
+        assertThat(response.getTransactions().get(1).getRelatedAccountInfo().getBankCode()).isEqualTo("003");
+        assertThat(response.getTransactions().get(2).getRelatedAccountInfo()).isNull();
+        assertThat(response.getTransactions().get(0).getAccountInfo().getAccountNo()).isEqualTo("123-456-789");
+        assertThat(response.getTransactions().get(0).getFee()).isEqualTo(new BigDecimal("10"));
+
+        // 계좌 단건 조회는 조회 대상 계좌(잔액) 한 번뿐
+        then(accountPort).should(times(1)).findById(anyLong());
+    }
+}
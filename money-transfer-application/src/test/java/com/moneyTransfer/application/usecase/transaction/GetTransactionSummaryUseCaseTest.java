@@ -0,0 +1,166 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.account.AccountDirectory;
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.dto.transaction.GetTransactionSummaryRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionSummaryResponse;
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.account.Account;
+import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountStatus;
+import com.moneyTransfer.domain.transaction.DailyTransactionSummary;
+import com.moneyTransfer.domain.transaction.TransactionSummaryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetTransactionSummaryUseCase 테스트")
+class GetTransactionSummaryUseCaseTest {
+
+    @Mock
+    private TransactionSummaryPort transactionSummaryPort;
+
+    @Mock
+    private AccountPort accountPort;
+
+    @InjectMocks
+    private GetTransactionSummaryUseCase getTransactionSummaryUseCase;
+
+    private Account mockAccount;
+
+    @BeforeEach
+    void setUp() {
+        // 실제 resolver가 mock AccountPort로 계좌 ID를 조회하도록 연결 (테스트마다 빈 캐시)
+        ReflectionTestUtils.setField(getTransactionSummaryUseCase, "accountKeyResolver", new AccountKeyResolver(accountPort, new AccountDirectory(accountPort), new AccountLockManager()));
+
+        mockAccount = new Account();
+        mockAccount.setId(1L);
+        mockAccount.setUserId(1L);
+        mockAccount.setBankCode("001");
+        mockAccount.setAccountNo("123-456-789");
+        mockAccount.setAccountNoNorm("123456789");
+        mockAccount.setBalance(new BigDecimal("100000"));
+        mockAccount.setStatus(AccountStatus.ACTIVATE);
+    }
+
+    @Test
+    @DisplayName("일 집계 행을 날짜별로 응답하고 기간 합계는 행을 더해 계산한다")
+    void summaryFromDailyRows() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(transactionSummaryPort.findDailySummaries(1L, startDate, endDate))
+                .willReturn(List.of(
+                        new DailyTransactionSummary(LocalDate.of(2024, 1, 3),
+                                2, new BigDecimal("300000"), 1, new BigDecimal("50000"),
+                                0, BigDecimal.ZERO, 0, BigDecimal.ZERO,
+                                BigDecimal.ZERO, new BigDecimal("350000")),
+                        new DailyTransactionSummary(LocalDate.of(2024, 1, 10),
+                                0, BigDecimal.ZERO, 0, BigDecimal.ZERO,
+                                1, new BigDecimal("100000"), 1, new BigDecimal("20000"),
+                                new BigDecimal("1000"), new BigDecimal("269000"))));
+
+        // when
+        TransactionSummaryResponse response = getTransactionSummaryUseCase.execute(
+                new GetTransactionSummaryRequest("001", "123-456-789", startDate, endDate));
+
+        // then
+        assertThat(response.getDays()).hasSize(2);
+        assertThat(response.getDays().get(0).getDate()).isEqualTo(LocalDate.of(2024, 1, 3));
+        assertThat(response.getDays().get(1).getTotals().getFeeAmount()).isEqualByComparingTo(new BigDecimal("1000"));
+
+        TransactionSummaryResponse.Totals totals = response.getTotals();
+        assertThat(totals.getDepositCount()).isEqualTo(2);
+        assertThat(totals.getDepositAmount()).isEqualByComparingTo(new BigDecimal("300000"));
+        assertThat(totals.getWithdrawCount()).isEqualTo(1);
+        assertThat(totals.getTransferSendAmount()).isEqualByComparingTo(new BigDecimal("100000"));
+        assertThat(totals.getTransferReceiveAmount()).isEqualByComparingTo(new BigDecimal("20000"));
+        assertThat(totals.getFeeAmount()).isEqualByComparingTo(new BigDecimal("1000"));
+        assertThat(totals.getClosingBalance()).isEqualByComparingTo(new BigDecimal("269000"));
+    }
+
+    @Test
+    @DisplayName("기간에 거래가 없으면 빈 목록과 0 합계, 마감 잔액 null")
+    void emptyPeriod() {
+        // given
+        LocalDate day = LocalDate.of(2024, 2, 1);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(transactionSummaryPort.findDailySummaries(1L, day, day)).willReturn(List.of());
+
+        // when
+        TransactionSummaryResponse response = getTransactionSummaryUseCase.execute(
+                new GetTransactionSummaryRequest("001", "123-456-789", day, day));
+
+        // then
+        assertThat(response.getDays()).isEmpty();
+        assertThat(response.getTotals().getDepositCount()).isZero();
+        assertThat(response.getTotals().getFeeAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(response.getTotals().getClosingBalance()).isNull();
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일 이후면 예외 발생")
+    void invalidPeriod() {
+        // when & then
+        assertThatThrownBy(() -> getTransactionSummaryUseCase.execute(new GetTransactionSummaryRequest(
+                "001", "123-456-789", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.INVALID_SUMMARY_PERIOD);
+
+        then(transactionSummaryPort).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("최대 조회 일수를 넘으면 예외 발생")
+    void periodTooLong() {
+        // given
+        ReflectionTestUtils.setField(getTransactionSummaryUseCase, "maxDays", 31L);
+
+        // when & then
+        assertThatThrownBy(() -> getTransactionSummaryUseCase.execute(new GetTransactionSummaryRequest(
+                "001", "123-456-789", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.SUMMARY_PERIOD_TOO_LONG);
+
+        then(transactionSummaryPort).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 계좌로 조회 시 예외 발생")
+    void accountNotFound() {
+        // given
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> getTransactionSummaryUseCase.execute(new GetTransactionSummaryRequest(
+                "001", "123-456-789", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.ACCOUNT_NOT_FOUND);
+
+        then(transactionSummaryPort).should(never()).findDailySummaries(any(), any(), any());
+    }
+}
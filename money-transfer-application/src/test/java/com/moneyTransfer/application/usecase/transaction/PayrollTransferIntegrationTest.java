@@ -0,0 +1,115 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.config.TestApplication;
+import com.moneyTransfer.application.dto.account.AccountResponse;
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.BatchTransferResponse;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.PayrollTransferRequest;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.application.usecase.account.GetAccountByBankCodeAndAccountNoUseCase;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("급여 이체 통합 테스트")
+class PayrollTransferIntegrationTest {
+
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private PayrollTransferUseCase payrollTransferUseCase;
+
+    @Autowired
+    private GetAccountByBankCodeAndAccountNoUseCase getAccountByBankCodeAndAccountNoUseCase;
+
+    private final String testBankCode = "013";
+    private String employerAccountNo;
+    private String employeeAccountNoA;
+    private String employeeAccountNoB;
+
+    @BeforeEach
+    void setUp() {
+        // 각 테스트마다 고유한 계좌번호 생성
+        long timestamp = System.currentTimeMillis();
+        this.employerAccountNo = "17" + (timestamp % 100000000L);
+        this.employeeAccountNoA = "18" + (timestamp % 100000000L);
+        this.employeeAccountNoB = "19" + (timestamp % 100000000L);
+
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "급여회사", "payroll-from" + timestamp + "@example.com",
+            String.format("17171717171%02d", timestamp % 100), testBankCode, employerAccountNo));
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "직원A", "payroll-a" + timestamp + "@example.com",
+            String.format("18181818181%02d", timestamp % 100), testBankCode, employeeAccountNoA));
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "직원B", "payroll-b" + timestamp + "@example.com",
+            String.format("19191919191%02d", timestamp % 100), testBankCode, employeeAccountNoB));
+        depositUseCase.execute(new DepositRequest(testBankCode, employerAccountNo, new BigDecimal("1000000"), "초기 잔액"));
+    }
+
+    @Test
+    @DisplayName("출금 계좌에서 합계만큼 한 번에 빠지고 수취 계좌 오류는 해당 건만 실패한다")
+    void fanOut() {
+        // when
+        BatchTransferResponse response = payrollTransferUseCase.execute(new PayrollTransferRequest(
+            testBankCode, employerAccountNo, List.of(
+                leg(employeeAccountNoA, "300000"),
+                leg("9999999999", "100000"),         // 없는 계좌
+                leg(employeeAccountNoB, "200000"),
+                leg(employeeAccountNoA, "100000")    // 같은 직원에게 두 번
+            )));
+
+        // then - 수수료 1%, 출금 잔액은 요청 순서대로 누적
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        List<BatchTransferResponse.Item> results = response.getResults();
+        assertThat(results.get(0).getTransaction().getBalanceAfter()).isEqualByComparingTo("697000");
+        assertThat(results.get(1).getErrorMessage()).isEqualTo(ErrorMessages.TARGET_ACCOUNT_NOT_FOUND);
+        assertThat(results.get(2).getTransaction().getBalanceAfter()).isEqualByComparingTo("495000");
+        assertThat(results.get(3).getTransaction().getBalanceAfter()).isEqualByComparingTo("394000");
+
+        assertThat(findAccount(employerAccountNo).getBalance()).isEqualByComparingTo("394000");
+        assertThat(findAccount(employeeAccountNoA).getBalance()).isEqualByComparingTo("400000");
+        assertThat(findAccount(employeeAccountNoB).getBalance()).isEqualByComparingTo("200000");
+    }
+
+    @Test
+    @DisplayName("수수료 포함 합계가 잔액을 넘으면 아무 것도 이체하지 않는다")
+    void insufficientTotalRollsBackAll() {
+        assertThatThrownBy(() -> payrollTransferUseCase.execute(new PayrollTransferRequest(
+            testBankCode, employerAccountNo, List.of(
+                leg(employeeAccountNoA, "500000"),
+                leg(employeeAccountNoB, "495000")    // 합계 995,000 + 수수료 9,950
+            ))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(ErrorMessages.INSUFFICIENT_BALANCE);
+
+        assertThat(findAccount(employerAccountNo).getBalance()).isEqualByComparingTo("1000000");
+        assertThat(findAccount(employeeAccountNoA).getBalance()).isEqualByComparingTo("0");
+    }
+
+    private PayrollTransferRequest.Leg leg(String toAccountNo, String amount) {
+        return new PayrollTransferRequest.Leg(testBankCode, toAccountNo, new BigDecimal(amount), "10월 급여");
+    }
+
+    private AccountResponse findAccount(String accountNo) {
+        return getAccountByBankCodeAndAccountNoUseCase.execute(testBankCode, accountNo)
+            .orElseThrow(() -> new IllegalStateException("Test account not found"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.dto.transaction.PendingTransferResponse;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.transaction.PendingTransfer;
+import com.moneyTransfer.domain.transaction.PendingTransferPort;
+import com.moneyTransfer.domain.transaction.PendingTransferStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmitTransferUseCase 테스트")
+class SubmitTransferUseCaseTest {
+
+    @Mock
+    private PendingTransferPort pendingTransferPort;
+
+    @InjectMocks
+    private SubmitTransferUseCase submitTransferUseCase;
+
+    private final TransferRequest validRequest = new TransferRequest(
+            "001", "123-456-789", "002", "987-654-321", new BigDecimal("100000"), "급여 이체");
+
+    @Test
+    @DisplayName("이체 요청을 대기 상태로 접수한다")
+    void execute_Success() {
+        // given
+        given(pendingTransferPort.countPendingUpTo(anyLong())).willReturn(0L);
+        given(pendingTransferPort.save(any(PendingTransfer.class))).willAnswer(invocation -> {
+            PendingTransfer pendingTransfer = invocation.getArgument(0);
+            pendingTransfer.setId(10L);
+            return pendingTransfer;
+        });
+
+        // when
+        PendingTransferResponse response = submitTransferUseCase.execute(validRequest);
+
+        // then
+        assertThat(response.getTransferId()).isEqualTo(10L);
+        assertThat(response.getStatus()).isEqualTo(PendingTransferStatus.PENDING);
+        assertThat(response.getAmount()).isEqualByComparingTo("100000");
+        assertThat(response.getTransactionId()).isNull();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 접수하지 않는다")
+    void execute_QueueFull() {
+        // given
+        ReflectionTestUtils.setField(submitTransferUseCase, "queueCapacity", 100L);
+        given(pendingTransferPort.countPendingUpTo(100L)).willReturn(100L);
+
+        // when & then
+        assertThatThrownBy(() -> submitTransferUseCase.execute(validRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.TRANSFER_QUEUE_FULL);
+        then(pendingTransferPort).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다시 세기 전까지는 마지막으로 센 값에 접수한 건수를 더해 대기열 용량을 판단한다")
+    void execute_QueueFullBetweenChecks() {
+        // given
+        ReflectionTestUtils.setField(submitTransferUseCase, "queueCapacity", 2L);
+        ReflectionTestUtils.setField(submitTransferUseCase, "capacityCheckIntervalMillis", 60000L);
+        given(pendingTransferPort.countPendingUpTo(2L)).willReturn(1L);
+        given(pendingTransferPort.save(any(PendingTransfer.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        submitTransferUseCase.execute(validRequest);
+
+        // then
+        assertThatThrownBy(() -> submitTransferUseCase.execute(validRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.TRANSFER_QUEUE_FULL);
+        then(pendingTransferPort).should(times(1)).countPendingUpTo(2L);
+    }
+
+    @Test
+    @DisplayName("동일 계좌 이체는 대기열 확인 전에 거부한다")
+    void execute_SameAccount() {
+        // given
+        TransferRequest sameAccountRequest = new TransferRequest(
+                "001", "123-456-789", "001", "123456789", new BigDecimal("100000"), "이체");
+
+        // when & then
+        assertThatThrownBy(() -> submitTransferUseCase.execute(sameAccountRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.CANNOT_TRANSFER_TO_SAME_ACCOUNT);
+        then(pendingTransferPort).should(never()).countPendingUpTo(anyLong());
+    }
+}
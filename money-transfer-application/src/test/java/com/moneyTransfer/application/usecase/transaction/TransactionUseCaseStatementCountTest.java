@@ -0,0 +1,183 @@
+package com.moneyTransfer.application.usecase.transaction;
+
+import com.moneyTransfer.application.account.AccountKeyResolver;
+import com.moneyTransfer.application.config.TestApplication;
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.GetTransactionHistoryRequest;
+import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.application.dto.transaction.WithdrawRequest;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.common.util.StringNormalizer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UseCase 한 번에 실행되는 SQL 문장 수를 Hibernate Statistics로 측정한다.
+ * 계좌 재조회 없이 필요한 최소 문장만 실행되는지 확인하는 회귀 테스트 - 늘어도 줄어도 실패하도록 정확한 수를 비교.
+ * UseCase마다 새 트랜잭션(새 영속성 컨텍스트)이므로 계좌 엔티티는 측정 시작 시점에 관리 상태가 아니다.
+ */
+// 문장 수를 재는 동안 일 집계 projector가 끼어들지 않도록 끔
+@SpringBootTest(classes = TestApplication.class,
+        properties = "money-transfer.transaction.projection.enabled=false")
+@ActiveProfiles("test")
+@DisplayName("Transaction UseCase SQL 실행 횟수 테스트")
+class TransactionUseCaseStatementCountTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionUseCaseStatementCountTest.class);
+
+    @Autowired
+    private CreateAccountUseCase createAccountUseCase;
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private WithdrawUseCase withdrawUseCase;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private GetTransactionHistoryUseCase getTransactionHistoryUseCase;
+
+    @Autowired
+    private AccountKeyResolver accountKeyResolver;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final String testBankCode = "004";
+    private String testAccountNo;
+    private final String targetBankCode = "005";
+    private String targetAccountNo;
+
+    @BeforeEach
+    void setUp() {
+        long timestamp = System.currentTimeMillis();
+        this.testAccountNo = "44" + (timestamp % 100000000L);
+        this.targetAccountNo = "55" + (timestamp % 100000000L);
+
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "박민수",
+            "count-source" + timestamp + "@example.com",
+            String.format("44444444444%02d", timestamp % 100),
+            testBankCode,
+            testAccountNo
+        ));
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "최지은",
+            "count-target" + timestamp + "@example.com",
+            String.format("66666666666%02d", timestamp % 100),
+            targetBankCode,
+            targetAccountNo
+        ));
+        depositUseCase.execute(new DepositRequest(testBankCode, testAccountNo, new BigDecimal("1000000"), "초기 잔액"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("입금: 계좌 락 조회, 잔액 UPDATE, 거래 INSERT, 집계 대기열 INSERT, 거래 건수 카운터 UPDATE (계좌 ID는 초기 입금 때 캐시됨)")
+    void deposit_StatementCount() {
+        long count = measure(() -> depositUseCase.execute(
+            new DepositRequest(testBankCode, testAccountNo, new BigDecimal("10000"), "입금")));
+
+        log.info("Deposit statements: {}", count);
+        assertThat(count).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("출금: 입금 경로 + 일일 한도 조건부 UPDATE")
+    void withdraw_StatementCount() {
+        // 일일 한도 행을 미리 만들어 두고 측정 (당일 첫 소비는 행 생성과 UPDATE 재시도가 더해짐)
+        withdrawUseCase.execute(new WithdrawRequest(testBankCode, testAccountNo, new BigDecimal("1000"), "사전 출금"));
+
+        long count = measure(() -> withdrawUseCase.execute(
+            new WithdrawRequest(testBankCode, testAccountNo, new BigDecimal("10000"), "출금")));
+
+        log.info("Withdraw statements: {}", count);
+        assertThat(count).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("이체: 일일 한도 UPDATE, 계좌 2건 락 조회/UPDATE, 거래 2건마다 INSERT, 집계 대기열 INSERT, 카운터 UPDATE")
+    void transfer_StatementCount() {
+        // 일일 한도 행을 미리 만들어 두고 측정 (당일 첫 소비는 행 생성과 UPDATE 재시도가 더해짐)
+        transferUseCase.execute(new TransferRequest(
+            testBankCode, testAccountNo, targetBankCode, targetAccountNo, new BigDecimal("1000"), "사전 이체"));
+
+        long count = measure(() -> transferUseCase.execute(new TransferRequest(
+            testBankCode, testAccountNo, targetBankCode, targetAccountNo, new BigDecimal("10000"), "이체")));
+
+        log.info("Transfer statements: {}", count);
+        assertThat(count).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("이체 (계좌 ID 캐시 없음): 자연키로 계좌 2건 조회가 더해지고, 락은 이미 읽은 엔티티에 대한 잠금 조회 1건씩")
+    void transfer_StatementCountWithoutCachedAccounts() {
+        // 일일 한도 행을 미리 만들어 두고 측정
+        transferUseCase.execute(new TransferRequest(
+            testBankCode, testAccountNo, targetBankCode, targetAccountNo, new BigDecimal("1000"), "사전 이체"));
+        accountKeyResolver.evict(testBankCode, StringNormalizer.normalizeAccountNo(testAccountNo));
+        accountKeyResolver.evict(targetBankCode, StringNormalizer.normalizeAccountNo(targetAccountNo));
+
+        long count = measure(() -> transferUseCase.execute(new TransferRequest(
+            testBankCode, testAccountNo, targetBankCode, targetAccountNo, new BigDecimal("10000"), "이체")));
+
+        log.info("Transfer statements without cached accounts: {}", count);
+        assertThat(count).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("거래내역 조회: 상대 계좌는 목록 조회에 조인 - 페이지 크기와 무관하게 문장 수 일정")
+    void history_StatementCountIndependentOfPageSize() {
+        // given - 상대 계좌 2개로 번갈아 이체 6건
+        String otherAccountNo = "56" + (System.currentTimeMillis() % 100000000L);
+        createAccountUseCase.execute(new CreateAccountRequest(
+            "이서연",
+            "count-other" + otherAccountNo + "@example.com",
+            String.format("33333333333%02d", System.currentTimeMillis() % 100),
+            targetBankCode,
+            otherAccountNo
+        ));
+        for (int i = 0; i < 6; i++) {
+            String toAccountNo = i % 2 == 0 ? targetAccountNo : otherAccountNo;
+            transferUseCase.execute(new TransferRequest(
+                testBankCode, testAccountNo, targetBankCode, toAccountNo, new BigDecimal("1000"), "이체" + i));
+        }
+
+        // when
+        long smallPage = measure(() -> getTransactionHistoryUseCase.execute(
+            new GetTransactionHistoryRequest(testBankCode, testAccountNo, 0, 2, null, null)));
+        long largePage = measure(() -> getTransactionHistoryUseCase.execute(
+            new GetTransactionHistoryRequest(testBankCode, testAccountNo, 0, 6, null, null)));
+
+        // then - 계좌 조회(사용자 조인, 사용자 조회는 영속성 컨텍스트에서), 건수 카운터, 목록(상대 계좌 조인)
+        log.info("History statements: size 2 = {}, size 6 = {}", smallPage, largePage);
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(largePage).isEqualTo(3);
+    }
+
+    private long measure(Runnable useCase) {
+        statistics.clear();
+        useCase.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -1,12 +1,15 @@
 package com.moneyTransfer.application.usecase.transaction;
 
+import com.moneyTransfer.application.account.AccountDirectory;
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.transaction.TransactionResponse;
 import com.moneyTransfer.application.dto.transaction.TransferRequest;
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.common.constant.BusinessConstants;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
 import com.moneyTransfer.domain.account.AccountStatus;
-import com.moneyTransfer.domain.dailylimit.DailyLimit;
 import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
 import com.moneyTransfer.domain.transaction.Transaction;
 import com.moneyTransfer.domain.transaction.TransactionPort;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -46,6 +50,9 @@ class TransferUseCaseTest {
     @Mock
     private DailyLimitPort dailyLimitPort;
 
+    @Mock
+    private AccountLockManager accountLockManager;
+
     @InjectMocks
     private TransferUseCase transferUseCase;
 
@@ -54,7 +61,6 @@ class TransferUseCaseTest {
     private Account mockToAccount;
     private Transaction mockSendTransaction;
     private Transaction mockReceiveTransaction;
-    private DailyLimit mockDailyLimit;
 
     private Account createMockAccount(Long id, Long userId, String bankCode, String accountNo, BigDecimal balance) {
         Account account = new Account();
@@ -70,6 +76,9 @@ class TransferUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        // 실제 resolver가 mock AccountPort로 계좌 ID를 조회하도록 연결 (테스트마다 빈 캐시)
+        ReflectionTestUtils.setField(transferUseCase, "accountKeyResolver", new AccountKeyResolver(accountPort, new AccountDirectory(accountPort), new AccountLockManager()));
+
         validRequest = new TransferRequest(
                 "001",
                 "123-456-789",
@@ -102,8 +111,6 @@ class TransferUseCaseTest {
         mockReceiveTransaction.setId(2L);
         mockReceiveTransaction.setBalanceAfter(new BigDecimal("150000")); // 50000 + 100000
         mockReceiveTransaction.setCreatedAt(LocalDateTime.now());
-
-        mockDailyLimit = DailyLimit.createNew(1L, LocalDate.now());
     }
 
     @Test
@@ -114,10 +121,8 @@ class TransferUseCaseTest {
                 .willReturn(Optional.of(mockFromAccount));
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("002"), eq("987654321")))
                 .willReturn(Optional.of(mockToAccount));
-        given(dailyLimitPort.findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class)))
-                .willReturn(Optional.of(mockDailyLimit));
-        given(dailyLimitPort.save(any(DailyLimit.class)))
-                .willReturn(mockDailyLimit);
+        given(dailyLimitPort.tryConsumeTransfer(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_TRANSFER_LIMIT)))
+                .willReturn(true);
         given(accountPort.findByIdWithLock(eq(1L)))
                 .willReturn(Optional.of(mockFromAccount));
         given(accountPort.findByIdWithLock(eq(2L)))
@@ -143,7 +148,7 @@ class TransferUseCaseTest {
 
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
         then(accountPort).should().findByBankCodeAndAccountNoNorm("002", "987654321");
-        then(dailyLimitPort).should().findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class));
+        then(dailyLimitPort).should().tryConsumeTransfer(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_TRANSFER_LIMIT));
         then(accountPort).should().findByIdWithLock(1L);
         then(accountPort).should().findByIdWithLock(2L);
         then(transactionPort).should(times(2)).save(any(Transaction.class));
@@ -170,8 +175,9 @@ class TransferUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage(ErrorMessages.CANNOT_TRANSFER_TO_SAME_ACCOUNT);
 
-        then(accountPort).should(times(2)).findByBankCodeAndAccountNoNorm("001", "123456789");
-        then(dailyLimitPort).should(never()).findByAccountIdAndLimitDateWithLock(any(), any());
+        // 같은 키는 한 번만 조회하고 두 번째는 캐시 사용
+        then(accountPort).should(times(1)).findByBankCodeAndAccountNoNorm("001", "123456789");
+        then(dailyLimitPort).should(never()).tryConsumeTransfer(any(), any(), any(), any());
     }
 
     @Test
@@ -225,16 +231,15 @@ class TransferUseCaseTest {
                 .willReturn(Optional.of(mockFromAccount));
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("002"), eq("987654321")))
                 .willReturn(Optional.of(mockToAccount));
-        given(dailyLimitPort.findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class)))
-                .willReturn(Optional.of(mockDailyLimit));
+        given(dailyLimitPort.tryConsumeTransfer(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_TRANSFER_LIMIT)))
+                .willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> transferUseCase.execute(largeRequest))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage(ErrorMessages.DAILY_TRANSFER_LIMIT_EXCEEDED);
 
-        then(dailyLimitPort).should().findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class));
-        then(dailyLimitPort).should(never()).save(any());
+        then(dailyLimitPort).should().tryConsumeTransfer(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_TRANSFER_LIMIT));
         then(accountPort).should(never()).findByIdWithLock(any());
     }
 
@@ -255,10 +260,8 @@ class TransferUseCaseTest {
                 .willReturn(Optional.of(mockFromAccount));
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("002"), eq("987654321")))
                 .willReturn(Optional.of(mockToAccount));
-        given(dailyLimitPort.findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class)))
-                .willReturn(Optional.of(mockDailyLimit));
-        given(dailyLimitPort.save(any(DailyLimit.class)))
-                .willReturn(mockDailyLimit);
+        given(dailyLimitPort.tryConsumeTransfer(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_TRANSFER_LIMIT)))
+                .willReturn(true);
         given(accountPort.findByIdWithLock(eq(1L)))
                 .willReturn(Optional.of(mockFromAccount));
         given(accountPort.findByIdWithLock(eq(2L)))
@@ -297,10 +300,8 @@ class TransferUseCaseTest {
                 .willReturn(Optional.of(higherIdFromAccount));
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(lowerIdToAccount));
-        given(dailyLimitPort.findByAccountIdAndLimitDateWithLock(eq(2L), any(LocalDate.class)))
-                .willReturn(Optional.of(mockDailyLimit));
-        given(dailyLimitPort.save(any(DailyLimit.class)))
-                .willReturn(mockDailyLimit);
+        given(dailyLimitPort.tryConsumeTransfer(eq(2L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_TRANSFER_LIMIT)))
+                .willReturn(true);
 
         // ID 순서대로 락 획득: 1L 먼저, 2L 나중에
         given(accountPort.findByIdWithLock(eq(1L)))
@@ -1,12 +1,16 @@
 package com.moneyTransfer.application.usecase.transaction;
 
+import com.moneyTransfer.application.account.AccountDirectory;
+import com.moneyTransfer.application.account.AccountKeyResolver;
 import com.moneyTransfer.application.dto.transaction.TransactionResponse;
 import com.moneyTransfer.application.dto.transaction.WithdrawRequest;
+import com.moneyTransfer.application.lock.AccountLockManager;
+import com.moneyTransfer.common.constant.BusinessConstants;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
 import com.moneyTransfer.domain.account.AccountStatus;
-import com.moneyTransfer.domain.dailylimit.DailyLimit;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
 import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
 import com.moneyTransfer.domain.transaction.Transaction;
 import com.moneyTransfer.domain.transaction.TransactionPort;
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -45,13 +50,18 @@ class WithdrawUseCaseTest {
     @Mock
     private DailyLimitPort dailyLimitPort;
 
+    @Mock
+    private BalanceBucketPort balanceBucketPort;
+
+    @Mock
+    private AccountLockManager accountLockManager;
+
     @InjectMocks
     private WithdrawUseCase withdrawUseCase;
 
     private WithdrawRequest validRequest;
     private Account mockAccount;
     private Transaction mockTransaction;
-    private DailyLimit mockDailyLimit;
 
     private Account createMockAccount(Long id, Long userId, String bankCode, String accountNo, BigDecimal balance) {
         Account account = new Account();
@@ -67,6 +77,9 @@ class WithdrawUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        // 실제 resolver가 mock AccountPort로 계좌 ID를 조회하도록 연결 (테스트마다 빈 캐시)
+        ReflectionTestUtils.setField(withdrawUseCase, "accountKeyResolver", new AccountKeyResolver(accountPort, new AccountDirectory(accountPort), new AccountLockManager()));
+
         validRequest = new WithdrawRequest(
                 "001",
                 "123-456-789",
@@ -84,8 +97,6 @@ class WithdrawUseCaseTest {
         mockTransaction.setId(1L);
         mockTransaction.setBalanceAfter(new BigDecimal("50000"));
         mockTransaction.setCreatedAt(LocalDateTime.now());
-
-        mockDailyLimit = DailyLimit.createNew(1L, LocalDate.now());
     }
 
     @Test
@@ -94,10 +105,8 @@ class WithdrawUseCaseTest {
         // given
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(mockAccount));
-        given(dailyLimitPort.findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class)))
-                .willReturn(Optional.of(mockDailyLimit));
-        given(dailyLimitPort.save(any(DailyLimit.class)))
-                .willReturn(mockDailyLimit);
+        given(dailyLimitPort.tryConsumeWithdraw(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_WITHDRAW_LIMIT)))
+                .willReturn(true);
         given(accountPort.findByIdWithLock(eq(1L)))
                 .willReturn(Optional.of(mockAccount));
         given(accountPort.save(any(Account.class)))
@@ -115,11 +124,10 @@ class WithdrawUseCaseTest {
         assertThat(response.getRelatedAccountInfo()).isNull(); // 출금은 관련 계좌 없음
         assertThat(response.getTransactionType()).isEqualTo(TransactionType.WITHDRAW);
         assertThat(response.getAmount()).isEqualTo(new BigDecimal("50000"));
-        assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("50000"));
+        assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("50000.00"));
 
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
-        then(dailyLimitPort).should().findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class));
-        then(dailyLimitPort).should().save(any(DailyLimit.class));
+        then(dailyLimitPort).should().tryConsumeWithdraw(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_WITHDRAW_LIMIT));
         then(accountPort).should().findByIdWithLock(1L);
         then(accountPort).should().save(any(Account.class));
         then(transactionPort).should().save(any(Transaction.class));
@@ -138,7 +146,7 @@ class WithdrawUseCaseTest {
                 .hasMessage(ErrorMessages.ACCOUNT_NOT_FOUND);
 
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
-        then(dailyLimitPort).should(never()).findByAccountIdAndLimitDateWithLock(any(), any());
+        then(dailyLimitPort).should(never()).tryConsumeWithdraw(any(), any(), any(), any());
     }
 
     @Test
@@ -154,16 +162,15 @@ class WithdrawUseCaseTest {
 
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(mockAccount));
-        given(dailyLimitPort.findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class)))
-                .willReturn(Optional.of(mockDailyLimit));
+        given(dailyLimitPort.tryConsumeWithdraw(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_WITHDRAW_LIMIT)))
+                .willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> withdrawUseCase.execute(largeRequest))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage(ErrorMessages.DAILY_WITHDRAW_LIMIT_EXCEEDED);
 
-        then(dailyLimitPort).should().findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class));
-        then(dailyLimitPort).should(never()).save(any());
+        then(dailyLimitPort).should().tryConsumeWithdraw(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_WITHDRAW_LIMIT));
         then(accountPort).should(never()).findByIdWithLock(any());
     }
 
@@ -180,10 +187,8 @@ class WithdrawUseCaseTest {
 
         given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
                 .willReturn(Optional.of(mockAccount));
-        given(dailyLimitPort.findByAccountIdAndLimitDateWithLock(eq(1L), any(LocalDate.class)))
-                .willReturn(Optional.of(mockDailyLimit));
-        given(dailyLimitPort.save(any(DailyLimit.class)))
-                .willReturn(mockDailyLimit);
+        given(dailyLimitPort.tryConsumeWithdraw(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_WITHDRAW_LIMIT)))
+                .willReturn(true);
         given(accountPort.findByIdWithLock(eq(1L)))
                 .willReturn(Optional.of(mockAccount));
         given(accountPort.save(any(Account.class)))
@@ -197,4 +202,73 @@ class WithdrawUseCaseTest {
         // then
         then(accountPort).should().findByBankCodeAndAccountNoNorm("001", "123456789");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드 - 락 조회 없이 조건부 UPDATE로 출금")
+    void withdrawWithConditionalUpdate() {
+        // given
+        ReflectionTestUtils.setField(withdrawUseCase, "balanceUpdateMode", BalanceUpdateMode.CONDITIONAL_UPDATE);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(dailyLimitPort.tryConsumeWithdraw(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_WITHDRAW_LIMIT)))
+                .willReturn(true);
+        given(accountPort.decreaseBalance(eq(1L), eq(new BigDecimal("50000"))))
+                .willReturn(Optional.of(createMockAccount(1L, 1L, "001", "123-456-789", new BigDecimal("50000"))));
+        given(transactionPort.save(any(Transaction.class)))
+                .willReturn(mockTransaction);
+
+        // when
+        TransactionResponse response = withdrawUseCase.execute(validRequest);
+
+        // then
+        assertThat(response.getBalanceAfter()).isEqualTo(new BigDecimal("50000.00"));
+        assertThat(response.getAccountInfo().getAccountNo()).isEqualTo("123-456-789");
+
+        then(accountPort).should().decreaseBalance(1L, new BigDecimal("50000"));
+        then(accountPort).should(never()).findByIdWithLock(any());
+        then(accountPort).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드 - 잔액 조건 불충족 시 잔액 부족 예외")
+    void withdrawWithConditionalUpdateInsufficientBalance() {
+        // given
+        ReflectionTestUtils.setField(withdrawUseCase, "balanceUpdateMode", BalanceUpdateMode.CONDITIONAL_UPDATE);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(dailyLimitPort.tryConsumeWithdraw(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_WITHDRAW_LIMIT)))
+                .willReturn(true);
+        given(accountPort.decreaseBalance(eq(1L), any(BigDecimal.class)))
+                .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> withdrawUseCase.execute(validRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.INSUFFICIENT_BALANCE);
+
+        then(transactionPort).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("잔액 분할 계좌 - bucket 합계가 부족하면 잔액 부족 예외")
+    void withdrawFromShardedAccountInsufficientBalance() {
+        // given
+        mockAccount.setBalanceBucketCount(8);
+        given(accountPort.findByBankCodeAndAccountNoNorm(eq("001"), eq("123456789")))
+                .willReturn(Optional.of(mockAccount));
+        given(accountPort.findById(1L))
+                .willReturn(Optional.of(mockAccount));
+        given(dailyLimitPort.tryConsumeWithdraw(eq(1L), any(LocalDate.class), any(BigDecimal.class), eq(BusinessConstants.DAILY_WITHDRAW_LIMIT)))
+                .willReturn(true);
+        given(balanceBucketPort.debit(1L, 8, new BigDecimal("50000")))
+                .willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> withdrawUseCase.execute(validRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.INSUFFICIENT_BALANCE);
+
+        then(accountPort).should(never()).findByIdWithLock(any());
+        then(transactionPort).should(never()).save(any());
+    }
+}
@@ -0,0 +1,32 @@
+package com.moneyTransfer.benchmark;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 유스케이스 벤치마크용 최소 컨텍스트 (H2 인메모리).
+ */
+@SpringBootApplication(scanBasePackages = {
+    "com.moneyTransfer.application",
+    "com.moneyTransfer.persistence"
+})
+@EntityScan(basePackages = "com.moneyTransfer.persistence.entity")
+@EnableJpaRepositories(basePackages = "com.moneyTransfer.persistence.repository")
+public class BenchmarkApplication {
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;LOCK_TIMEOUT=10000",
+                        "spring.datasource.hikari.maximum-pool-size=40",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+}
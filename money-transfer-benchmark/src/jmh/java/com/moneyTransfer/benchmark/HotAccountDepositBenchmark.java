@@ -0,0 +1,64 @@
+package com.moneyTransfer.benchmark;
+
+import com.moneyTransfer.application.dto.account.CreateAccountRequest;
+import com.moneyTransfer.application.dto.transaction.DepositRequest;
+import com.moneyTransfer.application.dto.transaction.TransactionResponse;
+import com.moneyTransfer.application.usecase.account.CreateAccountUseCase;
+import com.moneyTransfer.application.usecase.transaction.DepositCoalescer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 계좌(가맹점)로 32개 스레드가 동시에 입금할 때 초당 처리량.
+ * coalescing=false는 요청마다 행 락을 잡는 기존 경로, true는 묶음 처리 경로.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class HotAccountDepositBenchmark {
+
+    private static final String BANK_CODE = "090";
+    private static final String ACCOUNT_NO = "9000000001";
+
+    @Param({"false", "true"})
+    public boolean coalescing;
+
+    private ConfigurableApplicationContext context;
+    private DepositCoalescer depositCoalescer;
+    private DepositRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "money-transfer.transaction.deposit-coalescing.enabled=" + coalescing);
+        context.getBean(CreateAccountUseCase.class).execute(new CreateAccountRequest(
+                "가맹점", "merchant@example.com", "9001011234567", BANK_CODE, ACCOUNT_NO));
+
+        depositCoalescer = context.getBean(DepositCoalescer.class);
+        request = new DepositRequest(BANK_CODE, ACCOUNT_NO, new BigDecimal("1000"), "결제 대금");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponse deposit() {
+        return depositCoalescer.deposit(request);
+    }
+}
@@ -0,0 +1,38 @@
+package com.moneyTransfer.benchmark;
+
+import com.moneyTransfer.domain.common.IdGeneratorPort;
+import com.moneyTransfer.persistence.id.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 32개 스레드에서 초당 ID 발급량 측정.
+ * AtomicLong 카운터는 경합만 있는 하한선 비교용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class IdGeneratorBenchmark {
+
+    private final IdGeneratorPort timeOrdered = new TimeOrderedIdGenerator(1);
+    private final AtomicLong counter = new AtomicLong();
+
+    @Benchmark
+    public long timeOrderedId() {
+        return timeOrdered.nextId();
+    }
+
+    @Benchmark
+    public long atomicCounter() {
+        return counter.incrementAndGet();
+    }
+}
@@ -0,0 +1,64 @@
+package com.moneyTransfer.benchmark;
+
+import com.moneyTransfer.application.usecase.transaction.TransferUseCase;
+import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.domain.account.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이체 한 건의 도메인 금액 연산(입금, 수수료 계산, 출금 가능 확인, 출금) 비용 (ns/op).
+ * bigDecimal은 Money 도입 전과 같은 BigDecimal 연산, account는 유스케이스가 실제로 호출하는
+ * Account.deposit/canWithdraw/withdraw(BigDecimal)와 TransferUseCase.calculateFee로, 경계의 BigDecimal 변환까지 포함한다.
+ * bytes/op는 -PjmhProfilers=gc의 gc.alloc.rate.norm으로 확인.
+ *
+ *   ./gradlew :money-transfer-benchmark:jmh -PjmhIncludes=MoneyBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private final BigDecimal amount = new BigDecimal("12345");
+
+    private BigDecimal decimalBalance;
+    private Account account;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        decimalBalance = new BigDecimal("100000000.00");
+        account = Account.create(1L, "001", "1234567890");
+        account.setBalance(decimalBalance);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        decimalBalance = decimalBalance.add(amount);
+        BigDecimal fee = amount.multiply(BusinessConstants.TRANSFER_FEE_RATE).setScale(0, RoundingMode.HALF_UP);
+        BigDecimal totalDeduction = amount.add(fee);
+        if (decimalBalance.compareTo(totalDeduction) >= 0) {
+            decimalBalance = decimalBalance.subtract(totalDeduction);
+        }
+        return decimalBalance;
+    }
+
+    @Benchmark
+    public BigDecimal account() {
+        account.deposit(amount);
+        BigDecimal totalDeduction = amount.add(TransferUseCase.calculateFee(amount));
+        if (account.canWithdraw(totalDeduction)) {
+            account.withdraw(totalDeduction);
+        }
+        return account.getBalance();
+    }
+}
@@ -0,0 +1,75 @@
+package com.moneyTransfer.benchmark;
+
+import com.moneyTransfer.common.util.AccountKeyPacker;
+import com.moneyTransfer.common.util.StringNormalizer;
+import com.moneyTransfer.common.util.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건의 계좌번호 정규화 + 검증 비용 (ns/op).
+ * regex*는 변경 전 구현(replaceAll, String.matches)을 그대로 옮긴 비교 기준.
+ * bytes/op는 GC 프로파일러로 확인 (gc.alloc.rate.norm).
+ *
+ *   ./gradlew :money-transfer-benchmark:jmh -PjmhIncludes=Normalization -PjmhProfilers=gc
+ *
+ * 결과는 JMH로 측정한 값만 기록한다 (ns/op는 Score, B/op는 gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NormalizationBenchmark {
+
+    private static final String BANK_CODE = "001";
+
+    // 정규화된 입력(대부분의 API 요청)과 구분자가 섞인 입력(사람이 입력한 값, 대량 등록 파일)
+    @Param({"12345678901234", "123-4567-890123"})
+    public String accountNo;
+
+    @Benchmark
+    public String regexNormalize() {
+        return accountNo.replaceAll("[^0-9]", "");
+    }
+
+    @Benchmark
+    public String normalize() {
+        return StringNormalizer.normalizeAccountNo(accountNo);
+    }
+
+    // 기존 요청 경로: 검증(정규화 + matches) 후 다시 정규화
+    @Benchmark
+    public String regexValidateAndNormalize() {
+        String normalized = accountNo.replaceAll("[^0-9]", "");
+        if (!normalized.matches("^\\d{10,14}$")) {
+            return null;
+        }
+        return accountNo.replaceAll("[^0-9]", "");
+    }
+
+    @Benchmark
+    public String validateAndNormalize() {
+        if (!ValidationUtils.isValidAccountNo(accountNo)) {
+            return null;
+        }
+        return StringNormalizer.normalizeAccountNo(accountNo);
+    }
+
+    // 정규화 후 문자열을 long 키로 묶음 - normalizeAndPack 이전 경로
+    @Benchmark
+    public long normalizeThenPack() {
+        return AccountKeyPacker.pack(BANK_CODE, StringNormalizer.normalizeAccountNo(accountNo));
+    }
+
+    // 계좌 디렉터리 조회 경로: 정규화 + 검증 + 묶기를 한 번에 (AccountKeyResolver)
+    @Benchmark
+    public long normalizeAndPack() {
+        return AccountKeyPacker.normalizeAndPack(BANK_CODE, accountNo);
+    }
+}
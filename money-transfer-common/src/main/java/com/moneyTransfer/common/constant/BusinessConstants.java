@@ -9,11 +9,14 @@ public class BusinessConstants {
     public static final int ACCOUNT_NO_MIN_LENGTH = 10;
     public static final int ACCOUNT_NO_MAX_LENGTH = 14;
     public static final int ID_CARD_LENGTH = 13;
+    public static final int MIN_BALANCE_BUCKET_COUNT = 2;
+    public static final int MAX_BALANCE_BUCKET_COUNT = 64;
 
     // 거래 한도 상수들
     public static final BigDecimal DAILY_WITHDRAW_LIMIT = new BigDecimal("1000000"); // 100만원
     public static final BigDecimal DAILY_TRANSFER_LIMIT = new BigDecimal("3000000"); // 300만원
     public static final BigDecimal TRANSFER_FEE_RATE = new BigDecimal("0.01"); // 1%
+    public static final long TRANSFER_FEE_RATE_BASIS_POINTS = 100; // 1% (정수 연산용, TRANSFER_FEE_RATE와 같은 값)
 
     // 기본 거래 설명 메시지
     public static final String DEFAULT_DEPOSIT_DESCRIPTION = "입금";
@@ -19,9 +19,13 @@ public class ErrorMessages {
     public static final String ACCOUNT_NOT_FOUND = "계좌를 찾을 수 없습니다";
     public static final String ACCOUNT_ALREADY_DEACTIVATED = "이미 비활성화된 계좌입니다";
     public static final String ACCOUNT_HAS_BALANCE = "잔액이 있는 계좌는 삭제할 수 없습니다";
+    public static final String INVALID_BALANCE_BUCKET_COUNT = "잔액 분할 수는 2 이상 64 이하여야 합니다";
+    public static final String BALANCE_ALREADY_SHARDED = "이미 잔액이 분할된 계좌입니다";
+    public static final String INACTIVE_ACCOUNT_SHARDING = "비활성 계좌는 잔액을 분할할 수 없습니다";
 
     // Transaction 관련 에러 메시지
     public static final String INVALID_AMOUNT = "금액은 0보다 커야 합니다";
+    public static final String AMOUNT_SCALE_EXCEEDED = "금액은 소수 둘째 자리까지만 입력할 수 있습니다";
     public static final String DEPOSIT_AMOUNT_INVALID = "입금 금액은 0보다 커야 합니다";
     public static final String WITHDRAW_AMOUNT_INVALID = "출금 금액은 0보다 커야 합니다";
     public static final String INSUFFICIENT_BALANCE = "잔액이 부족합니다";
@@ -31,6 +35,9 @@ public class ErrorMessages {
     public static final String WITHDRAW_ACCOUNT_ID_REQUIRED = "출금 계좌번호는 필수입니다";
     public static final String FROM_ACCOUNT_ID_REQUIRED = "출금 계좌 ID는 필수입니다";
     public static final String TO_ACCOUNT_ID_REQUIRED = "입금 계좌 ID는 필수입니다";
+    public static final String BATCH_DEPOSIT_ACCOUNT_MISMATCH = "묶음 입금은 같은 계좌에 대해서만 가능합니다";
+    public static final String BULK_DEPOSIT_INVALID_LINE = "입금 요청 형식이 올바르지 않습니다";
+    public static final String BULK_DEPOSIT_MALFORMED_INPUT = "NDJSON 형식이 올바르지 않아 이후 요청은 처리하지 않았습니다";
 
     // User 일관성 검증 에러 메시지
     public static final String USER_NAME_MISMATCH = "제공된 사용자명이 기존 정보와 일치하지 않습니다";
@@ -42,10 +49,21 @@ public class ErrorMessages {
     // 동시성 제어 관련 에러 메시지
     public static final String OPTIMISTIC_LOCK_CONFLICT = "동시 접근으로 인한 충돌이 발생했습니다. 다시 시도해주세요";
     public static final String DATA_INTEGRITY_CONFLICT = "동시 접근으로 인한 데이터 충돌이 발생했습니다. 다시 시도해주세요";
+    public static final String ACCOUNT_LOCK_TIMEOUT = "계좌에 처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요";
+    public static final String ACCOUNT_LOCK_ALREADY_HELD = "한 트랜잭션에서 계좌 락은 한 번만 잡을 수 있습니다";
 
     // 이체 관련 에러 메시지
     public static final String CANNOT_TRANSFER_TO_SAME_ACCOUNT = "같은 계좌로는 이체할 수 없습니다";
     public static final String TARGET_ACCOUNT_NOT_FOUND = "이체 대상 계좌를 찾을 수 없습니다";
+    public static final String TRANSFER_QUEUE_FULL = "대기 중인 이체 요청이 많습니다. 잠시 후 다시 시도해주세요";
+    public static final String PENDING_TRANSFER_NOT_FOUND = "이체 요청을 찾을 수 없습니다";
+    public static final String BATCH_TRANSFER_EMPTY = "이체 요청이 비어 있습니다";
+    public static final String BATCH_TRANSFER_SIZE_EXCEEDED = "한 번에 요청할 수 있는 이체 건수를 초과했습니다";
+    public static final String INVALID_TRANSACTION_CURSOR = "유효하지 않은 거래내역 커서입니다";
+    public static final String INVALID_EXPORT_FORMAT = "지원하지 않는 거래내역 내보내기 형식입니다";
+    public static final String TRANSACTION_EXPORT_BUSY = "진행 중인 거래내역 내보내기가 많습니다. 잠시 후 다시 시도해주세요";
+    public static final String INVALID_SUMMARY_PERIOD = "집계 조회 기간이 올바르지 않습니다";
+    public static final String SUMMARY_PERIOD_TOO_LONG = "집계 조회 기간이 허용 범위를 초과했습니다";
 
     // 일일 한도 관련 에러 메시지
     public static final String DAILY_WITHDRAW_LIMIT_EXCEEDED = "일일 출금 한도를 초과했습니다";
@@ -55,6 +73,12 @@ public class ErrorMessages {
     public static final String WITHDRAW_AMOUNT_MUST_BE_POSITIVE = "출금 금액은 0보다 커야 합니다";
     public static final String TRANSFER_AMOUNT_MUST_BE_POSITIVE = "이체 금액은 0보다 커야 합니다";
 
+    // 멱등 키 관련 에러 메시지
+    public static final String IDEMPOTENCY_KEY_INVALID = "Idempotency-Key는 1~100자여야 합니다";
+    public static final String IDEMPOTENCY_KEY_MISMATCH = "이미 다른 요청에 사용된 Idempotency-Key입니다";
+    public static final String IDEMPOTENCY_REQUEST_IN_PROGRESS = "같은 Idempotency-Key로 처리 중인 요청이 있습니다. 잠시 후 다시 시도해주세요";
+    public static final String IDEMPOTENCY_OUTCOME_UNKNOWN = "같은 Idempotency-Key의 이전 요청 처리 결과를 확인할 수 없습니다. 거래내역을 확인한 뒤 새 키로 요청해주세요";
+
     // HTTP 관련 에러 메시지
     public static final String METHOD_NOT_ALLOWED = "지원하지 않는 HTTP 메서드입니다";
     public static final String MEDIA_TYPE_NOT_SUPPORTED = "지원하지 않는 미디어 타입입니다";
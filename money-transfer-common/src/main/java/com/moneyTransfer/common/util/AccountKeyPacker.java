@@ -0,0 +1,104 @@
+package com.moneyTransfer.common.util;
+
+/**
+ * (bankCode, accountNoNorm)을 하나의 long으로 묶는다.
+ *
+ * 정규화 계좌번호는 10~14자리 숫자이고 은행코드는 3자리 숫자이므로 문자열을 만들지 않고 한 번 훑어 변환할 수 있다.
+ * 자릿수를 함께 담아 앞자리 0이 있는 계좌번호(예: 0123456789와 123456789)를 구분한다.
+ *
+ * <pre>
+ * bit 60     : 1 (빈 슬롯 0과 구분)
+ * bit 50..59 : 은행코드 (0~999)
+ * bit 47..49 : 계좌번호 자릿수 - 10 (0~4)
+ * bit 0..46  : 계좌번호 (최대 14자리 < 2^47)
+ * </pre>
+ *
+ * 형식이 맞지 않는 키는 NOT_PACKABLE을 반환하며, 호출자는 문자열 키 경로로 처리한다.
+ */
+public final class AccountKeyPacker {
+
+    public static final long NOT_PACKABLE = -1L;
+
+    private static final int BANK_CODE_LENGTH = 3;
+
+    private static final long MARKER = 1L << 60;
+    private static final int BANK_CODE_SHIFT = 50;
+    private static final int LENGTH_SHIFT = 47;
+
+    // 이미 정규화된 계좌번호 - 숫자 외 문자가 있으면 NOT_PACKABLE
+    public static long pack(String bankCode, String accountNoNorm) {
+        return pack(bankCode, accountNoNorm, false);
+    }
+
+    /**
+     * 정규화(숫자 외 문자 제거)와 10~14자리 검증, 묶기를 한 번의 순회로 처리한다.
+     * normalizeAccountNo 후 pack한 값과 같으며, 중간 문자열을 만들지 않는다.
+     */
+    public static long normalizeAndPack(String bankCode, String accountNo) {
+        return pack(bankCode, accountNo, true);
+    }
+
+    /**
+     * 계좌번호 부분(자릿수 + 번호)만 정규화하며 묶는다. 10~14자리가 아니면 NOT_PACKABLE.
+     * 은행코드 없이 계좌번호 형식만 검증할 때 쓴다 (ValidationUtils).
+     */
+    public static long normalizeAndPackAccountNo(String accountNo) {
+        return packAccountNo(accountNo, true);
+    }
+
+    private static long pack(String bankCode, String accountNo, boolean skipNonDigits) {
+        if (bankCode == null || bankCode.length() != BANK_CODE_LENGTH) {
+            return NOT_PACKABLE;
+        }
+        long bank = digits(bankCode);
+        if (bank < 0) {
+            return NOT_PACKABLE;
+        }
+        long packedAccountNo = packAccountNo(accountNo, skipNonDigits);
+        if (packedAccountNo == NOT_PACKABLE) {
+            return NOT_PACKABLE;
+        }
+        return MARKER | bank << BANK_CODE_SHIFT | packedAccountNo;
+    }
+
+    private static long packAccountNo(String accountNo, boolean skipNonDigits) {
+        if (accountNo == null) {
+            return NOT_PACKABLE;
+        }
+        long number = 0;
+        int length = 0;
+        for (int i = 0; i < accountNo.length(); i++) {
+            char c = accountNo.charAt(i);
+            if (!StringNormalizer.isDigit(c)) {
+                if (skipNonDigits) {
+                    continue;
+                }
+                return NOT_PACKABLE;
+            }
+            if (++length > ValidationUtils.MAX_ACCOUNT_NO_LENGTH) {
+                return NOT_PACKABLE;
+            }
+            number = number * 10 + (c - '0');
+        }
+        if (length < ValidationUtils.MIN_ACCOUNT_NO_LENGTH) {
+            return NOT_PACKABLE;
+        }
+        return (long) (length - ValidationUtils.MIN_ACCOUNT_NO_LENGTH) << LENGTH_SHIFT | number;
+    }
+
+    // 숫자만으로 이뤄진 경우 그 값을, 아니면 -1
+    private static long digits(String value) {
+        long result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!StringNormalizer.isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private AccountKeyPacker() {
+    }
+}
@@ -3,20 +3,57 @@ package com.moneyTransfer.common.util;
 public class StringNormalizer {
 
     public static String normalizeIdCardNo(String idCardNo) {
-        if (idCardNo == null) return null;
-        return idCardNo.replaceAll("[^0-9]", "");
+        return digitsOnly(idCardNo);
     }
 
     public static String normalizeAccountNo(String accountNo) {
-        if (accountNo == null) return null;
-        return accountNo.replaceAll("[^0-9]", "");
+        return digitsOnly(accountNo);
     }
 
     public static String normalizePhoneNo(String phoneNo) {
-        if (phoneNo == null) return null;
-        return phoneNo.replaceAll("[^0-9]", "");
+        return digitsOnly(phoneNo);
+    }
+
+    // 숫자(0-9)만 남김 - 요청마다 호출되므로 정규식 대신 한 번 훑고, 이미 숫자뿐이면 원본을 그대로 반환
+    private static String digitsOnly(String value) {
+        if (value == null) return null;
+
+        int length = value.length();
+        int firstNonDigit = 0;
+        while (firstNonDigit < length && isDigit(value.charAt(firstNonDigit))) {
+            firstNonDigit++;
+        }
+        if (firstNonDigit == length) {
+            return value;
+        }
+
+        char[] digits = new char[length - 1];
+        value.getChars(0, firstNonDigit, digits, 0);
+        int count = firstNonDigit;
+        for (int i = firstNonDigit + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (isDigit(c)) {
+                digits[count++] = c;
+            }
+        }
+        return new String(digits, 0, count);
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // 숫자가 아닌 문자를 빼고 센 숫자 개수 (정규화 결과의 길이)
+    static int countDigits(String value) {
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (isDigit(value.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
     }
 
     private StringNormalizer() {
     }
-}
\ No newline at end of file
+}
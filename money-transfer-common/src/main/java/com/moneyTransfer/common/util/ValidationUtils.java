@@ -1,26 +1,30 @@
 package com.moneyTransfer.common.util;
 
+import java.util.regex.Pattern;
+
 public class ValidationUtils {
 
-    private static final String EMAIL_PATTERN = "^[A-Za-z0-9+_.-]+@(.+)$";
-    private static final String ID_CARD_PATTERN = "^\\d{13}$";
-    private static final String ACCOUNT_NO_PATTERN = "^\\d{10,14}$";
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    // 정규화(숫자만 남김) 후 자릿수
+    public static final int ID_CARD_NO_LENGTH = 13;
+    public static final int MIN_ACCOUNT_NO_LENGTH = 10;
+    public static final int MAX_ACCOUNT_NO_LENGTH = 14;
 
     public static boolean isValidEmail(String email) {
         if (email == null) return false;
-        return email.matches(EMAIL_PATTERN);
+        return EMAIL_PATTERN.matcher(email).matches();
     }
 
+    // 정규화 결과가 13자리 숫자인지 - 정규화 문자열을 만들지 않고 숫자 개수만 셈
     public static boolean isValidIdCardNo(String idCardNo) {
         if (idCardNo == null) return false;
-        String normalized = StringNormalizer.normalizeIdCardNo(idCardNo);
-        return normalized.matches(ID_CARD_PATTERN);
+        return StringNormalizer.countDigits(idCardNo) == ID_CARD_NO_LENGTH;
     }
 
+    // 정규화 결과가 10~14자리 숫자인지 - 디렉터리 키와 같은 규칙으로 한 번에 정규화하며 검증
     public static boolean isValidAccountNo(String accountNo) {
-        if (accountNo == null) return false;
-        String normalized = StringNormalizer.normalizeAccountNo(accountNo);
-        return normalized.matches(ACCOUNT_NO_PATTERN);
+        return AccountKeyPacker.normalizeAndPackAccountNo(accountNo) != AccountKeyPacker.NOT_PACKABLE;
     }
 
     public static boolean isNotBlank(String str) {
@@ -29,4 +33,4 @@ public class ValidationUtils {
 
     private ValidationUtils() {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.moneyTransfer.common.util;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 백그라운드 worker용 ThreadFactory.
+ *
+ * 가상 스레드 모드(spring.threads.virtual.enabled)면 가상 스레드를, 아니면 데몬 플랫폼 스레드를 만든다.
+ * 바이트코드는 Java 17 타깃이므로 Thread.ofVirtual 대신 Spring의 VirtualThreadTaskExecutor를 통해 만들며,
+ * 가상 스레드 모드는 Java 21 런타임에서만 켤 수 있다.
+ */
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    // 스레드 하나만 쓰는 executor용 - 모든 스레드에 같은 이름
+    public static ThreadFactory named(String name, boolean virtual) {
+        return create(() -> name, virtual);
+    }
+
+    // 여러 스레드를 쓰는 executor용 - prefix 뒤에 1부터 번호
+    public static ThreadFactory numbered(String prefix, boolean virtual) {
+        AtomicInteger threadNo = new AtomicInteger();
+        return create(() -> prefix + threadNo.incrementAndGet(), virtual);
+    }
+
+    private static ThreadFactory create(Supplier<String> names, boolean virtual) {
+        ThreadFactory base = virtual ? new VirtualThreadTaskExecutor().getVirtualThreadFactory() : Thread::new;
+        return runnable -> {
+            Thread thread = base.newThread(runnable);
+            thread.setName(names.get());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.moneyTransfer.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("계좌 키 묶기 테스트")
+class AccountKeyPackerTest {
+
+    private static final String[] SAMPLES = {
+            "", "-", "1234567890", "123-456-7890", " 123 456 7890 ", "12345678901234", "123456789012345",
+            "123456789", "0012345678", "abc1234567890xyz", "１２３4567890"
+    };
+
+    @Test
+    @DisplayName("정규화한 계좌번호는 형식이 맞을 때만 묶인다")
+    void packsOnlyValidAccountNo() {
+        for (String sample : SAMPLES) {
+            long packed = AccountKeyPacker.pack("001", StringNormalizer.normalizeAccountNo(sample));
+            assertThat(packed != AccountKeyPacker.NOT_PACKABLE).isEqualTo(ValidationUtils.isValidAccountNo(sample));
+        }
+    }
+
+    @Test
+    @DisplayName("정규화하며 묶은 키는 정규화 후 묶은 키와 같고, 검증 결과와 일치한다")
+    void normalizeAndPackMatchesNormalizeThenPack() {
+        for (String sample : SAMPLES) {
+            long expected = AccountKeyPacker.pack("001", StringNormalizer.normalizeAccountNo(sample));
+            assertThat(AccountKeyPacker.normalizeAndPack("001", sample)).isEqualTo(expected);
+            assertThat(AccountKeyPacker.normalizeAndPack("001", sample) != AccountKeyPacker.NOT_PACKABLE)
+                    .isEqualTo(ValidationUtils.isValidAccountNo(sample));
+        }
+        assertThat(AccountKeyPacker.normalizeAndPack("001", null)).isEqualTo(AccountKeyPacker.NOT_PACKABLE);
+        assertThat(AccountKeyPacker.normalizeAndPack("0a1", "1234567890")).isEqualTo(AccountKeyPacker.NOT_PACKABLE);
+    }
+
+    @Test
+    @DisplayName("은행코드, 자릿수(앞자리 0), 계좌번호가 다르면 키가 다르다")
+    void distinguishesKeys() {
+        assertThat(AccountKeyPacker.pack("001", "0123456789"))
+                .isNotEqualTo(AccountKeyPacker.pack("001", "00123456789"))
+                .isNotEqualTo(AccountKeyPacker.pack("002", "0123456789"))
+                .isNotEqualTo(AccountKeyPacker.pack("001", "0123456780"))
+                .isPositive();
+        assertThat(AccountKeyPacker.pack("001", "99999999999999")).isPositive();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않으면 묶지 않는다")
+    void rejectsInvalidFormat() {
+        assertThat(AccountKeyPacker.pack("01", "0123456789")).isEqualTo(AccountKeyPacker.NOT_PACKABLE);
+        assertThat(AccountKeyPacker.pack("0a1", "0123456789")).isEqualTo(AccountKeyPacker.NOT_PACKABLE);
+        assertThat(AccountKeyPacker.pack("001", "123456789")).isEqualTo(AccountKeyPacker.NOT_PACKABLE);
+        assertThat(AccountKeyPacker.pack("001", "123456789012345")).isEqualTo(AccountKeyPacker.NOT_PACKABLE);
+        assertThat(AccountKeyPacker.pack("001", "12345-67890")).isEqualTo(AccountKeyPacker.NOT_PACKABLE);
+        assertThat(AccountKeyPacker.pack("001", null)).isEqualTo(AccountKeyPacker.NOT_PACKABLE);
+    }
+}
@@ -0,0 +1,37 @@
+package com.moneyTransfer.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("정규화/검증 유틸 테스트")
+class StringNormalizerTest {
+
+    private static final String[] SAMPLES = {
+            "", "-", "1234567890", "123-456-7890", " 123 456 7890 ", "12345678901234", "123456789012345",
+            "123456789", "0012345678", "abc1234567890xyz", "１２３4567890", "900101-1234567", "9001011234567"
+    };
+
+    @Test
+    @DisplayName("숫자만 남기는 결과가 기존 정규식 구현과 같고, 이미 숫자뿐이면 원본을 그대로 반환한다")
+    void normalizesLikeRegex() {
+        for (String sample : SAMPLES) {
+            assertThat(StringNormalizer.normalizeAccountNo(sample)).isEqualTo(sample.replaceAll("[^0-9]", ""));
+            assertThat(StringNormalizer.normalizeIdCardNo(sample)).isEqualTo(sample.replaceAll("[^0-9]", ""));
+        }
+        String normalized = "1234567890";
+        assertThat(StringNormalizer.normalizeAccountNo(normalized)).isSameAs(normalized);
+        assertThat(StringNormalizer.normalizeAccountNo(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("계좌번호/주민번호 검증 결과가 기존 정규식 구현과 같다")
+    void validatesLikeRegex() {
+        for (String sample : SAMPLES) {
+            String normalized = sample.replaceAll("[^0-9]", "");
+            assertThat(ValidationUtils.isValidAccountNo(sample)).isEqualTo(normalized.matches("^\\d{10,14}$"));
+            assertThat(ValidationUtils.isValidIdCardNo(sample)).isEqualTo(normalized.matches("^\\d{13}$"));
+        }
+    }
+}
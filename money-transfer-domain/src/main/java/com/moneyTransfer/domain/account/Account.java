@@ -4,6 +4,7 @@ import com.moneyTransfer.common.constant.BusinessConstants;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.common.util.StringNormalizer;
 import com.moneyTransfer.common.util.ValidationUtils;
+import com.moneyTransfer.domain.common.Money;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -20,21 +21,25 @@ public class Account {
     private String bankCode;
     private String accountNo;
     private String accountNoNorm;
-    private BigDecimal balance;
+    // 소수 둘째 자리까지의 long 기반 Money로 보관 (getBalance/setBalance는 BigDecimal 그대로)
+    private Money balance;
     private AccountStatus status;
     private LocalDateTime deactivatedAt;
     private Integer version;
     private LocalDateTime createdAt;
+    // 0이면 단일 잔액, N이면 잔액이 N개의 하위 잔액(bucket)에 나뉘어 있고 balance는 그 합계
+    private Integer balanceBucketCount;
 
     private Account(Long userId, String bankCode, String accountNo, String accountNoNorm) {
         this.userId = userId;
         this.bankCode = bankCode;
         this.accountNo = accountNo;
         this.accountNoNorm = accountNoNorm;
-        this.balance = BusinessConstants.ZERO_AMOUNT;
+        this.balance = Money.ZERO;
         this.status = AccountStatus.ACTIVATE;
         this.version = 0;
         this.createdAt = LocalDateTime.now();
+        this.balanceBucketCount = 0;
     }
 
     public static Account create(Long userId, String bankCode, String accountNo) {
@@ -60,34 +65,86 @@ public class Account {
     }
 
 
+    public BigDecimal getBalance() {
+        return balance == null ? null : balance.toBigDecimal();
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = Money.of(balance);
+    }
+
     public void deposit(BigDecimal amount) {
+        validateDeposit(amount);
+        this.balance = this.balance.plus(Money.of(amount));
+    }
+
+    // 잔액 변경 없이 입금 가능 여부만 검증 (조건부 UPDATE 경로에서 사용)
+    public void validateDeposit(BigDecimal amount) {
+        validateDepositAmount(amount);
+        if (!isActive()) {
+            throw new IllegalStateException(ErrorMessages.INACTIVE_ACCOUNT_DEPOSIT);
+        }
+    }
+
+    // 계좌를 읽기 전에 할 수 있는 금액 검증 (계좌 상태는 조건부 UPDATE가 검증)
+    public static void validateDepositAmount(BigDecimal amount) {
         if (amount == null || amount.compareTo(BusinessConstants.ZERO_AMOUNT) <= 0) {
             throw new IllegalArgumentException(ErrorMessages.DEPOSIT_AMOUNT_INVALID);
         }
-        if (!isActive()) {
-            throw new IllegalStateException(ErrorMessages.INACTIVE_ACCOUNT_DEPOSIT);
+        if (!Money.isRepresentable(amount)) {
+            throw new IllegalArgumentException(ErrorMessages.AMOUNT_SCALE_EXCEEDED);
         }
-        this.balance = this.balance.add(amount);
     }
 
     public void withdraw(BigDecimal amount) {
-        if (amount == null || amount.compareTo(BusinessConstants.ZERO_AMOUNT) <= 0) {
-            throw new IllegalArgumentException(ErrorMessages.WITHDRAW_AMOUNT_INVALID);
+        validateWithdraw(amount);
+        if (!canWithdraw(amount)) {
+            throw new IllegalArgumentException(ErrorMessages.INSUFFICIENT_BALANCE);
         }
+        this.balance = this.balance.minus(Money.of(amount));
+    }
+
+    // 잔액 검증은 제외 (조건부 UPDATE 경로에서는 balance >= amount 조건으로 DB가 검증)
+    public void validateWithdraw(BigDecimal amount) {
+        validateWithdrawAmount(amount);
         if (!isActive()) {
             throw new IllegalStateException(ErrorMessages.INACTIVE_ACCOUNT_WITHDRAW);
         }
-        if (!canWithdraw(amount)) {
-            throw new IllegalArgumentException(ErrorMessages.INSUFFICIENT_BALANCE);
+    }
+
+    public static void validateWithdrawAmount(BigDecimal amount) {
+        if (amount == null || amount.compareTo(BusinessConstants.ZERO_AMOUNT) <= 0) {
+            throw new IllegalArgumentException(ErrorMessages.WITHDRAW_AMOUNT_INVALID);
+        }
+        if (!Money.isRepresentable(amount)) {
+            throw new IllegalArgumentException(ErrorMessages.AMOUNT_SCALE_EXCEEDED);
         }
-        this.balance = this.balance.subtract(amount);
     }
 
     public boolean canWithdraw(BigDecimal amount) {
         if (amount == null || amount.compareTo(BusinessConstants.ZERO_AMOUNT) <= 0) {
             return false;
         }
-        return this.balance.compareTo(amount) >= 0;
+        return this.balance.compareTo(Money.of(amount)) >= 0;
+    }
+
+    public boolean isBalanceSharded() {
+        return balanceBucketCount != null && balanceBucketCount > 0;
+    }
+
+    // 단일 행 락 경합을 피하기 위해 잔액을 bucketCount개의 하위 잔액으로 나눔 (기존 잔액은 저장소에서 0번 bucket으로 이동)
+    public void enableBalanceSharding(int bucketCount) {
+        if (bucketCount < BusinessConstants.MIN_BALANCE_BUCKET_COUNT
+                || bucketCount > BusinessConstants.MAX_BALANCE_BUCKET_COUNT) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_BALANCE_BUCKET_COUNT);
+        }
+        if (!isActive()) {
+            throw new IllegalStateException(ErrorMessages.INACTIVE_ACCOUNT_SHARDING);
+        }
+        if (isBalanceSharded()) {
+            throw new IllegalStateException(ErrorMessages.BALANCE_ALREADY_SHARDED);
+        }
+        this.balanceBucketCount = bucketCount;
     }
 
     public void deactivate() {
@@ -103,7 +160,7 @@ public class Account {
         if (newBalance == null || newBalance.compareTo(BusinessConstants.ZERO_AMOUNT) < 0) {
             throw new IllegalArgumentException(ErrorMessages.INVALID_AMOUNT);
         }
-        this.balance = newBalance;
+        this.balance = Money.of(newBalance);
         return this;
     }
 }
\ No newline at end of file
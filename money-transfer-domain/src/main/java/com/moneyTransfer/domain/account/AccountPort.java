@@ -1,5 +1,7 @@
 package com.moneyTransfer.domain.account;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +17,25 @@ public interface AccountPort {
 
     Optional<Account> findByBankCodeAndAccountNoNorm(String bankCode, String accountNoNorm);
 
+    // 은행코드와 정규화 계좌번호가 각각 목록에 포함되는 계좌를 한 번에 조회 - 쌍 조건이 아니므로 호출자가 다시 걸러야 함
+    List<Account> findAllByBankCodeInAndAccountNoNormIn(Collection<String> bankCodes, Collection<String> accountNoNorms);
+
+    // 여러 계좌를 ID 순서대로 한 번에 잠금 (데드락 방지)
+    List<Account> findAllByIdInWithLock(Collection<Long> ids);
+
+    // 이미 존재하는 계좌들의 변경을 한 번의 flush로 반영
+    void saveAll(List<Account> accounts);
+
     void delete(Account account);
 
     boolean existsByBankCodeAndAccountNoNorm(String bankCode, String accountNoNorm);
+
+    // ID가 afterId보다 큰 활성 계좌의 식별 정보를 ID 순으로 최대 limit개 조회 (전체 계좌를 나눠 읽을 때 사용)
+    List<AccountRef> findActiveRefsAfterId(Long afterId, int limit);
+
+    // 잔액이 분할되지 않은 활성 계좌에 한해 조건부 UPDATE로 잔액을 증가시키고 다시 읽은 변경 후 계좌를 반환 (조건 불충족 시 empty)
+    Optional<Account> increaseBalance(Long id, BigDecimal amount);
+
+    // 잔액이 분할되지 않은 활성 계좌이고 잔액이 충분한 경우에만 조건부 UPDATE로 잔액을 차감하고 다시 읽은 변경 후 계좌를 반환 (조건 불충족 시 empty)
+    Optional<Account> decreaseBalance(Long id, BigDecimal amount);
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.moneyTransfer.domain.account;
+
+import lombok.Getter;
+
+/**
+ * 계좌의 변하지 않는 식별 정보 (bankCode + accountNoNorm → id).
+ *
+ * 잔액/상태는 담지 않으므로 캐시해 두어도 안전하다. 잔액 분할은 한 번 켜면 끄지 않으므로 함께 담되,
+ * 분할 전 값이 남아 있을 수 있어 호출자는 잠근 계좌로 다시 확인해야 한다.
+ * 계좌 디렉터리의 long 값(ID + 분할 여부)만으로 만들 수 있도록 요청에 이미 있는 키 외에는 담지 않는다.
+ */
+@Getter
+public class AccountRef {
+    private final Long id;
+    private final String bankCode;
+    private final String accountNoNorm;
+    private final boolean balanceSharded;
+
+    public AccountRef(Long id, String bankCode, String accountNoNorm, boolean balanceSharded) {
+        this.id = id;
+        this.bankCode = bankCode;
+        this.accountNoNorm = accountNoNorm;
+        this.balanceSharded = balanceSharded;
+    }
+
+    public static AccountRef of(Account account) {
+        return new AccountRef(account.getId(), account.getBankCode(),
+                account.getAccountNoNorm(), account.isBalanceSharded());
+    }
+}
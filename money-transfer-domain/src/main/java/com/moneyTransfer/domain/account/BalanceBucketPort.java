@@ -0,0 +1,27 @@
+package com.moneyTransfer.domain.account;
+
+import java.math.BigDecimal;
+
+/**
+ * 잔액이 분할된(hot) 계좌의 하위 잔액(bucket) 저장소.
+ * 계좌 행 대신 bucket 행을 갱신하므로 같은 계좌에 대한 입출금이 서로 다른 행 락으로 분산된다.
+ * bucket 갱신 전에는 계좌 행을 공유 잠금으로 읽어 활성 상태를 확인한다 (bucket 갱신끼리는 막지 않고 계좌 해지와만 직렬화).
+ * 거래 시점의 전체 잔액은 다른 bucket의 동시 갱신 때문에 확정할 수 없으므로 반환하지 않는다.
+ */
+public interface BalanceBucketPort {
+
+    // 기존 잔액을 0번 bucket에 담아 bucketCount개의 bucket 생성
+    void createBuckets(Long accountId, int bucketCount, BigDecimal initialBalance);
+
+    // 임의의 bucket에 입금. 비활성 계좌면 IllegalStateException
+    void credit(Long accountId, int bucketCount, BigDecimal amount);
+
+    // 잔액이 충분한 bucket 하나에서 출금, 그런 bucket이 없으면 전체 bucket을 순서대로 잠그고 모아서 출금. 잔액 부족 시 false
+    boolean debit(Long accountId, int bucketCount, BigDecimal amount);
+
+    // 잠금 없이 읽은 합계 (조회용)
+    BigDecimal sumBalance(Long accountId);
+
+    // 전체 bucket을 순서대로 잠그고 읽은 합계 (계좌 행을 잠근 해지 처리에서 사용)
+    BigDecimal sumBalanceWithLock(Long accountId);
+}
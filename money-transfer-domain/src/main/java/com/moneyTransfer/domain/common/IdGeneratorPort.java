@@ -0,0 +1,10 @@
+package com.moneyTransfer.domain.common;
+
+/**
+ * 엔티티 ID 발급 포트.
+ * INSERT 전에 ID를 확정하고, 발급 순서가 시간 순서와 일치하며, 여러 노드에서 충돌하지 않아야 한다.
+ */
+public interface IdGeneratorPort {
+
+    long nextId();
+}
@@ -0,0 +1,108 @@
+package com.moneyTransfer.domain.common;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 객체 - 소수 둘째 자리(DB 컬럼 scale 2)까지를 long 최소 단위(1/100원)로 담는다.
+ *
+ * 더하기/빼기/비교는 long 연산이며 범위를 넘으면 ArithmeticException.
+ * API/DTO는 그대로 BigDecimal을 쓰므로 경계에서 of/toBigDecimal로 바꾼다.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private static final long MINOR_PER_UNIT = 100L;
+    private static final long BASIS_POINTS_PER_UNIT = 10_000L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money ofUnits(long units) {
+        return ofMinorUnits(Math.multiplyExact(units, MINOR_PER_UNIT));
+    }
+
+    // 소수 셋째 자리 이하 금액은 반올림하지 않고 거절 (금액이 조용히 바뀌지 않도록)
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        if (amount.signum() == 0) {
+            return ZERO;
+        }
+        if (!isRepresentable(amount)) {
+            throw new IllegalArgumentException(ErrorMessages.AMOUNT_SCALE_EXCEEDED);
+        }
+        return ofMinorUnits(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    // 소수 둘째 자리까지로 나타낼 수 있는 금액인지 ("100.000"처럼 뒤의 0만 있는 경우 포함)
+    public static boolean isRepresentable(BigDecimal amount) {
+        return amount.scale() <= SCALE || amount.stripTrailingZeros().scale() <= SCALE;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinorUnits(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    /**
+     * 요율(basis point, 1% = 100)을 곱해 원 단위로 HALF_UP 반올림한 금액.
+     * amount.multiply(rate).setScale(0, RoundingMode.HALF_UP)과 같은 결과를 정수 연산으로 계산한다.
+     */
+    public Money percentageInUnitsHalfUp(long basisPoints) {
+        long scaled = Math.multiplyExact(minorUnits, basisPoints);
+        long divisor = MINOR_PER_UNIT * BASIS_POINTS_PER_UNIT;
+        long units = scaled >= 0
+                ? (scaled + divisor / 2) / divisor
+                : -((-scaled + divisor / 2) / divisor);
+        return ofUnits(units);
+    }
+
+    // 항상 scale 2 - DB 컬럼(DECIMAL(15,2))에서 읽은 값과 같은 모양
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
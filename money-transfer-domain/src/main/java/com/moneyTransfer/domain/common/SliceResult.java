@@ -0,0 +1,25 @@
+package com.moneyTransfer.domain.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 전체 건수 없이 size + 1건 조회로 다음 페이지 여부만 판단한 결과
+@Getter
+@RequiredArgsConstructor
+public class SliceResult<T> {
+
+    private final List<T> content;
+    private final Integer pageNumber;
+    private final Integer pageSize;
+    private final Boolean hasNext;
+
+    public Boolean hasNext() {
+        return hasNext;
+    }
+
+    public Boolean hasPrevious() {
+        return pageNumber > 0;
+    }
+}
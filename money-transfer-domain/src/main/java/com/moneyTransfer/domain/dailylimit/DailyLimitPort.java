@@ -1,5 +1,6 @@
 package com.moneyTransfer.domain.dailylimit;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -9,4 +10,10 @@ public interface DailyLimitPort {
     Optional<DailyLimit> findByAccountIdAndLimitDate(Long accountId, LocalDate limitDate);
 
     Optional<DailyLimit> findByAccountIdAndLimitDateWithLock(Long accountId, LocalDate limitDate);
-}
\ No newline at end of file
+
+    // 당일 한도 행이 없으면 생성, 있으면 증가 - 사용량이 limit를 넘지 않을 때만 단일 문장으로 반영하고 반영 여부를 반환
+    // 음수 amount는 같은 트랜잭션에서 앞서 소비한 몫을 되돌릴 때 사용 (사용량이 줄어들므로 항상 반영)
+    boolean tryConsumeWithdraw(Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit);
+
+    boolean tryConsumeTransfer(Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit);
+}
@@ -0,0 +1,23 @@
+package com.moneyTransfer.domain.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등 키 저장소 - 키는 유일하므로 여러 노드 중 한 곳만 선점한다.
+ */
+public interface IdempotencyPort {
+
+    // 처리 중 상태로 키를 선점 (INSERT 한 문장), 이미 있으면 false
+    boolean tryClaim(String idempotencyKey, String requestPath, String requestHash);
+
+    Optional<IdempotencyRecord> findByKey(String idempotencyKey);
+
+    void complete(String idempotencyKey, int responseStatus, String responseContentType, String responseBody);
+
+    // 처리 중인 키를 지움 - 응답을 저장하지 않은 요청은 재시도가 다시 처리하도록
+    void release(String idempotencyKey);
+
+    // updatedBefore 이전에 마지막으로 갱신된 키를 최대 limit개 지우고 지운 개수를 반환 (보관 기간 정리)
+    int deleteUpdatedBefore(LocalDateTime updatedBefore, int limit);
+}
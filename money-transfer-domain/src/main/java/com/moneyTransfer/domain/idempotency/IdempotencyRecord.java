@@ -0,0 +1,48 @@
+package com.moneyTransfer.domain.idempotency;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key로 처리한 쓰기 요청과 그 응답. 같은 키로 다시 온 요청에는 저장된 응답을 그대로 돌려준다.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class IdempotencyRecord {
+    private Long id;
+    private String idempotencyKey;
+    private String requestPath;
+    // 요청 본문의 SHA-256 (hex) - 같은 키로 다른 본문을 보낸 재시도를 거절
+    private String requestHash;
+    private IdempotencyStatus status;
+    private Integer responseStatus;
+    private String responseContentType;
+    private String responseBody;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public static IdempotencyRecord completed(String idempotencyKey, String requestPath, String requestHash,
+                                              int responseStatus, String responseContentType, String responseBody) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.idempotencyKey = idempotencyKey;
+        record.requestPath = requestPath;
+        record.requestHash = requestHash;
+        record.status = IdempotencyStatus.COMPLETED;
+        record.responseStatus = responseStatus;
+        record.responseContentType = responseContentType;
+        record.responseBody = responseBody;
+        record.createdAt = LocalDateTime.now();
+        record.updatedAt = LocalDateTime.now();
+        record.completedAt = LocalDateTime.now();
+        return record;
+    }
+
+    public boolean isCompleted() {
+        return IdempotencyStatus.COMPLETED.equals(this.status);
+    }
+}
@@ -0,0 +1,31 @@
+package com.moneyTransfer.domain.idempotency;
+
+public enum IdempotencyStatus {
+    PROCESSING(100, "처리 중"),
+    COMPLETED(200, "완료");
+
+    private final int code;
+    private final String description;
+
+    IdempotencyStatus(int code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static IdempotencyStatus fromCode(int code) {
+        for (IdempotencyStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 멱등 키 상태입니다: " + code);
+    }
+}
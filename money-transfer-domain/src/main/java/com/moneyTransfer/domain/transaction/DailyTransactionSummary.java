@@ -0,0 +1,87 @@
+package com.moneyTransfer.domain.transaction;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 한 계좌의 하루(또는 기간) 거래 집계 - 거래 유형별 건수/금액, 수수료 합계, 마감 잔액.
+ *
+ * 일 집계 행은 거래 저장 후 비동기로 갱신되므로(반영 주기만큼 늦을 수 있음) 기간 합계는 원본 거래 대신 기간의 일수만큼의 행을 더해 구한다.
+ * 마감 잔액은 그날(기간이면 마지막 거래일) 마지막 거래의 거래 후 잔액이며, 거래가 없거나 마지막 거래가 잔액이 분할된
+ * 계좌의 거래(거래 후 잔액을 기록하지 않음)면 null이다.
+ */
+@Getter
+public class DailyTransactionSummary {
+    // 기간 합계면 null
+    private final LocalDate summaryDate;
+    private final long depositCount;
+    private final BigDecimal depositAmount;
+    private final long withdrawCount;
+    private final BigDecimal withdrawAmount;
+    private final long transferSendCount;
+    private final BigDecimal transferSendAmount;
+    private final long transferReceiveCount;
+    private final BigDecimal transferReceiveAmount;
+    private final BigDecimal feeAmount;
+    private final BigDecimal closingBalance;
+
+    public DailyTransactionSummary(LocalDate summaryDate,
+                                   long depositCount, BigDecimal depositAmount,
+                                   long withdrawCount, BigDecimal withdrawAmount,
+                                   long transferSendCount, BigDecimal transferSendAmount,
+                                   long transferReceiveCount, BigDecimal transferReceiveAmount,
+                                   BigDecimal feeAmount, BigDecimal closingBalance) {
+        this.summaryDate = summaryDate;
+        this.depositCount = depositCount;
+        this.depositAmount = depositAmount;
+        this.withdrawCount = withdrawCount;
+        this.withdrawAmount = withdrawAmount;
+        this.transferSendCount = transferSendCount;
+        this.transferSendAmount = transferSendAmount;
+        this.transferReceiveCount = transferReceiveCount;
+        this.transferReceiveAmount = transferReceiveAmount;
+        this.feeAmount = feeAmount;
+        this.closingBalance = closingBalance;
+    }
+
+    public long getTotalCount() {
+        return depositCount + withdrawCount + transferSendCount + transferReceiveCount;
+    }
+
+    // 날짜순 일 집계를 더한 기간 합계 (마감 잔액은 마지막 날 값 - 그날 값이 null이면 이전 날 값으로 대신하지 않음)
+    public static DailyTransactionSummary sumOf(List<DailyTransactionSummary> dailySummaries) {
+        long depositCount = 0;
+        long withdrawCount = 0;
+        long transferSendCount = 0;
+        long transferReceiveCount = 0;
+        BigDecimal depositAmount = BigDecimal.ZERO;
+        BigDecimal withdrawAmount = BigDecimal.ZERO;
+        BigDecimal transferSendAmount = BigDecimal.ZERO;
+        BigDecimal transferReceiveAmount = BigDecimal.ZERO;
+        BigDecimal feeAmount = BigDecimal.ZERO;
+        BigDecimal closingBalance = null;
+
+        for (DailyTransactionSummary daily : dailySummaries) {
+            depositCount += daily.depositCount;
+            depositAmount = depositAmount.add(daily.depositAmount);
+            withdrawCount += daily.withdrawCount;
+            withdrawAmount = withdrawAmount.add(daily.withdrawAmount);
+            transferSendCount += daily.transferSendCount;
+            transferSendAmount = transferSendAmount.add(daily.transferSendAmount);
+            transferReceiveCount += daily.transferReceiveCount;
+            transferReceiveAmount = transferReceiveAmount.add(daily.transferReceiveAmount);
+            feeAmount = feeAmount.add(daily.feeAmount);
+            closingBalance = daily.closingBalance;
+        }
+
+        return new DailyTransactionSummary(null,
+                depositCount, depositAmount,
+                withdrawCount, withdrawAmount,
+                transferSendCount, transferSendAmount,
+                transferReceiveCount, transferReceiveAmount,
+                feeAmount, closingBalance);
+    }
+}
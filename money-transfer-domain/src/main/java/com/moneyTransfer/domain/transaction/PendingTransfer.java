@@ -0,0 +1,61 @@
+package com.moneyTransfer.domain.transaction;
+
+import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.common.util.StringNormalizer;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 비동기로 접수된 이체 요청. worker가 TransferUseCase로 처리한 뒤 결과 상태를 기록한다.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class PendingTransfer {
+    private Long id;
+    private String fromBankCode;
+    private String fromAccountNo;
+    private String toBankCode;
+    private String toAccountNo;
+    private BigDecimal amount;
+    private String description;
+    private PendingTransferStatus status;
+    private Long transactionId;
+    private String failureReason;
+    private int attempts;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public static PendingTransfer create(String fromBankCode, String fromAccountNo,
+                                         String toBankCode, String toAccountNo,
+                                         BigDecimal amount, String description) {
+        // 계좌 조회 없이 확인할 수 있는 것만 검증 (계좌 존재, 잔액, 한도는 처리 시점에 검증)
+        if (amount == null || amount.compareTo(BusinessConstants.ZERO_AMOUNT) <= 0) {
+            throw new IllegalArgumentException(ErrorMessages.TRANSFER_AMOUNT_MUST_BE_POSITIVE);
+        }
+        if (Objects.equals(fromBankCode, toBankCode)
+                && Objects.equals(StringNormalizer.normalizeAccountNo(fromAccountNo), StringNormalizer.normalizeAccountNo(toAccountNo))) {
+            throw new IllegalArgumentException(ErrorMessages.CANNOT_TRANSFER_TO_SAME_ACCOUNT);
+        }
+
+        PendingTransfer pendingTransfer = new PendingTransfer();
+        pendingTransfer.fromBankCode = fromBankCode;
+        pendingTransfer.fromAccountNo = fromAccountNo;
+        pendingTransfer.toBankCode = toBankCode;
+        pendingTransfer.toAccountNo = toAccountNo;
+        pendingTransfer.amount = amount;
+        pendingTransfer.description = description;
+        pendingTransfer.status = PendingTransferStatus.PENDING;
+        pendingTransfer.attempts = 0;
+        pendingTransfer.createdAt = LocalDateTime.now();
+        pendingTransfer.updatedAt = LocalDateTime.now();
+        return pendingTransfer;
+    }
+}
@@ -0,0 +1,30 @@
+package com.moneyTransfer.domain.transaction;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 비동기 이체 요청 대기열 저장소.
+ */
+public interface PendingTransferPort {
+
+    PendingTransfer save(PendingTransfer pendingTransfer);
+
+    Optional<PendingTransfer> findById(Long id);
+
+    // 대기 요청 수를 limit까지만 셈 (대기열이 아무리 길어도 limit개 이상은 읽지 않음)
+    long countPendingUpTo(long limit);
+
+    // 가장 오래된 대기 요청(또는 leaseExpiredBefore 전에 가져간 뒤 끝나지 않은 처리 중 요청) 하나를 처리 중으로 바꾸고 시도 횟수를 늘려 바로 커밋
+    // 다른 worker가 잠근 행은 건너뜀 (SKIP LOCKED), 반환된 attempts가 이후 기록의 확인 값
+    Optional<PendingTransfer> claimNext(LocalDateTime leaseExpiredBefore);
+
+    // 아직 attempts 번째로 가져간 처리 중 상태일 때만 완료로 기록 (다른 worker가 다시 가져갔으면 false)
+    boolean markCompleted(Long id, int attempts, Long transactionId);
+
+    // 아직 attempts 번째로 가져간 처리 중 상태일 때만 실패로 기록 (다른 worker가 다시 가져갔으면 무시)
+    void markFailed(Long id, int attempts, String reason);
+
+    // maxAttempts에 도달했으면 실패로 기록, 아니면 대기 상태로 돌려 다시 처리 (markFailed와 같은 조건)
+    void markRetry(Long id, int attempts, String reason, int maxAttempts);
+}
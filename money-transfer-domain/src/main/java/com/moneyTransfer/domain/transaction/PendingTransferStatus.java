@@ -0,0 +1,33 @@
+package com.moneyTransfer.domain.transaction;
+
+public enum PendingTransferStatus {
+    PENDING(100, "대기"),
+    PROCESSING(150, "처리 중"),
+    COMPLETED(200, "완료"),
+    FAILED(400, "실패");
+
+    private final int code;
+    private final String description;
+
+    PendingTransferStatus(int code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static PendingTransferStatus fromCode(int code) {
+        for (PendingTransferStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 이체 요청 상태입니다: " + code);
+    }
+}
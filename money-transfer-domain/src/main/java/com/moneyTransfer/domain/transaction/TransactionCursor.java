@@ -0,0 +1,54 @@
+package com.moneyTransfer.domain.transaction;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래내역 커서 페이징의 위치 - 마지막으로 받은 거래의 (createdAt, id).
+ *
+ * createdAt은 중복될 수 있으므로 id까지 함께 비교해야 페이지 사이에서 거래가 빠지거나 겹치지 않는다.
+ * 클라이언트에는 내용을 알 수 없는 문자열(base64url)로만 내보낸다.
+ */
+@Getter
+public class TransactionCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public TransactionCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static TransactionCursor after(TransactionHistoryRow row) {
+        return new TransactionCursor(row.getCreatedAt(), row.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException(ErrorMessages.INVALID_TRANSACTION_CURSOR);
+            }
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 형식 오류, 숫자 형식 오류(NumberFormatException)도 여기서 같은 메시지로
+            throw new IllegalArgumentException(ErrorMessages.INVALID_TRANSACTION_CURSOR);
+        }
+    }
+}
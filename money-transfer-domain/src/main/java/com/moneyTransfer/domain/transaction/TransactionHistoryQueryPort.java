@@ -0,0 +1,35 @@
+package com.moneyTransfer.domain.transaction;
+
+import com.moneyTransfer.domain.common.PageQuery;
+import com.moneyTransfer.domain.common.PageResult;
+import com.moneyTransfer.domain.common.SliceResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 거래내역 조회 전용 포트 - 엔티티 대신 TransactionHistoryRow를 바로 반환 (최신순)
+public interface TransactionHistoryQueryPort {
+
+    PageResult<TransactionHistoryRow> findByAccountIdWithPaging(Long accountId, PageQuery pageQuery);
+
+    PageResult<TransactionHistoryRow> findByAccountIdAndDateRangeWithPaging(Long accountId, LocalDateTime startDate, LocalDateTime endDate, PageQuery pageQuery);
+
+    // COUNT 쿼리 없이 size + 1건으로 다음 페이지 여부만 판단
+    SliceResult<TransactionHistoryRow> findSliceByAccountId(Long accountId, PageQuery pageQuery);
+
+    // 커서 페이징: cursor보다 앞선(createdAt, id 내림차순) 거래를 최대 limit건 (cursor가 null이면 최신부터, 날짜가 null이면 전체 기간)
+    List<TransactionHistoryRow> findByAccountIdBeforeCursor(Long accountId, LocalDateTime startDate, LocalDateTime endDate,
+                                                            TransactionCursor cursor, int limit);
+
+    // 계좌별 거래 건수 카운터 - 거래 저장과 같은 트랜잭션에서 증가 (카운터가 없는 계좌는 empty)
+    Optional<Long> findTransactionCount(Long accountId);
+
+    // 전체 거래를 최신순으로 한 건씩 consumer에 넘기고 건수를 반환 - 목록을 만들지 않으므로 건수와 무관하게 메모리 일정
+    long streamByAccountId(Long accountId, Consumer<TransactionHistoryRow> consumer);
+
+    // 기간 조건 스트리밍 (날짜가 null인 쪽은 제한 없음)
+    long streamByAccountIdAndDateRange(Long accountId, LocalDateTime startDate, LocalDateTime endDate,
+                                       Consumer<TransactionHistoryRow> consumer);
+}
@@ -0,0 +1,43 @@
+package com.moneyTransfer.domain.transaction;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 조회 전용 읽기 모델 - 한 계좌의 거래 한 건을 응답에 필요한 값만으로 담은 불변 행.
+ *
+ * 엔티티/도메인 객체를 거치지 않고 DB 조회 결과에서 바로 만든다. 조회 대상 계좌는 호출자가 이미 알고 있으므로
+ * 담지 않고, 이체 상대 계좌는 ID 대신 표시용 은행코드/계좌번호를 담는다 (입출금이면 null).
+ */
+@Getter
+public class TransactionHistoryRow {
+    private final Long id;
+    private final TransactionType transactionType;
+    private final BigDecimal amount;
+    private final BigDecimal balanceAfter;
+    private final BigDecimal fee;
+    private final String description;
+    private final LocalDateTime createdAt;
+    private final String relatedBankCode;
+    private final String relatedAccountNo;
+
+    public TransactionHistoryRow(Long id, TransactionType transactionType, BigDecimal amount,
+                                 BigDecimal balanceAfter, BigDecimal fee, String description,
+                                 LocalDateTime createdAt, String relatedBankCode, String relatedAccountNo) {
+        this.id = id;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.fee = fee;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.relatedBankCode = relatedBankCode;
+        this.relatedAccountNo = relatedAccountNo;
+    }
+
+    public boolean hasRelatedAccount() {
+        return relatedBankCode != null;
+    }
+}
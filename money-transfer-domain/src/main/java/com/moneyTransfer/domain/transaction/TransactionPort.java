@@ -10,6 +10,10 @@ import java.util.List;
 public interface TransactionPort {
     Transaction save(Transaction transaction);
 
+    // 한 번의 flush로 저장 (JDBC 배치 INSERT), 입력 순서대로 반환
+    List<Transaction> saveAll(List<Transaction> transactions);
+
+    // 결과 전체를 메모리에 올림 - 거래가 많은 계좌는 TransactionHistoryQueryPort의 stream 메서드 사용
     List<Transaction> findByAccountId(Long accountId);
 
     List<Transaction> findByAccountIdOrderByCreatedAtDesc(Long accountId);
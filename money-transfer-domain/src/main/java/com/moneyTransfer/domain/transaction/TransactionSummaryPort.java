@@ -0,0 +1,11 @@
+package com.moneyTransfer.domain.transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 계좌별 일 집계 조회 (집계는 거래 저장 후 별도 projector가 모아 갱신하므로 반영 주기만큼 늦을 수 있음)
+public interface TransactionSummaryPort {
+
+    // 거래가 있었던 날만 날짜순으로 반환 (startDate, endDate 포함)
+    List<DailyTransactionSummary> findDailySummaries(Long accountId, LocalDate startDate, LocalDate endDate);
+}
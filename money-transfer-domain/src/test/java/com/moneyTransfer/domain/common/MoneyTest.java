@@ -0,0 +1,63 @@
+package com.moneyTransfer.domain.common;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money 값 객체 테스트")
+class MoneyTest {
+
+    @Test
+    @DisplayName("BigDecimal과 오가도 값이 같고, 항상 scale 2로 돌려준다")
+    void convertsFromAndToBigDecimal() {
+        assertThat(Money.of(new BigDecimal("10000")).toBigDecimal()).isEqualTo(new BigDecimal("10000.00"));
+        assertThat(Money.of(new BigDecimal("10000.000")).toBigDecimal()).isEqualTo(new BigDecimal("10000.00"));
+        assertThat(Money.of(new BigDecimal("12345.67")).toBigDecimal()).isEqualTo(new BigDecimal("12345.67"));
+        assertThat(Money.ZERO.toBigDecimal()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(Money.of(BigDecimal.ZERO)).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    @DisplayName("소수 셋째 자리 이하가 있는 금액은 반올림하지 않고 예외가 발생한다")
+    void rejectsMoreThanTwoDecimals() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.005")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.AMOUNT_SCALE_EXCEEDED);
+        assertThat(Money.isRepresentable(new BigDecimal("100.10"))).isTrue();
+        assertThat(Money.isRepresentable(new BigDecimal("100.101"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("더하기와 빼기는 long 범위를 넘으면 예외가 발생한다")
+    void arithmeticIsOverflowChecked() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        assertThat(Money.ofUnits(1000).plus(Money.ofUnits(500))).isEqualTo(Money.ofUnits(1500));
+        assertThat(Money.ofUnits(1000).minus(Money.ofUnits(1500)).isNegative()).isTrue();
+        assertThatThrownBy(() -> max.plus(Money.ofMinorUnits(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinorUnits(Long.MIN_VALUE).minus(Money.ofMinorUnits(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("요율 계산은 BigDecimal multiply 후 원 단위 HALF_UP과 같다")
+    void percentageMatchesBigDecimalHalfUp() {
+        BigDecimal rate = new BigDecimal("0.01");
+        String[] amounts = {"0.01", "49.99", "50", "50.01", "149.99", "150", "12345.67", "99999", "100000", "2999999.99"};
+
+        for (String value : amounts) {
+            BigDecimal amount = new BigDecimal(value);
+            BigDecimal expected = amount.multiply(rate).setScale(0, RoundingMode.HALF_UP);
+
+            assertThat(Money.of(amount).percentageInUnitsHalfUp(100).toBigDecimal()).isEqualTo(expected);
+            assertThat(Money.of(amount.negate()).percentageInUnitsHalfUp(100).toBigDecimal())
+                    .isEqualByComparingTo(amount.negate().multiply(rate).setScale(0, RoundingMode.HALF_UP));
+        }
+    }
+}
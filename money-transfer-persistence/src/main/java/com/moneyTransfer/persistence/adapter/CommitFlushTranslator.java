@@ -0,0 +1,50 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 지연 flush 모드에서는 INSERT가 커밋 시점에 실행되어 FK 위반이 트랜잭션 매니저의 커밋 예외
+ * (DataIntegrityViolationException)로 올라온다. 커밋 직전(beforeCommit)에 직접 flush해서
+ * 즉시 flush 모드와 같은 계좌 없음(IllegalArgumentException)으로 바꾼다.
+ */
+final class CommitFlushTranslator {
+
+    private CommitFlushTranslator() {
+    }
+
+    // 트랜잭션마다 한 번만 등록
+    static void register(EntityManager entityManager) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.getSynchronizations().stream().anyMatch(FlushBeforeCommit.class::isInstance)) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new FlushBeforeCommit(entityManager));
+    }
+
+    private static final class FlushBeforeCommit implements TransactionSynchronization {
+
+        private final EntityManager entityManager;
+
+        private FlushBeforeCommit(EntityManager entityManager) {
+            this.entityManager = entityManager;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (readOnly) {
+                return;
+            }
+            try {
+                entityManager.flush();
+            } catch (RuntimeException e) {
+                if (ForeignKeyViolations.isForeignKeyViolation(e)) {
+                    throw new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND, e);
+                }
+                throw e;
+            }
+        }
+    }
+}
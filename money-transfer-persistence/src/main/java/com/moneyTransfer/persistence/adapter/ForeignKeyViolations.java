@@ -0,0 +1,34 @@
+package com.moneyTransfer.persistence.adapter;
+
+import java.sql.SQLException;
+
+/**
+ * 연관관계를 지연 참조(getReferenceById)로 구성하면 참조 대상 계좌의 존재 여부는
+ * SELECT 대신 INSERT 시점의 FK 제약으로 검증된다. 해당 예외를 판별하기 위한 유틸.
+ */
+final class ForeignKeyViolations {
+
+    // 표준 SQLSTATE (MySQL 포함): integrity constraint violation - foreign key
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    // H2: 참조 대상 부모 행 없음
+    private static final String H2_PARENT_MISSING = "23506";
+    // MySQL: ER_NO_REFERENCED_ROW_2
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+
+    private ForeignKeyViolations() {
+    }
+
+    static boolean isForeignKeyViolation(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                String sqlState = sqlException.getSQLState();
+                if (FOREIGN_KEY_VIOLATION.equals(sqlState)
+                        || H2_PARENT_MISSING.equals(sqlState)
+                        || sqlException.getErrorCode() == MYSQL_NO_REFERENCED_ROW) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
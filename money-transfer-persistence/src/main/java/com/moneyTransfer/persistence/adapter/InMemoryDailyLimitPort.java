@@ -0,0 +1,383 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.common.util.WorkerThreads;
+import com.moneyTransfer.domain.dailylimit.DailyLimit;
+import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 일일 한도 사용량을 메모리에서 CAS로 예약하는 DailyLimitPort 데코레이터.
+ *
+ * 당일 사용량은 계좌 ID(long)로 나뉜 stripe 테이블에 두고, 계좌를 처음 볼 때 DB 값으로 채운다.
+ * 예약은 트랜잭션이 롤백되면 되돌리고, 커밋되면 증가분을 모아 주기적으로 DB에 반영한다 (write-behind).
+ * 사용량을 프로세스 메모리에 두므로 계좌별 요청이 한 인스턴스로 모이는 배포에서만 한도가 정확하다.
+ * 비활성화 상태에서는 JpaDailyLimitPort를 그대로 호출한다.
+ */
+@Repository
+@Primary
+public class InMemoryDailyLimitPort implements DailyLimitPort {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryDailyLimitPort.class);
+
+    private static final int STRIPE_COUNT = 64;
+
+    // write-behind는 이미 검증된 증가분이므로 컬럼 최대값을 한도로 사용
+    private static final BigDecimal UNBOUNDED = new BigDecimal("9999999999999.99");
+
+    private final DailyLimitPort delegate;
+    private final TransactionOperations transactionOperations;
+
+    @Value("${money-transfer.daily-limit.in-memory.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${money-transfer.daily-limit.in-memory.flush-interval-millis:200}")
+    private long flushIntervalMillis = 200;
+
+    @Value("${money-transfer.daily-limit.in-memory.flush-batch-size:500}")
+    private int flushBatchSize = 500;
+
+    // 가상 스레드 모드면 worker도 가상 스레드로 실행
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads = false;
+
+    private final AtomicReference<DayTable> currentDay = new AtomicReference<>();
+
+    // DB에 반영할 증가분이 남은 사용량
+    private final ConcurrentLinkedQueue<Usage> dirty = new ConcurrentLinkedQueue<>();
+
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public InMemoryDailyLimitPort(@Qualifier("jpaDailyLimitPort") DailyLimitPort delegate,
+                                  PlatformTransactionManager transactionManager) {
+        this(delegate, new TransactionTemplate(transactionManager));
+    }
+
+    // 테스트용
+    InMemoryDailyLimitPort(DailyLimitPort delegate, TransactionOperations transactionOperations) {
+        this.delegate = delegate;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(WorkerThreads.named("daily-limit-flusher", virtualThreads));
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flushQuietly();
+        }
+    }
+
+    @Override
+    public DailyLimit save(DailyLimit dailyLimit) {
+        return delegate.save(dailyLimit);
+    }
+
+    @Override
+    public Optional<DailyLimit> findByAccountIdAndLimitDate(Long accountId, LocalDate limitDate) {
+        return delegate.findByAccountIdAndLimitDate(accountId, limitDate);
+    }
+
+    @Override
+    public Optional<DailyLimit> findByAccountIdAndLimitDateWithLock(Long accountId, LocalDate limitDate) {
+        return delegate.findByAccountIdAndLimitDateWithLock(accountId, limitDate);
+    }
+
+    @Override
+    public boolean tryConsumeWithdraw(Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit) {
+        if (!enabled) {
+            return delegate.tryConsumeWithdraw(accountId, limitDate, amount, limit);
+        }
+        DayTable table = tableFor(limitDate);
+        if (table == null) {
+            // 날짜가 바뀐 뒤 도착한 전날 요청은 DB에서 직접 처리
+            return delegate.tryConsumeWithdraw(accountId, limitDate, amount, limit);
+        }
+        Usage usage = hydrated(table.usage(accountId));
+        return reserve(usage, usage.withdrawUsed, usage.pendingWithdraw, amount, limit);
+    }
+
+    @Override
+    public boolean tryConsumeTransfer(Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit) {
+        if (!enabled) {
+            return delegate.tryConsumeTransfer(accountId, limitDate, amount, limit);
+        }
+        DayTable table = tableFor(limitDate);
+        if (table == null) {
+            return delegate.tryConsumeTransfer(accountId, limitDate, amount, limit);
+        }
+        Usage usage = hydrated(table.usage(accountId));
+        return reserve(usage, usage.transferUsed, usage.pendingTransfer, amount, limit);
+    }
+
+    /**
+     * 대기 중인 증가분을 flushBatchSize 단위 트랜잭션으로 DB에 반영한다.
+     */
+    public void flush() {
+        List<Usage> batch = new ArrayList<>(flushBatchSize);
+        Usage usage;
+        while ((usage = dirty.poll()) != null) {
+            batch.add(usage);
+            if (batch.size() >= flushBatchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Daily limit write-behind failed: {}", e.getMessage());
+        }
+    }
+
+    private void write(List<Usage> batch) {
+        long[] withdrawDeltas = new long[batch.size()];
+        long[] transferDeltas = new long[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Usage usage = batch.get(i);
+            // 증가분을 가져가기 전에 표시를 풀어서 이후 커밋분은 다시 대기열에 들어가게 함
+            usage.queued.set(false);
+            withdrawDeltas[i] = usage.pendingWithdraw.getAndSet(0);
+            transferDeltas[i] = usage.pendingTransfer.getAndSet(0);
+        }
+
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    Usage usage = batch.get(i);
+                    if (withdrawDeltas[i] > 0) {
+                        delegate.tryConsumeWithdraw(usage.accountId, usage.date, fromMinorUnits(withdrawDeltas[i]), UNBOUNDED);
+                    }
+                    if (transferDeltas[i] > 0) {
+                        delegate.tryConsumeTransfer(usage.accountId, usage.date, fromMinorUnits(transferDeltas[i]), UNBOUNDED);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증가분은 되돌려 다음 주기에 다시 시도
+            for (int i = 0; i < batch.size(); i++) {
+                Usage usage = batch.get(i);
+                usage.pendingWithdraw.addAndGet(withdrawDeltas[i]);
+                usage.pendingTransfer.addAndGet(transferDeltas[i]);
+                markDirty(usage);
+            }
+            throw e;
+        }
+    }
+
+    private boolean reserve(Usage usage, AtomicLong used, AtomicLong pending, BigDecimal amount, BigDecimal limit) {
+        // 한도 판단은 보수적으로: 금액은 올림, 한도는 내림
+        long minorAmount = toMinorUnits(amount);
+        long minorLimit = limit.movePointRight(2).setScale(0, RoundingMode.DOWN).longValueExact();
+
+        long current;
+        do {
+            current = used.get();
+            if (current + minorAmount > minorLimit) {
+                return false;
+            }
+        } while (!used.compareAndSet(current, current + minorAmount));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.addAndGet(minorAmount);
+            markDirty(usage);
+            return true;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    pending.addAndGet(minorAmount);
+                    markDirty(usage);
+                } else if (status == STATUS_ROLLED_BACK) {
+                    used.addAndGet(-minorAmount);
+                } else {
+                    // 커밋 여부를 알 수 없으면 예약은 유지하고 DB에는 반영하지 않음
+                    log.warn("Unknown transaction outcome, keeping daily limit reservation: accountId={}", usage.accountId);
+                }
+            }
+        });
+        return true;
+    }
+
+    private void markDirty(Usage usage) {
+        if (usage.queued.compareAndSet(false, true)) {
+            dirty.add(usage);
+        }
+    }
+
+    private Usage hydrated(Usage usage) {
+        if (!usage.hydrated) {
+            // DB 조회 중 대기하므로 synchronized 대신 ReentrantLock (가상 스레드 pinning 방지)
+            usage.hydrateLock.lock();
+            try {
+                if (!usage.hydrated) {
+                    delegate.findByAccountIdAndLimitDate(usage.accountId, usage.date).ifPresent(dailyLimit -> {
+                        usage.withdrawUsed.addAndGet(toMinorUnits(dailyLimit.getWithdrawUsed()));
+                        usage.transferUsed.addAndGet(toMinorUnits(dailyLimit.getTransferUsed()));
+                    });
+                    usage.hydrated = true;
+                }
+            } finally {
+                usage.hydrateLock.unlock();
+            }
+        }
+        return usage;
+    }
+
+    private DayTable tableFor(LocalDate limitDate) {
+        while (true) {
+            DayTable table = currentDay.get();
+            if (table != null && table.date.equals(limitDate)) {
+                return table;
+            }
+            if (table != null && table.date.isAfter(limitDate)) {
+                return null;
+            }
+            // 첫 요청 또는 날짜 변경 - 이전 날짜의 대기 증가분은 dirty 큐에 남아 그대로 반영됨
+            currentDay.compareAndSet(table, new DayTable(limitDate));
+        }
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.UP).longValueExact();
+    }
+
+    private static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2);
+    }
+
+    private static final class DayTable {
+
+        private final LocalDate date;
+        private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+        private DayTable(LocalDate date) {
+            this.date = date;
+            for (int i = 0; i < STRIPE_COUNT; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        Usage usage(long accountId) {
+            return stripes[(int) mix(accountId) & (STRIPE_COUNT - 1)].getOrCreate(accountId, date);
+        }
+    }
+
+    /**
+     * long 키 open addressing 테이블 - 박싱 없이 계좌 ID로 사용량을 찾는다.
+     * 조회/생성만 stripe 락으로 보호하고, 사용량 변경은 Usage의 CAS로 처리한다.
+     */
+    private static final class Stripe {
+
+        private long[] keys = new long[16];
+        private Usage[] values = new Usage[16];
+        private int size;
+
+        synchronized Usage getOrCreate(long accountId, LocalDate date) {
+            int mask = keys.length - 1;
+            int index = (int) (mix(accountId) >>> 32) & mask;
+            while (values[index] != null) {
+                if (keys[index] == accountId) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+
+            Usage usage = new Usage(accountId, date);
+            keys[index] = accountId;
+            values[index] = usage;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+            return usage;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Usage[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Usage[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    int index = (int) (mix(oldKeys[i]) >>> 32) & mask;
+                    while (values[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+
+    private static final class Usage {
+
+        private final long accountId;
+        private final LocalDate date;
+        private final AtomicLong withdrawUsed = new AtomicLong();
+        private final AtomicLong transferUsed = new AtomicLong();
+        private final AtomicLong pendingWithdraw = new AtomicLong();
+        private final AtomicLong pendingTransfer = new AtomicLong();
+        private final AtomicBoolean queued = new AtomicBoolean();
+        private final ReentrantLock hydrateLock = new ReentrantLock();
+        private volatile boolean hydrated;
+
+        private Usage(long accountId, LocalDate date) {
+            this.accountId = accountId;
+            this.date = date;
+        }
+    }
+
+    // 시간순 ID는 하위 비트가 몰려 있으므로 섞어서 분산
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
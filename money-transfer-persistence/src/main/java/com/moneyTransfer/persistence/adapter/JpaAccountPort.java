@@ -3,17 +3,27 @@ package com.moneyTransfer.persistence.adapter;
 import com.moneyTransfer.common.constant.ErrorMessages;
 import com.moneyTransfer.domain.account.Account;
 import com.moneyTransfer.domain.account.AccountPort;
+import com.moneyTransfer.domain.account.AccountRef;
 import com.moneyTransfer.domain.account.AccountStatus;
 import com.moneyTransfer.persistence.entity.AccountJpaEntity;
+import com.moneyTransfer.persistence.entity.AccountTransactionCounterJpaEntity;
 import com.moneyTransfer.persistence.entity.UserJpaEntity;
+import com.moneyTransfer.persistence.repository.AccountBalanceBucketJpaRepository;
 import com.moneyTransfer.persistence.repository.AccountJpaRepository;
+import com.moneyTransfer.persistence.repository.AccountTransactionCounterJpaRepository;
 import com.moneyTransfer.persistence.repository.UserJpaRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,13 +35,23 @@ public class JpaAccountPort implements AccountPort {
     @PersistenceContext
     private EntityManager entityManager;
 
+    // true면 save 시 flush하지 않고 커밋 시점에 한 번에 flush (JDBC 배치로 반영)
+    @Value("${money-transfer.persistence.deferred-flush:false}")
+    private boolean deferredFlush;
+
     private final AccountJpaRepository accountJpaRepository;
     private final UserJpaRepository userJpaRepository;
+    private final AccountBalanceBucketJpaRepository bucketJpaRepository;
+    private final AccountTransactionCounterJpaRepository counterJpaRepository;
 
     public JpaAccountPort(AccountJpaRepository accountJpaRepository,
-                          UserJpaRepository userJpaRepository) {
+                          UserJpaRepository userJpaRepository,
+                          AccountBalanceBucketJpaRepository bucketJpaRepository,
+                          AccountTransactionCounterJpaRepository counterJpaRepository) {
         this.accountJpaRepository = accountJpaRepository;
         this.userJpaRepository = userJpaRepository;
+        this.bucketJpaRepository = bucketJpaRepository;
+        this.counterJpaRepository = counterJpaRepository;
     }
 
     @Override
@@ -55,20 +75,52 @@ public class JpaAccountPort implements AccountPort {
                     .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
         }
 
-        // 도메인 객체의 상태를 JPA 엔티티에 반영
-        entity.setBalance(account.getBalance());
-        entity.setStatus(account.getStatus().getCode());
-        entity.setDeactivatedAt(account.getDeactivatedAt());
-        entity.setVersion(account.getVersion());
+        applyState(account, entity);
 
         AccountJpaEntity savedEntity = accountJpaRepository.save(entity);
 
+        // 신규 계좌는 거래 건수 카운터를 0으로 함께 생성 (ID가 지정된 엔티티라 merge 대신 persist)
+        if (account.getId() == null) {
+            entityManager.persist(new AccountTransactionCounterJpaEntity(savedEntity.getId()));
+        }
+
         // 명시적 flush로 즉시 DB 반영하여 예외를 여기서 발생시킴
-        entityManager.flush();
+        // 신규 계좌는 중복 검증(유니크 제약 예외 변환)을 위해 지연 flush 모드에서도 항상 즉시 flush
+        if (account.getId() == null || !deferredFlush) {
+            entityManager.flush();
+        }
 
         return mapToDomain(savedEntity);
     }
 
+    @Override
+    public void saveAll(List<Account> accounts) {
+        for (Account account : accounts) {
+            // 잠금 조회로 이미 영속성 컨텍스트에 있는 엔티티면 SELECT 없음
+            AccountJpaEntity entity = accountJpaRepository.findById(account.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+            applyState(account, entity);
+        }
+
+        if (!deferredFlush) {
+            entityManager.flush();
+        }
+    }
+
+    // 도메인 객체의 상태를 JPA 엔티티에 반영
+    private void applyState(Account account, AccountJpaEntity entity) {
+        // 분할 계좌의 도메인 잔액은 bucket 합계이므로 계좌 행에는 쓰지 않음 (bucket 생성 시점에 0으로 비움)
+        if (!account.isBalanceSharded()) {
+            entity.setBalance(account.getBalance());
+        } else if (entity.getBalanceBucketCount() == 0) {
+            entity.setBalance(BigDecimal.ZERO);
+        }
+        entity.setBalanceBucketCount(account.getBalanceBucketCount() != null ? account.getBalanceBucketCount() : 0);
+        entity.setStatus(account.getStatus().getCode());
+        entity.setDeactivatedAt(account.getDeactivatedAt());
+        entity.setVersion(account.getVersion());
+    }
+
     @Override
     public Optional<Account> findById(Long id) {
         return accountJpaRepository.findByIdWithUser(id)
@@ -95,9 +147,26 @@ public class JpaAccountPort implements AccountPort {
             .map(this::mapToDomain);
     }
 
+    @Override
+    public List<Account> findAllByBankCodeInAndAccountNoNormIn(Collection<String> bankCodes, Collection<String> accountNoNorms) {
+        return accountJpaRepository.findByBankCodeInAndAccountNoNormIn(bankCodes, accountNoNorms)
+            .stream()
+            .map(this::mapToDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Account> findAllByIdInWithLock(Collection<Long> ids) {
+        return accountJpaRepository.findByIdInWithLock(ids)
+            .stream()
+            .map(this::mapToDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(Account account) {
         if (account.getId() != null) {
+            counterJpaRepository.deleteById(account.getId());
             accountJpaRepository.deleteById(account.getId());
         }
     }
@@ -107,6 +176,51 @@ public class JpaAccountPort implements AccountPort {
         return accountJpaRepository.existsByBankCodeAndAccountNoNorm(bankCode, accountNoNorm);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountRef> findActiveRefsAfterId(Long afterId, int limit) {
+        return accountJpaRepository.findKeysByStatusAfterId(
+                        AccountStatus.ACTIVATE.getCode(), afterId, PageRequest.of(0, limit))
+                .stream()
+                .map(row -> new AccountRef((Long) row[0], (String) row[1], (String) row[2], (Integer) row[3] > 0))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Account> increaseBalance(Long id, BigDecimal amount) {
+        int updated = accountJpaRepository.increaseBalance(
+                id, amount, AccountStatus.ACTIVATE.getCode(), LocalDateTime.now());
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(mapToDomain(reloadAfterUpdate(id)));
+    }
+
+    @Override
+    public Optional<Account> decreaseBalance(Long id, BigDecimal amount) {
+        int updated = accountJpaRepository.decreaseBalance(
+                id, amount, AccountStatus.ACTIVATE.getCode(), LocalDateTime.now());
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(mapToDomain(reloadAfterUpdate(id)));
+    }
+
+    /**
+     * 조건부 UPDATE 뒤 변경된 계좌 행을 다시 읽는다 (UPDATE 1회 + SELECT 1회).
+     * UPDATE로 획득한 행 락을 보유한 상태이므로 자신이 반영한 잔액과 버전을 그대로 읽는다.
+     * 영속성 컨텍스트를 비우지 않고, 이 계좌를 이미 관리 중이면 그 엔티티만 refresh하고 아니면 새로 읽는다.
+     */
+    private AccountJpaEntity reloadAfterUpdate(Long id) {
+        AccountJpaEntity entity = entityManager.getReference(AccountJpaEntity.class, id);
+        if (Hibernate.isInitialized(entity)) {
+            entityManager.refresh(entity);
+        } else {
+            Hibernate.initialize(entity);
+        }
+        return entity;
+    }
+
     private Account mapToDomain(AccountJpaEntity entity) {
         Account account = new Account();
         account.setId(entity.getId());
@@ -114,7 +228,11 @@ public class JpaAccountPort implements AccountPort {
         account.setBankCode(entity.getBankCode());
         account.setAccountNo(entity.getAccountNo());
         account.setAccountNoNorm(entity.getAccountNoNorm());
-        account.setBalance(entity.getBalance());
+        account.setBalanceBucketCount(entity.getBalanceBucketCount());
+        // 분할 계좌는 bucket 합계를 잔액으로 보고 (분할되지 않은 계좌는 추가 조회 없음)
+        account.setBalance(entity.getBalanceBucketCount() > 0
+                ? bucketJpaRepository.sumBalanceByAccountId(entity.getId())
+                : entity.getBalance());
         account.setStatus(mapStatusToDomain(entity.getStatus()));
         account.setDeactivatedAt(entity.getDeactivatedAt());
         account.setVersion(entity.getVersion());
@@ -0,0 +1,120 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.account.AccountStatus;
+import com.moneyTransfer.domain.account.BalanceBucketPort;
+import com.moneyTransfer.persistence.entity.AccountBalanceBucketJpaEntity;
+import com.moneyTransfer.persistence.entity.AccountJpaEntity;
+import com.moneyTransfer.persistence.repository.AccountBalanceBucketJpaRepository;
+import com.moneyTransfer.persistence.repository.AccountJpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Repository
+@Transactional
+public class JpaBalanceBucketPort implements BalanceBucketPort {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final AccountBalanceBucketJpaRepository bucketJpaRepository;
+    private final AccountJpaRepository accountJpaRepository;
+
+    public JpaBalanceBucketPort(AccountBalanceBucketJpaRepository bucketJpaRepository,
+                                AccountJpaRepository accountJpaRepository) {
+        this.bucketJpaRepository = bucketJpaRepository;
+        this.accountJpaRepository = accountJpaRepository;
+    }
+
+    @Override
+    public void createBuckets(Long accountId, int bucketCount, BigDecimal initialBalance) {
+        AccountJpaEntity account = accountJpaRepository.getReferenceById(accountId);
+
+        List<AccountBalanceBucketJpaEntity> buckets = new ArrayList<>(bucketCount);
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            BigDecimal balance = bucketNo == 0 ? initialBalance : BigDecimal.ZERO;
+            buckets.add(new AccountBalanceBucketJpaEntity(account, bucketNo, balance));
+        }
+        bucketJpaRepository.saveAll(buckets);
+        entityManager.flush();
+    }
+
+    @Override
+    public void credit(Long accountId, int bucketCount, BigDecimal amount) {
+        lockActiveAccount(accountId, ErrorMessages.INACTIVE_ACCOUNT_DEPOSIT);
+
+        int bucketNo = ThreadLocalRandom.current().nextInt(bucketCount);
+        bucketJpaRepository.increaseBalance(accountId, bucketNo, amount, LocalDateTime.now());
+    }
+
+    @Override
+    public boolean debit(Long accountId, int bucketCount, BigDecimal amount) {
+        lockActiveAccount(accountId, ErrorMessages.INACTIVE_ACCOUNT_WITHDRAW);
+
+        // 1. 금액 이상이 남은 bucket 하나를 SKIP LOCKED로 잠그고 차감 - 잠근 뒤 읽은 잔액이므로 UPDATE는 항상 성공하고,
+        //    다른 출금이 잡고 있는 bucket은 건너뛰므로 동시 출금끼리 기다리거나 충돌하지 않음
+        Optional<Integer> bucketNo = bucketJpaRepository.findSufficientBucketNoSkipLocked(accountId, amount);
+        if (bucketNo.isPresent()
+                && bucketJpaRepository.decreaseBalance(accountId, bucketNo.get(), amount, LocalDateTime.now()) == 1) {
+            return true;
+        }
+
+        // 2. 한 bucket으로 부족하거나 충분한 bucket이 모두 잠겨 있으면 (아직 잠근 bucket이 없는 상태에서)
+        //    전체 bucket을 번호 순서로 잠그고 합계 기준으로 검증 후 앞에서부터 차감
+        List<AccountBalanceBucketJpaEntity> buckets = bucketJpaRepository.findByAccountIdWithLock(accountId);
+
+        BigDecimal total = buckets.stream()
+                .map(AccountBalanceBucketJpaEntity::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.compareTo(amount) < 0) {
+            return false;
+        }
+
+        BigDecimal remaining = amount;
+        for (AccountBalanceBucketJpaEntity bucket : buckets) {
+            if (remaining.signum() == 0) {
+                break;
+            }
+            BigDecimal taken = bucket.getBalance().min(remaining);
+            bucket.setBalance(bucket.getBalance().subtract(taken));
+            remaining = remaining.subtract(taken);
+        }
+        entityManager.flush();
+
+        return true;
+    }
+
+    @Override
+    public BigDecimal sumBalance(Long accountId) {
+        return bucketJpaRepository.sumBalanceByAccountId(accountId);
+    }
+
+    @Override
+    public BigDecimal sumBalanceWithLock(Long accountId) {
+        return bucketJpaRepository.findByAccountIdWithLock(accountId).stream()
+                .map(AccountBalanceBucketJpaEntity::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private void lockActiveAccount(Long accountId, String inactiveMessage) {
+        // 계좌 행 공유 잠금 후 최신 상태 확인 - 해지(배타 잠금)가 먼저면 커밋을 기다린 뒤 비활성으로 보고,
+        // bucket 갱신이 먼저면 해지가 이 트랜잭션의 커밋을 기다린 뒤 잔액을 확인함
+        AccountJpaEntity account = entityManager.find(AccountJpaEntity.class, accountId);
+        if (account != null) {
+            entityManager.refresh(account, LockModeType.PESSIMISTIC_READ);
+        }
+        if (account == null || account.getStatus() != AccountStatus.ACTIVATE.getCode()) {
+            throw new IllegalStateException(inactiveMessage);
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package com.moneyTransfer.persistence.adapter;
 
 import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.domain.common.IdGeneratorPort;
 import com.moneyTransfer.domain.dailylimit.DailyLimit;
 import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
 import com.moneyTransfer.persistence.entity.AccountJpaEntity;
 import com.moneyTransfer.persistence.entity.DailyLimitJpaEntity;
 import com.moneyTransfer.persistence.repository.AccountJpaRepository;
 import com.moneyTransfer.persistence.repository.DailyLimitJpaRepository;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -22,13 +28,23 @@ public class JpaDailyLimitPort implements DailyLimitPort {
     @PersistenceContext
     private EntityManager entityManager;
 
+    // true면 save 시 flush하지 않고 커밋 시점에 한 번에 flush (JDBC 배치로 반영)
+    @Value("${money-transfer.persistence.deferred-flush:false}")
+    private boolean deferredFlush;
+
     private final DailyLimitJpaRepository dailyLimitJpaRepository;
     private final AccountJpaRepository accountJpaRepository;
+    private final IdGeneratorPort idGeneratorPort;
+
+    // 당일 행 생성 문법 선택용 (H2는 MERGE, 그 외는 MySQL ON DUPLICATE KEY UPDATE)
+    private volatile Boolean h2;
 
     public JpaDailyLimitPort(DailyLimitJpaRepository dailyLimitJpaRepository,
-                            AccountJpaRepository accountJpaRepository) {
+                            AccountJpaRepository accountJpaRepository,
+                            IdGeneratorPort idGeneratorPort) {
         this.dailyLimitJpaRepository = dailyLimitJpaRepository;
         this.accountJpaRepository = accountJpaRepository;
+        this.idGeneratorPort = idGeneratorPort;
     }
 
     @Override
@@ -36,9 +52,8 @@ public class JpaDailyLimitPort implements DailyLimitPort {
         DailyLimitJpaEntity entity;
 
         if (dailyLimit.getId() == null) {
-            // 새로운 일일 한도 생성
-            AccountJpaEntity account = accountJpaRepository.findById(dailyLimit.getAccountId())
-                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+            // 새로운 일일 한도 생성 - 계좌는 지연 참조로만 연결 (존재 여부는 FK 제약으로 검증)
+            AccountJpaEntity account = accountJpaRepository.getReferenceById(dailyLimit.getAccountId());
 
             entity = new DailyLimitJpaEntity(account, dailyLimit.getLimitDate());
         } else {
@@ -51,12 +66,28 @@ public class JpaDailyLimitPort implements DailyLimitPort {
         entity.setWithdrawUsed(dailyLimit.getWithdrawUsed());
         entity.setTransferUsed(dailyLimit.getTransferUsed());
 
-        DailyLimitJpaEntity savedEntity = dailyLimitJpaRepository.save(entity);
-
-        // 명시적 flush로 즉시 DB 반영
-        entityManager.flush();
+        return mapToDomain(saveAndFlush(entity));
+    }
 
-        return mapToDomain(savedEntity);
+    private DailyLimitJpaEntity saveAndFlush(DailyLimitJpaEntity entity) {
+        try {
+            DailyLimitJpaEntity savedEntity = dailyLimitJpaRepository.save(entity);
+
+            // 명시적 flush로 즉시 DB 반영 (지연 flush 모드에서는 커밋 시점에 배치로 반영)
+            if (!deferredFlush) {
+                entityManager.flush();
+            } else {
+                // FK 위반이 커밋 예외로 올라오지 않도록 커밋 직전에 flush
+                CommitFlushTranslator.register(entityManager);
+            }
+
+            return savedEntity;
+        } catch (RuntimeException e) {
+            if (ForeignKeyViolations.isForeignKeyViolation(e)) {
+                throw new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND, e);
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -71,6 +102,61 @@ public class JpaDailyLimitPort implements DailyLimitPort {
             .map(this::mapToDomain);
     }
 
+    @Override
+    public boolean tryConsumeWithdraw(Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit) {
+        return consume(true, accountId, limitDate, amount, limit);
+    }
+
+    @Override
+    public boolean tryConsumeTransfer(Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit) {
+        return consume(false, accountId, limitDate, amount, limit);
+    }
+
+    private boolean consume(boolean withdraw, Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            // 1. 당일 행이 있으면 한도 이내일 때만 증가 (대부분의 요청은 이 한 문장으로 끝남)
+            if (increase(withdraw, accountId, limitDate, amount, limit, now)) {
+                return true;
+            }
+            // 첫 요청이라도 한도를 넘으면 행을 만들지 않음
+            if (amount.compareTo(limit) > 0) {
+                return false;
+            }
+
+            // 2. 당일 행이 없을 때만 만들고(이미 있으면 아무것도 하지 않음) 같은 조건으로 다시 증가
+            Long id = idGeneratorPort.nextId();
+            if (isH2()) {
+                dailyLimitJpaRepository.insertIfAbsentH2(id, accountId, limitDate, now);
+            } else {
+                dailyLimitJpaRepository.insertIfAbsentMySql(id, accountId, limitDate, now);
+            }
+            return increase(withdraw, accountId, limitDate, amount, limit, now);
+        } catch (RuntimeException e) {
+            if (ForeignKeyViolations.isForeignKeyViolation(e)) {
+                throw new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND, e);
+            }
+            throw e;
+        }
+    }
+
+    private boolean increase(boolean withdraw, Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit, LocalDateTime now) {
+        int updated = withdraw
+                ? dailyLimitJpaRepository.increaseWithdrawUsed(accountId, limitDate, amount, limit, now)
+                : dailyLimitJpaRepository.increaseTransferUsed(accountId, limitDate, amount, limit, now);
+        return updated > 0;
+    }
+
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof H2Dialect;
+        }
+        return h2;
+    }
+
     private DailyLimit mapToDomain(DailyLimitJpaEntity entity) {
         DailyLimit dailyLimit = new DailyLimit();
         dailyLimit.setId(entity.getId());
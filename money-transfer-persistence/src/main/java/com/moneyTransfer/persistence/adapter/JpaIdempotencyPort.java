@@ -0,0 +1,111 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.domain.common.IdGeneratorPort;
+import com.moneyTransfer.domain.idempotency.IdempotencyPort;
+import com.moneyTransfer.domain.idempotency.IdempotencyRecord;
+import com.moneyTransfer.domain.idempotency.IdempotencyStatus;
+import com.moneyTransfer.persistence.entity.IdempotencyKeyJpaEntity;
+import com.moneyTransfer.persistence.repository.IdempotencyKeyJpaRepository;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional
+public class JpaIdempotencyPort implements IdempotencyPort {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final IdempotencyKeyJpaRepository idempotencyKeyJpaRepository;
+    private final IdGeneratorPort idGeneratorPort;
+
+    // 선점 INSERT 문법 선택용 (H2는 MERGE, 그 외는 MySQL INSERT IGNORE)
+    private volatile Boolean h2;
+
+    public JpaIdempotencyPort(IdempotencyKeyJpaRepository idempotencyKeyJpaRepository,
+                              IdGeneratorPort idGeneratorPort) {
+        this.idempotencyKeyJpaRepository = idempotencyKeyJpaRepository;
+        this.idGeneratorPort = idGeneratorPort;
+    }
+
+    @Override
+    public boolean tryClaim(String idempotencyKey, String requestPath, String requestHash) {
+        Long id = idGeneratorPort.nextId();
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = isH2()
+                ? idempotencyKeyJpaRepository.mergeH2(id, idempotencyKey, requestPath, requestHash, IdempotencyStatus.PROCESSING.getCode(), now)
+                : idempotencyKeyJpaRepository.insertIgnoreMySql(id, idempotencyKey, requestPath, requestHash, IdempotencyStatus.PROCESSING.getCode(), now);
+        return inserted > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdempotencyRecord> findByKey(String idempotencyKey) {
+        return idempotencyKeyJpaRepository.findByIdempotencyKey(idempotencyKey)
+                .map(this::mapToDomain);
+    }
+
+    @Override
+    public void complete(String idempotencyKey, int responseStatus, String responseContentType, String responseBody) {
+        idempotencyKeyJpaRepository.findByIdempotencyKey(idempotencyKey)
+                .filter(entity -> entity.getStatus() == IdempotencyStatus.PROCESSING.getCode())
+                .ifPresent(entity -> {
+                    entity.setStatus(IdempotencyStatus.COMPLETED.getCode());
+                    entity.setResponseStatus(responseStatus);
+                    entity.setResponseContentType(responseContentType);
+                    entity.setResponseBody(responseBody);
+                    entity.setUpdatedAt(LocalDateTime.now());
+                    entity.setCompletedAt(LocalDateTime.now());
+                });
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        idempotencyKeyJpaRepository.deleteByIdempotencyKeyAndStatus(idempotencyKey, IdempotencyStatus.PROCESSING.getCode());
+    }
+
+    @Override
+    public int deleteUpdatedBefore(LocalDateTime updatedBefore, int limit) {
+        List<Long> ids = idempotencyKeyJpaRepository.findIdsByUpdatedAtBefore(updatedBefore, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        idempotencyKeyJpaRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof H2Dialect;
+        }
+        return h2;
+    }
+
+    private IdempotencyRecord mapToDomain(IdempotencyKeyJpaEntity entity) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId(entity.getId());
+        record.setIdempotencyKey(entity.getIdempotencyKey());
+        record.setRequestPath(entity.getRequestPath());
+        record.setRequestHash(entity.getRequestHash());
+        record.setStatus(IdempotencyStatus.fromCode(entity.getStatus()));
+        record.setResponseStatus(entity.getResponseStatus());
+        record.setResponseContentType(entity.getResponseContentType());
+        record.setResponseBody(entity.getResponseBody());
+        record.setCreatedAt(entity.getCreatedAt());
+        record.setUpdatedAt(entity.getUpdatedAt());
+        record.setCompletedAt(entity.getCompletedAt());
+        return record;
+    }
+}
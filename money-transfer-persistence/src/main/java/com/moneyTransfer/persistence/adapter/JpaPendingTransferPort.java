@@ -0,0 +1,134 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.domain.transaction.PendingTransfer;
+import com.moneyTransfer.domain.transaction.PendingTransferPort;
+import com.moneyTransfer.domain.transaction.PendingTransferStatus;
+import com.moneyTransfer.persistence.entity.PendingTransferJpaEntity;
+import com.moneyTransfer.persistence.repository.PendingTransferJpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@Transactional
+public class JpaPendingTransferPort implements PendingTransferPort {
+
+    // failure_reason 컬럼 길이
+    private static final int MAX_REASON_LENGTH = 255;
+
+    private final PendingTransferJpaRepository pendingTransferJpaRepository;
+
+    public JpaPendingTransferPort(PendingTransferJpaRepository pendingTransferJpaRepository) {
+        this.pendingTransferJpaRepository = pendingTransferJpaRepository;
+    }
+
+    @Override
+    public PendingTransfer save(PendingTransfer pendingTransfer) {
+        PendingTransferJpaEntity entity = new PendingTransferJpaEntity(
+                pendingTransfer.getFromBankCode(),
+                pendingTransfer.getFromAccountNo(),
+                pendingTransfer.getToBankCode(),
+                pendingTransfer.getToAccountNo(),
+                pendingTransfer.getAmount(),
+                pendingTransfer.getDescription(),
+                pendingTransfer.getStatus().getCode()
+        );
+        return mapToDomain(pendingTransferJpaRepository.save(entity));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PendingTransfer> findById(Long id) {
+        return pendingTransferJpaRepository.findById(id)
+                .map(this::mapToDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPendingUpTo(long limit) {
+        return pendingTransferJpaRepository.countByStatusUpTo(PendingTransferStatus.PENDING.getCode(), limit);
+    }
+
+    @Override
+    public Optional<PendingTransfer> claimNext(LocalDateTime leaseExpiredBefore) {
+        // 처리 중에 worker가 죽어 남은 요청을 먼저 다시 가져감 (대기 요청이 계속 들어와도 밀리지 않도록)
+        Optional<PendingTransferJpaEntity> claimed = pendingTransferJpaRepository
+                .findFirstByStatusAndUpdatedAtBeforeSkipLocked(PendingTransferStatus.PROCESSING.getCode(), leaseExpiredBefore)
+                .or(() -> pendingTransferJpaRepository.findFirstByStatusSkipLocked(PendingTransferStatus.PENDING.getCode()));
+        claimed.ifPresent(entity -> {
+            entity.setStatus(PendingTransferStatus.PROCESSING.getCode());
+            entity.setAttempts(entity.getAttempts() + 1);
+            entity.setUpdatedAt(LocalDateTime.now());
+        });
+        return claimed.map(this::mapToDomain);
+    }
+
+    @Override
+    public boolean markCompleted(Long id, int attempts, Long transactionId) {
+        return findClaimed(id, attempts)
+                .map(entity -> {
+                    entity.setStatus(PendingTransferStatus.COMPLETED.getCode());
+                    entity.setTransactionId(transactionId);
+                    entity.setCompletedAt(LocalDateTime.now());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    public void markFailed(Long id, int attempts, String reason) {
+        findClaimed(id, attempts).ifPresent(entity -> {
+            entity.setStatus(PendingTransferStatus.FAILED.getCode());
+            entity.setFailureReason(truncate(reason));
+            entity.setCompletedAt(LocalDateTime.now());
+        });
+    }
+
+    @Override
+    public void markRetry(Long id, int attempts, String reason, int maxAttempts) {
+        findClaimed(id, attempts).ifPresent(entity -> {
+            entity.setFailureReason(truncate(reason));
+            if (entity.getAttempts() >= maxAttempts) {
+                entity.setStatus(PendingTransferStatus.FAILED.getCode());
+                entity.setCompletedAt(LocalDateTime.now());
+            } else {
+                entity.setStatus(PendingTransferStatus.PENDING.getCode());
+            }
+        });
+    }
+
+    // 가져간 뒤 다른 worker가 다시 가져가지 않았을 때만 (lease 만료 후 재처리되면 attempts가 늘어 있음)
+    private Optional<PendingTransferJpaEntity> findClaimed(Long id, int attempts) {
+        return pendingTransferJpaRepository.findByIdWithLock(id)
+                .filter(entity -> entity.getStatus() == PendingTransferStatus.PROCESSING.getCode()
+                        && entity.getAttempts() == attempts);
+    }
+
+    private static String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_REASON_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_REASON_LENGTH);
+    }
+
+    private PendingTransfer mapToDomain(PendingTransferJpaEntity entity) {
+        PendingTransfer pendingTransfer = new PendingTransfer();
+        pendingTransfer.setId(entity.getId());
+        pendingTransfer.setFromBankCode(entity.getFromBankCode());
+        pendingTransfer.setFromAccountNo(entity.getFromAccountNo());
+        pendingTransfer.setToBankCode(entity.getToBankCode());
+        pendingTransfer.setToAccountNo(entity.getToAccountNo());
+        pendingTransfer.setAmount(entity.getAmount());
+        pendingTransfer.setDescription(entity.getDescription());
+        pendingTransfer.setStatus(PendingTransferStatus.fromCode(entity.getStatus()));
+        pendingTransfer.setTransactionId(entity.getTransactionId());
+        pendingTransfer.setFailureReason(entity.getFailureReason());
+        pendingTransfer.setAttempts(entity.getAttempts());
+        pendingTransfer.setCreatedAt(entity.getCreatedAt());
+        pendingTransfer.setUpdatedAt(entity.getUpdatedAt());
+        pendingTransfer.setCompletedAt(entity.getCompletedAt());
+        return pendingTransfer;
+    }
+}
@@ -0,0 +1,149 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.domain.common.PageQuery;
+import com.moneyTransfer.domain.common.PageResult;
+import com.moneyTransfer.domain.common.SliceResult;
+import com.moneyTransfer.domain.transaction.TransactionCursor;
+import com.moneyTransfer.domain.transaction.TransactionHistoryQueryPort;
+import com.moneyTransfer.domain.transaction.TransactionHistoryRow;
+import com.moneyTransfer.persistence.repository.AccountTransactionCounterJpaRepository;
+import com.moneyTransfer.persistence.repository.TransactionJpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 거래내역 조회 전용 어댑터.
+ *
+ * 필요한 컬럼만 튜플로 읽어 TransactionHistoryRow로 바로 만든다. 엔티티를 영속성 컨텍스트에 올리지 않으므로
+ * 스냅샷(dirty checking)과 Transaction 도메인 객체 변환이 없고, 상대 계좌 번호도 같은 쿼리의 LEFT JOIN으로 가져온다.
+ * 내보내기용 stream 메서드는 같은 행을 JDBC 커서로 한 건씩 넘기며, 읽기 전용 트랜잭션(커넥션)을 끝날 때까지 유지한다.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class JpaTransactionHistoryQueryPort implements TransactionHistoryQueryPort {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final TransactionJpaRepository transactionJpaRepository;
+    private final AccountTransactionCounterJpaRepository counterJpaRepository;
+
+    public JpaTransactionHistoryQueryPort(TransactionJpaRepository transactionJpaRepository,
+                                          AccountTransactionCounterJpaRepository counterJpaRepository) {
+        this.transactionJpaRepository = transactionJpaRepository;
+        this.counterJpaRepository = counterJpaRepository;
+    }
+
+    @Override
+    public PageResult<TransactionHistoryRow> findByAccountIdWithPaging(Long accountId, PageQuery pageQuery) {
+        Page<Object[]> page = transactionJpaRepository.findHistoryRowsByAccountId(
+                accountId, PageRequest.of(pageQuery.getPage(), pageQuery.getSize()));
+        return toPageResult(page);
+    }
+
+    @Override
+    public PageResult<TransactionHistoryRow> findByAccountIdAndDateRangeWithPaging(Long accountId, LocalDateTime startDate,
+                                                                                   LocalDateTime endDate, PageQuery pageQuery) {
+        Page<Object[]> page = transactionJpaRepository.findHistoryRowsByAccountIdAndDateRange(
+                accountId, startDate, endDate, PageRequest.of(pageQuery.getPage(), pageQuery.getSize()));
+        return toPageResult(page);
+    }
+
+    @Override
+    public SliceResult<TransactionHistoryRow> findSliceByAccountId(Long accountId, PageQuery pageQuery) {
+        Slice<Object[]> slice = transactionJpaRepository.findHistoryRowSliceByAccountId(
+                accountId, PageRequest.of(pageQuery.getPage(), pageQuery.getSize()));
+
+        return new SliceResult<>(
+                toRows(slice.getContent()),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext()
+        );
+    }
+
+    @Override
+    public List<TransactionHistoryRow> findByAccountIdBeforeCursor(Long accountId, LocalDateTime startDate, LocalDateTime endDate,
+                                                                   TransactionCursor cursor, int limit) {
+        // 조건이 없는 쪽은 DATETIME 범위의 양 끝으로 채워 한 쿼리로 처리
+        List<Object[]> tuples = transactionJpaRepository.findHistoryRowsBeforeCursor(
+                accountId,
+                startDate != null ? startDate : MIN_CREATED_AT,
+                endDate != null ? endDate : MAX_CREATED_AT,
+                cursor != null ? cursor.getCreatedAt() : MAX_CREATED_AT,
+                cursor != null ? cursor.getId() : Long.MAX_VALUE,
+                PageRequest.of(0, limit));
+        return toRows(tuples);
+    }
+
+    @Override
+    public Optional<Long> findTransactionCount(Long accountId) {
+        return counterJpaRepository.findCountByAccountId(accountId);
+    }
+
+    @Override
+    public long streamByAccountId(Long accountId, Consumer<TransactionHistoryRow> consumer) {
+        return streamByAccountIdAndDateRange(accountId, null, null, consumer);
+    }
+
+    @Override
+    public long streamByAccountIdAndDateRange(Long accountId, LocalDateTime startDate, LocalDateTime endDate,
+                                              Consumer<TransactionHistoryRow> consumer) {
+        long count = 0;
+        try (Stream<Object[]> tuples = transactionJpaRepository.streamHistoryRowsByAccountIdAndDateRange(
+                accountId,
+                startDate != null ? startDate : MIN_CREATED_AT,
+                endDate != null ? endDate : MAX_CREATED_AT)) {
+            Iterator<Object[]> iterator = tuples.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(toRow(iterator.next()));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private PageResult<TransactionHistoryRow> toPageResult(Page<Object[]> page) {
+        return new PageResult<>(
+                toRows(page.getContent()),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+
+    private List<TransactionHistoryRow> toRows(List<Object[]> tuples) {
+        List<TransactionHistoryRow> rows = new ArrayList<>(tuples.size());
+        for (Object[] tuple : tuples) {
+            rows.add(toRow(tuple));
+        }
+        return rows;
+    }
+
+    private TransactionHistoryRow toRow(Object[] tuple) {
+        return new TransactionHistoryRow(
+                (Long) tuple[0],
+                TransactionTypeCodes.fromCode((Integer) tuple[1]),
+                (BigDecimal) tuple[2],
+                (BigDecimal) tuple[3],
+                (BigDecimal) tuple[4],
+                (String) tuple[5],
+                (LocalDateTime) tuple[6],
+                (String) tuple[7],
+                (String) tuple[8]
+        );
+    }
+}
@@ -5,14 +5,16 @@ import com.moneyTransfer.domain.common.PageResult;
 import com.moneyTransfer.domain.common.PageQuery;
 import com.moneyTransfer.domain.transaction.Transaction;
 import com.moneyTransfer.domain.transaction.TransactionPort;
-import com.moneyTransfer.domain.transaction.TransactionType;
 import com.moneyTransfer.persistence.entity.AccountJpaEntity;
 import com.moneyTransfer.persistence.entity.TransactionJpaEntity;
+import com.moneyTransfer.persistence.entity.TransactionProjectionQueueJpaEntity;
 import com.moneyTransfer.persistence.repository.AccountJpaRepository;
+import com.moneyTransfer.persistence.repository.AccountTransactionCounterJpaRepository;
 import com.moneyTransfer.persistence.repository.TransactionJpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +23,10 @@ import jakarta.persistence.PersistenceContext;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Repository
@@ -31,28 +36,34 @@ public class JpaTransactionPort implements TransactionPort {
     @PersistenceContext
     private EntityManager entityManager;
 
+    // true면 save 시 flush하지 않고 커밋 시점에 한 번에 flush (JDBC 배치로 반영)
+    @Value("${money-transfer.persistence.deferred-flush:false}")
+    private boolean deferredFlush;
+
     private final TransactionJpaRepository transactionJpaRepository;
     private final AccountJpaRepository accountJpaRepository;
+    private final AccountTransactionCounterJpaRepository counterJpaRepository;
 
     public JpaTransactionPort(TransactionJpaRepository transactionJpaRepository,
-                             AccountJpaRepository accountJpaRepository) {
+                             AccountJpaRepository accountJpaRepository,
+                             AccountTransactionCounterJpaRepository counterJpaRepository) {
         this.transactionJpaRepository = transactionJpaRepository;
         this.accountJpaRepository = accountJpaRepository;
+        this.counterJpaRepository = counterJpaRepository;
     }
 
     @Override
     public Transaction save(Transaction transaction) {
-        AccountJpaEntity accountEntity = accountJpaRepository.findById(transaction.getAccountId())
-            .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+        // 연관 계좌는 지연 참조로만 연결 (SELECT 없음) - 존재 여부는 FK 제약으로 검증
+        AccountJpaEntity accountEntity = accountJpaRepository.getReferenceById(transaction.getAccountId());
 
         AccountJpaEntity relatedAccountEntity = null;
         if (transaction.getRelatedAccountId() != null) {
-            relatedAccountEntity = accountJpaRepository.findById(transaction.getRelatedAccountId())
-                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND));
+            relatedAccountEntity = accountJpaRepository.getReferenceById(transaction.getRelatedAccountId());
         }
 
         TransactionJpaEntity entity = new TransactionJpaEntity(
-            mapTypeToInteger(transaction.getTransactionType()),
+            TransactionTypeCodes.toCode(transaction.getTransactionType()),
             accountEntity,
             relatedAccountEntity,
             transaction.getAmount(),
@@ -61,14 +72,91 @@ public class JpaTransactionPort implements TransactionPort {
             transaction.getDescription()
         );
 
-        TransactionJpaEntity savedEntity = transactionJpaRepository.save(entity);
-
-        // 명시적 flush로 즉시 DB 반영
-        entityManager.flush();
+        TransactionJpaEntity savedEntity = saveAndFlush(entity);
+        counterJpaRepository.increaseCount(transaction.getAccountId(), 1, LocalDateTime.now());
 
         return mapToDomain(savedEntity);
     }
 
+    @Override
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        List<TransactionJpaEntity> entities = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            AccountJpaEntity relatedAccountEntity = transaction.getRelatedAccountId() != null
+                    ? accountJpaRepository.getReferenceById(transaction.getRelatedAccountId())
+                    : null;
+            entities.add(new TransactionJpaEntity(
+                TransactionTypeCodes.toCode(transaction.getTransactionType()),
+                accountJpaRepository.getReferenceById(transaction.getAccountId()),
+                relatedAccountEntity,
+                transaction.getAmount(),
+                transaction.getBalanceAfter(),
+                transaction.getFee(),
+                transaction.getDescription()
+            ));
+        }
+
+        try {
+            List<TransactionJpaEntity> savedEntities = transactionJpaRepository.saveAll(entities);
+            savedEntities.forEach(this::enqueueProjection);
+
+            // 한 번의 flush로 JDBC 배치 INSERT (ID를 미리 할당하므로 배치 가능)
+            if (!deferredFlush) {
+                entityManager.flush();
+            } else {
+                // FK 위반이 커밋 예외로 올라오지 않도록 커밋 직전에 flush
+                CommitFlushTranslator.register(entityManager);
+            }
+            increaseCounts(transactions);
+
+            return savedEntities.stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            if (ForeignKeyViolations.isForeignKeyViolation(e)) {
+                throw new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND, e);
+            }
+            throw e;
+        }
+    }
+
+    // 계좌별로 모아 계좌 ID 순서로 한 번씩 증가 (카운터 행 락 순서를 고정해 데드락 방지)
+    private void increaseCounts(List<Transaction> transactions) {
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            deltas.merge(transaction.getAccountId(), 1L, Long::sum);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((accountId, delta) -> counterJpaRepository.increaseCount(accountId, delta, now));
+    }
+
+    // 일 집계는 요청 트랜잭션에서 갱신하지 않고 대기열에 INSERT만 (TransactionProjector가 모아 반영)
+    private void enqueueProjection(TransactionJpaEntity entity) {
+        entityManager.persist(new TransactionProjectionQueueJpaEntity(entity.getId(), entity.getAccount().getId()));
+    }
+
+    private TransactionJpaEntity saveAndFlush(TransactionJpaEntity entity) {
+        try {
+            TransactionJpaEntity savedEntity = transactionJpaRepository.save(entity);
+            enqueueProjection(savedEntity);
+
+            // 명시적 flush로 즉시 DB 반영 (지연 flush 모드에서는 커밋 시점에 배치로 반영)
+            if (!deferredFlush) {
+                entityManager.flush();
+            } else {
+                // FK 위반이 커밋 예외로 올라오지 않도록 커밋 직전에 flush
+                CommitFlushTranslator.register(entityManager);
+            }
+
+            return savedEntity;
+        } catch (RuntimeException e) {
+            if (ForeignKeyViolations.isForeignKeyViolation(e)) {
+                throw new IllegalArgumentException(ErrorMessages.ACCOUNT_NOT_FOUND, e);
+            }
+            throw e;
+        }
+    }
+
     @Override
     public List<Transaction> findByAccountId(Long accountId) {
         return transactionJpaRepository.findByAccountId(accountId)
@@ -147,7 +235,7 @@ public class JpaTransactionPort implements TransactionPort {
         transaction.setId(entity.getId());
         transaction.setAccountId(entity.getAccount().getId());
         transaction.setRelatedAccountId(entity.getRelatedAccount() != null ? entity.getRelatedAccount().getId() : null);
-        transaction.setTransactionType(mapTypeFromInteger(entity.getType()));
+        transaction.setTransactionType(TransactionTypeCodes.fromCode(entity.getType()));
         transaction.setAmount(entity.getAmount());
         transaction.setBalanceAfter(entity.getBalanceAfter());
         transaction.setFee(entity.getFee());
@@ -156,23 +244,4 @@ public class JpaTransactionPort implements TransactionPort {
         transaction.setUpdatedAt(entity.getUpdatedAt());
         return transaction;
     }
-
-    private Integer mapTypeToInteger(TransactionType type) {
-        return switch (type) {
-            case DEPOSIT -> 100;
-            case WITHDRAW -> 200;
-            case TRANSFER_SEND -> 300;
-            case TRANSFER_RECEIVE -> 400;
-        };
-    }
-
-    private TransactionType mapTypeFromInteger(Integer type) {
-        return switch (type) {
-            case 100 -> TransactionType.DEPOSIT;
-            case 200 -> TransactionType.WITHDRAW;
-            case 300 -> TransactionType.TRANSFER_SEND;
-            case 400 -> TransactionType.TRANSFER_RECEIVE;
-            default -> throw new IllegalArgumentException("Unknown transaction type: " + type);
-        };
-    }
-}
\ No newline at end of file
+}
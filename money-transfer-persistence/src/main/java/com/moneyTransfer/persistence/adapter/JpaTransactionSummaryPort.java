@@ -0,0 +1,43 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.domain.transaction.DailyTransactionSummary;
+import com.moneyTransfer.domain.transaction.TransactionSummaryPort;
+import com.moneyTransfer.persistence.entity.AccountDailySummaryJpaEntity;
+import com.moneyTransfer.persistence.repository.AccountDailySummaryJpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@Transactional(readOnly = true)
+public class JpaTransactionSummaryPort implements TransactionSummaryPort {
+
+    private final AccountDailySummaryJpaRepository dailySummaryJpaRepository;
+
+    public JpaTransactionSummaryPort(AccountDailySummaryJpaRepository dailySummaryJpaRepository) {
+        this.dailySummaryJpaRepository = dailySummaryJpaRepository;
+    }
+
+    @Override
+    public List<DailyTransactionSummary> findDailySummaries(Long accountId, LocalDate startDate, LocalDate endDate) {
+        return dailySummaryJpaRepository.findByAccountIdAndDateRange(accountId, startDate, endDate)
+                .stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+    }
+
+    private DailyTransactionSummary mapToDomain(AccountDailySummaryJpaEntity entity) {
+        return new DailyTransactionSummary(
+                entity.getSummaryDate(),
+                entity.getDepositCount(), entity.getDepositAmount(),
+                entity.getWithdrawCount(), entity.getWithdrawAmount(),
+                entity.getTransferSendCount(), entity.getTransferSendAmount(),
+                entity.getTransferReceiveCount(), entity.getTransferReceiveAmount(),
+                entity.getFeeAmount(),
+                entity.getClosingBalance()
+        );
+    }
+}
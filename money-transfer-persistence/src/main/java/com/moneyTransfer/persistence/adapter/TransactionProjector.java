@@ -0,0 +1,266 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.common.util.WorkerThreads;
+import com.moneyTransfer.domain.common.IdGeneratorPort;
+import com.moneyTransfer.domain.transaction.TransactionType;
+import com.moneyTransfer.persistence.entity.TransactionProjectionQueueJpaEntity;
+import com.moneyTransfer.persistence.repository.AccountDailySummaryJpaRepository;
+import com.moneyTransfer.persistence.repository.TransactionJpaRepository;
+import com.moneyTransfer.persistence.repository.TransactionProjectionQueueJpaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 거래 저장과 분리해 계좌별 일 집계를 갱신하는 projector (거래 건수 카운터는 거래 저장과 같은 트랜잭션에서 증가).
+ *
+ * 거래 저장은 transaction_projection_queue에 거래당 한 행을 INSERT할 뿐이므로, 요청 트랜잭션이 일 집계 행 락을 커밋까지 쥐지 않는다.
+ * projector는 대기 행을 SKIP LOCKED로 batch-size건씩 가져와 (계좌, 거래일)별로 모아 계좌 ID 순서로 한 번씩 반영하고,
+ * 같은 트랜잭션에서 대기 행을 지운다 (여러 인스턴스가 나눠 처리). 일 집계는 반영 주기만큼 늦게 보일 수 있다.
+ * 꺼져 있거나 반영이 유입을 따라가지 못하면 대기열이 계속 쌓이므로, 대기 행이 backlog-warn-threshold건 이상이면 경고를 남긴다.
+ */
+@Component
+public class TransactionProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionProjector.class);
+
+    private final TransactionProjectionQueueJpaRepository queueJpaRepository;
+    private final TransactionJpaRepository transactionJpaRepository;
+    private final AccountDailySummaryJpaRepository dailySummaryJpaRepository;
+    private final IdGeneratorPort idGeneratorPort;
+    private final TransactionOperations transactionOperations;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${money-transfer.transaction.projection.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${money-transfer.transaction.projection.interval-millis:200}")
+    private long intervalMillis = 200;
+
+    @Value("${money-transfer.transaction.projection.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${money-transfer.transaction.projection.backlog-warn-threshold:100000}")
+    private long backlogWarnThreshold = 100000;
+
+    // 대기 행 수를 세는 주기 (반영 중에도 이 주기마다 확인)
+    @Value("${money-transfer.transaction.projection.backlog-check-interval-millis:60000}")
+    private long backlogCheckIntervalMillis = 60000;
+
+    // 가상 스레드 모드면 worker도 가상 스레드로 실행
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads = false;
+
+    // 같은 인스턴스 안에서는 한 번에 하나만 반영 (drain을 직접 호출한 쪽은 진행 중인 반영이 끝난 뒤 남은 것을 처리)
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private ScheduledExecutorService executor;
+
+    private long nextBacklogCheckNanos = System.nanoTime();
+
+    // 일 집계 upsert 문법 선택용 (H2는 MERGE, 그 외는 MySQL ON DUPLICATE KEY UPDATE)
+    private volatile Boolean h2;
+
+    @Autowired
+    public TransactionProjector(TransactionProjectionQueueJpaRepository queueJpaRepository,
+                                TransactionJpaRepository transactionJpaRepository,
+                                AccountDailySummaryJpaRepository dailySummaryJpaRepository,
+                                IdGeneratorPort idGeneratorPort,
+                                PlatformTransactionManager transactionManager) {
+        this(queueJpaRepository, transactionJpaRepository, dailySummaryJpaRepository, idGeneratorPort,
+                new TransactionTemplate(transactionManager));
+    }
+
+    // 테스트용
+    TransactionProjector(TransactionProjectionQueueJpaRepository queueJpaRepository,
+                         TransactionJpaRepository transactionJpaRepository,
+                         AccountDailySummaryJpaRepository dailySummaryJpaRepository,
+                         IdGeneratorPort idGeneratorPort,
+                         TransactionOperations transactionOperations) {
+        this.queueJpaRepository = queueJpaRepository;
+        this.transactionJpaRepository = transactionJpaRepository;
+        this.dailySummaryJpaRepository = dailySummaryJpaRepository;
+        this.idGeneratorPort = idGeneratorPort;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.warn("거래 집계 projector가 꺼져 있어 일 집계가 갱신되지 않고 transaction_projection_queue가 계속 쌓입니다");
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(WorkerThreads.named("transaction-projector", virtualThreads));
+        executor.scheduleWithFixedDelay(this::drainQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdown();
+            drainQuietly();
+        }
+    }
+
+    /**
+     * 대기 행이 없을 때까지 batch 단위로 반영하고 반영한 거래 수를 반환한다.
+     */
+    public int drain() {
+        drainLock.lock();
+        try {
+            int projected = 0;
+            int batch;
+            do {
+                warnIfBacklogged();
+                batch = projectBatch();
+                projected += batch;
+            } while (batch == batchSize);
+            return projected;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    // drainLock을 쥔 상태에서만 호출 - 센 건수는 backlog-warn-threshold에서 멈춤
+    private void warnIfBacklogged() {
+        long now = System.nanoTime();
+        if (now - nextBacklogCheckNanos < 0) {
+            return;
+        }
+        nextBacklogCheckNanos = now + TimeUnit.MILLISECONDS.toNanos(backlogCheckIntervalMillis);
+        long backlog = queueJpaRepository.countUpTo(backlogWarnThreshold);
+        if (backlog >= backlogWarnThreshold) {
+            log.warn("거래 집계 대기열이 {}건 이상 쌓였습니다 - 일 집계 반영이 유입을 따라가지 못하고 있습니다", backlogWarnThreshold);
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            // 예외가 빠져나가면 스케줄이 취소되므로 기록만 하고 다음 주기에 다시 시도 (대기 행은 롤백되어 남음)
+            log.error("거래 집계 반영 중 오류", e);
+        }
+    }
+
+    private int projectBatch() {
+        Integer projected = transactionOperations.execute(status -> {
+            List<TransactionProjectionQueueJpaEntity> queued = queueJpaRepository.findBatchSkipLocked(batchSize);
+            if (queued.isEmpty()) {
+                return 0;
+            }
+
+            increaseDailySummaries(queued.stream().map(TransactionProjectionQueueJpaEntity::getTransactionId).toList(),
+                    LocalDateTime.now());
+
+            queueJpaRepository.deleteAllInBatch(queued);
+            return queued.size();
+        });
+        return projected != null ? projected : 0;
+    }
+
+    // (계좌, 거래일)별로 모아 계좌 ID, 날짜 순서로 한 번씩 upsert (행 락 순서를 고정해 데드락 방지)
+    private void increaseDailySummaries(List<Long> transactionIds, LocalDateTime now) {
+        Map<Long, Map<LocalDate, DailySummaryDelta>> deltas = new TreeMap<>();
+        // 거래 ID 순으로 읽으므로 (계좌, 거래일)마다 마지막에 더한 거래가 마감 잔액 후보
+        for (Object[] row : transactionJpaRepository.findSummaryRowsByIdIn(transactionIds)) {
+            Long accountId = (Long) row[1];
+            LocalDateTime createdAt = (LocalDateTime) row[6];
+            deltas.computeIfAbsent(accountId, id -> new TreeMap<>())
+                    .computeIfAbsent(createdAt.toLocalDate(), date -> new DailySummaryDelta())
+                    .add((Long) row[0], TransactionTypeCodes.fromCode((Integer) row[2]),
+                            (BigDecimal) row[3], (BigDecimal) row[4], (BigDecimal) row[5]);
+        }
+
+        boolean h2 = isH2();
+        deltas.forEach((accountId, byDate) -> byDate.forEach((date, delta) -> {
+            Long id = idGeneratorPort.nextId();
+            if (h2) {
+                dailySummaryJpaRepository.mergeH2(id, accountId, date,
+                        delta.depositCount, delta.depositAmount, delta.withdrawCount, delta.withdrawAmount,
+                        delta.transferSendCount, delta.transferSendAmount, delta.transferReceiveCount, delta.transferReceiveAmount,
+                        delta.feeAmount, delta.closingBalance, delta.closingTransactionId, now);
+            } else {
+                dailySummaryJpaRepository.upsertMySql(id, accountId, date,
+                        delta.depositCount, delta.depositAmount, delta.withdrawCount, delta.withdrawAmount,
+                        delta.transferSendCount, delta.transferSendAmount, delta.transferReceiveCount, delta.transferReceiveAmount,
+                        delta.feeAmount, delta.closingBalance, delta.closingTransactionId, now);
+            }
+        }));
+    }
+
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof H2Dialect;
+        }
+        return h2;
+    }
+
+    // 한 (계좌, 거래일)에 더할 값 - 마감 잔액은 거래 ID가 가장 큰 거래의 거래 후 잔액 (분할 계좌 거래면 null)
+    private static final class DailySummaryDelta {
+        private long depositCount;
+        private BigDecimal depositAmount = BigDecimal.ZERO;
+        private long withdrawCount;
+        private BigDecimal withdrawAmount = BigDecimal.ZERO;
+        private long transferSendCount;
+        private BigDecimal transferSendAmount = BigDecimal.ZERO;
+        private long transferReceiveCount;
+        private BigDecimal transferReceiveAmount = BigDecimal.ZERO;
+        private BigDecimal feeAmount = BigDecimal.ZERO;
+        private BigDecimal closingBalance;
+        private Long closingTransactionId;
+
+        private void add(Long transactionId, TransactionType type, BigDecimal amount, BigDecimal fee, BigDecimal balanceAfter) {
+            switch (type) {
+                case DEPOSIT -> {
+                    depositCount++;
+                    depositAmount = depositAmount.add(amount);
+                }
+                case WITHDRAW -> {
+                    withdrawCount++;
+                    withdrawAmount = withdrawAmount.add(amount);
+                }
+                case TRANSFER_SEND -> {
+                    transferSendCount++;
+                    transferSendAmount = transferSendAmount.add(amount);
+                }
+                case TRANSFER_RECEIVE -> {
+                    transferReceiveCount++;
+                    transferReceiveAmount = transferReceiveAmount.add(amount);
+                }
+            }
+            if (fee != null) {
+                feeAmount = feeAmount.add(fee);
+            }
+            closingBalance = balanceAfter;
+            closingTransactionId = transactionId;
+        }
+    }
+}
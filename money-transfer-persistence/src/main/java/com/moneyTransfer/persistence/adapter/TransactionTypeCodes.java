@@ -0,0 +1,28 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.domain.transaction.TransactionType;
+
+// transactions.type 컬럼 코드 ↔ TransactionType (거래 저장 포트와 조회 포트가 함께 사용)
+final class TransactionTypeCodes {
+
+    private TransactionTypeCodes() {}
+
+    static Integer toCode(TransactionType type) {
+        return switch (type) {
+            case DEPOSIT -> 100;
+            case WITHDRAW -> 200;
+            case TRANSFER_SEND -> 300;
+            case TRANSFER_RECEIVE -> 400;
+        };
+    }
+
+    static TransactionType fromCode(Integer type) {
+        return switch (type) {
+            case 100 -> TransactionType.DEPOSIT;
+            case 200 -> TransactionType.WITHDRAW;
+            case 300 -> TransactionType.TRANSFER_SEND;
+            case 400 -> TransactionType.TRANSFER_RECEIVE;
+            default -> throw new IllegalArgumentException("Unknown transaction type: " + type);
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.moneyTransfer.persistence.entity;
+
+import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.persistence.id.TimeOrderedId;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "account_balance_buckets",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "bucket_no"}))
+public class AccountBalanceBucketJpaEntity {
+
+    // 시간순 ID - INSERT 전에 확정되고 생성 순서대로 정렬됨
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    // ToOne 관계 - LAZY 로딩
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private AccountJpaEntity account;
+
+    @Column(name = "bucket_no", nullable = false)
+    private Integer bucketNo;
+
+    @Column(name = "balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance = BusinessConstants.ZERO_AMOUNT;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // JPA용 기본 생성자
+    protected AccountBalanceBucketJpaEntity() {}
+
+    // 생성자
+    public AccountBalanceBucketJpaEntity(AccountJpaEntity account, Integer bucketNo, BigDecimal balance) {
+        this.account = account;
+        this.bucketNo = bucketNo;
+        this.balance = balance;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // JPA 라이프사이클 콜백
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public AccountJpaEntity getAccount() { return account; }
+    public void setAccount(AccountJpaEntity account) { this.account = account; }
+
+    public Integer getBucketNo() { return bucketNo; }
+    public void setBucketNo(Integer bucketNo) { this.bucketNo = bucketNo; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
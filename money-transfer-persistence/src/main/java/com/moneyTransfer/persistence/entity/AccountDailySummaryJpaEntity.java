@@ -0,0 +1,104 @@
+package com.moneyTransfer.persistence.entity;
+
+import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.persistence.id.TimeOrderedId;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 계좌별 일 단위 거래 집계 - TransactionProjector가 대기열의 거래를 모아 upsert해 기간 합계를 원본 거래를 읽지 않고 제공
+// 요청 트랜잭션에서 갱신하지 않으므로 반영 주기(interval-millis)만큼 늦게 보일 수 있음
+@Entity
+@Table(name = "account_daily_summaries",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "summary_date"}))
+public class AccountDailySummaryJpaEntity {
+
+    // 시간순 ID - upsert로 새 행이 만들어질 때만 쓰임
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Column(name = "deposit_count", nullable = false)
+    private Long depositCount = 0L;
+
+    @Column(name = "deposit_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal depositAmount = BusinessConstants.ZERO_AMOUNT;
+
+    @Column(name = "withdraw_count", nullable = false)
+    private Long withdrawCount = 0L;
+
+    @Column(name = "withdraw_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal withdrawAmount = BusinessConstants.ZERO_AMOUNT;
+
+    @Column(name = "transfer_send_count", nullable = false)
+    private Long transferSendCount = 0L;
+
+    @Column(name = "transfer_send_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal transferSendAmount = BusinessConstants.ZERO_AMOUNT;
+
+    @Column(name = "transfer_receive_count", nullable = false)
+    private Long transferReceiveCount = 0L;
+
+    @Column(name = "transfer_receive_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal transferReceiveAmount = BusinessConstants.ZERO_AMOUNT;
+
+    @Column(name = "fee_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal feeAmount = BusinessConstants.ZERO_AMOUNT;
+
+    // 그날 마지막 거래(거래 ID가 가장 큰 거래)의 거래 후 잔액 - 잔액이 분할된 계좌의 거래는 거래 후 잔액이 없어 null
+    @Column(name = "closing_balance", precision = 15, scale = 2)
+    private BigDecimal closingBalance;
+
+    // closing_balance를 기록한 거래 ID - 반영 순서와 무관하게 더 나중 거래의 잔액만 덮어쓰도록 비교
+    @Column(name = "closing_transaction_id")
+    private Long closingTransactionId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // JPA용 기본 생성자
+    protected AccountDailySummaryJpaEntity() {}
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getAccountId() { return accountId; }
+
+    public LocalDate getSummaryDate() { return summaryDate; }
+
+    public Long getDepositCount() { return depositCount; }
+
+    public BigDecimal getDepositAmount() { return depositAmount; }
+
+    public Long getWithdrawCount() { return withdrawCount; }
+
+    public BigDecimal getWithdrawAmount() { return withdrawAmount; }
+
+    public Long getTransferSendCount() { return transferSendCount; }
+
+    public BigDecimal getTransferSendAmount() { return transferSendAmount; }
+
+    public Long getTransferReceiveCount() { return transferReceiveCount; }
+
+    public BigDecimal getTransferReceiveAmount() { return transferReceiveAmount; }
+
+    public BigDecimal getFeeAmount() { return feeAmount; }
+
+    public BigDecimal getClosingBalance() { return closingBalance; }
+
+    public Long getClosingTransactionId() { return closingTransactionId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
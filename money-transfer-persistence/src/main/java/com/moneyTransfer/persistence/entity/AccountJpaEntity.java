@@ -1,6 +1,7 @@
 package com.moneyTransfer.persistence.entity;
 
 import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.persistence.id.TimeOrderedId;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,8 +17,9 @@ import java.time.LocalDateTime;
        })
 public class AccountJpaEntity {
     
+    // 시간순 ID - INSERT 전에 확정되고 생성 순서대로 정렬됨
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
     
     // ToOne 관계 - LAZY 로딩, Fetch Join으로 조회
@@ -43,6 +45,10 @@ public class AccountJpaEntity {
     @Column(name = "deactivated_at")
     private LocalDateTime deactivatedAt;
     
+    // 0이면 balance 컬럼이 잔액, N이면 잔액은 account_balance_buckets N개 행의 합계
+    @Column(name = "balance_bucket_count", nullable = false)
+    private Integer balanceBucketCount = 0;
+    
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
@@ -63,6 +69,7 @@ public class AccountJpaEntity {
         this.accountNoNorm = accountNoNorm;
         this.balance = BusinessConstants.ZERO_AMOUNT;
         this.status = 200;
+        this.balanceBucketCount = 0;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -98,6 +105,9 @@ public class AccountJpaEntity {
     public LocalDateTime getDeactivatedAt() { return deactivatedAt; }
     public void setDeactivatedAt(LocalDateTime deactivatedAt) { this.deactivatedAt = deactivatedAt; }
     
+    public Integer getBalanceBucketCount() { return balanceBucketCount; }
+    public void setBalanceBucketCount(Integer balanceBucketCount) { this.balanceBucketCount = balanceBucketCount; }
+    
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     
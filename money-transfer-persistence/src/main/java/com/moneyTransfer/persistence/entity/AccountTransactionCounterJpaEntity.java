@@ -0,0 +1,41 @@
+package com.moneyTransfer.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 계좌별 거래 건수 - 거래 INSERT와 같은 트랜잭션에서 증가시켜 거래내역 전체 건수를 COUNT 없이 제공
+@Entity
+@Table(name = "account_transaction_counters")
+public class AccountTransactionCounterJpaEntity {
+
+    // 계좌 ID를 그대로 PK로 사용 (계좌당 한 행)
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // JPA용 기본 생성자
+    protected AccountTransactionCounterJpaEntity() {}
+
+    // 생성자
+    public AccountTransactionCounterJpaEntity(Long accountId) {
+        this.accountId = accountId;
+        this.transactionCount = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+
+    public Long getTransactionCount() { return transactionCount; }
+    public void setTransactionCount(Long transactionCount) { this.transactionCount = transactionCount; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -1,6 +1,7 @@
 package com.moneyTransfer.persistence.entity;
 
 import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.persistence.id.TimeOrderedId;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -11,8 +12,9 @@ import java.time.LocalDateTime;
        uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "limit_date"}))
 public class DailyLimitJpaEntity {
 
+    // 시간순 ID - INSERT 전에 확정되고 생성 순서대로 정렬됨
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     // ToOne 관계 - LAZY 로딩, Fetch Join으로 조회
@@ -0,0 +1,90 @@
+package com.moneyTransfer.persistence.entity;
+
+import com.moneyTransfer.persistence.id.TimeOrderedId;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_idempotency_key", columnNames = {"idempotency_key"})
+       },
+       indexes = {
+           @Index(name = "idx_idempotency_updated_at", columnList = "updated_at")
+       })
+public class IdempotencyKeyJpaEntity {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_path", nullable = false)
+    private String requestPath;
+
+    // 요청 본문의 SHA-256 (hex)
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "status", nullable = false)
+    private Integer status; // PROCESSING: 100, COMPLETED: 200
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_content_type")
+    private String responseContentType;
+
+    // 일괄 이체 응답은 수백 KB가 될 수 있음
+    @Lob
+    @Column(name = "response_body", columnDefinition = "MEDIUMTEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // JPA용 기본 생성자
+    protected IdempotencyKeyJpaEntity() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+
+    public String getRequestPath() { return requestPath; }
+    public void setRequestPath(String requestPath) { this.requestPath = requestPath; }
+
+    public String getRequestHash() { return requestHash; }
+    public void setRequestHash(String requestHash) { this.requestHash = requestHash; }
+
+    public Integer getStatus() { return status; }
+    public void setStatus(Integer status) { this.status = status; }
+
+    public Integer getResponseStatus() { return responseStatus; }
+    public void setResponseStatus(Integer responseStatus) { this.responseStatus = responseStatus; }
+
+    public String getResponseContentType() { return responseContentType; }
+    public void setResponseContentType(String responseContentType) { this.responseContentType = responseContentType; }
+
+    public String getResponseBody() { return responseBody; }
+    public void setResponseBody(String responseBody) { this.responseBody = responseBody; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
@@ -0,0 +1,126 @@
+package com.moneyTransfer.persistence.entity;
+
+import com.moneyTransfer.persistence.id.TimeOrderedId;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "pending_transfers",
+       indexes = {
+           @Index(name = "idx_pending_transfer_status", columnList = "status, id")
+       })
+public class PendingTransferJpaEntity {
+
+    // 시간순 ID - 접수 순서대로 처리하기 위해 정렬 키로도 사용
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(name = "from_bank_code", nullable = false)
+    private String fromBankCode;
+
+    @Column(name = "from_account_no", nullable = false)
+    private String fromAccountNo;
+
+    @Column(name = "to_bank_code", nullable = false)
+    private String toBankCode;
+
+    @Column(name = "to_account_no", nullable = false)
+    private String toAccountNo;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "status", nullable = false)
+    private Integer status; // PENDING: 100, PROCESSING: 150, COMPLETED: 200, FAILED: 400
+
+    // 처리 결과 거래 ID (TRANSFER_SEND) - 계좌 삭제와 무관하게 남도록 FK 없이 보관
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // JPA용 기본 생성자
+    protected PendingTransferJpaEntity() {}
+
+    // 생성자
+    public PendingTransferJpaEntity(String fromBankCode, String fromAccountNo, String toBankCode, String toAccountNo,
+                                    BigDecimal amount, String description, Integer status) {
+        this.fromBankCode = fromBankCode;
+        this.fromAccountNo = fromAccountNo;
+        this.toBankCode = toBankCode;
+        this.toAccountNo = toAccountNo;
+        this.amount = amount;
+        this.description = description;
+        this.status = status;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // JPA 라이프사이클 콜백
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFromBankCode() { return fromBankCode; }
+    public void setFromBankCode(String fromBankCode) { this.fromBankCode = fromBankCode; }
+
+    public String getFromAccountNo() { return fromAccountNo; }
+    public void setFromAccountNo(String fromAccountNo) { this.fromAccountNo = fromAccountNo; }
+
+    public String getToBankCode() { return toBankCode; }
+    public void setToBankCode(String toBankCode) { this.toBankCode = toBankCode; }
+
+    public String getToAccountNo() { return toAccountNo; }
+    public void setToAccountNo(String toAccountNo) { this.toAccountNo = toAccountNo; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Integer getStatus() { return status; }
+    public void setStatus(Integer status) { this.status = status; }
+
+    public Long getTransactionId() { return transactionId; }
+    public void setTransactionId(Long transactionId) { this.transactionId = transactionId; }
+
+    public String getFailureReason() { return failureReason; }
+    public void setFailureReason(String failureReason) { this.failureReason = failureReason; }
+
+    public Integer getAttempts() { return attempts; }
+    public void setAttempts(Integer attempts) { this.attempts = attempts; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
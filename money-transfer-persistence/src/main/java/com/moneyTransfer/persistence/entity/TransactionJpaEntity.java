@@ -1,6 +1,7 @@
 package com.moneyTransfer.persistence.entity;
 
 import com.moneyTransfer.common.constant.BusinessConstants;
+import com.moneyTransfer.persistence.id.TimeOrderedId;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -12,8 +13,9 @@ import java.time.LocalDateTime;
        })
 public class TransactionJpaEntity {
 
+    // IDENTITY는 INSERT를 즉시 실행해야 하므로 JDBC 배치가 불가능 - 시간순 ID를 애플리케이션에서 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(name = "type", nullable = false)
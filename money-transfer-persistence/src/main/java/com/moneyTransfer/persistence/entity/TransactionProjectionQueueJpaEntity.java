@@ -0,0 +1,36 @@
+package com.moneyTransfer.persistence.entity;
+
+import jakarta.persistence.*;
+
+// 일 집계에 아직 반영되지 않은 거래 - 거래 INSERT와 함께 한 행 추가하고 TransactionProjector가 모아 반영한 뒤 삭제
+@Entity
+@Table(name = "transaction_projection_queue",
+       indexes = {
+           @Index(name = "idx_projection_queue_account", columnList = "account_id")
+       })
+public class TransactionProjectionQueueJpaEntity {
+
+    // 거래 ID를 그대로 PK로 사용 (거래당 한 행)
+    @Id
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // JPA용 기본 생성자
+    protected TransactionProjectionQueueJpaEntity() {}
+
+    // 생성자
+    public TransactionProjectionQueueJpaEntity(Long transactionId, Long accountId) {
+        this.transactionId = transactionId;
+        this.accountId = accountId;
+    }
+
+    // Getters and Setters
+    public Long getTransactionId() { return transactionId; }
+    public void setTransactionId(Long transactionId) { this.transactionId = transactionId; }
+
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+}
@@ -0,0 +1,23 @@
+package com.moneyTransfer.persistence.id;
+
+import com.moneyTransfer.domain.common.IdGeneratorPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    // 노드 ID는 인스턴스마다 달라야 함 (0~1023)
+    @Bean
+    public IdGeneratorPort idGeneratorPort(@Value("${money-transfer.id.node-id:0}") long nodeId) {
+        return new TimeOrderedIdGenerator(nodeId);
+    }
+
+    // 엔티티 ID(@TimeOrderedId)도 같은 빈으로 발급되도록 Hibernate 설정으로 넘김
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorHibernateProperties(IdGeneratorPort idGeneratorPort) {
+        return properties -> properties.put(TimeOrderedIdentifierGenerator.ID_GENERATOR_SETTING, idGeneratorPort);
+    }
+}
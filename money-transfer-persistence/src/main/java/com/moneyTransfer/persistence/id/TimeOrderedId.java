@@ -0,0 +1,18 @@
+package com.moneyTransfer.persistence.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간순 ID 생성기로 식별자를 할당한다.
+ * IDENTITY와 달리 persist 시점에 ID가 확정되므로 INSERT를 JDBC 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,74 @@
+package com.moneyTransfer.persistence.id;
+
+import com.moneyTransfer.domain.common.IdGeneratorPort;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 64비트 시간순 ID 생성기.
+ * [부호 1비트 | 타임스탬프 41비트 | 노드 10비트 | 시퀀스 12비트]
+ *
+ * 마지막 (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS로만 갱신하므로 락이 없다.
+ * 같은 밀리초에 시퀀스가 소진되면 다음 밀리초를 미리 빌려 쓰고,
+ * 시계가 뒤로 가면 마지막 값에서 이어서 발급해 단조 증가를 유지한다.
+ */
+public class TimeOrderedIdGenerator implements IdGeneratorPort {
+
+    // 2024-01-01T00:00:00Z
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    // (epoch 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong lastState = new AtomicLong();
+
+    public TimeOrderedIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long previous = lastState.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+
+            // 새 밀리초면 시퀀스 0부터, 아니면 +1 (시퀀스 overflow는 타임스탬프 비트로 자연히 올라감)
+            long next = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+
+            if (lastState.compareAndSet(previous, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    // ID에 기록된 발급 시각 (epoch millis)
+    public static long extractEpochMillis(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    public static long extractNodeId(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
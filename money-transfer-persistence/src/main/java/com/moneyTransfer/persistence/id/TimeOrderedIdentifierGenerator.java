@@ -0,0 +1,37 @@
+package com.moneyTransfer.persistence.id;
+
+import com.moneyTransfer.domain.common.IdGeneratorPort;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * Hibernate가 직접 생성하는 ID 생성기와 Spring의 IdGeneratorPort 빈을 잇는 브리지.
+ * Hibernate는 이 클래스를 리플렉션으로 만들기 때문에, IdGeneratorConfig가 빈을 Hibernate 설정(ID_GENERATOR_SETTING)으로 넘기고
+ * 생성 시점에 설정에서 꺼내 쓴다. 네이티브 INSERT를 하는 어댑터도 같은 빈을 주입받으므로 모든 ID가 한 생성기에서 나온다.
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String ID_GENERATOR_SETTING = "money-transfer.id.generator";
+
+    private final IdGeneratorPort delegate;
+
+    public TimeOrderedIdentifierGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        Object configured = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings()
+                .get(ID_GENERATOR_SETTING);
+        // IdGeneratorConfig를 올리지 않은 JPA 슬라이스 테스트에서는 엔티티마다 노드 0 생성기를 따로 사용
+        this.delegate = configured instanceof IdGeneratorPort idGeneratorPort
+                ? idGeneratorPort
+                : new TimeOrderedIdGenerator(0);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return delegate.nextId();
+    }
+}
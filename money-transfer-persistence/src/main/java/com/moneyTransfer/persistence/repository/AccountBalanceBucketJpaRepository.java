@@ -0,0 +1,51 @@
+package com.moneyTransfer.persistence.repository;
+
+import com.moneyTransfer.persistence.entity.AccountBalanceBucketJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountBalanceBucketJpaRepository extends JpaRepository<AccountBalanceBucketJpaEntity, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalanceBucketJpaEntity b SET b.balance = b.balance + :amount, b.updatedAt = :now " +
+           "WHERE b.account.id = :accountId AND b.bucketNo = :bucketNo")
+    int increaseBalance(@Param("accountId") Long accountId,
+                        @Param("bucketNo") Integer bucketNo,
+                        @Param("amount") BigDecimal amount,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalanceBucketJpaEntity b SET b.balance = b.balance - :amount, b.updatedAt = :now " +
+           "WHERE b.account.id = :accountId AND b.bucketNo = :bucketNo AND b.balance >= :amount")
+    int decreaseBalance(@Param("accountId") Long accountId,
+                        @Param("bucketNo") Integer bucketNo,
+                        @Param("amount") BigDecimal amount,
+                        @Param("now") LocalDateTime now);
+
+    // 금액 이상이 남은 bucket 하나를 잠금 - 다른 출금이 잠근 bucket은 기다리지 않고 건너뜀 (MySQL 8, H2 2.x 공통 문법)
+    @Query(value = "SELECT bucket_no FROM account_balance_buckets WHERE account_id = :accountId AND balance >= :amount " +
+                   "ORDER BY bucket_no LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<Integer> findSufficientBucketNoSkipLocked(@Param("accountId") Long accountId,
+                                                       @Param("amount") BigDecimal amount);
+
+    // 데드락 방지를 위해 항상 bucket 번호 순서로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AccountBalanceBucketJpaEntity b WHERE b.account.id = :accountId ORDER BY b.bucketNo")
+    List<AccountBalanceBucketJpaEntity> findByAccountIdWithLock(@Param("accountId") Long accountId);
+
+    @Query("SELECT COALESCE(SUM(b.balance), 0) FROM AccountBalanceBucketJpaEntity b WHERE b.account.id = :accountId")
+    BigDecimal sumBalanceByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,117 @@
+package com.moneyTransfer.persistence.repository;
+
+import com.moneyTransfer.persistence.entity.AccountDailySummaryJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountDailySummaryJpaRepository extends JpaRepository<AccountDailySummaryJpaEntity, Long> {
+
+    @Query("SELECT s FROM AccountDailySummaryJpaEntity s " +
+           "WHERE s.accountId = :accountId " +
+           "AND s.summaryDate >= :startDate AND s.summaryDate <= :endDate " +
+           "ORDER BY s.summaryDate ASC")
+    List<AccountDailySummaryJpaEntity> findByAccountIdAndDateRange(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 일 집계 반영: 그날 행이 없으면 INSERT, 있으면 건수/금액을 더함
+    // 마감 잔액은 기록된 거래보다 거래 ID가 큰 거래일 때만 교체 (나중에 커밋된 batch가 더 앞선 거래의 잔액으로 덮어쓰지 않음)
+    // MySQL은 SET 절을 왼쪽부터 적용하므로 closing_transaction_id를 마지막에 갱신
+    // native 쿼리지만 영향 테이블을 지정해 두어 다른 테이블의 대기 중인 변경을 먼저 flush하지 않음
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account_daily_summaries"))
+    @Query(value = "INSERT INTO account_daily_summaries (id, account_id, summary_date, " +
+           "deposit_count, deposit_amount, withdraw_count, withdraw_amount, " +
+           "transfer_send_count, transfer_send_amount, transfer_receive_count, transfer_receive_amount, " +
+           "fee_amount, closing_balance, closing_transaction_id, created_at, updated_at) " +
+           "VALUES (:id, :accountId, :summaryDate, :depositCount, :depositAmount, :withdrawCount, :withdrawAmount, " +
+           ":transferSendCount, :transferSendAmount, :transferReceiveCount, :transferReceiveAmount, " +
+           ":feeAmount, :closingBalance, :closingTransactionId, :now, :now) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "deposit_count = deposit_count + :depositCount, deposit_amount = deposit_amount + :depositAmount, " +
+           "withdraw_count = withdraw_count + :withdrawCount, withdraw_amount = withdraw_amount + :withdrawAmount, " +
+           "transfer_send_count = transfer_send_count + :transferSendCount, " +
+           "transfer_send_amount = transfer_send_amount + :transferSendAmount, " +
+           "transfer_receive_count = transfer_receive_count + :transferReceiveCount, " +
+           "transfer_receive_amount = transfer_receive_amount + :transferReceiveAmount, " +
+           "fee_amount = fee_amount + :feeAmount, " +
+           "closing_balance = CASE WHEN closing_transaction_id IS NULL OR closing_transaction_id < :closingTransactionId " +
+           "THEN :closingBalance ELSE closing_balance END, " +
+           "updated_at = :now, " +
+           "closing_transaction_id = GREATEST(COALESCE(closing_transaction_id, :closingTransactionId), :closingTransactionId)",
+           nativeQuery = true)
+    int upsertMySql(@Param("id") Long id,
+                    @Param("accountId") Long accountId,
+                    @Param("summaryDate") LocalDate summaryDate,
+                    @Param("depositCount") long depositCount,
+                    @Param("depositAmount") BigDecimal depositAmount,
+                    @Param("withdrawCount") long withdrawCount,
+                    @Param("withdrawAmount") BigDecimal withdrawAmount,
+                    @Param("transferSendCount") long transferSendCount,
+                    @Param("transferSendAmount") BigDecimal transferSendAmount,
+                    @Param("transferReceiveCount") long transferReceiveCount,
+                    @Param("transferReceiveAmount") BigDecimal transferReceiveAmount,
+                    @Param("feeAmount") BigDecimal feeAmount,
+                    @Param("closingBalance") BigDecimal closingBalance,
+                    @Param("closingTransactionId") Long closingTransactionId,
+                    @Param("now") LocalDateTime now);
+
+    // H2 (테스트용) - 표준 MERGE로 같은 동작 (SET 절은 모두 갱신 전 값으로 계산)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account_daily_summaries"))
+    @Query(value = "MERGE INTO account_daily_summaries d " +
+           "USING (SELECT CAST(:accountId AS BIGINT) AS account_id, CAST(:summaryDate AS DATE) AS summary_date, " +
+           "CAST(:closingBalance AS DECIMAL(15,2)) AS closing_balance, " +
+           "CAST(:closingTransactionId AS BIGINT) AS closing_transaction_id) s " +
+           "ON d.account_id = s.account_id AND d.summary_date = s.summary_date " +
+           "WHEN MATCHED THEN UPDATE SET " +
+           "deposit_count = d.deposit_count + :depositCount, deposit_amount = d.deposit_amount + :depositAmount, " +
+           "withdraw_count = d.withdraw_count + :withdrawCount, withdraw_amount = d.withdraw_amount + :withdrawAmount, " +
+           "transfer_send_count = d.transfer_send_count + :transferSendCount, " +
+           "transfer_send_amount = d.transfer_send_amount + :transferSendAmount, " +
+           "transfer_receive_count = d.transfer_receive_count + :transferReceiveCount, " +
+           "transfer_receive_amount = d.transfer_receive_amount + :transferReceiveAmount, " +
+           "fee_amount = d.fee_amount + :feeAmount, " +
+           "closing_balance = CASE WHEN d.closing_transaction_id IS NULL OR d.closing_transaction_id < s.closing_transaction_id " +
+           "THEN s.closing_balance ELSE d.closing_balance END, " +
+           "closing_transaction_id = CASE WHEN d.closing_transaction_id IS NULL OR d.closing_transaction_id < s.closing_transaction_id " +
+           "THEN s.closing_transaction_id ELSE d.closing_transaction_id END, " +
+           "updated_at = :now " +
+           "WHEN NOT MATCHED THEN " +
+           "INSERT (id, account_id, summary_date, deposit_count, deposit_amount, withdraw_count, withdraw_amount, " +
+           "transfer_send_count, transfer_send_amount, transfer_receive_count, transfer_receive_amount, " +
+           "fee_amount, closing_balance, closing_transaction_id, created_at, updated_at) " +
+           "VALUES (:id, s.account_id, s.summary_date, :depositCount, :depositAmount, :withdrawCount, :withdrawAmount, " +
+           ":transferSendCount, :transferSendAmount, :transferReceiveCount, :transferReceiveAmount, " +
+           ":feeAmount, s.closing_balance, s.closing_transaction_id, :now, :now)",
+           nativeQuery = true)
+    int mergeH2(@Param("id") Long id,
+                @Param("accountId") Long accountId,
+                @Param("summaryDate") LocalDate summaryDate,
+                @Param("depositCount") long depositCount,
+                @Param("depositAmount") BigDecimal depositAmount,
+                @Param("withdrawCount") long withdrawCount,
+                @Param("withdrawAmount") BigDecimal withdrawAmount,
+                @Param("transferSendCount") long transferSendCount,
+                @Param("transferSendAmount") BigDecimal transferSendAmount,
+                @Param("transferReceiveCount") long transferReceiveCount,
+                @Param("transferReceiveAmount") BigDecimal transferReceiveAmount,
+                @Param("feeAmount") BigDecimal feeAmount,
+                @Param("closingBalance") BigDecimal closingBalance,
+                @Param("closingTransactionId") Long closingTransactionId,
+                @Param("now") LocalDateTime now);
+}
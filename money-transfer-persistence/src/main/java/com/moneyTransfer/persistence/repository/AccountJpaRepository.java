@@ -1,14 +1,19 @@
 package com.moneyTransfer.persistence.repository;
 
 import com.moneyTransfer.persistence.entity.AccountJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +29,13 @@ public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, Lo
     Optional<AccountJpaEntity> findByBankCodeAndAccountNoNorm(String bankCode, String accountNoNorm);
 
     boolean existsByBankCodeAndAccountNoNorm(String bankCode, String accountNoNorm);
+
+    List<AccountJpaEntity> findByBankCodeInAndAccountNoNormIn(Collection<String> bankCodes, Collection<String> accountNoNorms);
+
+    // PK 순서로 잠기도록 ID 정렬
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountJpaEntity a WHERE a.id IN :ids ORDER BY a.id")
+    List<AccountJpaEntity> findByIdInWithLock(@Param("ids") Collection<Long> ids);
     
     @Query("SELECT a FROM AccountJpaEntity a WHERE a.status = :status")
     List<AccountJpaEntity> findByStatus(@Param("status") Integer status);
@@ -37,4 +49,32 @@ public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, Lo
     Optional<AccountJpaEntity> findByBankCodeAndAccountNoNormWithUserAndLock(
             @Param("bankCode") String bankCode,
             @Param("accountNoNorm") String accountNoNorm);
+
+    // 조건부 잔액 변경: 영속성 컨텍스트는 비우지 않음 - 같은 계좌를 이미 관리 중이면 호출자가 그 엔티티만 refresh
+    // 잔액이 분할된 계좌는 계좌 행 잔액이 0으로 고정되고 bucket 합계가 잔액이므로 대상에서 제외 (분할 전에 읽은 요청이 계좌 행에 반영하지 않도록)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountJpaEntity a SET a.balance = a.balance + :amount, a.version = a.version + 1, a.updatedAt = :now " +
+           "WHERE a.id = :id AND a.status = :status AND a.balanceBucketCount = 0")
+    int increaseBalance(@Param("id") Long id,
+                        @Param("amount") BigDecimal amount,
+                        @Param("status") Integer status,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountJpaEntity a SET a.balance = a.balance - :amount, a.version = a.version + 1, a.updatedAt = :now " +
+           "WHERE a.id = :id AND a.status = :status AND a.balanceBucketCount = 0 AND a.balance >= :amount")
+    int decreaseBalance(@Param("id") Long id,
+                        @Param("amount") BigDecimal amount,
+                        @Param("status") Integer status,
+                        @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.balance FROM AccountJpaEntity a WHERE a.id = :id")
+    Optional<BigDecimal> findBalanceById(@Param("id") Long id);
+
+    // 계좌 디렉터리 적재용: 식별 컬럼만 PK 순으로 (id, bankCode, accountNoNorm, balanceBucketCount)
+    @Query("SELECT a.id, a.bankCode, a.accountNoNorm, a.balanceBucketCount FROM AccountJpaEntity a " +
+           "WHERE a.status = :status AND a.id > :afterId ORDER BY a.id")
+    List<Object[]> findKeysByStatusAfterId(@Param("status") Integer status,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.moneyTransfer.persistence.repository;
+
+import com.moneyTransfer.persistence.entity.AccountTransactionCounterJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AccountTransactionCounterJpaRepository extends JpaRepository<AccountTransactionCounterJpaEntity, Long> {
+
+    // 카운터 행이 없는 계좌(카운터 도입 전 계좌)는 0을 반환하고 아무것도 하지 않음
+    @Modifying
+    @Query("UPDATE AccountTransactionCounterJpaEntity c " +
+           "SET c.transactionCount = c.transactionCount + :delta, c.updatedAt = :now " +
+           "WHERE c.accountId = :accountId")
+    int increaseCount(@Param("accountId") Long accountId,
+                      @Param("delta") long delta,
+                      @Param("now") LocalDateTime now);
+
+    @Query("SELECT c.transactionCount FROM AccountTransactionCounterJpaEntity c WHERE c.accountId = :accountId")
+    Optional<Long> findCountByAccountId(@Param("accountId") Long accountId);
+}
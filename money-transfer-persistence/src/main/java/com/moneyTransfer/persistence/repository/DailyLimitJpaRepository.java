@@ -3,12 +3,15 @@ package com.moneyTransfer.persistence.repository;
 import com.moneyTransfer.persistence.entity.DailyLimitJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -26,4 +29,52 @@ public interface DailyLimitJpaRepository extends JpaRepository<DailyLimitJpaEnti
             @Param("accountId") Long accountId,
             @Param("limitDate") LocalDate limitDate
     );
-}
\ No newline at end of file
+
+    // 일일 한도 소비: 당일 행의 사용량을 한도 이내일 때만 증가 (조건에 맞는 행이 없으면 0)
+    // version을 항상 올리므로 반환값은 useAffectedRows 설정과 무관하게 조건에 맞은 행 수
+    @Modifying
+    @Query(value = "UPDATE daily_limits SET withdraw_used = withdraw_used + :amount, updated_at = :now, version = version + 1 " +
+           "WHERE account_id = :accountId AND limit_date = :limitDate AND withdraw_used + :amount <= :maxUsed",
+           nativeQuery = true)
+    int increaseWithdrawUsed(@Param("accountId") Long accountId,
+                             @Param("limitDate") LocalDate limitDate,
+                             @Param("amount") BigDecimal amount,
+                             @Param("maxUsed") BigDecimal maxUsed,
+                             @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE daily_limits SET transfer_used = transfer_used + :amount, updated_at = :now, version = version + 1 " +
+           "WHERE account_id = :accountId AND limit_date = :limitDate AND transfer_used + :amount <= :maxUsed",
+           nativeQuery = true)
+    int increaseTransferUsed(@Param("accountId") Long accountId,
+                             @Param("limitDate") LocalDate limitDate,
+                             @Param("amount") BigDecimal amount,
+                             @Param("maxUsed") BigDecimal maxUsed,
+                             @Param("now") LocalDateTime now);
+
+    // 당일 행이 없을 때만 사용량 0으로 생성 (이미 있으면 아무것도 바꾸지 않음 - 반환값은 쓰지 않음)
+    // 동시에 생성하려는 트랜잭션은 유니크 키에서 기다렸다가 아무것도 하지 않으므로 이후 UPDATE가 같은 행을 봄
+    @Modifying
+    @Query(value = "INSERT INTO daily_limits (id, account_id, limit_date, withdraw_used, transfer_used, created_at, updated_at, version) " +
+           "VALUES (:id, :accountId, :limitDate, 0, 0, :now, :now, 0) " +
+           "ON DUPLICATE KEY UPDATE id = id",
+           nativeQuery = true)
+    int insertIfAbsentMySql(@Param("id") Long id,
+                            @Param("accountId") Long accountId,
+                            @Param("limitDate") LocalDate limitDate,
+                            @Param("now") LocalDateTime now);
+
+    // H2 (테스트용) - 표준 MERGE로 같은 동작
+    @Modifying
+    @Query(value = "MERGE INTO daily_limits d " +
+           "USING (SELECT CAST(:accountId AS BIGINT) AS account_id, CAST(:limitDate AS DATE) AS limit_date) s " +
+           "ON d.account_id = s.account_id AND d.limit_date = s.limit_date " +
+           "WHEN NOT MATCHED THEN " +
+           "INSERT (id, account_id, limit_date, withdraw_used, transfer_used, created_at, updated_at, version) " +
+           "VALUES (:id, s.account_id, s.limit_date, 0, 0, :now, :now, 0)",
+           nativeQuery = true)
+    int insertIfAbsentH2(@Param("id") Long id,
+                         @Param("accountId") Long accountId,
+                         @Param("limitDate") LocalDate limitDate,
+                         @Param("now") LocalDateTime now);
+}
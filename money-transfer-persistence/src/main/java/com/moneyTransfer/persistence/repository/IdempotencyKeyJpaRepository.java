@@ -0,0 +1,56 @@
+package com.moneyTransfer.persistence.repository;
+
+import com.moneyTransfer.persistence.entity.IdempotencyKeyJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyJpaEntity, Long> {
+
+    Optional<IdempotencyKeyJpaEntity> findByIdempotencyKey(String idempotencyKey);
+
+    // 키 선점: 이미 있으면 아무 것도 하지 않음 (한 문장, 반영된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_keys (id, idempotency_key, request_path, request_hash, status, created_at, updated_at) " +
+           "VALUES (:id, :idempotencyKey, :requestPath, :requestHash, :status, :now, :now)",
+           nativeQuery = true)
+    int insertIgnoreMySql(@Param("id") Long id,
+                          @Param("idempotencyKey") String idempotencyKey,
+                          @Param("requestPath") String requestPath,
+                          @Param("requestHash") String requestHash,
+                          @Param("status") Integer status,
+                          @Param("now") LocalDateTime now);
+
+    // H2 (테스트용) - 표준 MERGE로 같은 동작
+    @Modifying
+    @Query(value = "MERGE INTO idempotency_keys k " +
+           "USING (SELECT CAST(:idempotencyKey AS VARCHAR(100)) AS idempotency_key) s " +
+           "ON k.idempotency_key = s.idempotency_key " +
+           "WHEN NOT MATCHED THEN " +
+           "INSERT (id, idempotency_key, request_path, request_hash, status, created_at, updated_at) " +
+           "VALUES (:id, s.idempotency_key, :requestPath, :requestHash, :status, :now, :now)",
+           nativeQuery = true)
+    int mergeH2(@Param("id") Long id,
+                @Param("idempotencyKey") String idempotencyKey,
+                @Param("requestPath") String requestPath,
+                @Param("requestHash") String requestHash,
+                @Param("status") Integer status,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.idempotencyKey = :idempotencyKey AND k.status = :status")
+    int deleteByIdempotencyKeyAndStatus(@Param("idempotencyKey") String idempotencyKey,
+                                        @Param("status") Integer status);
+
+    // 보관 기간 정리 대상 - updated_at 인덱스 순으로 한 번에 limit개씩
+    @Query("SELECT k.id FROM IdempotencyKeyJpaEntity k WHERE k.updatedAt < :updatedBefore ORDER BY k.updatedAt")
+    List<Long> findIdsByUpdatedAtBefore(@Param("updatedBefore") LocalDateTime updatedBefore, Pageable pageable);
+}
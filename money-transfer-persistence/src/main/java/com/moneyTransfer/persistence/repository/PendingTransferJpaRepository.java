@@ -0,0 +1,36 @@
+package com.moneyTransfer.persistence.repository;
+
+import com.moneyTransfer.persistence.entity.PendingTransferJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PendingTransferJpaRepository extends JpaRepository<PendingTransferJpaEntity, Long> {
+
+    // 상태별 건수를 limit까지만 셈 - 대기열이 길어도 인덱스를 limit개만 읽음
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM pending_transfers WHERE status = :status LIMIT :limit) t",
+           nativeQuery = true)
+    long countByStatusUpTo(@Param("status") Integer status, @Param("limit") long limit);
+
+    // 여러 worker가 동시에 가져가도 서로 기다리지 않도록 이미 잠긴 행은 건너뜀 (MySQL 8, H2 2.x 공통 문법)
+    @Query(value = "SELECT * FROM pending_transfers WHERE status = :status ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<PendingTransferJpaEntity> findFirstByStatusSkipLocked(@Param("status") Integer status);
+
+    @Query(value = "SELECT * FROM pending_transfers WHERE status = :status AND updated_at < :updatedBefore " +
+                   "ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<PendingTransferJpaEntity> findFirstByStatusAndUpdatedAtBeforeSkipLocked(@Param("status") Integer status,
+                                                                                    @Param("updatedBefore") LocalDateTime updatedBefore);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PendingTransferJpaEntity p WHERE p.id = :id")
+    Optional<PendingTransferJpaEntity> findByIdWithLock(@Param("id") Long id);
+}
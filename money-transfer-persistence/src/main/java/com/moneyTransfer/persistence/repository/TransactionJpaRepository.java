@@ -1,15 +1,21 @@
 package com.moneyTransfer.persistence.repository;
 
 import com.moneyTransfer.persistence.entity.TransactionJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEntity, Long> {
@@ -48,4 +54,74 @@ public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEn
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable
     );
+
+    // 일 집계 반영용 행 (id, accountId, type, amount, fee, balanceAfter, createdAt) - 거래 ID 순
+    @Query("SELECT t.id, t.account.id, t.type, t.amount, t.fee, t.balanceAfter, t.createdAt " +
+           "FROM TransactionJpaEntity t WHERE t.id IN :ids ORDER BY t.id")
+    List<Object[]> findSummaryRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 거래내역 조회용 행 (id, type, amount, balanceAfter, fee, description, createdAt, 상대 계좌 bankCode, accountNo)
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽음 - 상대 계좌는 PK LEFT JOIN
+    String HISTORY_ROW_SELECT = "SELECT t.id, t.type, t.amount, t.balanceAfter, t.fee, t.description, t.createdAt, " +
+           "r.bankCode, r.accountNo " +
+           "FROM TransactionJpaEntity t LEFT JOIN t.relatedAccount r ";
+
+    @Query(value = HISTORY_ROW_SELECT +
+           "WHERE t.account.id = :accountId " +
+           "ORDER BY t.createdAt DESC",
+           countQuery = "SELECT COUNT(t) FROM TransactionJpaEntity t WHERE t.account.id = :accountId")
+    Page<Object[]> findHistoryRowsByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    @Query(value = HISTORY_ROW_SELECT +
+           "WHERE t.account.id = :accountId " +
+           "AND t.createdAt >= :startDate AND t.createdAt <= :endDate " +
+           "ORDER BY t.createdAt DESC",
+           countQuery = "SELECT COUNT(t) FROM TransactionJpaEntity t " +
+           "WHERE t.account.id = :accountId " +
+           "AND t.createdAt >= :startDate AND t.createdAt <= :endDate")
+    Page<Object[]> findHistoryRowsByAccountIdAndDateRange(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    // Slice 반환 - COUNT 쿼리 없이 size + 1건을 읽어 다음 페이지 여부만 판단
+    @Query(HISTORY_ROW_SELECT +
+           "WHERE t.account.id = :accountId " +
+           "ORDER BY t.createdAt DESC")
+    Slice<Object[]> findHistoryRowSliceByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    // 커서 페이징 - (createdAt, id)가 커서보다 앞선 행 (createdAt이 같으면 id로 구분)
+    @Query(HISTORY_ROW_SELECT +
+           "WHERE t.account.id = :accountId " +
+           "AND t.createdAt >= :startDate AND t.createdAt <= :endDate " +
+           "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Object[]> findHistoryRowsBeforeCursor(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 내보내기 스트리밍 - 고정 fetch size로 커서를 앞으로만 읽음 (MySQL은 useCursorFetch=true일 때 서버 커서 사용)
+    // 스칼라 튜플이라 영속성 컨텍스트에 쌓이지 않으므로 건수와 무관하게 메모리 일정, 호출자가 트랜잭션 안에서 닫아야 함
+    String EXPORT_FETCH_SIZE = "500";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(HISTORY_ROW_SELECT +
+           "WHERE t.account.id = :accountId " +
+           "AND t.createdAt >= :startDate AND t.createdAt <= :endDate " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<Object[]> streamHistoryRowsByAccountIdAndDateRange(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
 }
\ No newline at end of file
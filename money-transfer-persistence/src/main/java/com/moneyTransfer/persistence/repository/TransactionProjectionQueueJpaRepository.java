@@ -0,0 +1,23 @@
+package com.moneyTransfer.persistence.repository;
+
+import com.moneyTransfer.persistence.entity.TransactionProjectionQueueJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TransactionProjectionQueueJpaRepository extends JpaRepository<TransactionProjectionQueueJpaEntity, Long> {
+
+    // 여러 인스턴스의 projector가 동시에 가져가도 서로 기다리지 않도록 이미 잠긴 행은 건너뜀 (MySQL 8, H2 2.x 공통 문법)
+    @Query(value = "SELECT * FROM transaction_projection_queue ORDER BY transaction_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<TransactionProjectionQueueJpaEntity> findBatchSkipLocked(@Param("limit") int limit);
+
+    // 대기 행 수를 limit까지만 셈 (대기열이 길어도 확인 비용이 limit에서 멈춤)
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM transaction_projection_queue LIMIT :limit) t",
+           nativeQuery = true)
+    long countUpTo(@Param("limit") long limit);
+}
@@ -0,0 +1,197 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.domain.dailylimit.DailyLimit;
+import com.moneyTransfer.domain.dailylimit.DailyLimitPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("메모리 일일 한도 예약 테스트")
+class InMemoryDailyLimitPortTest {
+
+    private static final BigDecimal LIMIT = new BigDecimal("1000000");
+
+    private final LocalDate today = LocalDate.now();
+    private RecordingDailyLimitPort delegate;
+    private InMemoryDailyLimitPort dailyLimitPort;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new RecordingDailyLimitPort();
+        dailyLimitPort = new InMemoryDailyLimitPort(delegate, TransactionOperations.withoutTransaction());
+        ReflectionTestUtils.setField(dailyLimitPort, "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("DB에 기록된 사용량으로 채운 뒤 한도 이내에서만 예약한다")
+    void hydratesFromDelegateAndEnforcesLimit() {
+        // given - DB에는 이미 90만원 사용
+        delegate.withdrawUsed.put(1L, new BigDecimal("900000"));
+
+        // when & then
+        assertThat(dailyLimitPort.tryConsumeWithdraw(1L, today, new BigDecimal("100000"), LIMIT)).isTrue();
+        assertThat(dailyLimitPort.tryConsumeWithdraw(1L, today, new BigDecimal("0.01"), LIMIT)).isFalse();
+        assertThat(dailyLimitPort.tryConsumeTransfer(1L, today, LIMIT, LIMIT)).isTrue();
+        assertThat(delegate.findCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 예약은 한도를 넘지 않는다")
+    void concurrentReservationsNeverExceedLimit() {
+        // given
+        int attempts = 200;
+        AtomicInteger successCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when - 1만원씩 200회 (100회만 가능)
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                if (dailyLimitPort.tryConsumeWithdraw(1L, today, new BigDecimal("10000"), LIMIT)) {
+                    successCount.incrementAndGet();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(100);
+        dailyLimitPort.flush();
+        assertThat(delegate.withdrawUsed.get(1L)).isEqualByComparingTo(LIMIT);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 예약은 되돌리고 DB에 반영하지 않는다")
+    void rollbackReleasesReservation() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(dailyLimitPort.tryConsumeWithdraw(1L, today, LIMIT, LIMIT)).isTrue();
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        dailyLimitPort.flush();
+
+        // then
+        assertThat(delegate.withdrawUsed).doesNotContainKey(1L);
+        assertThat(dailyLimitPort.tryConsumeWithdraw(1L, today, LIMIT, LIMIT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("커밋된 예약만 모아서 write-behind로 반영한다")
+    void commitIsWrittenBehind() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        dailyLimitPort.tryConsumeWithdraw(1L, today, new BigDecimal("300000"), LIMIT);
+        dailyLimitPort.tryConsumeTransfer(2L, today, new BigDecimal("500000"), LIMIT);
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(delegate.withdrawUsed).isEmpty();
+        dailyLimitPort.flush();
+
+        // then
+        assertThat(delegate.withdrawUsed.get(1L)).isEqualByComparingTo("300000");
+        assertThat(delegate.transferUsed.get(2L)).isEqualByComparingTo("500000");
+    }
+
+    @Test
+    @DisplayName("이미 지난 날짜의 요청은 DB에서 직접 처리한다")
+    void staleDateGoesToDelegate() {
+        // given
+        dailyLimitPort.tryConsumeWithdraw(1L, today, new BigDecimal("10000"), LIMIT);
+
+        // when
+        dailyLimitPort.tryConsumeWithdraw(1L, today.minusDays(1), new BigDecimal("20000"), LIMIT);
+
+        // then
+        assertThat(delegate.consumeCount.get()).isEqualTo(1);
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    /**
+     * 호출을 기록하는 DailyLimitPort - 한도 소비는 지정된 한도 안에서 누적한다.
+     */
+    private static final class RecordingDailyLimitPort implements DailyLimitPort {
+
+        private final Map<Long, BigDecimal> withdrawUsed = new HashMap<>();
+        private final Map<Long, BigDecimal> transferUsed = new HashMap<>();
+        private final AtomicInteger findCount = new AtomicInteger();
+        private final AtomicInteger consumeCount = new AtomicInteger();
+
+        @Override
+        public DailyLimit save(DailyLimit dailyLimit) {
+            return dailyLimit;
+        }
+
+        @Override
+        public synchronized Optional<DailyLimit> findByAccountIdAndLimitDate(Long accountId, LocalDate limitDate) {
+            findCount.incrementAndGet();
+            if (!withdrawUsed.containsKey(accountId) && !transferUsed.containsKey(accountId)) {
+                return Optional.empty();
+            }
+            DailyLimit dailyLimit = DailyLimit.createNew(accountId, limitDate);
+            dailyLimit.setWithdrawUsed(withdrawUsed.getOrDefault(accountId, BigDecimal.ZERO));
+            dailyLimit.setTransferUsed(transferUsed.getOrDefault(accountId, BigDecimal.ZERO));
+            return Optional.of(dailyLimit);
+        }
+
+        @Override
+        public Optional<DailyLimit> findByAccountIdAndLimitDateWithLock(Long accountId, LocalDate limitDate) {
+            return findByAccountIdAndLimitDate(accountId, limitDate);
+        }
+
+        @Override
+        public synchronized boolean tryConsumeWithdraw(Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit) {
+            return consume(withdrawUsed, accountId, amount, limit);
+        }
+
+        @Override
+        public synchronized boolean tryConsumeTransfer(Long accountId, LocalDate limitDate, BigDecimal amount, BigDecimal limit) {
+            return consume(transferUsed, accountId, amount, limit);
+        }
+
+        private boolean consume(Map<Long, BigDecimal> used, Long accountId, BigDecimal amount, BigDecimal limit) {
+            consumeCount.incrementAndGet();
+            BigDecimal next = used.getOrDefault(accountId, BigDecimal.ZERO).add(amount);
+            if (next.compareTo(limit) > 0) {
+                return false;
+            }
+            used.put(accountId, next);
+            return true;
+        }
+    }
+}
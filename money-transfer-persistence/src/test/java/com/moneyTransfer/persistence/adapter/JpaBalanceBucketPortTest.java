@@ -0,0 +1,138 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.common.constant.ErrorMessages;
+import com.moneyTransfer.persistence.entity.AccountJpaEntity;
+import com.moneyTransfer.persistence.entity.UserJpaEntity;
+import com.moneyTransfer.persistence.repository.AccountBalanceBucketJpaRepository;
+import com.moneyTransfer.persistence.repository.AccountJpaRepository;
+import com.moneyTransfer.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaBalanceBucketPort.class) // Port 구현체를 테스트 컨텍스트에 포함
+class JpaBalanceBucketPortTest {
+
+    private static final int BUCKET_COUNT = 4;
+
+    @Autowired
+    private JpaBalanceBucketPort balanceBucketPort;
+
+    @Autowired
+    private AccountBalanceBucketJpaRepository bucketJpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private AccountJpaEntity testAccount;
+
+    @BeforeEach
+    void setUp() {
+        UserJpaEntity user = userRepository.save(
+                new UserJpaEntity("정산", "settle@domain.com", "1234567890123", "1234567890123"));
+        testAccount = accountRepository.save(new AccountJpaEntity(user, "001", "123456789", "123456789"));
+
+        balanceBucketPort.createBuckets(testAccount.getId(), BUCKET_COUNT, new BigDecimal("100000"));
+    }
+
+    @Test
+    @DisplayName("bucket 생성 시 기존 잔액은 0번 bucket에 담기고 합계는 그대로다")
+    void createBucketsKeepsTotal() {
+        assertThat(bucketJpaRepository.findByAccountIdWithLock(testAccount.getId()))
+                .extracting(bucket -> bucket.getBalance().intValue())
+                .containsExactly(100000, 0, 0, 0);
+        assertThat(balanceBucketPort.sumBalance(testAccount.getId())).isEqualByComparingTo("100000");
+    }
+
+    @Test
+    @DisplayName("입금은 한 bucket에 반영되어 합계가 늘어난다")
+    void creditIncreasesTotal() {
+        // when
+        balanceBucketPort.credit(testAccount.getId(), BUCKET_COUNT, new BigDecimal("5000"));
+
+        // then
+        assertThat(balanceBucketPort.sumBalance(testAccount.getId())).isEqualByComparingTo("105000");
+    }
+
+    @Test
+    @DisplayName("해지된 계좌의 bucket에는 입출금하지 않는다")
+    void inactiveAccountRejected() {
+        // given
+        testAccount.setStatus(400); // DEACTIVATED
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        assertThatThrownBy(() -> balanceBucketPort.credit(testAccount.getId(), BUCKET_COUNT, new BigDecimal("5000")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.INACTIVE_ACCOUNT_DEPOSIT);
+        assertThatThrownBy(() -> balanceBucketPort.debit(testAccount.getId(), BUCKET_COUNT, new BigDecimal("5000")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.INACTIVE_ACCOUNT_WITHDRAW);
+        assertThat(balanceBucketPort.sumBalance(testAccount.getId())).isEqualByComparingTo("100000");
+    }
+
+    @Test
+    @DisplayName("잔액이 충분한 bucket이 있으면 그 bucket 하나에서만 출금한다")
+    void debitFromSingleSufficientBucket() {
+        // when - 0번 bucket만 금액 이상을 가진 상태
+        boolean debited = balanceBucketPort.debit(testAccount.getId(), BUCKET_COUNT, new BigDecimal("30000"));
+
+        // then
+        assertThat(debited).isTrue();
+        entityManager.clear();
+        assertThat(bucketJpaRepository.findByAccountIdWithLock(testAccount.getId()))
+                .extracting(bucket -> bucket.getBalance().intValue())
+                .containsExactly(70000, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("한 bucket으로 부족하면 bucket 전체를 모아서 출금한다")
+    void debitSweepsBucketsOnShortfall() {
+        // given - 잔액이 여러 bucket에 흩어진 상태 (100000, 0, 0, 0) + 입금 4회
+        for (int i = 0; i < 4; i++) {
+            balanceBucketPort.credit(testAccount.getId(), BUCKET_COUNT, new BigDecimal("10000"));
+        }
+        entityManager.clear();
+
+        // when - 어느 한 bucket보다 큰 금액
+        boolean debited = balanceBucketPort.debit(testAccount.getId(), BUCKET_COUNT, new BigDecimal("130000"));
+
+        // then
+        assertThat(debited).isTrue();
+        entityManager.clear();
+        assertThat(balanceBucketPort.sumBalance(testAccount.getId())).isEqualByComparingTo("10000");
+        assertThat(bucketJpaRepository.findByAccountIdWithLock(testAccount.getId()))
+                .allMatch(bucket -> bucket.getBalance().signum() >= 0);
+    }
+
+    @Test
+    @DisplayName("전체 합계보다 큰 출금은 아무 bucket도 바꾸지 않고 false를 반환한다")
+    void debitInsufficientTotal() {
+        // when
+        boolean debited = balanceBucketPort.debit(testAccount.getId(), BUCKET_COUNT, new BigDecimal("100001"));
+
+        // then
+        assertThat(debited).isFalse();
+        entityManager.clear();
+        assertThat(balanceBucketPort.sumBalance(testAccount.getId())).isEqualByComparingTo("100000");
+    }
+}
@@ -4,6 +4,8 @@ import com.moneyTransfer.domain.dailylimit.DailyLimit;
 import com.moneyTransfer.persistence.entity.AccountJpaEntity;
 import com.moneyTransfer.persistence.entity.DailyLimitJpaEntity;
 import com.moneyTransfer.persistence.entity.UserJpaEntity;
+import com.moneyTransfer.persistence.id.IdGeneratorConfig;
+import com.moneyTransfer.persistence.id.TimeOrderedIdGenerator;
 import com.moneyTransfer.persistence.repository.AccountJpaRepository;
 import com.moneyTransfer.persistence.repository.DailyLimitJpaRepository;
 import com.moneyTransfer.persistence.repository.UserJpaRepository;
@@ -24,9 +26,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@DataJpaTest
+@DataJpaTest(properties = "money-transfer.id.node-id=7")
 @ActiveProfiles("test")
-@Import(JpaDailyLimitPort.class) // Port 구현체를 테스트 컨텍스트에 포함
+@Import({JpaDailyLimitPort.class, IdGeneratorConfig.class}) // Port 구현체를 테스트 컨텍스트에 포함
 class JpaDailyLimitPortTest {
 
     private static final Logger log = LoggerFactory.getLogger(JpaDailyLimitPortTest.class);
@@ -364,4 +366,80 @@ class JpaDailyLimitPortTest {
         assertThat(reloaded.get().getWithdrawUsed()).isEqualTo(largeWithdrawAmount);
         assertThat(reloaded.get().getTransferUsed()).isEqualTo(largeTransferAmount);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("한도 소비 - 당일 첫 요청이면 행을 만들고 이후 요청은 누적된다")
+    void tryConsumeCreatesThenAccumulates() {
+        // given
+        LocalDate today = LocalDate.now();
+        BigDecimal limit = new BigDecimal("1000000");
+
+        // when
+        boolean first = dailyLimitPort.tryConsumeWithdraw(testAccount.getId(), today, new BigDecimal("400000"), limit);
+        boolean second = dailyLimitPort.tryConsumeWithdraw(testAccount.getId(), today, new BigDecimal("500000"), limit);
+        boolean transfer = dailyLimitPort.tryConsumeTransfer(testAccount.getId(), today, new BigDecimal("700000"), limit);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(transfer).isTrue();
+
+        DailyLimit reloaded = dailyLimitPort.findByAccountIdAndLimitDate(testAccount.getId(), today).orElseThrow();
+        assertThat(reloaded.getWithdrawUsed()).isEqualByComparingTo("900000");
+        assertThat(reloaded.getTransferUsed()).isEqualByComparingTo("700000");
+    }
+
+    @Test
+    @DisplayName("한도 소비 - 한도를 넘으면 false를 반환하고 사용량은 그대로다")
+    void tryConsumeRejectsOverLimit() {
+        // given
+        LocalDate today = LocalDate.now();
+        BigDecimal limit = new BigDecimal("1000000");
+        dailyLimitPort.tryConsumeWithdraw(testAccount.getId(), today, new BigDecimal("900000"), limit);
+
+        // when
+        boolean overLimit = dailyLimitPort.tryConsumeWithdraw(testAccount.getId(), today, new BigDecimal("100001"), limit);
+        boolean firstOverLimit = dailyLimitPort.tryConsumeWithdraw(targetAccount.getId(), today, new BigDecimal("1000001"), limit);
+
+        // then
+        assertThat(overLimit).isFalse();
+        assertThat(firstOverLimit).isFalse();
+        assertThat(dailyLimitPort.findByAccountIdAndLimitDate(testAccount.getId(), today).orElseThrow().getWithdrawUsed())
+                .isEqualByComparingTo("900000");
+        assertThat(dailyLimitPort.findByAccountIdAndLimitDate(targetAccount.getId(), today)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한도 소비 - 음수 금액은 같은 트랜잭션에서 소비한 몫을 되돌린다")
+    void tryConsumeNegativeAmountReleases() {
+        // given
+        LocalDate today = LocalDate.now();
+        BigDecimal limit = new BigDecimal("1000000");
+        dailyLimitPort.tryConsumeTransfer(testAccount.getId(), today, new BigDecimal("1000000"), limit);
+
+        // when
+        boolean released = dailyLimitPort.tryConsumeTransfer(testAccount.getId(), today, new BigDecimal("-300000"), limit);
+        boolean consumed = dailyLimitPort.tryConsumeTransfer(testAccount.getId(), today, new BigDecimal("300000"), limit);
+
+        // then
+        assertThat(released).isTrue();
+        assertThat(consumed).isTrue();
+        assertThat(dailyLimitPort.findByAccountIdAndLimitDate(testAccount.getId(), today).orElseThrow().getTransferUsed())
+                .isEqualByComparingTo("1000000");
+    }
+
+    @Test
+    @DisplayName("엔티티 ID와 네이티브 INSERT ID 모두 노드 ID를 설정한 IdGeneratorPort 빈에서 발급된다")
+    void idsComeFromIdGeneratorPortBean() {
+        // given - 계좌는 Hibernate 생성기(@TimeOrderedId), 당일 한도 행은 네이티브 INSERT로 생성
+        LocalDate today = LocalDate.now();
+        dailyLimitPort.tryConsumeWithdraw(testAccount.getId(), today, new BigDecimal("1000"), new BigDecimal("1000000"));
+
+        // when
+        Long dailyLimitId = dailyLimitPort.findByAccountIdAndLimitDate(testAccount.getId(), today).orElseThrow().getId();
+
+        // then
+        assertThat(TimeOrderedIdGenerator.extractNodeId(testAccount.getId())).isEqualTo(7L);
+        assertThat(TimeOrderedIdGenerator.extractNodeId(dailyLimitId)).isEqualTo(7L);
+    }
+}
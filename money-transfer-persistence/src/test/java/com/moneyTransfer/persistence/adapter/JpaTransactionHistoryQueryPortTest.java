@@ -0,0 +1,233 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.domain.common.PageQuery;
+import com.moneyTransfer.domain.common.PageResult;
+import com.moneyTransfer.domain.common.SliceResult;
+import com.moneyTransfer.domain.transaction.Transaction;
+import com.moneyTransfer.domain.transaction.TransactionCursor;
+import com.moneyTransfer.domain.transaction.TransactionHistoryRow;
+import com.moneyTransfer.domain.transaction.TransactionType;
+import com.moneyTransfer.persistence.entity.AccountJpaEntity;
+import com.moneyTransfer.persistence.entity.AccountTransactionCounterJpaEntity;
+import com.moneyTransfer.persistence.entity.UserJpaEntity;
+import com.moneyTransfer.persistence.repository.AccountJpaRepository;
+import com.moneyTransfer.persistence.repository.TransactionJpaRepository;
+import com.moneyTransfer.persistence.repository.UserJpaRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaTransactionPort.class, JpaTransactionHistoryQueryPort.class})
+class JpaTransactionHistoryQueryPortTest {
+
+    @Autowired
+    private JpaTransactionHistoryQueryPort historyQueryPort;
+
+    @Autowired
+    private JpaTransactionPort transactionPort;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private AccountJpaEntity testAccount;
+    private AccountJpaEntity targetAccount;
+
+    @BeforeEach
+    void setUp() {
+        UserJpaEntity user1 = userRepository.save(new UserJpaEntity("홍길동", "history1@domain.com", "1234567890123", "1234567890123"));
+        UserJpaEntity user2 = userRepository.save(new UserJpaEntity("김철수", "history2@domain.com", "9876543210987", "9876543210987"));
+
+        testAccount = accountRepository.save(new AccountJpaEntity(user1, "001", "123-456-789", "123456789"));
+        targetAccount = accountRepository.save(new AccountJpaEntity(user2, "002", "987-654-321", "987654321"));
+    }
+
+    private Transaction deposit(String description) {
+        Transaction transaction = Transaction.createDeposit(testAccount.getId(), new BigDecimal("1000"), description);
+        transaction.setBalanceAfter(new BigDecimal("1000"));
+        return transactionPort.save(transaction);
+    }
+
+    @Test
+    @DisplayName("조회 행에 거래 값과 상대 계좌의 표시용 번호가 담기고 엔티티는 로딩되지 않는다")
+    void findByAccountIdWithPagingReturnsFlatRows() {
+        // given - 입금 1건, 이체 1건
+        deposit("입금");
+        Transaction send = Transaction.createTransferSend(
+                testAccount.getId(), targetAccount.getId(), new BigDecimal("500"), new BigDecimal("5"), "이체");
+        send.setBalanceAfter(new BigDecimal("495"));
+        transactionPort.save(send);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        PageResult<TransactionHistoryRow> page = historyQueryPort.findByAccountIdWithPaging(
+                testAccount.getId(), PageQuery.of(0, 10));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2L);
+        TransactionHistoryRow transferRow = page.getContent().stream()
+                .filter(TransactionHistoryRow::hasRelatedAccount)
+                .findFirst()
+                .orElseThrow();
+        assertThat(transferRow.getTransactionType()).isEqualTo(TransactionType.TRANSFER_SEND);
+        assertThat(transferRow.getAmount()).isEqualByComparingTo("500");
+        assertThat(transferRow.getFee()).isEqualByComparingTo("5");
+        assertThat(transferRow.getBalanceAfter()).isEqualByComparingTo("495");
+        assertThat(transferRow.getRelatedBankCode()).isEqualTo("002");
+        assertThat(transferRow.getRelatedAccountNo()).isEqualTo("987-654-321");
+
+        TransactionHistoryRow depositRow = page.getContent().stream()
+                .filter(row -> !row.hasRelatedAccount())
+                .findFirst()
+                .orElseThrow();
+        assertThat(depositRow.getTransactionType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(depositRow.getRelatedAccountNo()).isNull();
+
+        // 목록 조회(+ 필요 시 COUNT)만 실행되고 엔티티 로딩 없음
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Slice 조회는 COUNT 없이 다음 페이지 여부를 판단하고 카운터로 전체 건수를 읽는다")
+    void findSliceByAccountIdAndTransactionCount() {
+        // given - 카운터는 계좌 생성 시 만들어짐 (여기서는 직접 생성)
+        entityManager.persist(new AccountTransactionCounterJpaEntity(testAccount.getId()));
+        entityManager.flush();
+        for (int i = 0; i < 3; i++) {
+            deposit("입금 " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        SliceResult<TransactionHistoryRow> first = historyQueryPort.findSliceByAccountId(testAccount.getId(), PageQuery.of(0, 2));
+        SliceResult<TransactionHistoryRow> last = historyQueryPort.findSliceByAccountId(testAccount.getId(), PageQuery.of(1, 2));
+
+        // then
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.hasPrevious()).isFalse();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.hasPrevious()).isTrue();
+        assertThat(historyQueryPort.findTransactionCount(testAccount.getId())).contains(3L);
+        assertThat(historyQueryPort.findTransactionCount(targetAccount.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 조회는 생성일시가 같은 거래도 ID로 구분해 빠짐없이 겹치지 않게 나눈다")
+    void findByAccountIdBeforeCursorWithSameCreatedAt() {
+        // given - 5건 모두 같은 생성일시
+        LocalDateTime sameTime = LocalDateTime.now().withNano(0);
+        for (int i = 1; i <= 5; i++) {
+            Transaction saved = deposit("입금 " + i);
+            transactionJpaRepository.findById(saved.getId()).ifPresent(entity -> {
+                entity.setCreatedAt(sameTime);
+                transactionJpaRepository.save(entity);
+            });
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when - 2건씩 커서로 이어서 조회
+        List<TransactionHistoryRow> first = historyQueryPort.findByAccountIdBeforeCursor(testAccount.getId(), null, null, null, 2);
+        List<TransactionHistoryRow> second = historyQueryPort.findByAccountIdBeforeCursor(
+                testAccount.getId(), null, null, TransactionCursor.after(first.get(1)), 2);
+        List<TransactionHistoryRow> last = historyQueryPort.findByAccountIdBeforeCursor(
+                testAccount.getId(), null, null, TransactionCursor.after(second.get(1)), 2);
+
+        // then
+        List<Long> ids = new ArrayList<>();
+        first.forEach(row -> ids.add(row.getId()));
+        second.forEach(row -> ids.add(row.getId()));
+        last.forEach(row -> ids.add(row.getId()));
+        assertThat(last).hasSize(1);
+        assertThat(ids).hasSize(5).doesNotHaveDuplicates().isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("커서 조회에 날짜 범위를 함께 지정할 수 있다")
+    void findByAccountIdBeforeCursorWithDateRange() {
+        // given - 어제 거래 1건, 오늘 거래 2건
+        Transaction savedOld = deposit("어제");
+        transactionJpaRepository.findById(savedOld.getId()).ifPresent(entity -> {
+            entity.setCreatedAt(LocalDateTime.now().minusDays(1));
+            transactionJpaRepository.save(entity);
+        });
+        deposit("오늘 1");
+        deposit("오늘 2");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        List<TransactionHistoryRow> todayOnly = historyQueryPort.findByAccountIdBeforeCursor(
+                testAccount.getId(), startOfToday, startOfToday.plusDays(1), null, 10);
+
+        // then
+        assertThat(todayOnly).hasSize(2);
+        assertThat(todayOnly).extracting(TransactionHistoryRow::getDescription).doesNotContain("어제");
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 목록 없이 최신순으로 한 건씩 넘기고 건수를 반환한다")
+    void streamByAccountIdAndDateRange() {
+        // given - 어제 거래 1건, 오늘 거래 2건
+        Transaction savedOld = deposit("어제");
+        transactionJpaRepository.findById(savedOld.getId()).ifPresent(entity -> {
+            entity.setCreatedAt(LocalDateTime.now().minusDays(1));
+            transactionJpaRepository.save(entity);
+        });
+        deposit("오늘 1");
+        deposit("오늘 2");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<TransactionHistoryRow> all = new ArrayList<>();
+        long allCount = historyQueryPort.streamByAccountId(testAccount.getId(), all::add);
+
+        List<TransactionHistoryRow> today = new ArrayList<>();
+        long todayCount = historyQueryPort.streamByAccountIdAndDateRange(
+                testAccount.getId(), LocalDate.now().atStartOfDay(), null, today::add);
+
+        // then
+        assertThat(allCount).isEqualTo(3L);
+        assertThat(all).extracting(TransactionHistoryRow::getDescription).containsExactly("오늘 2", "오늘 1", "어제");
+        assertThat(todayCount).isEqualTo(2L);
+        assertThat(today).extracting(TransactionHistoryRow::getDescription).containsExactly("오늘 2", "오늘 1");
+        assertThat(historyQueryPort.streamByAccountId(targetAccount.getId(), row -> { })).isZero();
+    }
+}
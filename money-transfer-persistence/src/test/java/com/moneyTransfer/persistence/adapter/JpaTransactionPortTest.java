@@ -5,10 +5,16 @@ import com.moneyTransfer.domain.common.PageResult;
 import com.moneyTransfer.domain.transaction.Transaction;
 import com.moneyTransfer.domain.transaction.TransactionType;
 import com.moneyTransfer.persistence.entity.AccountJpaEntity;
+import com.moneyTransfer.persistence.entity.AccountTransactionCounterJpaEntity;
 import com.moneyTransfer.persistence.entity.UserJpaEntity;
+import com.moneyTransfer.persistence.id.IdGeneratorConfig;
 import com.moneyTransfer.persistence.repository.AccountJpaRepository;
+import com.moneyTransfer.persistence.repository.AccountTransactionCounterJpaRepository;
 import com.moneyTransfer.persistence.repository.TransactionJpaRepository;
+import com.moneyTransfer.persistence.repository.TransactionProjectionQueueJpaRepository;
 import com.moneyTransfer.persistence.repository.UserJpaRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -29,7 +36,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(JpaTransactionPort.class) // Port 구현체를 테스트 컨텍스트에 포함
+@Import({JpaTransactionPort.class, TransactionProjector.class, IdGeneratorConfig.class}) // Port 구현체를 테스트 컨텍스트에 포함
 class JpaTransactionPortTest {
 
     private static final Logger log = LoggerFactory.getLogger(JpaTransactionPortTest.class);
@@ -46,6 +53,18 @@ class JpaTransactionPortTest {
     @Autowired
     private TransactionJpaRepository transactionJpaRepository;
 
+    @Autowired
+    private AccountTransactionCounterJpaRepository counterJpaRepository;
+
+    @Autowired
+    private TransactionProjectionQueueJpaRepository projectionQueueJpaRepository;
+
+    @Autowired
+    private TransactionProjector transactionProjector;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private AccountJpaEntity testAccount;
     private AccountJpaEntity targetAccount;
 
@@ -763,4 +782,68 @@ class JpaTransactionPortTest {
                 firstTransaction.getRelatedAccountId(), firstTransaction.getAmount(), firstTransaction.getBalanceAfter(),
                 firstTransaction.getFee(), firstTransaction.getDescription());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래 저장 시 연관 계좌를 조회하지 않고 거래와 집계 대기열 INSERT만 실행한다")
+    void saveTransactionIssuesInsertOnly() {
+        // given - 계좌가 영속성 컨텍스트에 없는 상태에서 측정
+        Transaction transferSend = Transaction.createTransferSend(
+                testAccount.getId(),
+                targetAccount.getId(),
+                new BigDecimal("10000"),
+                new BigDecimal("100"),
+                "통계 측정 이체"
+        );
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Transaction savedTransaction = transactionPort.save(transferSend);
+
+        // then
+        log.info("Prepared statements for save: {}", statistics.getPrepareStatementCount());
+        assertThat(savedTransaction.getId()).isNotNull();
+        assertThat(savedTransaction.getRelatedAccountId()).isEqualTo(targetAccount.getId());
+        // ID는 애플리케이션에서 발급하므로 시퀀스 조회 없이 거래 INSERT 한 번 + 집계 대기열 INSERT 한 번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("거래 저장과 같은 트랜잭션에서 카운터가 증가하고, 대기열에는 일 집계용 행만 남는다")
+    void saveIncreasesTransactionCounter() {
+        // given - 카운터는 계좌 생성 시 만들어짐 (여기서는 직접 생성)
+        entityManager.persist(new AccountTransactionCounterJpaEntity(testAccount.getId()));
+        entityManager.flush();
+
+        Transaction deposit = Transaction.createDeposit(testAccount.getId(), new BigDecimal("1000"), "입금");
+        deposit.setBalanceAfter(new BigDecimal("1000"));
+        Transaction send = Transaction.createTransferSend(
+                testAccount.getId(), targetAccount.getId(), new BigDecimal("100"), BigDecimal.ZERO, "이체");
+        send.setBalanceAfter(new BigDecimal("900"));
+        Transaction receive = Transaction.createTransferReceive(
+                targetAccount.getId(), testAccount.getId(), new BigDecimal("100"), "이체");
+        receive.setBalanceAfter(new BigDecimal("100"));
+
+        // when
+        transactionPort.save(deposit);
+        transactionPort.saveAll(List.of(send, receive));
+
+        // then - projector 반영 전에도 카운터가 있는 계좌만 증가, 카운터가 없는 계좌(도입 전 계좌)는 empty
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(counterJpaRepository.findCountByAccountId(testAccount.getId())).contains(2L);
+        assertThat(counterJpaRepository.findCountByAccountId(targetAccount.getId())).isEmpty();
+        assertThat(projectionQueueJpaRepository.countUpTo(10)).isEqualTo(3L);
+
+        // projector는 일 집계만 반영하고 카운터는 다시 더하지 않음
+        assertThat(transactionProjector.drain()).isEqualTo(3);
+        entityManager.clear();
+        assertThat(projectionQueueJpaRepository.countUpTo(10)).isZero();
+        assertThat(counterJpaRepository.findCountByAccountId(testAccount.getId())).contains(2L);
+    }
+}
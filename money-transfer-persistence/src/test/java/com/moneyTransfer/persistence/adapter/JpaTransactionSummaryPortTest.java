@@ -0,0 +1,169 @@
+package com.moneyTransfer.persistence.adapter;
+
+import com.moneyTransfer.domain.transaction.DailyTransactionSummary;
+import com.moneyTransfer.domain.transaction.Transaction;
+import com.moneyTransfer.persistence.entity.AccountJpaEntity;
+import com.moneyTransfer.persistence.entity.UserJpaEntity;
+import com.moneyTransfer.persistence.id.IdGeneratorConfig;
+import com.moneyTransfer.persistence.repository.AccountDailySummaryJpaRepository;
+import com.moneyTransfer.persistence.repository.AccountJpaRepository;
+import com.moneyTransfer.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaTransactionPort.class, JpaTransactionSummaryPort.class, TransactionProjector.class, IdGeneratorConfig.class})
+class JpaTransactionSummaryPortTest {
+
+    @Autowired
+    private JpaTransactionSummaryPort summaryPort;
+
+    @Autowired
+    private JpaTransactionPort transactionPort;
+
+    @Autowired
+    private TransactionProjector transactionProjector;
+
+    @Autowired
+    private AccountDailySummaryJpaRepository dailySummaryRepository;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private AccountJpaEntity testAccount;
+    private AccountJpaEntity targetAccount;
+
+    @BeforeEach
+    void setUp() {
+        UserJpaEntity user1 = userRepository.save(new UserJpaEntity("홍길동", "summary1@domain.com", "1234567890123", "1234567890123"));
+        UserJpaEntity user2 = userRepository.save(new UserJpaEntity("김철수", "summary2@domain.com", "9876543210987", "9876543210987"));
+
+        testAccount = accountRepository.save(new AccountJpaEntity(user1, "001", "123-456-789", "123456789"));
+        targetAccount = accountRepository.save(new AccountJpaEntity(user2, "002", "987-654-321", "987654321"));
+    }
+
+    private void save(Transaction transaction, String balanceAfter) {
+        transactionPort.save(withBalance(transaction, balanceAfter));
+    }
+
+    @Test
+    @DisplayName("projector 반영 시 계좌별 일 집계 행에 유형별 건수/금액, 수수료, 마감 잔액이 누적된다")
+    void saveAccumulatesDailySummary() {
+        // given - 입금 2건, 출금 1건, 이체 송금 1건 (수수료 10)
+        save(Transaction.createDeposit(testAccount.getId(), new BigDecimal("10000"), "입금"), "10000");
+        save(Transaction.createDeposit(testAccount.getId(), new BigDecimal("5000"), "입금"), "15000");
+        save(Transaction.createWithdraw(testAccount.getId(), new BigDecimal("3000"), "출금"), "12000");
+        transactionPort.saveAll(List.of(
+                withBalance(Transaction.createTransferSend(
+                        testAccount.getId(), targetAccount.getId(), new BigDecimal("1000"), new BigDecimal("10"), "이체"), "10990"),
+                withBalance(Transaction.createTransferReceive(
+                        targetAccount.getId(), testAccount.getId(), new BigDecimal("1000"), "이체"), "1000")));
+        entityManager.flush();
+
+        LocalDate today = LocalDate.now();
+
+        // 거래 저장만으로는 일 집계가 갱신되지 않음
+        assertThat(summaryPort.findDailySummaries(testAccount.getId(), today, today)).isEmpty();
+        transactionProjector.drain();
+        entityManager.clear();
+
+        // when
+        List<DailyTransactionSummary> summaries = summaryPort.findDailySummaries(testAccount.getId(), today, today);
+
+        // then - 하루 한 행
+        assertThat(summaries).hasSize(1);
+        DailyTransactionSummary summary = summaries.get(0);
+        assertThat(summary.getSummaryDate()).isEqualTo(today);
+        assertThat(summary.getDepositCount()).isEqualTo(2);
+        assertThat(summary.getDepositAmount()).isEqualByComparingTo("15000");
+        assertThat(summary.getWithdrawCount()).isEqualTo(1);
+        assertThat(summary.getWithdrawAmount()).isEqualByComparingTo("3000");
+        assertThat(summary.getTransferSendCount()).isEqualTo(1);
+        assertThat(summary.getTransferSendAmount()).isEqualByComparingTo("1000");
+        assertThat(summary.getTransferReceiveCount()).isZero();
+        assertThat(summary.getFeeAmount()).isEqualByComparingTo("10");
+        assertThat(summary.getClosingBalance()).isEqualByComparingTo("10990");
+        assertThat(summary.getTotalCount()).isEqualTo(4);
+
+        // 상대 계좌는 수취 1건만 별도 행으로 집계
+        List<DailyTransactionSummary> targetSummaries = summaryPort.findDailySummaries(targetAccount.getId(), today, today);
+        assertThat(targetSummaries).hasSize(1);
+        assertThat(targetSummaries.get(0).getTransferReceiveCount()).isEqualTo(1);
+        assertThat(targetSummaries.get(0).getTransferReceiveAmount()).isEqualByComparingTo("1000");
+        assertThat(targetSummaries.get(0).getClosingBalance()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("조회 기간 밖의 일 집계는 포함되지 않는다")
+    void findDailySummariesOutsideRangeIsEmpty() {
+        // given
+        save(Transaction.createDeposit(testAccount.getId(), new BigDecimal("10000"), "입금"), "10000");
+        transactionProjector.drain();
+        entityManager.clear();
+
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        // when
+        List<DailyTransactionSummary> summaries = summaryPort.findDailySummaries(
+                testAccount.getId(), yesterday.minusDays(7), yesterday);
+
+        // then
+        assertThat(summaries).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마감 잔액은 거래 ID가 더 큰 거래일 때만 교체되고, 거래 후 잔액이 없는 마지막 거래(분할 계좌)면 null")
+    void closingBalanceFollowsTransactionIdOrder() {
+        // given - 두 거래를 반영
+        save(Transaction.createDeposit(testAccount.getId(), new BigDecimal("10000"), "입금"), "10000");
+        save(Transaction.createDeposit(testAccount.getId(), new BigDecimal("5000"), "입금"), "15000");
+        transactionProjector.drain();
+        LocalDate today = LocalDate.now();
+        Long closingTransactionId = dailySummaryRepository.findByAccountIdAndDateRange(testAccount.getId(), today, today)
+                .get(0).getClosingTransactionId();
+
+        // when - 더 앞선 거래 ID의 반영이 늦게 도착
+        dailySummaryRepository.mergeH2(999L, testAccount.getId(), today,
+                1, new BigDecimal("1"), 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO,
+                BigDecimal.ZERO, new BigDecimal("1"), closingTransactionId - 1, LocalDateTime.now());
+        entityManager.clear();
+
+        // then - 건수는 더해지지만 마감 잔액은 유지
+        DailyTransactionSummary summary = summaryPort.findDailySummaries(testAccount.getId(), today, today).get(0);
+        assertThat(summary.getDepositCount()).isEqualTo(3);
+        assertThat(summary.getClosingBalance()).isEqualByComparingTo("15000");
+
+        // when - 거래 후 잔액을 기록하지 않는 거래(분할 계좌)가 마지막
+        transactionPort.save(Transaction.createWithdraw(testAccount.getId(), new BigDecimal("1000"), "출금"));
+        transactionProjector.drain();
+        entityManager.clear();
+
+        // then - 이전 거래의 잔액으로 대신하지 않음
+        assertThat(summaryPort.findDailySummaries(testAccount.getId(), today, today).get(0).getClosingBalance()).isNull();
+    }
+
+    private Transaction withBalance(Transaction transaction, String balanceAfter) {
+        transaction.setBalanceAfter(new BigDecimal(balanceAfter));
+        return transaction;
+    }
+}
@@ -0,0 +1,113 @@
+package com.moneyTransfer.persistence.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("시간순 ID 생성기 테스트")
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("32개 스레드가 동시에 발급해도 ID가 중복되지 않고 스레드별로 단조 증가한다")
+    void nextId_Concurrent_UniqueAndMonotonic() {
+        // given
+        int threadCount = 32;
+        int idsPerThread = 50_000;
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet(threadCount * idsPerThread);
+        AtomicBoolean monotonic = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                long previous = Long.MIN_VALUE;
+                for (int j = 0; j < idsPerThread; j++) {
+                    long id = generator.nextId();
+                    if (id <= previous) {
+                        monotonic.set(false);
+                    }
+                    previous = id;
+                    ids.add(id);
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+        assertThat(monotonic.get()).isTrue();
+        assertThat(ids).allMatch(id -> id > 0 && TimeOrderedIdGenerator.extractNodeId(id) == 7);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스를 모두 쓰면 다음 밀리초를 빌려 계속 발급한다")
+    void nextId_SequenceExhausted_BorrowsNextMillisecond() {
+        // given - 시계가 멈춘 상태
+        long fixedMillis = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000;
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, () -> fixedMillis);
+
+        // when
+        long first = generator.nextId();
+        long last = first;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.nextId();
+        }
+
+        // then
+        assertThat(last).isGreaterThan(first);
+        assertThat(TimeOrderedIdGenerator.extractEpochMillis(first)).isEqualTo(fixedMillis);
+        assertThat(TimeOrderedIdGenerator.extractEpochMillis(last)).isEqualTo(fixedMillis + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전 ID보다 큰 값을 발급한다")
+    void nextId_ClockMovesBackwards_StillIncreasing() {
+        // given
+        AtomicLong clock = new AtomicLong(TimeOrderedIdGenerator.EPOCH_MILLIS + 10_000);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+        long before = generator.nextId();
+
+        // when
+        clock.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에도 ID가 겹치지 않는다")
+    void nextId_DifferentNodes_NoCollision() {
+        // given
+        long fixedMillis = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000;
+        TimeOrderedIdGenerator node1 = new TimeOrderedIdGenerator(1, () -> fixedMillis);
+        TimeOrderedIdGenerator node2 = new TimeOrderedIdGenerator(2, () -> fixedMillis);
+
+        // when & then
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외가 발생한다")
+    void constructor_InvalidNodeId_ThrowsException() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
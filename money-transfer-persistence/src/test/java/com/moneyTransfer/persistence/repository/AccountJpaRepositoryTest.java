@@ -9,9 +9,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +31,9 @@ class AccountJpaRepositoryTest {
     
     @Autowired
     private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
     
     private UserJpaEntity testUser;
 
@@ -178,4 +184,96 @@ class AccountJpaRepositoryTest {
         assertThat(deactiveAccounts).hasSize(1);
         assertThat(deactiveAccounts.get(0).getBankCode()).isEqualTo("002");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조건부 UPDATE로 활성 계좌의 잔액을 증감하고 버전을 올린다")
+    void conditionalBalanceUpdate() {
+        // given
+        AccountJpaEntity savedAccount = accountRepository.save(
+                new AccountJpaEntity(testUser, "001", "123456789", "123456789"));
+        Integer initialVersion = savedAccount.getVersion();
+
+        // when
+        int increased = accountRepository.increaseBalance(
+                savedAccount.getId(), new BigDecimal("10000"), 200, LocalDateTime.now());
+        int rejected = accountRepository.decreaseBalance(
+                savedAccount.getId(), new BigDecimal("20000"), 200, LocalDateTime.now());
+        int decreased = accountRepository.decreaseBalance(
+                savedAccount.getId(), new BigDecimal("3000"), 200, LocalDateTime.now());
+
+        // then
+        assertThat(increased).isEqualTo(1);
+        assertThat(rejected).isZero(); // 잔액 부족 시 갱신되지 않음
+        assertThat(decreased).isEqualTo(1);
+
+        Optional<BigDecimal> balance = accountRepository.findBalanceById(savedAccount.getId());
+        assertThat(balance).isPresent();
+        assertThat(balance.get()).isEqualByComparingTo(new BigDecimal("7000"));
+
+        // 영속성 컨텍스트를 비우지 않으므로 기존 엔티티는 관리 상태로 남고, refresh해야 변경이 보임
+        assertThat(entityManager.getEntityManager().contains(savedAccount)).isTrue();
+        entityManager.refresh(savedAccount);
+        assertThat(savedAccount.getVersion()).isEqualTo(initialVersion + 2);
+        assertThat(savedAccount.getBalance()).isEqualByComparingTo(new BigDecimal("7000"));
+    }
+
+    @Test
+    @DisplayName("비활성 계좌는 조건부 UPDATE 대상이 아니다")
+    void conditionalBalanceUpdateIgnoresInactiveAccount() {
+        // given
+        AccountJpaEntity account = new AccountJpaEntity(testUser, "001", "123456789", "123456789");
+        account.setStatus(400);
+        AccountJpaEntity savedAccount = accountRepository.save(account);
+
+        // when
+        int updated = accountRepository.increaseBalance(
+                savedAccount.getId(), new BigDecimal("10000"), 200, LocalDateTime.now());
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(accountRepository.findBalanceById(savedAccount.getId()).orElseThrow())
+                .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("잔액이 분할된 계좌는 조건부 UPDATE 대상이 아니다 (분할 전에 계좌를 읽은 요청이 계좌 행에 반영하지 않음)")
+    void conditionalBalanceUpdateIgnoresShardedAccount() {
+        // given
+        AccountJpaEntity account = new AccountJpaEntity(testUser, "001", "123456789", "123456789");
+        account.setBalanceBucketCount(8);
+        AccountJpaEntity savedAccount = accountRepository.save(account);
+
+        // when
+        int increased = accountRepository.increaseBalance(
+                savedAccount.getId(), new BigDecimal("10000"), 200, LocalDateTime.now());
+        int decreased = accountRepository.decreaseBalance(
+                savedAccount.getId(), BigDecimal.ZERO, 200, LocalDateTime.now());
+
+        // then
+        assertThat(increased).isZero();
+        assertThat(decreased).isZero();
+        assertThat(accountRepository.findBalanceById(savedAccount.getId()).orElseThrow())
+                .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("활성 계좌의 식별 컬럼을 ID 순으로 나눠 읽는다")
+    void findKeysByStatusAfterId() {
+        // given
+        AccountJpaEntity first = accountRepository.save(new AccountJpaEntity(testUser, "001", "1111111111", "1111111111"));
+        AccountJpaEntity inactive = new AccountJpaEntity(testUser, "001", "2222222222", "2222222222");
+        inactive.setStatus(400);
+        accountRepository.save(inactive);
+        AccountJpaEntity second = accountRepository.save(new AccountJpaEntity(testUser, "002", "3333333333", "3333333333"));
+        AccountJpaEntity third = accountRepository.save(new AccountJpaEntity(testUser, "002", "4444444444", "4444444444"));
+
+        // when
+        List<Object[]> page = accountRepository.findKeysByStatusAfterId(200, 0L, PageRequest.of(0, 2));
+        List<Object[]> rest = accountRepository.findKeysByStatusAfterId(200, (Long) page.get(1)[0], PageRequest.of(0, 2));
+
+        // then - 비활성 계좌 제외, ID 순
+        assertThat(page).extracting(row -> row[0]).containsExactly(first.getId(), second.getId());
+        assertThat(page.get(0)).containsExactly(first.getId(), "001", "1111111111", 0);
+        assertThat(rest).extracting(row -> row[0]).containsExactly(third.getId());
+    }
+}